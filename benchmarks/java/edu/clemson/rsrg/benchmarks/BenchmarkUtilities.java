@@ -0,0 +1,167 @@
+/*
+ * BenchmarkUtilities.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.benchmarks;
+
+import edu.clemson.rsrg.init.CompileEnvironment;
+import edu.clemson.rsrg.init.ResolveCompiler;
+import edu.clemson.rsrg.init.file.ModuleType;
+import edu.clemson.rsrg.init.file.ResolveFile;
+import edu.clemson.rsrg.init.file.ResolveFileBasicInfo;
+import edu.clemson.rsrg.parsing.data.Location;
+import edu.clemson.rsrg.statushandling.SystemStdHandler;
+import edu.clemson.rsrg.statushandling.exception.MiscErrorException;
+import edu.clemson.rsrg.typeandpopulate.typereasoning.TypeGraph;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import org.antlr.v4.runtime.CharStreams;
+
+/**
+ * <p>
+ * This class contains a bunch of utilities methods used by the benchmarks.
+ * </p>
+ *
+ * @version 1.0
+ */
+class BenchmarkUtilities {
+
+    // ===========================================================
+    // Objects
+    // ===========================================================
+
+    /**
+     * <p>
+     * The system property containing the path to the {@code RESOLVE/Main} directory of a {@code RESOLVE-Workspace}
+     * checkout.
+     * </p>
+     */
+    static final String WORKSPACE_PROPERTY = "resolve.workspace";
+
+    // ===========================================================
+    // Package Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method creates a new compile environment that uses the default flags.
+     * </p>
+     *
+     * @return A {@link CompileEnvironment} object.
+     */
+    static CompileEnvironment createCompileEnvironment() {
+        try {
+            // YS: We need to create a ResolveCompiler instance to instantiate
+            // the flag manager...
+            new ResolveCompiler(new String[0]);
+            return new CompileEnvironment(new String[0], "BenchmarkCompiler", new SystemStdHandler());
+        } catch (IOException e) {
+            throw new MiscErrorException("Error creating a compile environment", e);
+        }
+    }
+
+    /**
+     * <p>
+     * This method creates a fake {@link Location} that can be used to create expressions.
+     * </p>
+     *
+     * @param name
+     *            Name of the fake file.
+     *
+     * @return A {@link Location} object.
+     */
+    static Location createFakeLocation(String name) {
+        return new Location(new ResolveFile(new ResolveFileBasicInfo(name, ""), ModuleType.THEORY,
+                CharStreams.fromString("", name), null, new ArrayList<>(), ""), 0, 0);
+    }
+
+    /**
+     * <p>
+     * This method creates a {@link TypeGraph} that can be used to assign types to expressions.
+     * </p>
+     *
+     * @return A {@link TypeGraph} object.
+     */
+    static TypeGraph createTypeGraph() {
+        return new TypeGraph(createCompileEnvironment());
+    }
+
+    /**
+     * <p>
+     * This method returns the {@code RESOLVE/Main} directory of the workspace specified by the
+     * {@link #WORKSPACE_PROPERTY} system property.
+     * </p>
+     *
+     * @return The workspace directory.
+     *
+     * @throws IllegalStateException
+     *             The system property is not set or it doesn't name a directory.
+     */
+    static File getWorkspaceDir() {
+        String path = System.getProperty(WORKSPACE_PROPERTY, "");
+        File workspaceDir = new File(path);
+        if (path.isEmpty() || !workspaceDir.isDirectory()) {
+            throw new IllegalStateException("Set -D" + WORKSPACE_PROPERTY
+                    + " to the RESOLVE/Main directory of a RESOLVE-Workspace checkout to run this benchmark.");
+        }
+
+        return workspaceDir;
+    }
+
+    /**
+     * <p>
+     * This method reads one of the sample files from the test resources.
+     * </p>
+     *
+     * @param fileName
+     *            Name of the sample file.
+     *
+     * @return The contents of the file.
+     */
+    static String readResource(String fileName) {
+        try (InputStream in = BenchmarkUtilities.class.getResourceAsStream("/" + fileName)) {
+            if (in == null) {
+                throw new MiscErrorException("Cannot find the sample file " + fileName, new IllegalArgumentException());
+            }
+
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new MiscErrorException("Error reading the sample file " + fileName, e);
+        }
+    }
+
+    /**
+     * <p>
+     * This method runs the compiler on a file in the workspace, exactly like running it from the command line.
+     * </p>
+     *
+     * @param workspaceDir
+     *            The {@code RESOLVE/Main} directory of the workspace.
+     * @param fileName
+     *            Name of the file relative to the workspace directory.
+     * @param flags
+     *            Additional compiler flags.
+     */
+    static void runCompiler(File workspaceDir, String fileName, String... flags) {
+        String[] args = new String[flags.length + 4];
+        args[0] = "-noFileOutput";
+        args[1] = "-workspaceDir";
+        args[2] = workspaceDir.getAbsolutePath();
+        System.arraycopy(flags, 0, args, 3, flags.length);
+        args[args.length - 1] = fileName;
+
+        new ResolveCompiler(args).invokeCompiler();
+    }
+
+}
@@ -0,0 +1,227 @@
+/*
+ * CongruenceClassRegistryBenchmark.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.benchmarks;
+
+import edu.clemson.rsrg.absyn.expressions.Exp;
+import edu.clemson.rsrg.absyn.expressions.mathexpr.InfixExp;
+import edu.clemson.rsrg.absyn.expressions.mathexpr.VarExp;
+import edu.clemson.rsrg.nProver.registry.CongruenceClassRegistry;
+import edu.clemson.rsrg.nProver.utilities.treewakers.AbstractRegisterSequent;
+import edu.clemson.rsrg.nProver.utilities.treewakers.RegisterAntecedent;
+import edu.clemson.rsrg.nProver.utilities.treewakers.RegisterSuccedent;
+import edu.clemson.rsrg.parsing.data.Location;
+import edu.clemson.rsrg.parsing.data.PosSymbol;
+import edu.clemson.rsrg.treewalk.TreeWalker;
+import edu.clemson.rsrg.typeandpopulate.typereasoning.TypeGraph;
+import edu.clemson.rsrg.vcgeneration.sequents.Sequent;
+import edu.clemson.rsrg.vcgeneration.utilities.Utilities;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * <p>
+ * This benchmark measures registering sequents in a {@link CongruenceClassRegistry}, exactly like the general purpose
+ * prover does for every {@code VC}. There are two workloads:
+ * </p>
+ * <ul>
+ * <li>{@code registration}: {@code (a1 + b1) <= c1, ..., (aN + bN) <= cN |- true}. Every term is registered, but
+ * nothing is merged.</li>
+ * <li>{@code merge}: {@code y1 = (x1 + z), ..., yN = (xN + z), x1 = x2, ..., x(N-1) = xN |- y1 = yN}. Every equality
+ * merges two classes, which in turn makes the {@code (xI + z)} clusters congruent.</li>
+ * </ul>
+ *
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CongruenceClassRegistryBenchmark {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * The number of terms in each sequent. (Note: The registry uses the same capacities as the general purpose prover,
+     * so larger sequents won't fit.)
+     * </p>
+     */
+    @Param({ "16", "64", "128" })
+    public int numTerms;
+
+    /**
+     * <p>
+     * The sequent for the merge workload.
+     * </p>
+     */
+    private Sequent myMergeSequent;
+
+    /**
+     * <p>
+     * The sequent for the registration workload.
+     * </p>
+     */
+    private Sequent myRegistrationSequent;
+
+    // ===========================================================
+    // Set up Method
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method builds the sequents before any of the measurements.
+     * </p>
+     */
+    @Setup
+    public final void setUp() {
+        Location location = BenchmarkUtilities.createFakeLocation("CongruenceClassRegistryBenchmark");
+        TypeGraph typeGraph = BenchmarkUtilities.createTypeGraph();
+
+        // Registration workload
+        List<Exp> antecedents = new ArrayList<>();
+        for (int i = 1; i <= numTerms; i++) {
+            Exp sum = createInfixExp(location, createVarExp(location, typeGraph, "a" + i), "+",
+                    createVarExp(location, typeGraph, "b" + i));
+            antecedents.add(createInfixExp(location, sum, "<=", createVarExp(location, typeGraph, "c" + i)));
+        }
+        List<Exp> consequents = new ArrayList<>();
+        consequents.add(createVarExp(location, typeGraph, "true"));
+        myRegistrationSequent = new Sequent(location, antecedents, consequents);
+
+        // Merge workload
+        antecedents = new ArrayList<>();
+        for (int i = 1; i <= numTerms; i++) {
+            Exp sum = createInfixExp(location, createVarExp(location, typeGraph, "x" + i), "+",
+                    createVarExp(location, typeGraph, "z"));
+            antecedents.add(createInfixExp(location, createVarExp(location, typeGraph, "y" + i), "=", sum));
+        }
+        for (int i = 1; i < numTerms; i++) {
+            antecedents.add(createInfixExp(location, createVarExp(location, typeGraph, "x" + i), "=",
+                    createVarExp(location, typeGraph, "x" + (i + 1))));
+        }
+        consequents = new ArrayList<>();
+        consequents.add(createInfixExp(location, createVarExp(location, typeGraph, "y1"), "=",
+                createVarExp(location, typeGraph, "y" + numTerms)));
+        myMergeSequent = new Sequent(location, antecedents, consequents);
+    }
+
+    // ===========================================================
+    // Benchmark Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This benchmarks the merge workload.
+     * </p>
+     *
+     * @return {@code true} if the registry proved the sequent, {@code false} otherwise.
+     */
+    @Benchmark
+    public final boolean merge() {
+        return registerSequent(myMergeSequent);
+    }
+
+    /**
+     * <p>
+     * This benchmarks the registration workload.
+     * </p>
+     *
+     * @return {@code true} if the registry proved the sequent, {@code false} otherwise.
+     */
+    @Benchmark
+    public final boolean registration() {
+        return registerSequent(myRegistrationSequent);
+    }
+
+    // ===========================================================
+    // Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * An helper method that creates a new infix expression.
+     * </p>
+     *
+     * @param location
+     *            Location for the new expression.
+     * @param left
+     *            The left hand side.
+     * @param operator
+     *            The operator name.
+     * @param right
+     *            The right hand side.
+     *
+     * @return An {@link InfixExp}.
+     */
+    private static InfixExp createInfixExp(Location location, Exp left, String operator, Exp right) {
+        return new InfixExp(location, left, null, new PosSymbol(location, operator), right);
+    }
+
+    /**
+     * <p>
+     * An helper method that creates a new boolean variable.
+     * </p>
+     *
+     * @param location
+     *            Location for the new expression.
+     * @param typeGraph
+     *            The current type graph.
+     * @param name
+     *            The variable name.
+     *
+     * @return A {@link VarExp}.
+     */
+    private static VarExp createVarExp(Location location, TypeGraph typeGraph, String name) {
+        return Utilities.createVarExp(location, null, new PosSymbol(location, name), typeGraph.BOOLEAN, null);
+    }
+
+    /**
+     * <p>
+     * An helper method that registers a sequent in a new registry using the same steps as the general purpose prover.
+     * </p>
+     *
+     * @param sequent
+     *            The sequent to be registered.
+     *
+     * @return {@code true} if the registry proved the sequent, {@code false} otherwise.
+     */
+    private static boolean registerSequent(Sequent sequent) {
+        CongruenceClassRegistry<Integer, String, String, String> registry = new CongruenceClassRegistry<>(1000, 1000,
+                1000, 1000);
+        Map<String, Integer> expLabels = new LinkedHashMap<>();
+        expLabels.put("<=", AbstractRegisterSequent.OP_LESS_THAN_OR_EQUALS);
+        expLabels.put("=", AbstractRegisterSequent.OP_EQUALS);
+
+        RegisterAntecedent regAntecedent = new RegisterAntecedent(registry, expLabels, 3);
+        for (Exp exp : sequent.getAntecedents()) {
+            TreeWalker.visit(regAntecedent, exp);
+        }
+
+        RegisterSuccedent regConsequent = new RegisterSuccedent(regAntecedent.getRegistry(),
+                regAntecedent.getExpLabels(), regAntecedent.getNextLabel());
+        for (Exp exp : sequent.getConcequents()) {
+            TreeWalker.visit(regConsequent, exp);
+        }
+
+        return registry.checkIfProved();
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+ * ParsingBenchmark.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.benchmarks;
+
+import edu.clemson.rsrg.absyn.declarations.moduledecl.ModuleDec;
+import edu.clemson.rsrg.init.CompileEnvironment;
+import edu.clemson.rsrg.init.file.ModuleType;
+import edu.clemson.rsrg.init.file.ResolveFile;
+import edu.clemson.rsrg.init.file.ResolveFileBasicInfo;
+import edu.clemson.rsrg.misc.Utilities;
+import edu.clemson.rsrg.parsing.ParserService;
+import edu.clemson.rsrg.typeandpopulate.typereasoning.TypeGraph;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import org.antlr.v4.runtime.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * <p>
+ * This benchmark measures how long it takes to turn the sample files in the test resources into {@link ModuleDec
+ * ModuleDecs}. Each file goes through the same {@link ParserService} as the compiler, so after the first invocation,
+ * the shared prediction cache is warm and the service already knows which prediction mode the file needs.
+ * </p>
+ *
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParsingBenchmark {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * Name of the sample file to be parsed.
+     * </p>
+     */
+    @Param({ "Array_Realiz.rb", "Integer_Theory.mt", "Obvious_Reading_Realiz.rb", "Reading_Capability.en",
+            "RevStack.fa", "Stack_Template.co" })
+    public String fileName;
+
+    /**
+     * <p>
+     * The type of module stored in the sample file.
+     * </p>
+     */
+    private ModuleType myModuleType;
+
+    /**
+     * <p>
+     * The contents of the sample file.
+     * </p>
+     */
+    private String mySource;
+
+    /**
+     * <p>
+     * An error listener that ignores all syntax errors.
+     * </p>
+     */
+    private ANTLRErrorListener myErrorListener;
+
+    /**
+     * <p>
+     * The parser service used by the compiler.
+     * </p>
+     */
+    private ParserService myParserService;
+
+    // ===========================================================
+    // Set up Method
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method reads the sample file before any of the measurements.
+     * </p>
+     */
+    @Setup
+    public final void setUp() {
+        myModuleType = Utilities.getModuleType(fileName);
+        mySource = BenchmarkUtilities.readResource(fileName);
+        myErrorListener = new BaseErrorListener();
+
+        CompileEnvironment compileEnvironment = BenchmarkUtilities.createCompileEnvironment();
+        compileEnvironment.setTypeGraph(new TypeGraph(compileEnvironment));
+        myParserService = compileEnvironment.getParserService();
+    }
+
+    // ===========================================================
+    // Benchmark Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This benchmarks parsing the sample file and building the {@link ModuleDec}.
+     * </p>
+     *
+     * @return The inner representation for the module.
+     */
+    @Benchmark
+    public final ModuleDec createModuleAST() {
+        ResolveFile file = new ResolveFile(new ResolveFileBasicInfo(Utilities.getFileName(fileName, myModuleType), ""),
+                myModuleType, CharStreams.fromString(mySource, fileName), null, new ArrayList<>(), fileName);
+
+        return myParserService.parse(file, myErrorListener, myErrorListener);
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * PopulatorBenchmark.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.benchmarks;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * <p>
+ * This benchmark measures how long it takes to analyze the standard theories (the files listed in
+ * {@code bin/tests/filesToAnalyze.txt}). Every invocation starts from a fresh compile environment, so it includes
+ * parsing and populating the symbol table for every imported module.
+ * </p>
+ *
+ * <p>
+ * The theories live in the {@code RESOLVE-Workspace} repository, so the {@code resolve.workspace} system property must
+ * point to its {@code RESOLVE/Main} directory.
+ * </p>
+ *
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class PopulatorBenchmark {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * Name of the theory relative to the workspace directory.
+     * </p>
+     */
+    @Param({ "Math_Units/Boolean_Theory.mt", "Math_Units/Integer_Theory.mt" })
+    public String fileName;
+
+    /**
+     * <p>
+     * The {@code RESOLVE/Main} directory of the workspace.
+     * </p>
+     */
+    private File myWorkspaceDir;
+
+    // ===========================================================
+    // Set up Method
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method locates the workspace before any of the measurements.
+     * </p>
+     */
+    @Setup
+    public final void setUp() {
+        myWorkspaceDir = BenchmarkUtilities.getWorkspaceDir();
+    }
+
+    // ===========================================================
+    // Benchmark Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This benchmarks analyzing the theory.
+     * </p>
+     */
+    @Benchmark
+    public final void analyze() {
+        BenchmarkUtilities.runCompiler(myWorkspaceDir, fileName);
+    }
+
+}
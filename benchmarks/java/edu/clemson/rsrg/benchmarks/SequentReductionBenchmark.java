@@ -0,0 +1,115 @@
+/*
+ * SequentReductionBenchmark.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.benchmarks;
+
+import edu.clemson.rsrg.absyn.expressions.Exp;
+import edu.clemson.rsrg.absyn.expressions.mathexpr.MathExp;
+import edu.clemson.rsrg.absyn.expressions.mathexpr.VarExp;
+import edu.clemson.rsrg.parsing.data.Location;
+import edu.clemson.rsrg.parsing.data.PosSymbol;
+import edu.clemson.rsrg.typeandpopulate.typereasoning.TypeGraph;
+import edu.clemson.rsrg.vcgeneration.sequents.Sequent;
+import edu.clemson.rsrg.vcgeneration.sequents.SequentReduction;
+import edu.clemson.rsrg.vcgeneration.utilities.Utilities;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * <p>
+ * This benchmark measures {@link SequentReduction#applyReduction()} on sequents of the form
+ * {@code (p1 implies q1), ..., (pN implies qN) |- (p1 and ... and pN) implies (q1 and ... and qN)}. Every antecedent
+ * splits the sequent in two, so the reduction produces an exponential number of sequents in {@code N}.
+ * </p>
+ *
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SequentReductionBenchmark {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * The number of implications in the sequent.
+     * </p>
+     */
+    @Param({ "2", "4", "6" })
+    public int numImplications;
+
+    /**
+     * <p>
+     * The sequent to be reduced.
+     * </p>
+     */
+    private Sequent mySequent;
+
+    // ===========================================================
+    // Set up Method
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method builds the sequent before any of the measurements.
+     * </p>
+     */
+    @Setup
+    public final void setUp() {
+        Location location = BenchmarkUtilities.createFakeLocation("SequentReductionBenchmark");
+        TypeGraph typeGraph = BenchmarkUtilities.createTypeGraph();
+
+        List<Exp> antecedents = new ArrayList<>();
+        Exp allPs = null;
+        Exp allQs = null;
+        for (int i = 1; i <= numImplications; i++) {
+            VarExp p = Utilities.createVarExp(location, null, new PosSymbol(location, "p" + i), typeGraph.BOOLEAN,
+                    null);
+            VarExp q = Utilities.createVarExp(location, null, new PosSymbol(location, "q" + i), typeGraph.BOOLEAN,
+                    null);
+            antecedents.add(MathExp.formImplies(location, p.clone(), q.clone()));
+
+            allPs = (allPs == null) ? p : MathExp.formConjunct(location, allPs, p);
+            allQs = (allQs == null) ? q : MathExp.formConjunct(location, allQs, q);
+        }
+
+        List<Exp> consequents = new ArrayList<>();
+        consequents.add(MathExp.formImplies(location, allPs, allQs));
+
+        mySequent = new Sequent(location, antecedents, consequents);
+    }
+
+    // ===========================================================
+    // Benchmark Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This benchmarks reducing the sequent until it only contains atomic formulas.
+     * </p>
+     *
+     * @return The reduced sequents.
+     */
+    @Benchmark
+    public final List<Sequent> applyReduction() {
+        return new SequentReduction(mySequent).applyReduction();
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * VerificationBenchmark.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.benchmarks;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * <p>
+ * This benchmark measures how long it takes to generate {@code VCs} for the realizations listed in
+ * {@code bin/tests/filesToProve.txt} and, if requested, to prove them using the general purpose prover. Every
+ * invocation starts from a fresh compile environment.
+ * </p>
+ *
+ * <p>
+ * The realizations live in the {@code RESOLVE-Workspace} repository, so the {@code resolve.workspace} system property
+ * must point to its {@code RESOLVE/Main} directory.
+ * </p>
+ *
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class VerificationBenchmark {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * Name of the realization relative to the workspace directory.
+     * </p>
+     */
+    @Param({ "Concepts/Globally_Bounded_Queue_Template/Remove_Last_Realiz.rb",
+            "Concepts/Globally_Bounded_Stack_Template/Obvious_CC_Realiz.rb",
+            "Concepts/Globally_Bounded_Stack_Template/Obvious_Flipping_Realiz.rb",
+            "Concepts/Queue_Template/Recursive_Append_Realiz.rb", "Concepts/Stack_Template/Do_Nothing_Realiz.rb",
+            "Concepts/Stack_Template/Obvious_CC_Realiz.rb", "Concepts/Stack_Template/Obvious_Flipping_Realiz.rb",
+            "Concepts/Standard/Integer_Template/Iterative_Add_to_Realiz.rb",
+            "Concepts/Standard/Integer_Template/Recursive_Add_to_Realiz.rb" })
+    public String fileName;
+
+    /**
+     * <p>
+     * The compiler flag for the last stage we want to run: {@code VCs} to stop after generating the {@code VCs} or
+     * {@code sprove} to also prove them.
+     * </p>
+     */
+    @Param({ "VCs", "sprove" })
+    public String stage;
+
+    /**
+     * <p>
+     * The {@code RESOLVE/Main} directory of the workspace.
+     * </p>
+     */
+    private File myWorkspaceDir;
+
+    // ===========================================================
+    // Set up Method
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method locates the workspace before any of the measurements.
+     * </p>
+     */
+    @Setup
+    public final void setUp() {
+        myWorkspaceDir = BenchmarkUtilities.getWorkspaceDir();
+    }
+
+    // ===========================================================
+    // Benchmark Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This benchmarks compiling the realization up to the requested stage.
+     * </p>
+     */
+    @Benchmark
+    public final void verify() {
+        BenchmarkUtilities.runCompiler(myWorkspaceDir, fileName, "-" + stage);
+    }
+
+}
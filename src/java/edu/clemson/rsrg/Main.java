@@ -28,7 +28,8 @@ public class Main {
 
     /**
      * <p>
-     * This method creates and invokes the {@link ResolveCompiler} to perform the compilation job.
+     * This method creates and invokes the {@link ResolveCompiler} to perform the compilation job. The process exits
+     * with a nonzero status if the compilation did not complete successfully.
      * </p>
      *
      * @param args
@@ -36,7 +37,9 @@ public class Main {
      */
     public static void main(String[] args) {
         ResolveCompiler compiler = new ResolveCompiler(args);
-        compiler.invokeCompiler();
+        if (!compiler.invokeCompiler()) {
+            System.exit(1);
+        }
     }
 
 }
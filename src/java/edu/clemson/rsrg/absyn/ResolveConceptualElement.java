@@ -15,6 +15,9 @@ package edu.clemson.rsrg.absyn;
 import edu.clemson.rsrg.init.file.ResolveFile;
 import edu.clemson.rsrg.parsing.data.BasicCapabilities;
 import edu.clemson.rsrg.parsing.data.Location;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
@@ -45,6 +48,19 @@ public abstract class ResolveConceptualElement implements BasicCapabilities, Clo
      */
     protected final Location myLoc;
 
+    /**
+     * <p>
+     * The fields that {@link #getChildren()} returns for each class. These are found using reflection the first time we
+     * ask for the children of an object of that class.
+     * </p>
+     */
+    private static final ClassValue<ChildField[]> CHILD_FIELDS = new ClassValue<>() {
+        @Override
+        protected ChildField[] computeValue(Class<?> type) {
+            return findChildFields(type);
+        }
+    };
+
     // ===========================================================
     // Constructors
     // ===========================================================
@@ -113,67 +129,29 @@ public abstract class ResolveConceptualElement implements BasicCapabilities, Clo
      */
     @SuppressWarnings("unchecked")
     public List<ResolveConceptualElement> getChildren() {
-        // We'd like to hit the fields in the order they appear in the class,
-        // starting with the most general class and getting more specific. So,
-        // we build a stack of the class hierarchy of this instance
-        Deque<Class<?>> hierarchy = new LinkedList<>();
-        Class<?> curClass = this.getClass();
-        do {
-            hierarchy.push(curClass);
-            curClass = curClass.getSuperclass();
-        } while (curClass != ResolveConceptualElement.class);
-
-        List<ResolveConceptualElement> children = new ArrayList<>();
-        // get a list of all the declared and inherited members of that class
-        List<Field> fields = new ArrayList<>();
-        while (!hierarchy.isEmpty()) {
-
-            curClass = hierarchy.pop();
-
-            Field[] curFields = curClass.getDeclaredFields();
-            for (int i = 0; i < curFields.length; ++i) {
-                fields.add(curFields[i]);
+        ChildField[] childFields = CHILD_FIELDS.get(this.getClass());
+        List<ResolveConceptualElement> children = new ArrayList<>(childFields.length);
+        for (ChildField childField : childFields) {
+            Object value;
+            try {
+                value = childField.getter.invokeExact(this);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new RuntimeException(t);
             }
-            curClass = curClass.getSuperclass();
-        }
-
-        // loop through all the class members
-        Iterator<Field> iterFields = fields.iterator();
-        while (iterFields.hasNext()) {
-            Field curField = iterFields.next();
-
-            if (!Modifier.isStatic(curField.getModifiers())) {
-
-                curField.setAccessible(true);
-                Class<?> fieldType = curField.getType();
 
-                try {
-                    // is this member a ResolveConceptualElement?
-                    // if so, add it as a child
-                    if (ResolveConceptualElement.class.isAssignableFrom(fieldType)) {
-                        // System.out.println("Walking: " + curField.getName());
-                        children.add(ResolveConceptualElement.class.cast(curField.get(this)));
-                    }
-                    // is this member a list of ResolveConceptualElements?
-                    // if so, add the elements to the list of children
-                    else if (java.util.List.class.isAssignableFrom(fieldType)) {
-                        Class<?> listOf = (Class<?>) ((ParameterizedType) curField.getGenericType())
-                                .getActualTypeArguments()[0];
-                        java.util.List<?> fieldList = java.util.List.class.cast(curField.get(this));
-                        if (fieldList != null && fieldList.size() > 0
-                                && ResolveConceptualElement.class.isAssignableFrom(listOf)) {
-                            children.add(new VirtualListNode(myLoc, this, curField.getName(),
-                                    (java.util.List<ResolveConceptualElement>) fieldList,
-                                    (Class<?>) ((ParameterizedType) curField.getGenericType())
-                                            .getActualTypeArguments()[0]));
-                        }
-                    }
-                } catch (Exception ex) {
-                    if (ex instanceof RuntimeException) {
-                        throw (RuntimeException) ex;
-                    } else {
-                        throw new RuntimeException(ex);
-                    }
+            // is this member a ResolveConceptualElement?
+            // if so, add it as a child
+            if (childField.listType == null) {
+                children.add((ResolveConceptualElement) value);
+            }
+            // otherwise it is a list of ResolveConceptualElements,
+            // so add the elements to the list of children
+            else {
+                java.util.List<ResolveConceptualElement> fieldList = (java.util.List<ResolveConceptualElement>) value;
+                if (fieldList != null && fieldList.size() > 0) {
+                    children.add(new VirtualListNode(myLoc, this, childField.name, fieldList, childField.listType));
                 }
             }
         }
@@ -259,4 +237,113 @@ public abstract class ResolveConceptualElement implements BasicCapabilities, Clo
         }
     }
 
+    // ===========================================================
+    // Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method finds the fields that hold the children of objects of the specified class.
+     * </p>
+     *
+     * @param type
+     *            A class that inherits from {@code ResolveConceptualElement}.
+     *
+     * @return The fields in the order they appear in the class, starting with the most general class and getting more
+     *         specific.
+     */
+    private static ChildField[] findChildFields(Class<?> type) {
+        // We'd like to hit the fields in the order they appear in the class,
+        // starting with the most general class and getting more specific. So,
+        // we build a stack of the class hierarchy of this instance
+        Deque<Class<?>> hierarchy = new LinkedList<>();
+        Class<?> curClass = type;
+        do {
+            hierarchy.push(curClass);
+            curClass = curClass.getSuperclass();
+        } while (curClass != ResolveConceptualElement.class);
+
+        // loop through all the declared and inherited members of that class
+        List<ChildField> childFields = new ArrayList<>();
+        while (!hierarchy.isEmpty()) {
+            for (Field curField : hierarchy.pop().getDeclaredFields()) {
+                if (!Modifier.isStatic(curField.getModifiers())) {
+                    Class<?> fieldType = curField.getType();
+                    Class<?> listOf = null;
+                    if (java.util.List.class.isAssignableFrom(fieldType)) {
+                        listOf = (Class<?>) ((ParameterizedType) curField.getGenericType()).getActualTypeArguments()[0];
+                    }
+
+                    // is this member a ResolveConceptualElement or a list of
+                    // ResolveConceptualElements?
+                    if (ResolveConceptualElement.class.isAssignableFrom(fieldType)
+                            || (listOf != null && ResolveConceptualElement.class.isAssignableFrom(listOf))) {
+                        curField.setAccessible(true);
+                        try {
+                            MethodHandle getter = MethodHandles.lookup().unreflectGetter(curField)
+                                    .asType(MethodType.methodType(Object.class, ResolveConceptualElement.class));
+                            childFields.add(new ChildField(curField.getName(), getter, listOf));
+                        } catch (IllegalAccessException e) {
+                            throw new RuntimeException(e);
+                        }
+                    }
+                }
+            }
+        }
+
+        return childFields.toArray(new ChildField[0]);
+    }
+
+    // ===========================================================
+    // Helper Constructs
+    // ===========================================================
+
+    /**
+     * <p>
+     * An helper construct that stores how to read a field that holds one or more children.
+     * </p>
+     */
+    private static class ChildField {
+
+        /**
+         * <p>
+         * The field's name.
+         * </p>
+         */
+        final String name;
+
+        /**
+         * <p>
+         * A method handle that returns the field's value.
+         * </p>
+         */
+        final MethodHandle getter;
+
+        /**
+         * <p>
+         * The class of the list's elements or {@code null} if the field is not a list.
+         * </p>
+         */
+        final Class<?> listType;
+
+        /**
+         * <p>
+         * This creates a new child field.
+         * </p>
+         *
+         * @param name
+         *            The field's name.
+         * @param getter
+         *            A method handle that returns the field's value.
+         * @param listType
+         *            The class of the list's elements or {@code null} if the field is not a list.
+         */
+        ChildField(String name, MethodHandle getter, Class<?> listType) {
+            this.name = name;
+            this.getter = getter;
+            this.listType = listType;
+        }
+
+    }
+
 }
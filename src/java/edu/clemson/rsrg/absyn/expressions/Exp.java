@@ -23,6 +23,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 
 /**
  * <p>
@@ -65,6 +66,22 @@ public abstract class Exp extends ResolveConceptualElement {
      */
     protected MTType myMathTypeValue = null;
 
+    /**
+     * <p>
+     * This flag indicates if this expression has been shared by a {@link HashConsingExpFactory}. Shared expressions
+     * cannot be modified, so {@link #clone()} simply returns the expression itself.
+     * </p>
+     */
+    private boolean myIsImmutable = false;
+
+    /**
+     * <p>
+     * The hash code of a shared expression. This is computed once, when the expression is shared, using the hash codes
+     * its child expressions have already cached.
+     * </p>
+     */
+    private int mySharedHashCode;
+
     // ===========================================================
     // Constructors
     // ===========================================================
@@ -95,6 +112,11 @@ public abstract class Exp extends ResolveConceptualElement {
      */
     @Override
     public Exp clone() {
+        // Nobody can modify a shared expression, so there is no need to copy it.
+        if (myIsImmutable) {
+            return this;
+        }
+
         Exp result = this.copy();
         result.setMathType(myMathType);
         result.setMathTypeValue(myMathTypeValue);
@@ -177,6 +199,10 @@ public abstract class Exp extends ResolveConceptualElement {
 
         Exp exp = (Exp) o;
 
+        // Two shared expressions with different hash codes can't be equal
+        if (myIsImmutable && exp.myIsImmutable && mySharedHashCode != exp.mySharedHashCode)
+            return false;
+
         // YS: Note that this check should be in here for completeness,
         // but so many things have been built without checking for
         // location equality. At some point someone should add this
@@ -227,6 +253,10 @@ public abstract class Exp extends ResolveConceptualElement {
      *         are equivalent.
      */
     public static boolean equivalent(Exp e1, Exp e2) {
+        if (e1 == e2) {
+            return true;
+        }
+
         return !((e1 == null ^ e2 == null)) && ((e1 == null && e2 == null) || e1.equivalent(e2));
     }
 
@@ -273,14 +303,31 @@ public abstract class Exp extends ResolveConceptualElement {
     public abstract List<Exp> getSubExpressions();
 
     /**
-     * {@inheritDoc}
+     * <p>
+     * This method returns the hash code for this expression. A shared expression cannot change, so it simply returns
+     * the hash code that was cached when it was shared.
+     * </p>
+     *
+     * @return The hash code associated with the object.
      */
     @Override
-    public int hashCode() {
-        int result = myLocationDetailModel != null ? myLocationDetailModel.hashCode() : 0;
-        result = 31 * result + (myMathType != null ? myMathType.hashCode() : 0);
-        result = 31 * result + (myMathTypeValue != null ? myMathTypeValue.hashCode() : 0);
-        return result;
+    public final int hashCode() {
+        if (myIsImmutable) {
+            return mySharedHashCode;
+        }
+
+        return computeHashCode();
+    }
+
+    /**
+     * <p>
+     * This method checks to see if this expression has been shared by a {@link HashConsingExpFactory}.
+     * </p>
+     *
+     * @return {@code true} if this expression cannot be modified, {@code false} otherwise.
+     */
+    public final boolean isImmutable() {
+        return myIsImmutable;
     }
 
     /**
@@ -316,6 +363,7 @@ public abstract class Exp extends ResolveConceptualElement {
      *            A {@link LocationDetailModel} object.
      */
     public final void setLocationDetailModel(LocationDetailModel locationDetailModel) {
+        ensureMutable();
         myLocationDetailModel = locationDetailModel;
     }
 
@@ -328,6 +376,7 @@ public abstract class Exp extends ResolveConceptualElement {
      *            The {@link MTType} type object.
      */
     public void setMathType(MTType mathType) {
+        ensureMutable();
         myMathType = mathType;
     }
 
@@ -340,6 +389,7 @@ public abstract class Exp extends ResolveConceptualElement {
      *            The {@link MTType} type object.
      */
     public void setMathTypeValue(MTType mathTypeValue) {
+        ensureMutable();
         myMathTypeValue = mathTypeValue;
     }
 
@@ -422,6 +472,22 @@ public abstract class Exp extends ResolveConceptualElement {
     // Protected Methods
     // ===========================================================
 
+    /**
+     * <p>
+     * Implemented by concrete subclasses of {@link Exp} to compute their hash code from their fields. This is only
+     * called by {@link #hashCode()}, so any child expression that has been shared returns its cached hash code instead
+     * of visiting all of its sub-expressions again.
+     * </p>
+     *
+     * @return The hash code associated with the object.
+     */
+    protected int computeHashCode() {
+        int result = myLocationDetailModel != null ? myLocationDetailModel.hashCode() : 0;
+        result = 31 * result + (myMathType != null ? myMathType.hashCode() : 0);
+        result = 31 * result + (myMathTypeValue != null ? myMathTypeValue.hashCode() : 0);
+        return result;
+    }
+
     /**
      * <p>
      * Implemented by concrete subclasses of {@link Exp} to manufacture a copy of themselves.
@@ -434,6 +500,42 @@ public abstract class Exp extends ResolveConceptualElement {
                 new CloneNotSupportedException());
     }
 
+    /**
+     * <p>
+     * This method must be called by any method that modifies this expression.
+     * </p>
+     *
+     * @throws MiscErrorException
+     *             If this expression has been shared by a {@link HashConsingExpFactory}.
+     */
+    protected final void ensureMutable() {
+        if (myIsImmutable) {
+            throw new MiscErrorException("Cannot modify an expression shared by a HashConsingExpFactory.",
+                    new UnsupportedOperationException());
+        }
+    }
+
+    /**
+     * <p>
+     * Implemented by concrete subclasses of {@link Exp} that have child expressions to manufacture a copy of themselves
+     * where each child expression has been replaced by {@code childReplacer}. Unlike {@link #substituteChildren(Map)},
+     * nothing is matched against the children, so the result has exactly the same structure as the original.
+     * </p>
+     *
+     * <p>
+     * The default implementation is meant for expressions without any child expressions and simply returns
+     * {@link #copy()}.
+     * </p>
+     *
+     * @param childReplacer
+     *            A function that returns the expression that should be used in place of each child expression.
+     *
+     * @return A new {@link Exp} that uses the replaced child expressions.
+     */
+    protected Exp rebuildWithChildren(Function<Exp, Exp> childReplacer) {
+        return copy();
+    }
+
     /**
      * <p>
      * A static helper method that calls substitute method using {@code e}.
@@ -474,4 +576,44 @@ public abstract class Exp extends ResolveConceptualElement {
      */
     protected abstract Exp substituteChildren(Map<Exp, Exp> substitutions);
 
+    // ===========================================================
+    // Package Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method is used by {@link HashConsingExpFactory} to create a copy of this expression that uses the shared
+     * versions of its child expressions. The copy has the same math types and location detail model as the original.
+     * </p>
+     *
+     * @param childReplacer
+     *            A function that returns the shared version of each child expression.
+     *
+     * @return A new {@link Exp} that uses the replaced child expressions.
+     */
+    final Exp rebuild(Function<Exp, Exp> childReplacer) {
+        Exp retval = rebuildWithChildren(childReplacer);
+        retval.setMathType(myMathType);
+        retval.setMathTypeValue(myMathTypeValue);
+
+        // Copy the location detail model if it is not null
+        if (myLocationDetailModel != null) {
+            retval.setLocationDetailModel(myLocationDetailModel.clone());
+        }
+
+        return retval;
+    }
+
+    /**
+     * <p>
+     * This method is used by {@link HashConsingExpFactory} to mark this expression as shared. This cannot be undone.
+     * Its child expressions must already be shared, so computing the hash code we cache here only needs their cached
+     * hash codes.
+     * </p>
+     */
+    final void setImmutable() {
+        mySharedHashCode = computeHashCode();
+        myIsImmutable = true;
+    }
+
 }
@@ -0,0 +1,197 @@
+/*
+ * HashConsingExpFactory.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.absyn.expressions;
+
+import edu.clemson.rsrg.absyn.ResolveConceptualElement;
+import edu.clemson.rsrg.absyn.VirtualListNode;
+import edu.clemson.rsrg.absyn.expressions.mathexpr.MathExp;
+import edu.clemson.rsrg.statushandling.exception.MiscErrorException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>
+ * This is an opt-in factory that turns {@link MathExp MathExps} into shared, immutable expressions. Expressions that
+ * are {@link Exp#equals(Object)} to each other become the same object, and so do their equal sub-expressions. This
+ * means that {@link Exp#clone()} on a shared expression is free and comparing two shared expressions from the same
+ * factory only needs a reference comparison.
+ * </p>
+ *
+ * <p>
+ * Shared expressions throw a {@link MiscErrorException} if anyone tries to modify them (and the lists of child
+ * expressions they return can't be modified either), so this should only be used on expressions that are done being
+ * built. Where an expression was found doesn't matter when looking for an equal expression, but
+ * {@link Exp#equals(Object)} compares the {@code Location} objects in location detail models by reference, so
+ * expressions with different location detail models are never shared.
+ * </p>
+ *
+ * <p>
+ * Every shared expression caches its hash code, which is computed from the cached hash codes of its children. This
+ * means that sharing an expression only takes time proportional to its size, no matter how deep it is.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class HashConsingExpFactory {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * A map from each shared expression to itself.
+     * </p>
+     */
+    private final Map<Exp, Exp> mySharedExps;
+
+    // ===========================================================
+    // Constructors
+    // ===========================================================
+
+    /**
+     * <p>
+     * This creates a factory without any shared expressions.
+     * </p>
+     */
+    public HashConsingExpFactory() {
+        mySharedExps = new ConcurrentHashMap<>();
+    }
+
+    // ===========================================================
+    // Public Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method returns the shared version of the specified expression. The expression itself is not modified.
+     * </p>
+     *
+     * @param exp
+     *            A mathematical expression.
+     *
+     * @return A shared, immutable expression that is {@link Exp#equals(Object)} to {@code exp}.
+     */
+    public final MathExp intern(MathExp exp) {
+        // Expressions that are already shared don't need to change
+        if (exp.isImmutable()) {
+            return exp;
+        }
+
+        // Visit the sub-expressions before the expressions that contain them.
+        // We use an explicit stack because the expression might be very deep.
+        Map<Exp, Exp> sharedVersions = new IdentityHashMap<>();
+        Deque<Exp> stack = new ArrayDeque<>();
+        stack.push(exp);
+        while (!stack.isEmpty()) {
+            Exp current = stack.peek();
+            if (sharedVersions.containsKey(current)) {
+                stack.pop();
+                continue;
+            }
+
+            boolean childrenDone = true;
+            List<Exp> children = getChildExps(current);
+            for (Exp child : children) {
+                if (!child.isImmutable() && !sharedVersions.containsKey(child)) {
+                    stack.push(child);
+                    childrenDone = false;
+                }
+            }
+
+            if (childrenDone) {
+                stack.pop();
+                sharedVersions.put(current, share(current, sharedVersions));
+            }
+        }
+
+        return (MathExp) sharedVersions.get(exp);
+    }
+
+    /**
+     * <p>
+     * This method returns the number of distinct shared expressions created by this factory.
+     * </p>
+     *
+     * @return The number of shared expressions.
+     */
+    public final int size() {
+        return mySharedExps.size();
+    }
+
+    // ===========================================================
+    // Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method returns the expressions that are stored directly inside {@code exp}.
+     * </p>
+     *
+     * @param exp
+     *            An expression.
+     *
+     * @return The child expressions, in the order they appear.
+     */
+    private static List<Exp> getChildExps(Exp exp) {
+        List<Exp> childExps = new ArrayList<>();
+        for (ResolveConceptualElement child : exp.getChildren()) {
+            if (child instanceof Exp) {
+                childExps.add((Exp) child);
+            } else if (child instanceof VirtualListNode) {
+                for (ResolveConceptualElement element : child.getChildren()) {
+                    if (element instanceof Exp) {
+                        childExps.add((Exp) element);
+                    }
+                }
+            }
+        }
+
+        return childExps;
+    }
+
+    /**
+     * <p>
+     * This method creates a copy of {@code exp} that uses the shared versions of its children, and returns the shared
+     * expression that is equal to it.
+     * </p>
+     *
+     * @param exp
+     *            An expression whose children have already been shared.
+     * @param sharedVersions
+     *            A map from the expressions we have visited to their shared versions.
+     *
+     * @return The shared version of {@code exp}.
+     */
+    private Exp share(Exp exp, Map<Exp, Exp> sharedVersions) {
+        Exp copy = exp.rebuild(child -> {
+            Exp sharedChild;
+            if (child.isImmutable()) {
+                sharedChild = child;
+            } else if (sharedVersions.containsKey(child)) {
+                sharedChild = sharedVersions.get(child);
+            } else {
+                // Children that aren't stored in a field or a list (such as
+                // the members of a set) aren't returned by getChildren().
+                sharedChild = intern((MathExp) child);
+            }
+
+            return sharedChild;
+        });
+        copy.setImmutable();
+
+        Exp sharedExp = mySharedExps.putIfAbsent(copy, copy);
+        return sharedExp == null ? copy : sharedExp;
+    }
+
+}
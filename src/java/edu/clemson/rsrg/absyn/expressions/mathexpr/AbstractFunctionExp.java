@@ -206,8 +206,8 @@ public abstract class AbstractFunctionExp extends MathExp {
      * {@inheritDoc}
      */
     @Override
-    public int hashCode() {
-        int result = super.hashCode();
+    protected int computeHashCode() {
+        int result = super.computeHashCode();
         result = 31 * result + (myQualifier != null ? myQualifier.hashCode() : 0);
         result = 31 * result + (myQuantification != null ? myQuantification.hashCode() : 0);
         return result;
@@ -222,6 +222,7 @@ public abstract class AbstractFunctionExp extends MathExp {
      *            The qualifier for this expression.
      */
     public final void setQualifier(PosSymbol qualifier) {
+        ensureMutable();
         myQualifier = qualifier;
     }
 
@@ -234,6 +235,8 @@ public abstract class AbstractFunctionExp extends MathExp {
      *            The quantification type for this expression.
      */
     public void setQuantification(SymbolTableEntry.Quantification q) {
+        ensureMutable();
+
         if (!q.equals(SymbolTableEntry.Quantification.NONE)) {
             throw new UnsupportedOperationException(
                     "The function " + getOperatorAsString() + " does not support " + "quantification.");
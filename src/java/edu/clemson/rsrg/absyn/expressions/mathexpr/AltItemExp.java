@@ -18,6 +18,7 @@ import edu.clemson.rsrg.statushandling.exception.MiscErrorException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * <p>
@@ -211,8 +212,8 @@ public class AltItemExp extends MathExp {
      * {@inheritDoc}
      */
     @Override
-    public final int hashCode() {
-        int result = super.hashCode();
+    protected final int computeHashCode() {
+        int result = super.computeHashCode();
         result = 31 * result + (myTestingExp != null ? myTestingExp.hashCode() : 0);
         result = 31 * result + (myAssignmentExp != null ? myAssignmentExp.hashCode() : 0);
         return result;
@@ -235,6 +236,19 @@ public class AltItemExp extends MathExp {
         return new AltItemExp(cloneLocation(), newTest, myAssignmentExp.clone());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final Exp rebuildWithChildren(Function<Exp, Exp> childReplacer) {
+        Exp newTest = null;
+        if (myTestingExp != null) {
+            newTest = childReplacer.apply(myTestingExp);
+        }
+
+        return new AltItemExp(cloneLocation(), newTest, childReplacer.apply(myAssignmentExp));
+    }
+
     /**
      * {@inheritDoc}
      */
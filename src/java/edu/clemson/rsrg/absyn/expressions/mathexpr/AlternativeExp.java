@@ -16,9 +16,11 @@ import edu.clemson.rsrg.absyn.expressions.Exp;
 import edu.clemson.rsrg.parsing.data.Location;
 import edu.clemson.rsrg.statushandling.exception.MiscErrorException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * <p>
@@ -181,7 +183,7 @@ public class AlternativeExp extends MathExp {
      * @return A list containing {@link AltItemExp}s.
      */
     public final List<AltItemExp> getAlternatives() {
-        return myAlternatives;
+        return isImmutable() ? Collections.unmodifiableList(myAlternatives) : myAlternatives;
     }
 
     /**
@@ -201,8 +203,8 @@ public class AlternativeExp extends MathExp {
      * {@inheritDoc}
      */
     @Override
-    public final int hashCode() {
-        int result = super.hashCode();
+    protected final int computeHashCode() {
+        int result = super.computeHashCode();
         result = 31 * result + myAlternatives.hashCode();
         return result;
     }
@@ -219,6 +221,19 @@ public class AlternativeExp extends MathExp {
         return new AlternativeExp(cloneLocation(), copyAltItemList());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final Exp rebuildWithChildren(Function<Exp, Exp> childReplacer) {
+        List<AltItemExp> newAlternatives = new ArrayList<>(myAlternatives.size());
+        for (AltItemExp exp : myAlternatives) {
+            newAlternatives.add((AltItemExp) childReplacer.apply(exp));
+        }
+
+        return new AlternativeExp(cloneLocation(), newAlternatives);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -15,9 +15,11 @@ package edu.clemson.rsrg.absyn.expressions.mathexpr;
 import edu.clemson.rsrg.absyn.expressions.Exp;
 import edu.clemson.rsrg.parsing.data.Location;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * <p>
@@ -176,7 +178,7 @@ public class BetweenExp extends MathExp {
      * @return A list containing joining {@link Exp}s.
      */
     public final List<Exp> getJoiningExps() {
-        return myJoiningExps;
+        return isImmutable() ? Collections.unmodifiableList(myJoiningExps) : myJoiningExps;
     }
 
     /**
@@ -191,8 +193,8 @@ public class BetweenExp extends MathExp {
      * {@inheritDoc}
      */
     @Override
-    public final int hashCode() {
-        int result = super.hashCode();
+    protected final int computeHashCode() {
+        int result = super.computeHashCode();
         result = 31 * result + myJoiningExps.hashCode();
         return result;
     }
@@ -209,6 +211,19 @@ public class BetweenExp extends MathExp {
         return new BetweenExp(cloneLocation(), copyExps());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final Exp rebuildWithChildren(Function<Exp, Exp> childReplacer) {
+        List<Exp> newJoiningExps = new ArrayList<>(myJoiningExps.size());
+        for (Exp exp : myJoiningExps) {
+            newJoiningExps.add(childReplacer.apply(exp));
+        }
+
+        return new BetweenExp(cloneLocation(), newJoiningExps);
+    }
+
     /**
      * {@inheritDoc}
      */
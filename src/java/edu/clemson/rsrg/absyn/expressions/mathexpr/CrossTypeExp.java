@@ -206,15 +206,15 @@ public class CrossTypeExp extends MathExp {
      * @return The {@link Map} containing the tags to field pairs.
      */
     public final Map<PosSymbol, ArbitraryExpTy> getTagsToFieldsMap() {
-        return myTagsToFields;
+        return isImmutable() ? Collections.unmodifiableMap(myTagsToFields) : myTagsToFields;
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public final int hashCode() {
-        int result = super.hashCode();
+    protected final int computeHashCode() {
+        int result = super.computeHashCode();
         result = 31 * result + myTagsToFields.hashCode();
         return result;
     }
@@ -16,9 +16,11 @@ import edu.clemson.rsrg.absyn.expressions.Exp;
 import edu.clemson.rsrg.parsing.data.Location;
 import edu.clemson.rsrg.statushandling.exception.SourceErrorException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * <p>
@@ -177,7 +179,7 @@ public class DotExp extends MathExp {
      * @return A list containing all the segmented {@link Exp}s.
      */
     public final List<Exp> getSegments() {
-        return mySegmentExps;
+        return isImmutable() ? Collections.unmodifiableList(mySegmentExps) : mySegmentExps;
     }
 
     /**
@@ -192,8 +194,8 @@ public class DotExp extends MathExp {
      * {@inheritDoc}
      */
     @Override
-    public final int hashCode() {
-        int result = super.hashCode();
+    protected final int computeHashCode() {
+        int result = super.computeHashCode();
         result = 31 * result + mySegmentExps.hashCode();
         return result;
     }
@@ -210,6 +212,19 @@ public class DotExp extends MathExp {
         return new DotExp(cloneLocation(), copyExps());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final Exp rebuildWithChildren(Function<Exp, Exp> childReplacer) {
+        List<Exp> newSegments = new ArrayList<>(mySegmentExps.size());
+        for (Exp exp : mySegmentExps) {
+            newSegments.add(childReplacer.apply(exp));
+        }
+
+        return new DotExp(cloneLocation(), newSegments);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -118,8 +118,8 @@ public class DoubleExp extends LiteralExp {
      * {@inheritDoc}
      */
     @Override
-    public final int hashCode() {
-        int result = super.hashCode();
+    protected final int computeHashCode() {
+        int result = super.computeHashCode();
         long temp;
         temp = Double.doubleToLongBits(myDouble);
         result = 31 * result + (int) (temp ^ (temp >>> 32));
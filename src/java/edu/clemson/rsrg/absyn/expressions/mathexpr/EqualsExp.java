@@ -16,6 +16,7 @@ import edu.clemson.rsrg.absyn.expressions.Exp;
 import edu.clemson.rsrg.parsing.data.Location;
 import edu.clemson.rsrg.parsing.data.PosSymbol;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * <p>
@@ -160,8 +161,8 @@ public class EqualsExp extends InfixExp {
      * {@inheritDoc}
      */
     @Override
-    public final int hashCode() {
-        int result = super.hashCode();
+    protected final int computeHashCode() {
+        int result = super.computeHashCode();
         result = 31 * result + myOperator.hashCode();
         return result;
     }
@@ -183,6 +184,20 @@ public class EqualsExp extends InfixExp {
         return new EqualsExp(cloneLocation(), myLeftHandSide, newOpQualifier, myOperator, myRightHandSide.clone());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final Exp rebuildWithChildren(Function<Exp, Exp> childReplacer) {
+        PosSymbol newOpQualifier = null;
+        if (myQualifier != null) {
+            newOpQualifier = myQualifier.clone();
+        }
+
+        return new EqualsExp(cloneLocation(), childReplacer.apply(myLeftHandSide), newOpQualifier, myOperator,
+                childReplacer.apply(myRightHandSide));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -17,9 +17,11 @@ import edu.clemson.rsrg.parsing.data.Location;
 import edu.clemson.rsrg.parsing.data.PosSymbol;
 import edu.clemson.rsrg.typeandpopulate.entry.SymbolTableEntry;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * <p>
@@ -270,7 +272,7 @@ public class FunctionExp extends AbstractFunctionExp {
      * @return A list containing all the argument {@link Exp}s.
      */
     public final List<Exp> getArguments() {
-        return myArguments;
+        return isImmutable() ? Collections.unmodifiableList(myArguments) : myArguments;
     }
 
     /**
@@ -291,8 +293,8 @@ public class FunctionExp extends AbstractFunctionExp {
      * {@inheritDoc}
      */
     @Override
-    public final int hashCode() {
-        int result = super.hashCode();
+    protected final int computeHashCode() {
+        int result = super.computeHashCode();
         result = 31 * result + myFuncNameExp.hashCode();
         result = 31 * result + (myFuncNameCaratExp != null ? myFuncNameCaratExp.hashCode() : 0);
         result = 31 * result + myArguments.hashCode();
@@ -308,6 +310,7 @@ public class FunctionExp extends AbstractFunctionExp {
      *            The quantification type for this expression.
      */
     public final void setQuantification(SymbolTableEntry.Quantification q) {
+        ensureMutable();
         myQuantification = q;
     }
 
@@ -339,6 +342,35 @@ public class FunctionExp extends AbstractFunctionExp {
         return newFunctionExp;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final Exp rebuildWithChildren(Function<Exp, Exp> childReplacer) {
+        Exp newCaratExp = null;
+        if (myFuncNameCaratExp != null) {
+            newCaratExp = childReplacer.apply(myFuncNameCaratExp);
+        }
+
+        List<Exp> newArgs = new ArrayList<>(myArguments.size());
+        for (Exp exp : myArguments) {
+            newArgs.add(childReplacer.apply(exp));
+        }
+
+        FunctionExp newFunctionExp = new FunctionExp(cloneLocation(), (VarExp) childReplacer.apply(myFuncNameExp),
+                newCaratExp, newArgs);
+
+        // Copy any qualifiers
+        if (myQualifier != null) {
+            newFunctionExp.setQualifier(myQualifier.clone());
+        }
+
+        // Copy the function quantification
+        newFunctionExp.setQuantification(myQuantification);
+
+        return newFunctionExp;
+    }
+
     /**
      * {@inheritDoc}
      */
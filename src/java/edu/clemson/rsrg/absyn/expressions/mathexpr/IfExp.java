@@ -17,6 +17,7 @@ import edu.clemson.rsrg.parsing.data.Location;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * <p>
@@ -231,8 +232,8 @@ public class IfExp extends MathExp {
      * {@inheritDoc}
      */
     @Override
-    public final int hashCode() {
-        int result = super.hashCode();
+    protected final int computeHashCode() {
+        int result = super.computeHashCode();
         result = 31 * result + myTestingExp.hashCode();
         result = 31 * result + myThenExp.hashCode();
         result = 31 * result + myElseExp.hashCode();
@@ -256,6 +257,20 @@ public class IfExp extends MathExp {
         return new IfExp(cloneLocation(), myTestingExp.clone(), myThenExp.clone(), newElseExp);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final Exp rebuildWithChildren(Function<Exp, Exp> childReplacer) {
+        Exp newElseExp = null;
+        if (myElseExp != null) {
+            newElseExp = childReplacer.apply(myElseExp);
+        }
+
+        return new IfExp(cloneLocation(), childReplacer.apply(myTestingExp), childReplacer.apply(myThenExp),
+                newElseExp);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -18,6 +18,7 @@ import edu.clemson.rsrg.parsing.data.PosSymbol;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * <p>
@@ -260,8 +261,8 @@ public class InfixExp extends AbstractFunctionExp {
      * {@inheritDoc}
      */
     @Override
-    public int hashCode() {
-        int result = super.hashCode();
+    protected int computeHashCode() {
+        int result = super.computeHashCode();
         result = 31 * result + myLeftHandSide.hashCode();
         result = 31 * result + myOperationName.hashCode();
         result = 31 * result + myRightHandSide.hashCode();
@@ -286,6 +287,20 @@ public class InfixExp extends AbstractFunctionExp {
                 myRightHandSide.clone());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Exp rebuildWithChildren(Function<Exp, Exp> childReplacer) {
+        PosSymbol newOpQualifier = null;
+        if (myQualifier != null) {
+            newOpQualifier = myQualifier.clone();
+        }
+
+        return new InfixExp(cloneLocation(), childReplacer.apply(myLeftHandSide), newOpQualifier,
+                myOperationName.clone(), childReplacer.apply(myRightHandSide));
+    }
+
     /**
      * {@inheritDoc}
      */
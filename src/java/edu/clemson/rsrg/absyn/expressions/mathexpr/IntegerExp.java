@@ -147,8 +147,8 @@ public class IntegerExp extends LiteralExp {
      * {@inheritDoc}
      */
     @Override
-    public final int hashCode() {
-        int result = super.hashCode();
+    protected final int computeHashCode() {
+        int result = super.computeHashCode();
         result = 31 * result + (myQualifier != null ? myQualifier.hashCode() : 0);
         result = 31 * result + myInteger.hashCode();
         return result;
@@ -19,6 +19,7 @@ import edu.clemson.rsrg.parsing.data.PosSymbol;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * <p>
@@ -317,8 +318,8 @@ public class IterativeExp extends MathExp {
      * {@inheritDoc}
      */
     @Override
-    public final int hashCode() {
-        int result = super.hashCode();
+    protected final int computeHashCode() {
+        int result = super.computeHashCode();
         result = 31 * result + myOperator.hashCode();
         result = 31 * result + myVar.hashCode();
         result = 31 * result + (myWhereExp != null ? myWhereExp.hashCode() : 0);
@@ -343,6 +344,20 @@ public class IterativeExp extends MathExp {
         return new IterativeExp(cloneLocation(), myOperator, (MathVarDec) myVar.clone(), newWhere, myBodyExp.clone());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final Exp rebuildWithChildren(Function<Exp, Exp> childReplacer) {
+        Exp newWhere = null;
+        if (myWhereExp != null) {
+            newWhere = childReplacer.apply(myWhereExp);
+        }
+
+        return new IterativeExp(cloneLocation(), myOperator, (MathVarDec) myVar.clone(), newWhere,
+                childReplacer.apply(myBodyExp));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -16,9 +16,11 @@ import edu.clemson.rsrg.absyn.expressions.Exp;
 import edu.clemson.rsrg.absyn.declarations.variabledecl.MathVarDec;
 import edu.clemson.rsrg.parsing.data.Location;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * <p>
@@ -193,7 +195,7 @@ public class LambdaExp extends MathExp {
      * @return A list containing all the parameter {@link MathVarDec}s.
      */
     public final List<MathVarDec> getParameters() {
-        return myParameters;
+        return isImmutable() ? Collections.unmodifiableList(myParameters) : myParameters;
     }
 
     /**
@@ -211,8 +213,8 @@ public class LambdaExp extends MathExp {
      * {@inheritDoc}
      */
     @Override
-    public final int hashCode() {
-        int result = super.hashCode();
+    protected final int computeHashCode() {
+        int result = super.computeHashCode();
         result = 31 * result + myParameters.hashCode();
         result = 31 * result + myBodyExp.hashCode();
         return result;
@@ -230,6 +232,14 @@ public class LambdaExp extends MathExp {
         return new LambdaExp(cloneLocation(), copyParameters(), myBodyExp.clone());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final Exp rebuildWithChildren(Function<Exp, Exp> childReplacer) {
+        return new LambdaExp(cloneLocation(), copyParameters(), childReplacer.apply(myBodyExp));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -16,6 +16,7 @@ import edu.clemson.rsrg.absyn.expressions.Exp;
 import edu.clemson.rsrg.parsing.data.Location;
 import edu.clemson.rsrg.typeandpopulate.mathtypes.MTType;
 import java.util.*;
+import java.util.function.Function;
 
 /**
  * <p>
@@ -165,8 +166,8 @@ public class OldExp extends MathExp {
      * {@inheritDoc}
      */
     @Override
-    public final int hashCode() {
-        int result = super.hashCode();
+    protected final int computeHashCode() {
+        int result = super.computeHashCode();
         result = 31 * result + myOrigExp.hashCode();
         return result;
     }
@@ -182,7 +183,11 @@ public class OldExp extends MathExp {
     @Override
     public final void setMathType(MTType mathType) {
         super.setMathType(mathType);
-        myOrigExp.setMathType(mathType);
+
+        // A shared expression already has its type
+        if (!myOrigExp.isImmutable()) {
+            myOrigExp.setMathType(mathType);
+        }
     }
 
     /**
@@ -196,7 +201,11 @@ public class OldExp extends MathExp {
     @Override
     public final void setMathTypeValue(MTType mathTypeValue) {
         super.setMathTypeValue(mathTypeValue);
-        myOrigExp.setMathTypeValue(mathTypeValue);
+
+        // A shared expression already has its type
+        if (!myOrigExp.isImmutable()) {
+            myOrigExp.setMathTypeValue(mathTypeValue);
+        }
     }
 
     // ===========================================================
@@ -211,6 +220,14 @@ public class OldExp extends MathExp {
         return new OldExp(cloneLocation(), myOrigExp.clone());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final Exp rebuildWithChildren(Function<Exp, Exp> childReplacer) {
+        return new OldExp(cloneLocation(), childReplacer.apply(myOrigExp));
+    }
+
     /**
      * {@inheritDoc}
      */
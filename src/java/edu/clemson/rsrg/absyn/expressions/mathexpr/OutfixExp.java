@@ -18,6 +18,7 @@ import edu.clemson.rsrg.parsing.data.PosSymbol;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * <p>
@@ -340,8 +341,8 @@ public class OutfixExp extends AbstractFunctionExp {
      * {@inheritDoc}
      */
     @Override
-    public final int hashCode() {
-        int result = super.hashCode();
+    protected final int computeHashCode() {
+        int result = super.computeHashCode();
         result = 31 * result + myOperator.hashCode();
         result = 31 * result + myArgument.hashCode();
         return result;
@@ -359,6 +360,14 @@ public class OutfixExp extends AbstractFunctionExp {
         return new OutfixExp(cloneLocation(), myOperator, myArgument.clone());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final Exp rebuildWithChildren(Function<Exp, Exp> childReplacer) {
+        return new OutfixExp(cloneLocation(), myOperator, childReplacer.apply(myArgument));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -18,6 +18,7 @@ import edu.clemson.rsrg.parsing.data.PosSymbol;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * <p>
@@ -191,8 +192,8 @@ public class PrefixExp extends AbstractFunctionExp {
      * {@inheritDoc}
      */
     @Override
-    public final int hashCode() {
-        int result = super.hashCode();
+    protected final int computeHashCode() {
+        int result = super.computeHashCode();
         result = 31 * result + myOperationName.hashCode();
         result = 31 * result + myArgument.hashCode();
         return result;
@@ -215,6 +216,19 @@ public class PrefixExp extends AbstractFunctionExp {
         return new PrefixExp(cloneLocation(), qualifier, myOperationName.clone(), myArgument.clone());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final Exp rebuildWithChildren(Function<Exp, Exp> childReplacer) {
+        PosSymbol qualifier = null;
+        if (myQualifier != null) {
+            qualifier = myQualifier.clone();
+        }
+
+        return new PrefixExp(cloneLocation(), qualifier, myOperationName.clone(), childReplacer.apply(myArgument));
+    }
+
     /**
      * {@inheritDoc}
      */
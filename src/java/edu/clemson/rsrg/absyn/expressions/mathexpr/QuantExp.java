@@ -17,9 +17,11 @@ import edu.clemson.rsrg.absyn.declarations.variabledecl.MathVarDec;
 import edu.clemson.rsrg.parsing.data.Location;
 import edu.clemson.rsrg.typeandpopulate.entry.SymbolTableEntry;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * <p>
@@ -259,7 +261,7 @@ public class QuantExp extends MathExp {
      * @return A list containing all the {@link MathVarDec}s.
      */
     public final List<MathVarDec> getVars() {
-        return myVars;
+        return isImmutable() ? Collections.unmodifiableList(myVars) : myVars;
     }
 
     /**
@@ -277,8 +279,8 @@ public class QuantExp extends MathExp {
      * {@inheritDoc}
      */
     @Override
-    public final int hashCode() {
-        int result = super.hashCode();
+    protected final int computeHashCode() {
+        int result = super.computeHashCode();
         result = 31 * result + myQuantification.hashCode();
         result = 31 * result + myVars.hashCode();
         result = 31 * result + (myWhereExp != null ? myWhereExp.hashCode() : 0);
@@ -303,6 +305,19 @@ public class QuantExp extends MathExp {
         return new QuantExp(cloneLocation(), myQuantification, myVars, newWhere, myBodyExp.clone());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final Exp rebuildWithChildren(Function<Exp, Exp> childReplacer) {
+        Exp newWhere = null;
+        if (myWhereExp != null) {
+            newWhere = childReplacer.apply(myWhereExp);
+        }
+
+        return new QuantExp(cloneLocation(), myQuantification, copyVars(), newWhere, childReplacer.apply(myBodyExp));
+    }
+
     /**
      * {@inheritDoc}
      */
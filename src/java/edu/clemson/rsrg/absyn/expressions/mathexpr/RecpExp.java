@@ -17,6 +17,7 @@ import edu.clemson.rsrg.parsing.data.Location;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * <p>
@@ -147,8 +148,8 @@ public class RecpExp extends MathExp {
      * {@inheritDoc}
      */
     @Override
-    public final int hashCode() {
-        int result = super.hashCode();
+    protected final int computeHashCode() {
+        int result = super.computeHashCode();
         result = 31 * result + myVarAsExp.hashCode();
         return result;
     }
@@ -165,6 +166,14 @@ public class RecpExp extends MathExp {
         return new RecpExp(cloneLocation(), myVarAsExp.clone());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final Exp rebuildWithChildren(Function<Exp, Exp> childReplacer) {
+        return new RecpExp(cloneLocation(), childReplacer.apply(myVarAsExp));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -15,6 +15,7 @@ package edu.clemson.rsrg.absyn.expressions.mathexpr;
 import edu.clemson.rsrg.absyn.expressions.Exp;
 import edu.clemson.rsrg.parsing.data.Location;
 import java.util.*;
+import java.util.function.Function;
 
 /**
  * <p>
@@ -199,15 +200,15 @@ public class SetCollectionExp extends MathExp {
      * @return A set containing all the {@link MathExp}s.
      */
     public final Set<MathExp> getVars() {
-        return myMembers;
+        return isImmutable() ? Collections.unmodifiableSet(myMembers) : myMembers;
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public final int hashCode() {
-        int result = super.hashCode();
+    protected final int computeHashCode() {
+        int result = super.computeHashCode();
         result = 31 * result + myMembers.hashCode();
         return result;
     }
@@ -224,6 +225,19 @@ public class SetCollectionExp extends MathExp {
         return new SetCollectionExp(cloneLocation(), copyExps());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final Exp rebuildWithChildren(Function<Exp, Exp> childReplacer) {
+        Set<MathExp> newMembers = new HashSet<>();
+        for (MathExp m : myMembers) {
+            newMembers.add((MathExp) childReplacer.apply(m));
+        }
+
+        return new SetCollectionExp(cloneLocation(), newMembers);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -18,6 +18,7 @@ import edu.clemson.rsrg.parsing.data.Location;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * <p>
@@ -217,8 +218,8 @@ public class SetExp extends MathExp {
      * {@inheritDoc}
      */
     @Override
-    public final int hashCode() {
-        int result = super.hashCode();
+    protected final int computeHashCode() {
+        int result = super.computeHashCode();
         result = 31 * result + myVar.hashCode();
         result = 31 * result + (myWhereExp != null ? myWhereExp.hashCode() : 0);
         result = 31 * result + myBodyExp.hashCode();
@@ -242,6 +243,19 @@ public class SetExp extends MathExp {
         return new SetExp(cloneLocation(), (MathVarDec) myVar.clone(), newWhere, myBodyExp.clone());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final Exp rebuildWithChildren(Function<Exp, Exp> childReplacer) {
+        Exp newWhere = null;
+        if (myWhereExp != null) {
+            newWhere = childReplacer.apply(myWhereExp);
+        }
+
+        return new SetExp(cloneLocation(), (MathVarDec) myVar.clone(), newWhere, childReplacer.apply(myBodyExp));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -17,8 +17,10 @@ import edu.clemson.rsrg.parsing.data.Location;
 import edu.clemson.rsrg.statushandling.exception.MiscErrorException;
 import edu.clemson.rsrg.typeandpopulate.entry.SymbolTableEntry;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * <p>
@@ -232,7 +234,7 @@ public class TupleExp extends MathExp {
      * @return A list containing all the segmented {@link Exp}s.
      */
     public final List<Exp> getFields() {
-        return myFields;
+        return isImmutable() ? Collections.unmodifiableList(myFields) : myFields;
     }
 
     /**
@@ -258,8 +260,8 @@ public class TupleExp extends MathExp {
      * {@inheritDoc}
      */
     @Override
-    public final int hashCode() {
-        int result = super.hashCode();
+    protected final int computeHashCode() {
+        int result = super.computeHashCode();
         result = 31 * result + myFields.hashCode();
         result = 31 * result + mySize;
         return result;
@@ -296,6 +298,19 @@ public class TupleExp extends MathExp {
         return new TupleExp(cloneLocation(), copyExps());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final Exp rebuildWithChildren(Function<Exp, Exp> childReplacer) {
+        List<Exp> newFields = new ArrayList<>(myFields.size());
+        for (Exp f : myFields) {
+            newFields.add(childReplacer.apply(f));
+        }
+
+        return new TupleExp(cloneLocation(), newFields);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * <p>
@@ -213,8 +214,8 @@ public class TypeAssertionExp extends MathExp {
      * {@inheritDoc}
      */
     @Override
-    public final int hashCode() {
-        int result = super.hashCode();
+    protected final int computeHashCode() {
+        int result = super.computeHashCode();
         result = 31 * result + myExp.hashCode();
         result = 31 * result + myAssertedTy.hashCode();
         return result;
@@ -232,6 +233,14 @@ public class TypeAssertionExp extends MathExp {
         return new TypeAssertionExp(cloneLocation(), myExp.clone(), getAssertedTy());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final Exp rebuildWithChildren(Function<Exp, Exp> childReplacer) {
+        return new TypeAssertionExp(cloneLocation(), childReplacer.apply(myExp), getAssertedTy());
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -17,6 +17,7 @@ import edu.clemson.rsrg.parsing.data.Location;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * <p>
@@ -154,8 +155,8 @@ public class TypeReceptaclesExp extends MathExp {
      * {@inheritDoc}
      */
     @Override
-    public final int hashCode() {
-        int result = super.hashCode();
+    protected final int computeHashCode() {
+        int result = super.computeHashCode();
         result = 31 * result + myTypeAsVarExp.hashCode();
         return result;
     }
@@ -172,6 +173,14 @@ public class TypeReceptaclesExp extends MathExp {
         return new TypeReceptaclesExp(cloneLocation(), (VarExp) myTypeAsVarExp.clone());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final Exp rebuildWithChildren(Function<Exp, Exp> childReplacer) {
+        return new TypeReceptaclesExp(cloneLocation(), (VarExp) childReplacer.apply(myTypeAsVarExp));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -17,6 +17,7 @@ import edu.clemson.rsrg.parsing.data.Location;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * <p>
@@ -160,8 +161,8 @@ public class UnaryMinusExp extends MathExp {
      * {@inheritDoc}
      */
     @Override
-    public final int hashCode() {
-        int result = super.hashCode();
+    protected final int computeHashCode() {
+        int result = super.computeHashCode();
         result = 31 * result + myInnerArgumentExp.hashCode();
         return result;
     }
@@ -178,6 +179,14 @@ public class UnaryMinusExp extends MathExp {
         return new UnaryMinusExp(cloneLocation(), myInnerArgumentExp.clone());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final Exp rebuildWithChildren(Function<Exp, Exp> childReplacer) {
+        return new UnaryMinusExp(cloneLocation(), childReplacer.apply(myInnerArgumentExp));
+    }
+
     /**
      * {@inheritDoc}
      */
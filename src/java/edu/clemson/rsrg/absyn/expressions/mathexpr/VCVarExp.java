@@ -21,6 +21,7 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * <p>
@@ -231,8 +232,8 @@ public class VCVarExp extends MathExp {
      * {@inheritDoc}
      */
     @Override
-    public final int hashCode() {
-        int result = super.hashCode();
+    protected final int computeHashCode() {
+        int result = super.computeHashCode();
         result = 31 * result + myOrigExp.hashCode();
         result = 31 * result + myStateNum;
         return result;
@@ -250,6 +251,14 @@ public class VCVarExp extends MathExp {
         return new VCVarExp(cloneLocation(), myOrigExp.clone(), myStateNum);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final Exp rebuildWithChildren(Function<Exp, Exp> childReplacer) {
+        return new VCVarExp(cloneLocation(), childReplacer.apply(myOrigExp), myStateNum);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -259,8 +259,8 @@ public class VarExp extends MathExp {
      * {@inheritDoc}
      */
     @Override
-    public final int hashCode() {
-        int result = super.hashCode();
+    protected final int computeHashCode() {
+        int result = super.computeHashCode();
         result = 31 * result + (myQualifier != null ? myQualifier.hashCode() : 0);
         result = 31 * result + myName.hashCode();
         result = 31 * result + (myIsPrecisDefinitionName ? 1 : 0);
@@ -285,6 +285,7 @@ public class VarExp extends MathExp {
      * </p>
      */
     public final void setIsPrecisDefinitionName() {
+        ensureMutable();
         myIsPrecisDefinitionName = true;
     }
 
@@ -297,6 +298,7 @@ public class VarExp extends MathExp {
      *            The qualifier for this expression.
      */
     public final void setQualifier(PosSymbol qualifier) {
+        ensureMutable();
         myQualifier = qualifier;
     }
 
@@ -309,6 +311,7 @@ public class VarExp extends MathExp {
      *            The quantification type for this expression.
      */
     public final void setQuantification(SymbolTableEntry.Quantification q) {
+        ensureMutable();
         myQuantification = q;
     }
 
@@ -106,8 +106,8 @@ public abstract class ProgramExp extends Exp {
      * {@inheritDoc}
      */
     @Override
-    public int hashCode() {
-        int result = super.hashCode();
+    protected int computeHashCode() {
+        int result = super.computeHashCode();
         result = 31 * result + (myProgramType != null ? myProgramType.hashCode() : 0);
         return result;
     }
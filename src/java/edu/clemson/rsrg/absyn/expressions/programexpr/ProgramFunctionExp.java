@@ -251,8 +251,8 @@ public class ProgramFunctionExp extends ProgramExp {
      * {@inheritDoc}
      */
     @Override
-    public final int hashCode() {
-        int result = super.hashCode();
+    protected final int computeHashCode() {
+        int result = super.computeHashCode();
         result = 31 * result + (myQualifier != null ? myQualifier.hashCode() : 0);
         result = 31 * result + myOperationName.hashCode();
         result = 31 * result + myExpressionArgs.hashCode();
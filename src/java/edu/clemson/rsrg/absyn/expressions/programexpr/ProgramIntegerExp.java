@@ -118,8 +118,8 @@ public class ProgramIntegerExp extends ProgramLiteralExp {
      * {@inheritDoc}
      */
     @Override
-    public final int hashCode() {
-        int result = super.hashCode();
+    protected final int computeHashCode() {
+        int result = super.computeHashCode();
         result = 31 * result + myInteger.hashCode();
         return result;
     }
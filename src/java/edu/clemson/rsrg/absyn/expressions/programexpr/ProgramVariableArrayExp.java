@@ -172,8 +172,8 @@ public class ProgramVariableArrayExp extends ProgramVariableExp {
      * {@inheritDoc}
      */
     @Override
-    public final int hashCode() {
-        int result = super.hashCode();
+    protected final int computeHashCode() {
+        int result = super.computeHashCode();
         result = 31 * result + myProgramIndexExp.hashCode();
         result = 31 * result + myProgramNameExp.hashCode();
         return result;
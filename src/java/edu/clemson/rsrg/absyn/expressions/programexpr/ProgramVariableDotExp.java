@@ -156,8 +156,8 @@ public class ProgramVariableDotExp extends ProgramVariableExp {
      * {@inheritDoc}
      */
     @Override
-    public final int hashCode() {
-        int result = super.hashCode();
+    protected final int computeHashCode() {
+        int result = super.computeHashCode();
         result = 31 * result + mySegmentExps.hashCode();
         return result;
     }
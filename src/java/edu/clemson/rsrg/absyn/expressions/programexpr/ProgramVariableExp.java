@@ -109,8 +109,8 @@ public abstract class ProgramVariableExp extends ProgramExp {
      * {@inheritDoc}
      */
     @Override
-    public int hashCode() {
-        int result = super.hashCode();
+    protected int computeHashCode() {
+        int result = super.computeHashCode();
         result = 31 * result + (myQualifier != null ? myQualifier.hashCode() : 0);
         return result;
     }
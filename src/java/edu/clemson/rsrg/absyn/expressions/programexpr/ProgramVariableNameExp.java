@@ -140,8 +140,8 @@ public class ProgramVariableNameExp extends ProgramVariableExp {
      * {@inheritDoc}
      */
     @Override
-    public final int hashCode() {
-        int result = super.hashCode();
+    protected final int computeHashCode() {
+        int result = super.computeHashCode();
         result = 31 * result + myVarName.hashCode();
         return result;
     }
@@ -0,0 +1,347 @@
+/*
+ * BatchCompiler.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.init;
+
+import edu.clemson.rsrg.init.file.ModuleType;
+import edu.clemson.rsrg.misc.Utilities;
+import edu.clemson.rsrg.statushandling.StatusHandler;
+import edu.clemson.rsrg.statushandling.SystemStdHandler;
+import edu.clemson.rsrg.statushandling.exception.CompilerException;
+import edu.clemson.rsrg.statushandling.exception.MiscErrorException;
+import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * <p>
+ * This class compiles a batch of target files using a single {@link CompileEnvironment}. All the targets share the same
+ * symbol table and type graph, so any module imported by more than one target is only compiled once.
+ * </p>
+ *
+ * <p>
+ * Every target is compiled on its own. If a target fails to compile, the modules it left incomplete are removed and the
+ * batch moves on to the next target. Once all the targets have been compiled, a summary containing the result and the
+ * elapsed time for each target is printed using the status handler.
+ * </p>
+ *
+ * <p>
+ * The targets are compiled one after another. Targets that share imports would otherwise race to populate the same
+ * modules. The {@link ResolveCompiler#FLAG_PARALLEL_COMPILE} flag can still be used to process the independent imports
+ * of each target in parallel.
+ * </p>
+ *
+ * @version 1.0
+ */
+class BatchCompiler {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * The compilation environment shared by all the targets.
+     * </p>
+     */
+    private final CompileEnvironment myCompileEnvironment;
+
+    /**
+     * <p>
+     * The action that compiles a single target file.
+     * </p>
+     */
+    private final Consumer<String> myCompileTarget;
+
+    // ===========================================================
+    // Objects
+    // ===========================================================
+
+    /**
+     * <p>
+     * The prefix for a file argument that names a manifest file.
+     * </p>
+     */
+    static final String MANIFEST_PREFIX = "@";
+
+    // ===========================================================
+    // Constructors
+    // ===========================================================
+
+    /**
+     * <p>
+     * This creates an object that compiles batches of target files using the specified compilation environment.
+     * </p>
+     *
+     * @param compileEnvironment
+     *            The compilation environment shared by all the targets.
+     * @param compileTarget
+     *            The action that compiles a single target file.
+     */
+    BatchCompiler(CompileEnvironment compileEnvironment, Consumer<String> compileTarget) {
+        myCompileEnvironment = compileEnvironment;
+        myCompileTarget = compileTarget;
+    }
+
+    // ===========================================================
+    // Package Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * Compiles all the target files and prints a summary of the results.
+     * </p>
+     *
+     * @param fileArgs
+     *            The names of the target files.
+     *
+     * @return {@code true} if all the targets compiled successfully, {@code false} otherwise.
+     */
+    final boolean compile(List<String> fileArgs) {
+        StatusHandler statusHandler = myCompileEnvironment.getStatusHandler();
+        List<BatchResult> results = new ArrayList<>(fileArgs.size());
+        long batchStartTime = System.nanoTime();
+        for (String fileArg : fileArgs) {
+            // A previous target might have imported this one. Make sure we compile it from scratch.
+            // (Note: Anything that isn't a RESOLVE file is reported by the compiler.)
+            String fileName = Paths.get(fileArg).getFileName().toString();
+            ModuleType moduleType = Utilities.getModuleType(fileName);
+            ModuleIdentifier targetId = null;
+            if (moduleType != null) {
+                targetId = new ModuleIdentifier(Utilities.getFileName(fileName, moduleType));
+                myCompileEnvironment.removeModules(Collections.singletonList(targetId));
+            }
+
+            long startTime = System.nanoTime();
+            boolean succeeded;
+            try {
+                myCompileTarget.accept(fileArg);
+                succeeded = !statusHandler.hasStopped() && targetId != null
+                        && (myCompileEnvironment.isCompleteModule(targetId)
+                                || myCompileEnvironment.isUpToDateTarget(targetId));
+            } catch (CompilerException e) {
+                statusHandler.error(null, e.getMessage());
+                if (myCompileEnvironment.flags.isFlagSet(ResolveCompiler.FLAG_DEBUG_STACK_TRACE)) {
+                    statusHandler.printStackTrace(e);
+                }
+                succeeded = false;
+            }
+            results.add(new BatchResult(fileArg, succeeded, System.nanoTime() - startTime));
+
+            // Errors stop the status handler, but we still need it for the remaining targets.
+            if (statusHandler instanceof SystemStdHandler) {
+                ((SystemStdHandler) statusHandler).resumeLogging();
+            }
+
+            // Anything we couldn't finish must not be used by the remaining targets.
+            myCompileEnvironment.removeIncompleteModules();
+        }
+
+        return printSummary(results, System.nanoTime() - batchStartTime);
+    }
+
+    /**
+     * <p>
+     * Expands the file arguments into the names of the target files. An argument starting with {@code @} names a
+     * manifest file containing one argument per line, where empty lines and lines starting with {@code #} are ignored.
+     * An argument containing glob special characters is replaced by all the files matching the pattern. Any other
+     * argument is used as is.
+     * </p>
+     *
+     * @param fileArgs
+     *            The file arguments to the compiler.
+     * @param baseDir
+     *            The directory used to resolve the glob patterns.
+     *
+     * @return The names of the target files in the order they were specified.
+     *
+     * @throws MiscErrorException
+     *             There was an error reading a manifest file or expanding one of the glob patterns.
+     */
+    static List<String> expandFileArgs(List<String> fileArgs, File baseDir) {
+        List<String> targetFiles = new ArrayList<>();
+        for (String fileArg : fileArgs) {
+            if (fileArg.startsWith(MANIFEST_PREFIX)) {
+                File manifestFile = Utilities.getAbsoluteFile(fileArg.substring(MANIFEST_PREFIX.length()));
+                try {
+                    for (String line : Files.readAllLines(manifestFile.toPath(), StandardCharsets.UTF_8)) {
+                        line = line.trim();
+                        if (!line.isEmpty() && !line.startsWith("#")) {
+                            addFileArg(targetFiles, line, baseDir);
+                        }
+                    }
+                } catch (IOException ioe) {
+                    throw new MiscErrorException("Cannot read the batch manifest " + manifestFile.getName() + ".", ioe);
+                }
+            } else {
+                addFileArg(targetFiles, fileArg, baseDir);
+            }
+        }
+
+        return targetFiles;
+    }
+
+    // ===========================================================
+    // Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * Adds the file argument to the list of target files, expanding it first if it is a glob pattern.
+     * </p>
+     *
+     * @param targetFiles
+     *            The names of the target files.
+     * @param fileArg
+     *            A file name or a glob pattern.
+     * @param baseDir
+     *            The directory used to resolve the glob patterns.
+     */
+    private static void addFileArg(List<String> targetFiles, String fileArg, File baseDir) {
+        if (isGlobPattern(fileArg)) {
+            try {
+                targetFiles.addAll(expandGlobPattern(fileArg, baseDir.toPath()));
+            } catch (IOException ioe) {
+                throw new MiscErrorException("Cannot expand the file pattern " + fileArg + ".", ioe);
+            }
+        } else {
+            targetFiles.add(fileArg);
+        }
+    }
+
+    /**
+     * <p>
+     * Returns the names of all the files inside the base directory that match the glob pattern.
+     * </p>
+     *
+     * @param pattern
+     *            A glob pattern relative to the base directory.
+     * @param baseDir
+     *            The directory used to resolve the glob pattern.
+     *
+     * @return The matching file names relative to the base directory in sorted order.
+     *
+     * @throws IOException
+     *             There was an error walking the base directory.
+     */
+    private static List<String> expandGlobPattern(String pattern, Path baseDir) throws IOException {
+        PathMatcher matcher = baseDir.getFileSystem().getPathMatcher("glob:" + pattern);
+        try (Stream<Path> files = Files.walk(baseDir)) {
+            return files.filter(Files::isRegularFile).map(baseDir::relativize).filter(matcher::matches)
+                    .map(Path::toString).sorted().collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * <p>
+     * This method checks to see if a file argument is a glob pattern.
+     * </p>
+     *
+     * @param fileArg
+     *            A file argument.
+     *
+     * @return {@code true} if the argument contains any glob special characters, {@code false} otherwise.
+     */
+    private static boolean isGlobPattern(String fileArg) {
+        return fileArg.chars().anyMatch(c -> c == '*' || c == '?' || c == '[' || c == '{');
+    }
+
+    /**
+     * <p>
+     * Prints the result and the elapsed time for every target, followed by the totals for the whole batch.
+     * </p>
+     *
+     * @param results
+     *            The results for all the targets.
+     * @param elapsedTime
+     *            The elapsed time for the whole batch in nanoseconds.
+     *
+     * @return {@code true} if all the targets compiled successfully, {@code false} otherwise.
+     */
+    private boolean printSummary(List<BatchResult> results, long elapsedTime) {
+        StatusHandler statusHandler = myCompileEnvironment.getStatusHandler();
+        statusHandler.info(null, "========== Batch Summary ==========");
+
+        int numFailed = 0;
+        for (BatchResult result : results) {
+            if (!result.succeeded) {
+                numFailed++;
+            }
+
+            statusHandler.info(null, String.format("%-8s %s (%d ms)", result.succeeded ? "[OK]" : "[FAILED]",
+                    result.fileArg, result.elapsedTime / 1000000));
+        }
+
+        statusHandler.info(null, String.format("%d target(s) compiled, %d failed, %d ms total", results.size(),
+                numFailed, elapsedTime / 1000000));
+
+        return numFailed == 0;
+    }
+
+    // ===========================================================
+    // Helper Constructs
+    // ===========================================================
+
+    /**
+     * <p>
+     * An helper construct for storing the outcome of compiling a single target.
+     * </p>
+     */
+    private static class BatchResult {
+
+        /**
+         * <p>
+         * The name of the target file.
+         * </p>
+         */
+        final String fileArg;
+
+        /**
+         * <p>
+         * This indicates whether or not the target compiled successfully.
+         * </p>
+         */
+        final boolean succeeded;
+
+        /**
+         * <p>
+         * The time it took to compile the target in nanoseconds.
+         * </p>
+         */
+        final long elapsedTime;
+
+        /**
+         * <p>
+         * This creates a new object storing the outcome of compiling a single target.
+         * </p>
+         *
+         * @param fileArg
+         *            The name of the target file.
+         * @param succeeded
+         *            This indicates whether or not the target compiled successfully.
+         * @param elapsedTime
+         *            The time it took to compile the target in nanoseconds.
+         */
+        BatchResult(String fileArg, boolean succeeded, long elapsedTime) {
+            this.fileArg = fileArg;
+            this.succeeded = succeeded;
+            this.elapsedTime = elapsedTime;
+        }
+    }
+
+}
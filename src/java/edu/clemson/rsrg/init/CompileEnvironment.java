@@ -13,7 +13,9 @@
 package edu.clemson.rsrg.init;
 
 import edu.clemson.rsrg.absyn.declarations.moduledecl.ModuleDec;
+import edu.clemson.rsrg.init.cache.ModuleCache;
 import edu.clemson.rsrg.init.file.ResolveFileBasicInfo;
+import edu.clemson.rsrg.init.metrics.CompilerMetrics;
 import edu.clemson.rsrg.init.output.FileOutputListener;
 import edu.clemson.rsrg.init.output.OutputListener;
 import edu.clemson.rsrg.statushandling.StatusHandler;
@@ -21,8 +23,15 @@ import edu.clemson.rsrg.statushandling.WriterStatusHandler;
 import edu.clemson.rsrg.statushandling.exception.FlagDependencyException;
 import edu.clemson.rsrg.statushandling.exception.MiscErrorException;
 import edu.clemson.rsrg.init.file.ResolveFile;
+import edu.clemson.rsrg.init.file.WorkspaceFileIndex;
 import edu.clemson.rsrg.init.flag.FlagManager;
 import edu.clemson.rsrg.misc.Utilities;
+import edu.clemson.rsrg.parsing.IncrementalParser;
+import edu.clemson.rsrg.parsing.ParsedModule;
+import edu.clemson.rsrg.parsing.ParserService;
+import edu.clemson.rsrg.typeandpopulate.exception.NoSuchModuleException;
+import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTable;
+import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTableBuilder;
 import edu.clemson.rsrg.typeandpopulate.symboltables.ScopeRepository;
 import edu.clemson.rsrg.typeandpopulate.typereasoning.TypeGraph;
 import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
@@ -33,6 +42,8 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
 import static java.nio.file.StandardOpenOption.APPEND;
 import static java.nio.file.StandardOpenOption.CREATE;
 
@@ -59,6 +70,13 @@ public class CompileEnvironment {
      */
     private File myCompileDir;
 
+    /**
+     * <p>
+     * This describes the compiler version and every compiler argument that isn't a file name.
+     * </p>
+     */
+    private final String myBuildSettings;
+
     /**
      * <p>
      * This contains all modules we have currently seen. This includes both complete and incomplete modules. A module is
@@ -66,7 +84,7 @@ public class CompileEnvironment {
      * import.
      * </p>
      */
-    private final Map<ModuleIdentifier, AbstractMap.SimpleEntry<ModuleDec, ResolveFile>> myCompilingModules;
+    private final Map<ModuleIdentifier, ParsedModule> myCompilingModules;
 
     /**
      * <p>
@@ -103,21 +121,86 @@ public class CompileEnvironment {
      * The symbol table for the compiler.
      * </p>
      */
-    private ScopeRepository mySymbolTable = null;
+    private volatile ScopeRepository mySymbolTable = null;
+
+    /**
+     * <p>
+     * The last sealed snapshot of the symbol table. It is reused until the symbol table is modified again.
+     * </p>
+     */
+    private MathSymbolTable mySealedSymbolTable = null;
+
+    /**
+     * <p>
+     * The symbol table's modification epoch when {@link #mySealedSymbolTable} was sealed.
+     * </p>
+     */
+    private long mySealedSymbolTableEpoch;
 
     /**
      * <p>
      * This is the math type graph that indicates relationship between different math types.
      * </p>
      */
-    private TypeGraph myTypeGraph = null;
+    private volatile TypeGraph myTypeGraph = null;
 
     /**
      * <p>
      * This stores all user created files from the WebIDE/WebAPI.
      * </p>
      */
-    private Map<ResolveFileBasicInfo, ResolveFile> myUserFileMap;
+    private volatile Map<ResolveFileBasicInfo, ResolveFile> myUserFileMap;
+
+    /**
+     * <p>
+     * The persistent module cache for the workspace. This is lazily loaded the first time it is requested.
+     * </p>
+     */
+    private ModuleCache myModuleCache = null;
+
+    /**
+     * <p>
+     * The pool of worker threads used to process independent modules in parallel. This is lazily created the first time
+     * it is requested.
+     * </p>
+     */
+    private ForkJoinPool myWorkerPool = null;
+
+    /**
+     * <p>
+     * This is an index of all the files inside the workspace directory.
+     * </p>
+     */
+    private final WorkspaceFileIndex myWorkspaceIndex;
+
+    /**
+     * <p>
+     * The object that remembers the parse trees of the "meta" files sent to us by an editor. This is {@code null}
+     * unless the caller wants the "meta" files to be parsed incrementally.
+     * </p>
+     */
+    private volatile IncrementalParser myIncrementalParser;
+
+    /**
+     * <p>
+     * The metrics collected while compiling. This is {@code null} unless we were asked to collect metrics.
+     * </p>
+     */
+    private final CompilerMetrics myMetrics;
+
+    /**
+     * <p>
+     * The service that parses every module in this compilation environment.
+     * </p>
+     */
+    private final ParserService myParserService;
+
+    /**
+     * <p>
+     * This set stores all the target modules that we didn't need to compile because they were up to date.
+     * </p>
+     */
+    private final Set<ModuleIdentifier> myUpToDateTargets;
 
     // ===========================================================
     // Objects
@@ -154,11 +237,20 @@ public class CompileEnvironment {
     public CompileEnvironment(String[] args, String compilerVersion, StatusHandler statusHandler)
             throws FlagDependencyException, IOException {
         flags = new FlagManager(args);
-        myCompilingModules = new LinkedHashMap<>();
-        myExternalRealizFiles = new LinkedHashMap<>();
-        myIncompleteModules = new LinkedList<>();
-        myOutputListeners = new LinkedList<>();
+        myCompilingModules = Collections.synchronizedMap(new LinkedHashMap<>());
+        myExternalRealizFiles = Collections.synchronizedMap(new LinkedHashMap<>());
+        myIncompleteModules = Collections.synchronizedList(new LinkedList<>());
+        myOutputListeners = new CopyOnWriteArrayList<>();
         myUserFileMap = new LinkedHashMap<>();
+        myUpToDateTargets = Collections.synchronizedSet(new HashSet<>());
+
+        // Anything that isn't a file name might change the result of a compilation
+        List<String> buildSettings = new ArrayList<>(Arrays.asList(args));
+        for (String fileArg : flags.getRemainingArgs()) {
+            buildSettings.remove(fileArg);
+        }
+        buildSettings.add(0, compilerVersion);
+        myBuildSettings = String.join(" ", buildSettings);
 
         // Check for custom workspace path
         String path = null;
@@ -166,6 +258,9 @@ public class CompileEnvironment {
             path = flags.getFlagArgument(ResolveCompiler.FLAG_WORKSPACE_DIR, "Path");
         }
         myCompileDir = Utilities.getWorkspaceDir(path);
+        myWorkspaceIndex = new WorkspaceFileIndex(myCompileDir.toPath());
+        myMetrics = flags.isFlagSet(ResolveCompiler.FLAG_METRICS) ? new CompilerMetrics() : null;
+        myParserService = new ParserService(this);
 
         // Check for file error output flag
         if (flags.isFlagSet(ResolveCompiler.FLAG_DEBUG_FILE_OUT)) {
@@ -226,6 +321,19 @@ public class CompileEnvironment {
         myOutputListeners.add(listener);
     }
 
+    /**
+     * <p>
+     * Records that the specified target module didn't need to be compiled because neither it nor any of its imports
+     * have changed since its last successful compilation.
+     * </p>
+     *
+     * @param mid
+     *            The target module's identifier.
+     */
+    public final void addUpToDateTarget(ModuleIdentifier mid) {
+        myUpToDateTargets.add(mid);
+    }
+
     /**
      * <p>
      * Remove the module associated with the {@link ModuleIdentifier} from our incomplete module stack. This indicates
@@ -235,7 +343,7 @@ public class CompileEnvironment {
      * @param mid
      *            Completed module's identifier.
      */
-    public final void completeRecord(ModuleIdentifier mid) {
+    public final synchronized void completeRecord(ModuleIdentifier mid) {
         assert myCompilingModules.containsKey(mid) : "We haven't seen a module with this ID yet!";
         assert myIncompleteModules.contains(mid) : "We already completed compilation for a module with this ID!";
         myIncompleteModules.remove(mid);
@@ -254,9 +362,23 @@ public class CompileEnvironment {
      *            The module representation declaration.
      */
     public final void constructRecord(ResolveFile file, ModuleDec moduleDec) {
-        ModuleIdentifier mid = new ModuleIdentifier(moduleDec);
+        constructRecord(new ParsedModule(file, moduleDec));
+    }
+
+    /**
+     * <p>
+     * Constructs a record containing the module id and the parsed module, and places it in the module environment. The
+     * module's {@link ModuleDec} doesn't need to be built until someone asks for it. Also places the module into a
+     * stack that indicates compilation has begun on this module but has not completed.
+     * </p>
+     *
+     * @param parsedModule
+     *            The parsed module.
+     */
+    public final synchronized void constructRecord(ParsedModule parsedModule) {
+        ModuleIdentifier mid = new ModuleIdentifier(parsedModule.getModuleName());
         assert !myCompilingModules.containsKey(mid) : "We already compiled a module with this ID!";
-        myCompilingModules.put(mid, new AbstractMap.SimpleEntry<>(moduleDec, file));
+        myCompilingModules.put(mid, parsedModule);
         myIncompleteModules.add(mid);
     }
 
@@ -275,6 +397,18 @@ public class CompileEnvironment {
         return myCompilingModules.containsKey(id);
     }
 
+    /**
+     * <p>
+     * This method returns a description of the compiler version and every compiler argument that isn't a file name. Two
+     * compilations of the same file with the same build settings produce the same result.
+     * </p>
+     *
+     * @return A string describing the build settings.
+     */
+    public final String getBuildSettings() {
+        return myBuildSettings;
+    }
+
     /**
      * <p>
      * Returns the file associated with the specified id.
@@ -285,13 +419,14 @@ public class CompileEnvironment {
      *
      * @return The {@link ResolveFile} associated with the {@code id}.
      */
-    public final ResolveFile getFile(ModuleIdentifier id) {
-        return myCompilingModules.get(id).getValue();
+    public final synchronized ResolveFile getFile(ModuleIdentifier id) {
+        return myCompilingModules.get(id).getFile();
     }
 
     /**
      * <p>
-     * Returns the {@link ModuleDec} associated with the specified id.
+     * Returns the {@link ModuleDec} associated with the specified id. If the {@link ModuleDec} hasn't been built yet,
+     * it is built by the calling thread.
      * </p>
      *
      * @param id
@@ -300,7 +435,74 @@ public class CompileEnvironment {
      * @return The {@link ModuleDec} associated with the {@code id}.
      */
     public final ModuleDec getModuleAST(ModuleIdentifier id) {
-        return myCompilingModules.get(id).getKey();
+        ParsedModule parsedModule;
+        synchronized (this) {
+            parsedModule = myCompilingModules.get(id);
+        }
+
+        // Don't hold the lock while we are building the module.
+        return parsedModule.getModuleDec();
+    }
+
+    /**
+     * <p>
+     * Returns the module dependencies of the module associated with the specified id. Unlike
+     * {@link #getModuleAST(ModuleIdentifier)}, this never requires building the {@link ModuleDec}.
+     * </p>
+     *
+     * @param id
+     *            The ID for the {@link ResolveFile} we want to search for.
+     *
+     * @return A map containing the module dependencies and whether or not they are externally realized.
+     */
+    public final synchronized Map<ResolveFileBasicInfo, Boolean> getModuleDependencies(ModuleIdentifier id) {
+        return myCompilingModules.get(id).getModuleDependencies();
+    }
+
+    /**
+     * <p>
+     * This method returns the object used to collect compiler metrics.
+     * </p>
+     *
+     * @return A {@link CompilerMetrics} object if we were asked to collect metrics, {@code null} otherwise.
+     */
+    public final CompilerMetrics getMetrics() {
+        return myMetrics;
+    }
+
+    /**
+     * <p>
+     * Returns the persistent module cache stored inside the current RESOLVE workspace directory. The cache is read from
+     * the workspace the first time it is requested.
+     * </p>
+     *
+     * @return A {@link ModuleCache} if the user asked for incremental compilation or for imports to be prefetched,
+     *         {@code null} otherwise.
+     */
+    public final synchronized ModuleCache getModuleCache() {
+        if (myModuleCache == null && (flags.isFlagSet(ResolveCompiler.FLAG_INCREMENTAL)
+                || flags.isFlagSet(ResolveCompiler.FLAG_PREFETCH_IMPORTS))) {
+            myModuleCache = new ModuleCache(myCompileDir.toPath());
+            try {
+                myModuleCache.load();
+            } catch (IOException ioe) {
+                // A cache we can't read is simply treated as an empty cache.
+                myStatusHandler.warning(null, "Unable to read the module cache: " + ioe.getMessage());
+            }
+        }
+
+        return myModuleCache;
+    }
+
+    /**
+     * <p>
+     * Returns the identifiers for all the modules we have currently seen.
+     * </p>
+     *
+     * @return A list containing both complete and incomplete module identifiers.
+     */
+    public final synchronized List<ModuleIdentifier> getModuleIdentifiers() {
+        return new ArrayList<>(myCompilingModules.keySet());
     }
 
     /**
@@ -325,6 +527,50 @@ public class CompileEnvironment {
         return myOutputListeners;
     }
 
+    /**
+     * <p>
+     * Returns the object that parses the "meta" files incrementally (if any).
+     * </p>
+     *
+     * @return An {@link IncrementalParser} object or {@code null}.
+     */
+    public final IncrementalParser getIncrementalParser() {
+        return myIncrementalParser;
+    }
+
+    /**
+     * <p>
+     * Returns the service that parses every module in this compilation environment.
+     * </p>
+     *
+     * @return A {@link ParserService} object
+     */
+    public final ParserService getParserService() {
+        return myParserService;
+    }
+
+    /**
+     * <p>
+     * Returns a sealed snapshot of the symbol table. Sealing copies every module scope, so the same snapshot is
+     * returned until a module is populated or removed.
+     * </p>
+     *
+     * @return A {@link MathSymbolTable} containing all the populated modules.
+     *
+     * @throws NoSuchModuleException
+     *             If any module claims to import a module for which there is no associated scope.
+     */
+    public final synchronized MathSymbolTable getSealedSymbolTable() throws NoSuchModuleException {
+        MathSymbolTableBuilder builder = (MathSymbolTableBuilder) mySymbolTable;
+        long epoch = builder.getModificationEpoch();
+        if (mySealedSymbolTable == null || mySealedSymbolTableEpoch != epoch) {
+            mySealedSymbolTable = builder.seal();
+            mySealedSymbolTableEpoch = epoch;
+        }
+
+        return mySealedSymbolTable;
+    }
+
     /**
      * <p>
      * Returns the compiler's status handler object.
@@ -373,6 +619,27 @@ public class CompileEnvironment {
         return myUserFileMap.get(fileBasicInfo);
     }
 
+    /**
+     * <p>
+     * Returns the pool of worker threads used to process independent modules. The number of workers depends on whether
+     * or not the user asked us to compile in parallel.
+     * </p>
+     *
+     * @return A {@link ForkJoinPool}.
+     */
+    public final synchronized ForkJoinPool getWorkerPool() {
+        if (myWorkerPool == null) {
+            int parallelism = 1;
+            if (flags.isFlagSet(ResolveCompiler.FLAG_PARALLEL_COMPILE)) {
+                parallelism = Runtime.getRuntime().availableProcessors();
+            }
+
+            myWorkerPool = new ForkJoinPool(parallelism);
+        }
+
+        return myWorkerPool;
+    }
+
     /**
      * <p>
      * Returns a pointer to the current RESOLVE workspace directory.
@@ -384,6 +651,17 @@ public class CompileEnvironment {
         return myCompileDir;
     }
 
+    /**
+     * <p>
+     * Returns the index of all the files inside the current RESOLVE workspace directory.
+     * </p>
+     *
+     * @return A {@link WorkspaceFileIndex} object
+     */
+    public final WorkspaceFileIndex getWorkspaceIndex() {
+        return myWorkspaceIndex;
+    }
+
     /**
      * <p>
      * This checks to see if the module associated with this id is an externally realized file.
@@ -408,7 +686,7 @@ public class CompileEnvironment {
      *
      * @return {@code true} if is incomplete, {@code false} otherwise.
      */
-    public final boolean isCompleteModule(ModuleIdentifier id) {
+    public final synchronized boolean isCompleteModule(ModuleIdentifier id) {
         return containsID(id) && !myIncompleteModules.contains(id);
     }
 
@@ -426,6 +704,91 @@ public class CompileEnvironment {
         return myUserFileMap.containsKey(fileBasicInfo);
     }
 
+    /**
+     * <p>
+     * This checks to see if the specified target module was skipped because it was up to date.
+     * </p>
+     *
+     * @param id
+     *            The ID for the target module.
+     *
+     * @return {@code true} if the module was up to date, {@code false} otherwise.
+     */
+    public final boolean isUpToDateTarget(ModuleIdentifier id) {
+        return myUpToDateTargets.contains(id);
+    }
+
+    /**
+     * <p>
+     * Removes every module that has not completed compilation, along with every module that imports one of them.
+     * </p>
+     *
+     * @return The identifiers of all the modules that have been removed.
+     */
+    public final synchronized Set<ModuleIdentifier> removeIncompleteModules() {
+        return removeModules(new ArrayList<>(myIncompleteModules));
+    }
+
+    /**
+     * <p>
+     * Removes the records and the symbol table scopes for the specified modules, along with every module that imports
+     * one of them directly or indirectly. The removed modules will be parsed and compiled again the next time they are
+     * needed.
+     * </p>
+     *
+     * @param modules
+     *            The modules to be removed.
+     *
+     * @return The identifiers of all the modules that have been removed.
+     */
+    public final synchronized Set<ModuleIdentifier> removeModules(Collection<ModuleIdentifier> modules) {
+        // Find every module that imports each of our modules
+        Map<ModuleIdentifier, List<ModuleIdentifier>> importingModules = new HashMap<>();
+        for (Map.Entry<ModuleIdentifier, ParsedModule> record : myCompilingModules.entrySet()) {
+            Map<ResolveFileBasicInfo, Boolean> allImports = record.getValue().getModuleDependencies();
+            for (Map.Entry<ResolveFileBasicInfo, Boolean> importEntry : allImports.entrySet()) {
+                // Externally realized files are not modules
+                if (!importEntry.getValue()) {
+                    importingModules.computeIfAbsent(new ModuleIdentifier(importEntry.getKey().getName()),
+                            k -> new ArrayList<>()).add(record.getKey());
+                }
+            }
+        }
+
+        Deque<ModuleIdentifier> remainingModules = new LinkedList<>(modules);
+        Set<ModuleIdentifier> visitedModules = new HashSet<>(modules);
+        Set<ModuleIdentifier> removedModules = new LinkedHashSet<>();
+        while (!remainingModules.isEmpty()) {
+            ModuleIdentifier id = remainingModules.removeFirst();
+            myUpToDateTargets.remove(id);
+            for (ModuleIdentifier importingModule : importingModules.getOrDefault(id, Collections.emptyList())) {
+                if (visitedModules.add(importingModule)) {
+                    remainingModules.add(importingModule);
+                }
+            }
+
+            if (containsID(id)) {
+                if (flags.isFlagSet(ResolveCompiler.FLAG_DEBUG)) {
+                    myStatusHandler.info(null, "Removing Module: " + id.toString());
+                }
+
+                myCompilingModules.remove(id);
+                myIncompleteModules.remove(id);
+                if (mySymbolTable instanceof MathSymbolTableBuilder) {
+                    ((MathSymbolTableBuilder) mySymbolTable).removeModuleScope(id);
+                }
+                removedModules.add(id);
+            }
+        }
+
+        // Don't keep the removed modules alive through an old snapshot
+        if (!removedModules.isEmpty()) {
+            mySealedSymbolTable = null;
+        }
+
+        return removedModules;
+    }
+
     /**
      * <p>
      * Used to set a map of user files when invoking the compiler from the WebIDE/WebAPI.
@@ -438,6 +801,19 @@ public class CompileEnvironment {
         myUserFileMap = fMap;
     }
 
+    /**
+     * <p>
+     * Used to set the object that parses the "meta" files incrementally when invoking the compiler from the
+     * WebIDE/WebAPI.
+     * </p>
+     *
+     * @param incrementalParser
+     *            The editor session's {@link IncrementalParser} object.
+     */
+    public final void setIncrementalParser(IncrementalParser incrementalParser) {
+        myIncrementalParser = incrementalParser;
+    }
+
     /**
      * <p>
      * Sets this table as our new symbol table.
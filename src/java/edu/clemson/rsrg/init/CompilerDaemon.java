@@ -0,0 +1,295 @@
+/*
+ * CompilerDaemon.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.init;
+
+import edu.clemson.rsrg.init.cache.ModuleCache;
+import edu.clemson.rsrg.init.file.ModuleType;
+import edu.clemson.rsrg.init.file.ResolveFile;
+import edu.clemson.rsrg.misc.Utilities;
+import edu.clemson.rsrg.statushandling.StatusHandler;
+import edu.clemson.rsrg.statushandling.SystemStdHandler;
+import edu.clemson.rsrg.statushandling.exception.CompilerException;
+import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * <p>
+ * A long-lived compiler that keeps a single {@link CompileEnvironment} alive across many compilation requests. Every
+ * module that has been successfully compiled stays in the compile environment and the symbol table, so a request only
+ * pays for the modules that haven't been seen before or have changed since they were last compiled.
+ * </p>
+ *
+ * <p>
+ * Requests are read one line at a time. Each line contains the names of the files to be compiled separated by
+ * whitespace, exactly like the file arguments to the compiler. Once a request is done, the {@link #END_OF_RESPONSE}
+ * line is written to the response stream. The {@link #EXIT_REQUEST} line or the end of the request stream shuts the
+ * daemon down.
+ * </p>
+ *
+ * <p>
+ * Before each request, any module whose source file has been modified or deleted is removed, along with every module
+ * that imports it directly or indirectly. The files named in the request are always compiled again.
+ * </p>
+ *
+ * @version 1.0
+ */
+class CompilerDaemon {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * The compilation environment shared by all requests.
+     * </p>
+     */
+    private final CompileEnvironment myCompileEnvironment;
+
+    /**
+     * <p>
+     * The action that compiles the files named in a request.
+     * </p>
+     */
+    private final Consumer<List<String>> myCompileRequest;
+
+    /**
+     * <p>
+     * A map containing the source file information for every module that stays in the compile environment between
+     * requests.
+     * </p>
+     */
+    private final Map<ModuleIdentifier, ResidentModule> myResidentModules;
+
+    // ===========================================================
+    // Objects
+    // ===========================================================
+
+    /**
+     * <p>
+     * The line written to the response stream when we are done with a request.
+     * </p>
+     */
+    static final String END_OF_RESPONSE = "%%END%%";
+
+    /**
+     * <p>
+     * The request that shuts the daemon down.
+     * </p>
+     */
+    static final String EXIT_REQUEST = "exit";
+
+    // ===========================================================
+    // Constructors
+    // ===========================================================
+
+    /**
+     * <p>
+     * This creates a daemon that serves requests using the specified compilation environment.
+     * </p>
+     *
+     * @param compileEnvironment
+     *            The compilation environment shared by all requests.
+     * @param compileRequest
+     *            The action that compiles the files named in a request.
+     */
+    CompilerDaemon(CompileEnvironment compileEnvironment, Consumer<List<String>> compileRequest) {
+        myCompileEnvironment = compileEnvironment;
+        myCompileRequest = compileRequest;
+        myResidentModules = new HashMap<>();
+    }
+
+    // ===========================================================
+    // Package Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * Serves compilation requests until we are asked to exit or there are no more requests.
+     * </p>
+     *
+     * @param requests
+     *            The stream of requests.
+     * @param responses
+     *            The stream that receives the end of each response.
+     *
+     * @throws IOException
+     *             There was an error reading the next request.
+     */
+    final void serve(BufferedReader requests, PrintStream responses) throws IOException {
+        String request;
+        while ((request = requests.readLine()) != null) {
+            request = request.trim();
+            if (request.equals(EXIT_REQUEST)) {
+                break;
+            } else if (!request.isEmpty()) {
+                List<String> fileArgs = Arrays.asList(request.split("\\s+"));
+                processRequest(fileArgs);
+
+                responses.println(END_OF_RESPONSE);
+                responses.flush();
+            }
+        }
+    }
+
+    // ===========================================================
+    // Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method checks to see if the source file for a resident module has been modified or deleted.
+     * </p>
+     *
+     * @param residentModule
+     *            The source file information for a resident module.
+     *
+     * @return {@code true} if the module needs to be compiled again, {@code false} otherwise.
+     */
+    private boolean hasChanged(ResidentModule residentModule) {
+        try {
+            Path filePath = Paths.get(residentModule.filePath);
+            if (!Files.isRegularFile(filePath)) {
+                return true;
+            }
+
+            // Only compare the contents if the file has been touched since we last looked at it.
+            FileTime lastModified = Files.getLastModifiedTime(filePath);
+            if (!lastModified.equals(residentModule.lastModified)) {
+                if (!ModuleCache.computeFileHash(filePath).equals(residentModule.sourceHash)) {
+                    return true;
+                }
+
+                residentModule.lastModified = lastModified;
+            }
+
+            return false;
+        } catch (IOException | RuntimeException e) {
+            return true;
+        }
+    }
+
+    /**
+     * <p>
+     * Compiles a single request. The compile environment is always left in a state that can serve the next request,
+     * even if the compilation fails.
+     * </p>
+     *
+     * @param fileArgs
+     *            The names of the files to be compiled.
+     */
+    private void processRequest(List<String> fileArgs) {
+        // Remove anything that changed since the last request, as well as
+        // any earlier versions of the files we are about to compile.
+        Set<ModuleIdentifier> staleModules = new HashSet<>();
+        for (Map.Entry<ModuleIdentifier, ResidentModule> entry : myResidentModules.entrySet()) {
+            if (hasChanged(entry.getValue())) {
+                staleModules.add(entry.getKey());
+            }
+        }
+        for (String fileArg : fileArgs) {
+            String fileName = Paths.get(fileArg).getFileName().toString();
+            ModuleType moduleType = Utilities.getModuleType(fileName);
+            if (moduleType != null) {
+                staleModules.add(new ModuleIdentifier(Utilities.getFileName(fileName, moduleType)));
+            }
+        }
+        myResidentModules.keySet().removeAll(myCompileEnvironment.removeModules(staleModules));
+
+        StatusHandler statusHandler = myCompileEnvironment.getStatusHandler();
+        try {
+            myCompileRequest.accept(fileArgs);
+        } catch (CompilerException e) {
+            statusHandler.error(null, e.getMessage());
+            if (myCompileEnvironment.flags.isFlagSet(ResolveCompiler.FLAG_DEBUG_STACK_TRACE)) {
+                statusHandler.printStackTrace(e);
+            }
+        } finally {
+            // Errors stop the status handler, but we still need it for the next request.
+            if (statusHandler instanceof SystemStdHandler) {
+                ((SystemStdHandler) statusHandler).resumeLogging();
+            }
+
+            // Anything we couldn't finish must be compiled from scratch next time.
+            myResidentModules.keySet().removeAll(myCompileEnvironment.removeIncompleteModules());
+
+            // Remember what the new modules looked like when we compiled them
+            for (ModuleIdentifier id : myCompileEnvironment.getModuleIdentifiers()) {
+                if (!myResidentModules.containsKey(id)) {
+                    ResolveFile file = myCompileEnvironment.getFile(id);
+                    myResidentModules.put(id,
+                            new ResidentModule(file.getFilePath(), ModuleCache.computeSourceHash(file)));
+                }
+            }
+        }
+    }
+
+    // ===========================================================
+    // Helper Constructs
+    // ===========================================================
+
+    /**
+     * <p>
+     * An helper construct for storing what a resident module's source file looked like when it was compiled.
+     * </p>
+     */
+    private static class ResidentModule {
+
+        /**
+         * <p>
+         * The absolute path to the source file.
+         * </p>
+         */
+        final String filePath;
+
+        /**
+         * <p>
+         * A hash of the source file contents that were compiled.
+         * </p>
+         */
+        final String sourceHash;
+
+        /**
+         * <p>
+         * The last modified time of the source file when we last checked its contents. This is {@code null} until the
+         * contents are checked for the first time.
+         * </p>
+         */
+        FileTime lastModified;
+
+        /**
+         * <p>
+         * This creates a new object storing a resident module's source file information.
+         * </p>
+         *
+         * @param filePath
+         *            The absolute path to the source file.
+         * @param sourceHash
+         *            A hash of the source file contents that were compiled.
+         */
+        ResidentModule(String filePath, String sourceHash) {
+            this.filePath = filePath;
+            this.sourceHash = sourceHash;
+            this.lastModified = null;
+        }
+    }
+
+}
@@ -12,18 +12,21 @@
  */
 package edu.clemson.rsrg.init;
 
-import edu.clemson.rsrg.absyn.declarations.moduledecl.ModuleDec;
+import edu.clemson.rsrg.init.cache.ModuleCache;
+import edu.clemson.rsrg.init.cache.ModuleCacheEntry;
 import edu.clemson.rsrg.init.file.FileLocator;
 import edu.clemson.rsrg.init.file.ModuleType;
 import edu.clemson.rsrg.init.file.ResolveFile;
 import edu.clemson.rsrg.init.file.ResolveFileBasicInfo;
+import edu.clemson.rsrg.init.metrics.CompilerMetrics;
+import edu.clemson.rsrg.init.metrics.ModulePopulateEvent;
+import edu.clemson.rsrg.init.metrics.StageMeasurement;
+import edu.clemson.rsrg.init.output.OutputListener;
+import edu.clemson.rsrg.init.file.WorkspaceFileIndex;
 import edu.clemson.rsrg.init.pipeline.*;
 import edu.clemson.rsrg.misc.Utilities;
 import edu.clemson.rsrg.nProver.GeneralPurposeProver;
-import edu.clemson.rsrg.parsing.ResolveLexer;
-import edu.clemson.rsrg.parsing.ResolveParser;
-import edu.clemson.rsrg.parsing.TreeBuildingListener;
-import edu.clemson.rsrg.parsing.data.ResolveTokenFactory;
+import edu.clemson.rsrg.parsing.ParsedModule;
 import edu.clemson.rsrg.prover.CongruenceClassProver;
 import edu.clemson.rsrg.statushandling.AntlrLexerErrorListener;
 import edu.clemson.rsrg.statushandling.AntlrParserErrorListener;
@@ -31,6 +34,7 @@ import edu.clemson.rsrg.statushandling.StatusHandler;
 import edu.clemson.rsrg.statushandling.exception.*;
 import edu.clemson.rsrg.translation.AbstractTranslator;
 import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTableBuilder;
+import edu.clemson.rsrg.typeandpopulate.symboltables.ScopeRepository;
 import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
 import edu.clemson.rsrg.vcgeneration.VCGenerator;
 import edu.clemson.rsrg.vcgeneration.utilities.VerificationCondition;
@@ -39,9 +43,12 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
 import org.antlr.v4.runtime.*;
-import org.antlr.v4.runtime.atn.PredictionMode;
-import org.antlr.v4.runtime.tree.ParseTreeWalker;
 import org.jgrapht.Graphs;
 import org.jgrapht.graph.DefaultDirectedGraph;
 import org.jgrapht.graph.DefaultEdge;
@@ -149,76 +156,55 @@ class Controller {
      */
     final void compileTargetFile(ResolveFile file) {
         try {
-            // Use ANTLR4 to build the AST
-            ModuleDec targetModule = createModuleAST(file);
+            // Pick up any files that have been added or removed since our last compilation
+            myCompileEnvironment.getWorkspaceIndex().invalidate();
+
+            // Only report what we measure while compiling this file
+            CompilerMetrics metrics = myCompileEnvironment.getMetrics();
+            if (metrics != null) {
+                metrics.reset();
+            }
+
+            // Nothing to do if neither this file nor any of its imports have changed
+            // since the last time we compiled it.
+            if (isUpToDate(file)) {
+                if (myCompileEnvironment.flags.isFlagSet(ResolveCompiler.FLAG_DEBUG)) {
+                    myStatusHandler.info(null, "Up To Date: " + file.getName());
+                }
+                myCompileEnvironment.addUpToDateTarget(new ModuleIdentifier(file.getName()));
+                return;
+            }
+
+            // Use ANTLR4 to parse the file. The AST is built once we start compiling the module.
+            ParsedModule targetModule = parseModule(file);
 
             // Add this file to our compile environment
-            myCompileEnvironment.constructRecord(file, targetModule);
+            myCompileEnvironment.constructRecord(targetModule);
             if (myCompileEnvironment.flags.isFlagSet(ResolveCompiler.FLAG_DEBUG)) {
-                myStatusHandler.info(null, "Begin Compiling: " + targetModule.getName().getName());
+                myStatusHandler.info(null, "Begin Compiling: " + targetModule.getModuleName());
             }
 
             // Create a dependencies graph and search for import
             // dependencies.
+            final ModuleIdentifier targetId = new ModuleIdentifier(targetModule.getModuleName());
             DefaultDirectedGraph<ModuleIdentifier, DefaultEdge> g = new DefaultDirectedGraph<>(DefaultEdge.class);
-            g.addVertex(new ModuleIdentifier(targetModule));
+            g.addVertex(targetId);
             findDependencies(g, targetModule, file.getParentPath());
 
-            // Perform different compilation tasks to each file
-            for (ModuleIdentifier m : getCompileOrder(g)) {
-                // Print the entire ModuleDec
-                if (myCompileEnvironment.flags.isFlagSet(ResolveCompiler.FLAG_PRINT_MODULE)
-                        && m.equals(new ModuleIdentifier(targetModule))) {
-                    RawASTOutputPipeline rawASTOutputPipe = new RawASTOutputPipeline(myCompileEnvironment,
-                            mySymbolTable);
-                    rawASTOutputPipe.process(m);
-                }
+            // Perform different compilation tasks to each file. Modules that don't depend
+            // on each other might be processed at the same time.
+            ModuleScheduler scheduler = new ModuleScheduler(g, myCompileEnvironment.getWorkerPool(),
+                    m -> compileModule(m, targetId));
+            scheduler.process(getCompileOrder(g));
 
-                // Output AST to Graphviz dot file. (Only for argument files)
-                if (myCompileEnvironment.flags.isFlagSet(ResolveCompiler.FLAG_EXPORT_AST)
-                        && m.equals(new ModuleIdentifier(targetModule))) {
-                    GraphicalASTOutputPipeline astOutputPipe = new GraphicalASTOutputPipeline(myCompileEnvironment,
-                            mySymbolTable);
-                    astOutputPipe.process(m);
-                }
+            // Remember what we learned about these modules for future compilations
+            updateModuleCache(g, targetId);
 
-                // Type and populate symbol table
-                AnalysisPipeline analysisPipe = new AnalysisPipeline(myCompileEnvironment, mySymbolTable);
-                analysisPipe.process(m);
-
-                // Translate source file to target file
-                if (myCompileEnvironment.flags.isFlagSet(AbstractTranslator.FLAG_TRANSLATE)
-                        && m.equals(new ModuleIdentifier(targetModule))) {
-                    TranslatorPipeline translatorPipeline = new TranslatorPipeline(myCompileEnvironment, mySymbolTable);
-                    translatorPipeline.process(m);
-                }
-
-                // Generate VCs
-                if (myCompileEnvironment.flags.isFlagSet(VCGenerator.FLAG_VERIFY_VC)
-                        && m.equals(new ModuleIdentifier(targetModule))) {
-                    VCGenPipeline vcGenPipeline = new VCGenPipeline(myCompileEnvironment, mySymbolTable);
-                    vcGenPipeline.process(m);
-                    List<VerificationCondition> vcs = vcGenPipeline.getVerificationConditions();
-
-                    // Invoke Automated Prover (if requested)
-                    if (myCompileEnvironment.flags.isFlagSet(CongruenceClassProver.FLAG_PROVE)
-                            && m.equals(new ModuleIdentifier(targetModule))) {
-                        ProverPipeline proverPipeline = new ProverPipeline(myCompileEnvironment, mySymbolTable);
-                        proverPipeline.process(m);
-                    }
-
-                    // Invoke nProver (if requested)
-                    if (myCompileEnvironment.flags.isFlagSet(GeneralPurposeProver.FLAG_PROVE)
-                            && m.equals(new ModuleIdentifier(targetModule))) {
-                        NProverPipeline nproverPipeline = new NProverPipeline(myCompileEnvironment, mySymbolTable, vcs);
-                        nproverPipeline.process(m);
-                    }
-                }
-
-                // Complete compilation for this module
-                myCompileEnvironment.completeRecord(m);
-                if (myCompileEnvironment.flags.isFlagSet(ResolveCompiler.FLAG_DEBUG)) {
-                    myStatusHandler.info(null, "Done Compiling: " + m.toString());
+            // Report what we measured while compiling this file
+            if (metrics != null) {
+                String metricsReport = metrics.toJSON(targetId.toString());
+                for (OutputListener listener : myCompileEnvironment.getOutputListeners()) {
+                    listener.metricsResult(file.toString(), targetId.toString(), metricsReport);
                 }
             }
         } catch (Throwable e) {
@@ -248,6 +234,107 @@ class Controller {
     // Private Methods
     // ===========================================================
 
+    /**
+     * <p>
+     * This method adds the import dependencies of the specified module to the dependency graph and starts parsing any
+     * imports that we haven't seen yet.
+     * </p>
+     *
+     * @param g
+     *            The compilation's file dependency graph.
+     * @param root
+     *            Current compiling module.
+     * @param parentPath
+     *            The parent path if it is known. Otherwise, this can be {@code null}.
+     * @param pendingImports
+     *            A map containing the imports that are still being parsed.
+     * @param prefetchedImports
+     *            A map containing the modules that are being parsed ahead of time because our module cache expects them
+     *            to be imported.
+     * @param parsedImports
+     *            A queue that receives the imports as they finish parsing.
+     *
+     * @throws CircularDependencyException
+     *             Some of the source files form a circular dependency.
+     * @throws ImportException
+     *             Incorrect import type.
+     */
+    private void addDependencies(DefaultDirectedGraph<ModuleIdentifier, DefaultEdge> g, ParsedModule root,
+            Path parentPath, Map<ModuleIdentifier, CompletableFuture<ParsedModule>> pendingImports,
+            Map<ModuleIdentifier, CompletableFuture<ParsedModule>> prefetchedImports,
+            BlockingQueue<ModuleIdentifier> parsedImports) {
+        ModuleIdentifier rootId = new ModuleIdentifier(root.getModuleName());
+        Map<ResolveFileBasicInfo, Boolean> allImports = root.getModuleDependencies();
+        for (ResolveFileBasicInfo importRequest : allImports.keySet()) {
+            // Don't try to import the built-in Cls_Theory
+            if (!importRequest.getName().equals("Cls_Theory")) {
+                // Check to see if this import has been labeled as externally realized
+                // or not. If yes, we add it as an external import and move on.
+                // If no, we add it as a new dependency that must be imported.
+                if (!allImports.get(importRequest)) {
+                    // Only need to deal with imports we haven't seen yet.
+                    ModuleIdentifier id = new ModuleIdentifier(importRequest.getName());
+                    if (!myCompileEnvironment.containsID(id)) {
+                        if (!pendingImports.containsKey(id)) {
+                            // Print out debugging message
+                            if (myCompileEnvironment.flags.isFlagSet(ResolveCompiler.FLAG_DEBUG)) {
+                                myStatusHandler.info(null, "Importing New Module: " + id.toString());
+                            }
+                            incrementCounter(CompilerMetrics.COUNTER_RESIDENT_MODULE_MISSES);
+
+                            ForkJoinPool workerPool = myCompileEnvironment.getWorkerPool();
+                            CompletableFuture<ResolveFile> importFile = CompletableFuture
+                                    .supplyAsync(() -> findResolveFile(importRequest, parentPath), workerPool);
+
+                            // Use the module we parsed ahead of time if it came from the same file.
+                            CompletableFuture<ParsedModule> prefetchedImport = prefetchedImports.remove(id);
+                            CompletableFuture<ParsedModule> pendingImport;
+                            if (prefetchedImport != null && !myCompileEnvironment.isMetaFile(importRequest)) {
+                                pendingImport = importFile.thenCombineAsync(prefetchedImport.exceptionally(t -> null),
+                                        (f, prefetched) -> {
+                                            if (prefetched != null
+                                                    && prefetched.getFile().getFilePath().equals(f.getFilePath())) {
+                                                incrementCounter(CompilerMetrics.COUNTER_PREFETCH_HITS);
+                                                return prefetched;
+                                            }
+
+                                            incrementCounter(CompilerMetrics.COUNTER_PREFETCH_MISSES);
+                                            return parseImport(importRequest, f);
+                                        }, workerPool);
+                            } else {
+                                pendingImport = importFile.thenApplyAsync(f -> parseImport(importRequest, f),
+                                        workerPool);
+                            }
+                            pendingImports.put(id, pendingImport);
+                            pendingImport.whenComplete((importedModule, t) -> parsedImports.add(id));
+                        }
+                    } else {
+                        // Modules we have already seen might not have built their AST yet, so only look at their
+                        // imports.
+                        if (myCompileEnvironment.getModuleDependencies(id) == null) {
+                            // Import error
+                            throw new ImportException("Import error: " + importRequest.toString()
+                                    + "; Module does not exist in our current compile environment.");
+                        }
+                        incrementCounter(CompilerMetrics.COUNTER_RESIDENT_MODULE_HITS);
+                    }
+
+                    // Check for circular dependency
+                    if (pathExists(g, id, rootId)) {
+                        throw new CircularDependencyException("Circular dependency detected: " + importRequest.getName()
+                                + "<->" + root.getModuleName());
+                    }
+
+                    // Add new edge to our graph indicating the relationship between
+                    // the two files.
+                    Graphs.addEdgeWithVertices(g, rootId, id);
+                } else {
+                    addFileAsExternalImport(importRequest.getName());
+                }
+            }
+        }
+    }
+
     /**
      * <p>
      * For concept/enhancement realizations, the user can supply Non-RESOLVE type files. This method locates all
@@ -262,18 +349,17 @@ class Controller {
      */
     private void addFileAsExternalImport(String importName) {
         try {
-            FileLocator l = new FileLocator(importName, NON_NATIVE_EXT);
             File workspaceDir = myCompileEnvironment.getWorkspaceDir();
-            Files.walkFileTree(workspaceDir.toPath(), l);
+            List<File> foundFiles = myCompileEnvironment.getWorkspaceIndex().getFiles(importName, NON_NATIVE_EXT,
+                    workspaceDir.toPath());
 
             // Only attempt to add
-            List<File> foundFiles = l.getFiles();
             if (foundFiles.size() == 1) {
                 ModuleIdentifier externalImport = new ModuleIdentifier(importName);
 
                 // Add this as an external realiz file if it is not already declared to be one.
                 if (!myCompileEnvironment.isExternalRealizFile(externalImport)) {
-                    myCompileEnvironment.addExternalRealizFile(externalImport, l.getFile());
+                    myCompileEnvironment.addExternalRealizFile(externalImport, foundFiles.get(0));
 
                     // Print out debugging message
                     if (myCompileEnvironment.flags.isFlagSet(ResolveCompiler.FLAG_DEBUG)) {
@@ -290,72 +376,134 @@ class Controller {
 
     /**
      * <p>
-     * This method uses the {@link ResolveFile} provided to construct a parser and create an ANTLR4 module AST.
+     * Performs the different compilation tasks for the specified module. Only the target file gets translated, VC
+     * generated and/or verified. All imported modules are simply populated.
      * </p>
      *
-     * @param file
-     *            The RESOLVE file that we are going to compile.
-     *
-     * @return The inner representation for a module. See {@link ModuleDec}.
-     *
-     * @throws MiscErrorException
-     *             Some how we couldn't instantiate an {@link CharStream}.
-     * @throws SourceErrorException
-     *             There are errors in the source file.
+     * @param m
+     *            The module we are compiling.
+     * @param targetId
+     *            The module identifier for the target file.
      */
-    private ModuleDec createModuleAST(ResolveFile file) {
-        CharStream input = file.getInputStream();
-        if (input == null) {
-            throw new MiscErrorException("CharStream null", new IllegalArgumentException());
-        }
-
-        // Create a RESOLVE language lexer
-        ResolveLexer lexer = new ResolveLexer(input);
-        ResolveTokenFactory factory = new ResolveTokenFactory(file);
-        lexer.removeErrorListeners();
-        lexer.addErrorListener(myAntlrLexerErrorListener);
-        lexer.setTokenFactory(factory);
-
-        // Create a RESOLVE language parser
-        CommonTokenStream tokens = new CommonTokenStream(lexer);
-        ResolveParser parser = new ResolveParser(tokens);
-        parser.removeErrorListeners();
-        parser.addErrorListener(myAntlrParserErrorListener);
-        parser.setTokenFactory(factory);
-
-        // Two-Stage Parsing
-        // Reason: We might not need the full power of LL.
-        // The solution proposed by the ANTLR folks (found here:
-        // https://github.com/antlr/antlr4/blob/master/doc/faq/general.md)
-        // is to use SLL prediction mode first and switch to LL if it fails.
-        ParserRuleContext rootModuleCtx;
-        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+    private void compileModule(ModuleIdentifier m, ModuleIdentifier targetId) {
+        // Build the module's AST now that we know it needs to be compiled
+        runStage(CompilerMetrics.STAGE_AST_CONSTRUCTION, m, () -> myCompileEnvironment.getModuleAST(m));
+
+        // Print the entire ModuleDec
+        if (myCompileEnvironment.flags.isFlagSet(ResolveCompiler.FLAG_PRINT_MODULE) && m.equals(targetId)) {
+            RawASTOutputPipeline rawASTOutputPipe = new RawASTOutputPipeline(myCompileEnvironment, mySymbolTable);
+            rawASTOutputPipe.process(m);
+        }
+
+        // Output AST to Graphviz dot file. (Only for argument files)
+        if (myCompileEnvironment.flags.isFlagSet(ResolveCompiler.FLAG_EXPORT_AST) && m.equals(targetId)) {
+            GraphicalASTOutputPipeline astOutputPipe = new GraphicalASTOutputPipeline(myCompileEnvironment,
+                    mySymbolTable);
+            astOutputPipe.process(m);
+        }
+
+        // Type and populate symbol table
+        AnalysisPipeline analysisPipe = new AnalysisPipeline(myCompileEnvironment, mySymbolTable);
+        ModulePopulateEvent populateEvent = new ModulePopulateEvent(m.toString());
+        populateEvent.begin();
         try {
-            rootModuleCtx = parser.module();
-        } catch (Exception ex) {
-            tokens.seek(0);
-            parser.reset();
-            parser.getInterpreter().setPredictionMode(PredictionMode.LL);
-            rootModuleCtx = parser.module();
+            runStage(CompilerMetrics.STAGE_ANALYSIS, m, () -> analysisPipe.process(m));
+        } catch (RuntimeException e) {
+            // Don't leave any scopes open for the next module processed by this thread.
+            mySymbolTable.abandonOpenScopes();
+            throw e;
+        } finally {
+            populateEvent.commit();
+        }
+
+        // The target file is compiled after all of its imports, so once it has been
+        // populated, the remaining stages only need a sealed copy of the symbol table.
+        // (Note: The copy is reused until another module is populated or removed.)
+        boolean translate = myCompileEnvironment.flags.isFlagSet(AbstractTranslator.FLAG_TRANSLATE)
+                && m.equals(targetId);
+        boolean verify = myCompileEnvironment.flags.isFlagSet(VCGenerator.FLAG_VERIFY_VC) && m.equals(targetId);
+        ScopeRepository symbolTable = mySymbolTable;
+        if (translate || verify) {
+            symbolTable = myCompileEnvironment.getSealedSymbolTable();
         }
 
-        // Check for any parsing errors
-        int numParserErrors = parser.getNumberOfSyntaxErrors();
-        if (numParserErrors != 0) {
-            throw new MiscErrorException("Found " + numParserErrors + " errors while parsing " + file.toString(),
-                    new IllegalStateException());
+        // Translate source file to target file
+        if (translate) {
+            TranslatorPipeline translatorPipeline = new TranslatorPipeline(myCompileEnvironment, symbolTable);
+            runStage(CompilerMetrics.STAGE_TRANSLATION, m, () -> translatorPipeline.process(m));
         }
 
-        // Build the intermediate representation
-        TreeBuildingListener v = new TreeBuildingListener(file, myCompileEnvironment.getTypeGraph());
-        ParseTreeWalker.DEFAULT.walk(v, rootModuleCtx);
+        // Generate VCs
+        if (verify) {
+            VCGenPipeline vcGenPipeline = new VCGenPipeline(myCompileEnvironment, symbolTable);
+            runStage(CompilerMetrics.STAGE_VC_GENERATION, m, () -> vcGenPipeline.process(m));
+            List<VerificationCondition> vcs = vcGenPipeline.getVerificationConditions();
+
+            // Invoke Automated Prover (if requested)
+            if (myCompileEnvironment.flags.isFlagSet(CongruenceClassProver.FLAG_PROVE)) {
+                ProverPipeline proverPipeline = new ProverPipeline(myCompileEnvironment, symbolTable);
+                runStage(CompilerMetrics.STAGE_PROVING, m, () -> proverPipeline.process(m));
+            }
+
+            // Invoke nProver (if requested)
+            if (myCompileEnvironment.flags.isFlagSet(GeneralPurposeProver.FLAG_PROVE)) {
+                NProverPipeline nproverPipeline = new NProverPipeline(myCompileEnvironment, symbolTable, vcs);
+                runStage(CompilerMetrics.STAGE_NPROVING, m, () -> nproverPipeline.process(m));
+            }
+        }
+
+        // Complete compilation for this module
+        myCompileEnvironment.completeRecord(m);
+        if (myCompileEnvironment.flags.isFlagSet(ResolveCompiler.FLAG_DEBUG)) {
+            myStatusHandler.info(null, "Done Compiling: " + m.toString());
+        }
+    }
+
+    /**
+     * <p>
+     * This method computes the transitive hash for a module using the source hashes of the module and all the modules
+     * it imports directly or indirectly.
+     * </p>
+     *
+     * @param id
+     *            A module's identifier.
+     * @param transitiveHashes
+     *            A map containing the transitive hashes we have computed so far.
+     *
+     * @return A hexadecimal hash string.
+     */
+    private String computeTransitiveHash(ModuleIdentifier id, Map<ModuleIdentifier, String> transitiveHashes) {
+        String transitiveHash = transitiveHashes.get(id);
+        if (transitiveHash == null) {
+            List<String> hashParts = new ArrayList<>();
+            hashParts.add(ModuleCache.computeSourceHash(myCompileEnvironment.getFile(id)));
+            for (String importName : getImportNames(id)) {
+                hashParts.add(importName);
+                hashParts.add(computeTransitiveHash(new ModuleIdentifier(importName), transitiveHashes));
+            }
+
+            transitiveHash = ModuleCache.computeHash(hashParts);
+            transitiveHashes.put(id, transitiveHash);
+        }
 
-        return v.getModule();
+        return transitiveHash;
     }
 
     /**
      * <p>
-     * A recursive method to find all the import dependencies needed by the specified module.
+     * A method to find all the import dependencies needed by the specified module.
+     * </p>
+     *
+     * <p>
+     * Every import we haven't seen before is located and parsed asynchronously by the worker pool stored in the
+     * {@link CompileEnvironment}, so that independent imports can be parsed at the same time. All the modifications to
+     * the dependency graph and the compile environment are done by the calling thread as each parsed module becomes
+     * available.
+     * </p>
+     *
+     * <p>
+     * If we are using a module cache, every module the cache expects to be imported is also parsed ahead of time, so we
+     * don't have to wait for its importing module before we can start parsing it.
      * </p>
      *
      * @param g
@@ -372,57 +520,46 @@ class Controller {
      * @throws SourceErrorException
      *             There are errors in the source file.
      */
-    private void findDependencies(DefaultDirectedGraph<ModuleIdentifier, DefaultEdge> g, ModuleDec root,
+    private void findDependencies(DefaultDirectedGraph<ModuleIdentifier, DefaultEdge> g, ParsedModule root,
             Path parentPath) {
-        ModuleIdentifier rootId = new ModuleIdentifier(root);
-        Map<ResolveFileBasicInfo, Boolean> allImports = root.getModuleDependencies();
-        for (ResolveFileBasicInfo importRequest : allImports.keySet()) {
-            // Don't try to import the built-in Cls_Theory
-            if (!importRequest.getName().equals("Cls_Theory")) {
-                // Check to see if this import has been labeled as externally realized
-                // or not. If yes, we add it as an external import and move on.
-                // If no, we add it as a new dependency that must be imported.
-                if (!allImports.get(importRequest)) {
-                    // Only need to deal with imports we haven't seen yet.
-                    ModuleIdentifier id = new ModuleIdentifier(importRequest.getName());
-                    if (!myCompileEnvironment.containsID(id)) {
-                        // Print out debugging message
-                        if (myCompileEnvironment.flags.isFlagSet(ResolveCompiler.FLAG_DEBUG)) {
-                            myStatusHandler.info(null, "Importing New Module: " + id.toString());
-                        }
+        Map<ModuleIdentifier, CompletableFuture<ParsedModule>> pendingImports = new HashMap<>();
+        Map<ModuleIdentifier, CompletableFuture<ParsedModule>> prefetchedImports = new HashMap<>();
+        BlockingQueue<ModuleIdentifier> parsedImports = new LinkedBlockingQueue<>();
 
-                        ResolveFile file = findResolveFile(importRequest, parentPath);
-                        ModuleDec module = createModuleAST(file);
-                        if (module == null) {
-                            // Import error
-                            throw new ImportException("Invalid import: " + importRequest.toString()
-                                    + "; Cannot import module of " + "type: " + file.getModuleType().getExtension());
-                        } else {
-                            // Construct a record and check this new module for dependencies
-                            myCompileEnvironment.constructRecord(file, module);
-                            findDependencies(g, module, file.getParentPath());
-                        }
-                    } else {
-                        ModuleDec module = myCompileEnvironment.getModuleAST(id);
-                        if (module == null) {
-                            // Import error
-                            throw new ImportException("Import error: " + importRequest.toString()
-                                    + "; Module does not exist in our current compile environment.");
-                        }
-                    }
+        try {
+            prefetchImports(new ModuleIdentifier(root.getModuleName()), prefetchedImports);
+            addDependencies(g, root, parentPath, pendingImports, prefetchedImports, parsedImports);
+            while (!pendingImports.isEmpty()) {
+                // Wait for the next import to finish parsing
+                ModuleIdentifier id = parsedImports.take();
+                ParsedModule importedModule = pendingImports.remove(id).join();
 
-                    // Check for circular dependency
-                    if (pathExists(g, id, rootId)) {
-                        throw new CircularDependencyException(
-                                "Circular dependency detected: " + importRequest.getName() + "<->" + root.getName());
-                    }
+                // Construct a record and check this new module for dependencies
+                myCompileEnvironment.constructRecord(importedModule);
+                addDependencies(g, importedModule, importedModule.getFile().getParentPath(), pendingImports,
+                        prefetchedImports, parsedImports);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MiscErrorException("Interrupted while waiting for imported modules to be parsed", e);
+        } catch (CompletionException ce) {
+            Throwable cause = ce.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
 
-                    // Add new edge to our graph indicating the relationship between
-                    // the two files.
-                    Graphs.addEdgeWithVertices(g, rootId, id);
-                } else {
-                    addFileAsExternalImport(importRequest.getName());
-                }
+            throw new MiscErrorException("Unknown Exception", cause);
+        } finally {
+            // Don't bother parsing anything else if something went wrong.
+            for (CompletableFuture<ParsedModule> pendingImport : pendingImports.values()) {
+                pendingImport.cancel(false);
+            }
+
+            // Anything we parsed ahead of time that is still here wasn't imported after all.
+            for (CompletableFuture<ParsedModule> prefetchedImport : prefetchedImports.values()) {
+                prefetchedImport.cancel(false);
             }
         }
     }
@@ -457,20 +594,16 @@ class Controller {
                 File actualFile = null;
                 if (parentPath != null) {
                     try {
-                        FileLocator l = new FileLocator(fileBasicInfo.getName(), ModuleType.getAllExtensions());
-
                         // If our file's basic information contains a parent directory
                         // that matches a file we have already compiled, use that path
                         // instead of the parent path passed in.
+                        Path searchPath = parentPath;
                         if (myCompileEnvironment.containsID(new ModuleIdentifier(fileBasicInfo.getParentDirName()))) {
-                            Files.walkFileTree(myCompileEnvironment
-                                    .getFile(new ModuleIdentifier(fileBasicInfo.getParentDirName())).getParentPath(),
-                                    l);
-                        } else {
-                            Files.walkFileTree(parentPath, l);
+                            searchPath = myCompileEnvironment
+                                    .getFile(new ModuleIdentifier(fileBasicInfo.getParentDirName())).getParentPath();
                         }
 
-                        actualFile = l.getFile();
+                        actualFile = locateFile(fileBasicInfo.getName(), ModuleType.getAllExtensions(), searchPath);
                     } catch (IOException ioe2) {
                         // Don't do anything. We simply didn't find it using the parent path.
                     }
@@ -479,9 +612,8 @@ class Controller {
                 // If we couldn't find it, try searching the entire workspace.
                 File workspaceDir = myCompileEnvironment.getWorkspaceDir();
                 if (actualFile == null) {
-                    FileLocator l = new FileLocator(fileBasicInfo.getName(), ModuleType.getAllExtensions());
-                    Files.walkFileTree(workspaceDir.toPath(), l);
-                    actualFile = l.getFile();
+                    actualFile = locateFile(fileBasicInfo.getName(), ModuleType.getAllExtensions(),
+                            workspaceDir.toPath());
                 }
 
                 // Convert to ResolveFile
@@ -522,6 +654,200 @@ class Controller {
         return result;
     }
 
+    /**
+     * <p>
+     * This method returns the names of all the modules imported by the specified module.
+     * </p>
+     *
+     * @param id
+     *            A module's identifier.
+     *
+     * @return The sorted names of all the imported modules.
+     */
+    private List<String> getImportNames(ModuleIdentifier id) {
+        Set<String> imports = new TreeSet<>();
+        Map<ResolveFileBasicInfo, Boolean> allImports = myCompileEnvironment.getModuleDependencies(id);
+        for (Map.Entry<ResolveFileBasicInfo, Boolean> importEntry : allImports.entrySet()) {
+            // Externally realized files and the built-in Cls_Theory are not modules we compile.
+            if (!importEntry.getValue() && !importEntry.getKey().getName().equals("Cls_Theory")) {
+                imports.add(importEntry.getKey().getName());
+            }
+        }
+
+        return new ArrayList<>(imports);
+    }
+
+    /**
+     * <p>
+     * Increments the named counter if we are collecting compiler metrics.
+     * </p>
+     *
+     * @param counterName
+     *            The counter's name.
+     */
+    private void incrementCounter(String counterName) {
+        CompilerMetrics metrics = myCompileEnvironment.getMetrics();
+        if (metrics != null) {
+            metrics.incrementCounter(counterName);
+        }
+    }
+
+    /**
+     * <p>
+     * This method checks to see if we can skip compiling the target file. This is only possible when the incremental
+     * compilation flag is set and the module cache has a build stamp from a previous compilation of this file using the
+     * same build settings. In addition, neither this file nor any of the files it imports can have changed since then.
+     * </p>
+     *
+     * @param file
+     *            The target file.
+     *
+     * @return {@code true} if the target file is up to date, {@code false} otherwise.
+     */
+    private boolean isUpToDate(ResolveFile file) {
+        ModuleCache cache = myCompileEnvironment.getModuleCache();
+        if (!myCompileEnvironment.flags.isFlagSet(ResolveCompiler.FLAG_INCREMENTAL) || cache == null
+                || myCompileEnvironment.isMetaFile(new ResolveFileBasicInfo(file.getName(), file.getParentDirName()))) {
+            return false;
+        }
+
+        ModuleCacheEntry entry = cache.getEntry(file.getName());
+        String stamp = cache.getTargetStamp(file.getName());
+        if (entry == null || stamp == null || !entry.getFilePath().equals(file.getFilePath())
+                || !entry.getSourceHash().equals(ModuleCache.computeSourceHash(file))) {
+            return false;
+        }
+
+        String expectedStamp = ModuleCache
+                .computeHash(Arrays.asList(entry.getTransitiveHash(), myCompileEnvironment.getBuildSettings()));
+
+        return stamp.equals(expectedStamp) && cache.isUnchanged(file.getName());
+    }
+
+    /**
+     * <p>
+     * This method locates a single file with the specified name inside the search directory. Directories inside the
+     * workspace are searched using the workspace's file index. Any other directory is searched by walking its file
+     * tree.
+     * </p>
+     *
+     * @param name
+     *            An extensionless file name.
+     * @param extensions
+     *            An list of valid extensions to choose from.
+     * @param searchDir
+     *            The directory to be searched.
+     *
+     * @return The matching file.
+     *
+     * @throws IOException
+     *             If a file matching the name could not be found, if we found more than one file or if there was an
+     *             error reading the file system.
+     */
+    private File locateFile(String name, List<String> extensions, Path searchDir) throws IOException {
+        WorkspaceFileIndex index = myCompileEnvironment.getWorkspaceIndex();
+        if (index.isIndexed(searchDir)) {
+            return index.getFile(name, extensions, searchDir);
+        }
+
+        FileLocator l = new FileLocator(name, extensions);
+        Files.walkFileTree(searchDir, l);
+
+        return l.getFile();
+    }
+
+    /**
+     * <p>
+     * This method parses the file requested by an import.
+     * </p>
+     *
+     * @param importRequest
+     *            The name of the file including any known parent directory.
+     * @param file
+     *            The file located for the import.
+     *
+     * @return The parsed module.
+     *
+     * @throws ImportException
+     *             Incorrect import type.
+     * @throws SourceErrorException
+     *             There are errors in the source file.
+     */
+    private ParsedModule parseImport(ResolveFileBasicInfo importRequest, ResolveFile file) {
+        ParsedModule module = parseModule(file);
+        if (module.getModuleName() == null) {
+            // Import error
+            throw new ImportException("Invalid import: " + importRequest.toString() + "; Cannot import module of "
+                    + "type: " + file.getModuleType().getExtension());
+        }
+
+        return module;
+    }
+
+    /**
+     * <p>
+     * This method uses the {@link ResolveFile} provided to construct a parser and find the module's dependencies. The
+     * module's AST isn't built until we start compiling the module.
+     * </p>
+     *
+     * @param file
+     *            The RESOLVE file that we are going to compile.
+     *
+     * @return The parsed module. See {@link ParsedModule}.
+     *
+     * @throws MiscErrorException
+     *             Some how we couldn't instantiate an {@link CharStream}.
+     * @throws SourceErrorException
+     *             There are errors in the source file.
+     */
+    private ParsedModule parseModule(ResolveFile file) {
+        return parseModule(file, myAntlrLexerErrorListener, myAntlrParserErrorListener);
+    }
+
+    /**
+     * <p>
+     * This method uses the {@link ResolveFile} provided to construct a parser and find the module's dependencies. Any
+     * syntax errors are reported to the specified error listeners. The module's AST isn't built until we start
+     * compiling the module.
+     * </p>
+     *
+     * @param file
+     *            The RESOLVE file that we are going to compile.
+     * @param lexerErrorListener
+     *            The error listener for the lexer.
+     * @param parserErrorListener
+     *            The error listener for the parser.
+     *
+     * @return The parsed module. See {@link ParsedModule}.
+     *
+     * @throws MiscErrorException
+     *             Some how we couldn't instantiate an {@link CharStream}.
+     * @throws SourceErrorException
+     *             There are errors in the source file.
+     */
+    private ParsedModule parseModule(ResolveFile file, ANTLRErrorListener lexerErrorListener,
+            ANTLRErrorListener parserErrorListener) {
+        CompilerMetrics metrics = myCompileEnvironment.getMetrics();
+        StageMeasurement measurement = null;
+        if (metrics != null) {
+            measurement = metrics.startStage(CompilerMetrics.STAGE_PARSING, file.getName());
+        }
+
+        try {
+            ParsedModule module = myCompileEnvironment.getParserService().parseHeader(file, lexerErrorListener,
+                    parserErrorListener);
+
+            // The parsed module releases the source code once it no longer needs the parse tree.
+            recordSourceHash(file);
+
+            return module;
+        } finally {
+            if (measurement != null) {
+                measurement.stop();
+            }
+        }
+    }
+
     /**
      * <p>
      * This method is used to check for circular dependencies when importing modules using our file dependencies graph.
@@ -554,4 +880,200 @@ class Controller {
         }
         return false;
     }
+
+    /**
+     * <p>
+     * This method quietly parses a file that we expect to be imported.
+     * </p>
+     *
+     * @param file
+     *            A file that we expect to be imported.
+     *
+     * @return The parsed module, or {@code null} if the file contains any errors.
+     */
+    private ParsedModule prefetchImport(File file) {
+        ParsedModule module;
+        ResolveFile resolveFile;
+        ErrorCountingListener errorListener = new ErrorCountingListener();
+        try {
+            resolveFile = Utilities.convertToResolveFile(file, Utilities.getModuleType(file.getName()),
+                    myCompileEnvironment.getWorkspaceDir().getAbsolutePath());
+            module = parseModule(resolveFile, errorListener, errorListener);
+        } catch (IOException | RuntimeException e) {
+            // Let the actual import report any problems with this file.
+            return null;
+        }
+
+        if (module.getModuleName() == null || errorListener.numErrors > 0) {
+            return null;
+        }
+
+        return module;
+    }
+
+    /**
+     * <p>
+     * This method starts parsing every module that our module cache expects the specified module to import, either
+     * directly or indirectly. These modules are parsed quietly, so a module that ends up not being imported never
+     * reports any errors. This only happens if the user asked for imports to be prefetched.
+     * </p>
+     *
+     * @param id
+     *            The module identifier for the root module.
+     * @param prefetchedImports
+     *            A map that receives the modules that are being parsed ahead of time.
+     */
+    private void prefetchImports(ModuleIdentifier id,
+            Map<ModuleIdentifier, CompletableFuture<ParsedModule>> prefetchedImports) {
+        ModuleCache cache = myCompileEnvironment.getModuleCache();
+        if (!myCompileEnvironment.flags.isFlagSet(ResolveCompiler.FLAG_PREFETCH_IMPORTS) || cache == null) {
+            return;
+        }
+
+        Deque<String> remainingModules = new LinkedList<>();
+        remainingModules.add(id.toString());
+        Set<String> visitedModules = new HashSet<>(remainingModules);
+        while (!remainingModules.isEmpty()) {
+            ModuleCacheEntry entry = cache.getEntry(remainingModules.removeFirst());
+            if (entry != null) {
+                for (String importName : entry.getImports()) {
+                    ModuleIdentifier importId = new ModuleIdentifier(importName);
+                    ModuleCacheEntry importEntry = cache.getEntry(importName);
+                    if (visitedModules.add(importName) && importEntry != null
+                            && !myCompileEnvironment.containsID(importId)) {
+                        File importFile = new File(importEntry.getFilePath());
+                        if (importFile.isFile()) {
+                            prefetchedImports.put(importId, CompletableFuture.supplyAsync(
+                                    () -> prefetchImport(importFile), myCompileEnvironment.getWorkerPool()));
+                            remainingModules.add(importName);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * If we are using a module cache or running as a daemon, this method computes the source hash for a file that has
+     * just been parsed, so it still describes the compiled source code if the file changes before we are done.
+     * </p>
+     *
+     * @param file
+     *            A file that has been parsed.
+     */
+    private void recordSourceHash(ResolveFile file) {
+        if (myCompileEnvironment.getModuleCache() != null
+                || myCompileEnvironment.flags.isFlagSet(ResolveCompiler.FLAG_DAEMON)) {
+            ModuleCache.computeSourceHash(file);
+        }
+    }
+
+    /**
+     * <p>
+     * Runs a compilation stage on the specified module. If we are collecting compiler metrics, the resources spent by
+     * the stage are also measured.
+     * </p>
+     *
+     * @param stageName
+     *            The name of the compilation stage.
+     * @param m
+     *            The module we are compiling.
+     * @param stage
+     *            The compilation stage.
+     */
+    private void runStage(String stageName, ModuleIdentifier m, Runnable stage) {
+        CompilerMetrics metrics = myCompileEnvironment.getMetrics();
+        if (metrics == null) {
+            stage.run();
+        } else {
+            StageMeasurement measurement = metrics.startStage(stageName, m.toString());
+            try {
+                stage.run();
+            } finally {
+                measurement.stop();
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * This method stores the source hash, the transitive hash and the imports of every module in the file dependency
+     * graph inside our module cache. We also store the build stamp for the target module, so it doesn't need to be
+     * compiled again until something changes.
+     * </p>
+     *
+     * @param g
+     *            The compilation's file dependency graph.
+     * @param targetId
+     *            The target module's identifier.
+     */
+    private void updateModuleCache(DefaultDirectedGraph<ModuleIdentifier, DefaultEdge> g, ModuleIdentifier targetId) {
+        ModuleCache cache = myCompileEnvironment.getModuleCache();
+        if (cache == null) {
+            return;
+        }
+
+        // Modules compiled by an earlier target are in the graph, but their imports might not be.
+        // Use each module's own imports to compute the hashes, so the result doesn't depend on what
+        // has been compiled before.
+        Map<ModuleIdentifier, String> transitiveHashes = new HashMap<>();
+        for (ModuleIdentifier id : g.vertexSet()) {
+            computeTransitiveHash(id, transitiveHashes);
+        }
+
+        for (ModuleIdentifier id : g.vertexSet()) {
+            ResolveFile file = myCompileEnvironment.getFile(id);
+
+            // Files provided by the WebIDE/WebAPI might not exist in the workspace.
+            if (!myCompileEnvironment.isMetaFile(new ResolveFileBasicInfo(file.getName(), file.getParentDirName()))) {
+                cache.putEntry(new ModuleCacheEntry(id.toString(), file.getFilePath(),
+                        ModuleCache.computeSourceHash(file), transitiveHashes.get(id), getImportNames(id)));
+            }
+        }
+
+        ResolveFile targetFile = myCompileEnvironment.getFile(targetId);
+        if (!myCompileEnvironment
+                .isMetaFile(new ResolveFileBasicInfo(targetFile.getName(), targetFile.getParentDirName()))) {
+            cache.putTargetStamp(targetId.toString(), ModuleCache.computeHash(
+                    Arrays.asList(transitiveHashes.get(targetId), myCompileEnvironment.getBuildSettings())));
+        }
+
+        try {
+            cache.save();
+        } catch (IOException ioe) {
+            myStatusHandler.warning(null, "Unable to save the module cache: " + ioe.getMessage());
+        }
+    }
+
+    // ===========================================================
+    // Helper Constructs
+    // ===========================================================
+
+    /**
+     * <p>
+     * An helper construct that counts the syntax errors found while parsing a file ahead of time.
+     * </p>
+     */
+    private static class ErrorCountingListener extends BaseErrorListener {
+
+        /**
+         * <p>
+         * The number of syntax errors found so far.
+         * </p>
+         */
+        int numErrors = 0;
+
+        /**
+         * <p>
+         * Counts the syntax error instead of reporting it.
+         * </p>
+         */
+        @Override
+        public final void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line,
+                int charPositionInLine, String msg, RecognitionException e) {
+            numErrors++;
+        }
+    }
+
 }
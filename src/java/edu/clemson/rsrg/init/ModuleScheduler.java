@@ -0,0 +1,291 @@
+/*
+ * ModuleScheduler.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.init;
+
+import edu.clemson.rsrg.statushandling.exception.MiscErrorException;
+import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import org.jgrapht.graph.DefaultDirectedGraph;
+import org.jgrapht.graph.DefaultEdge;
+
+/**
+ * <p>
+ * A scheduler that processes the modules in a compilation's file dependency graph. A module is handed to a worker as
+ * soon as all of the modules it imports have been processed, so modules that do not depend on each other can be
+ * processed at the same time by the work-stealing {@link ForkJoinPool} stored in the {@link CompileEnvironment}.
+ * </p>
+ *
+ * <p>
+ * If the worker pool only has a single worker, the modules are simply processed one at a time by the calling thread
+ * using the order in which they were given to us.
+ * </p>
+ *
+ * <p>
+ * If a module fails, no new modules are started, but we still wait for the modules that are already being processed.
+ * This way nobody is still populating the symbol table when the caller starts removing the incomplete modules.
+ * </p>
+ *
+ * @version 1.0
+ */
+class ModuleScheduler {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * The number of tasks that have been scheduled, but haven't finished yet.
+     * </p>
+     */
+    private final AtomicInteger myActiveTasks;
+
+    /**
+     * <p>
+     * The compilation's file dependency graph. An edge from {@code A} to {@code B} indicates that {@code A} imports
+     * {@code B}.
+     * </p>
+     */
+    private final DefaultDirectedGraph<ModuleIdentifier, DefaultEdge> myDependencyGraph;
+
+    /**
+     * <p>
+     * The first exception thrown by one of the workers, or {@code null} if none of them have failed.
+     * </p>
+     */
+    private final AtomicReference<Throwable> myFirstFailure;
+
+    /**
+     * <p>
+     * The overall result of processing the modules. This completes once all the scheduled tasks have finished, and it
+     * completes exceptionally with {@link #myFirstFailure} if one of them failed.
+     * </p>
+     */
+    private final CompletableFuture<Void> myResult;
+
+    /**
+     * <p>
+     * The number of modules that still need to be processed.
+     * </p>
+     */
+    private final AtomicInteger myRemainingModules;
+
+    /**
+     * <p>
+     * A map from a module to the number of its imports that are still being processed.
+     * </p>
+     */
+    private final Map<ModuleIdentifier, AtomicInteger> myRemainingImports;
+
+    /**
+     * <p>
+     * The action to be performed on each module.
+     * </p>
+     */
+    private final Consumer<ModuleIdentifier> myModuleTask;
+
+    /**
+     * <p>
+     * The pool of worker threads.
+     * </p>
+     */
+    private final ForkJoinPool myWorkerPool;
+
+    // ===========================================================
+    // Constructors
+    // ===========================================================
+
+    /**
+     * <p>
+     * This creates a scheduler for the modules in the file dependency graph.
+     * </p>
+     *
+     * @param g
+     *            The compilation's file dependency graph.
+     * @param workerPool
+     *            The pool of worker threads.
+     * @param moduleTask
+     *            The action to be performed on each module.
+     */
+    ModuleScheduler(DefaultDirectedGraph<ModuleIdentifier, DefaultEdge> g, ForkJoinPool workerPool,
+            Consumer<ModuleIdentifier> moduleTask) {
+        myDependencyGraph = g;
+        myWorkerPool = workerPool;
+        myModuleTask = moduleTask;
+        myActiveTasks = new AtomicInteger();
+        myFirstFailure = new AtomicReference<>();
+        myRemainingImports = new HashMap<>();
+        myRemainingModules = new AtomicInteger();
+        myResult = new CompletableFuture<>();
+    }
+
+    // ===========================================================
+    // Package Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * Processes all the specified modules and waits for them to complete. Any module in the dependency graph that is
+     * not in {@code compileOrder} is assumed to have been processed already.
+     * </p>
+     *
+     * <p>
+     * If a module fails, the exception is only thrown once every module that was already being processed has finished.
+     * </p>
+     *
+     * @param compileOrder
+     *            The modules to be processed, ordered such that every module appears after all of its imports.
+     *
+     * @throws RuntimeException
+     *             The first exception thrown while processing a module.
+     */
+    final void process(List<ModuleIdentifier> compileOrder) {
+        if (myWorkerPool.getParallelism() == 1 || compileOrder.size() <= 1) {
+            for (ModuleIdentifier m : compileOrder) {
+                myModuleTask.accept(m);
+            }
+        } else {
+            // Count the number of imports that each module needs to wait for
+            Set<ModuleIdentifier> scheduledModules = new HashSet<>(compileOrder);
+            List<ModuleIdentifier> readyModules = new LinkedList<>();
+            for (ModuleIdentifier m : compileOrder) {
+                int numImports = 0;
+                for (DefaultEdge e : myDependencyGraph.outgoingEdgesOf(m)) {
+                    if (scheduledModules.contains(myDependencyGraph.getEdgeTarget(e))) {
+                        numImports++;
+                    }
+                }
+
+                myRemainingImports.put(m, new AtomicInteger(numImports));
+                if (numImports == 0) {
+                    readyModules.add(m);
+                }
+            }
+            myRemainingModules.set(compileOrder.size());
+
+            // Start with the modules that don't import anything we still need to process
+            myActiveTasks.set(readyModules.size());
+            for (ModuleIdentifier m : readyModules) {
+                myWorkerPool.execute(new ModuleTask(m));
+            }
+
+            try {
+                myResult.join();
+            } catch (CompletionException ce) {
+                Throwable cause = ce.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                } else if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+
+                throw new MiscErrorException("Unknown Exception", cause);
+            }
+        }
+    }
+
+    // ===========================================================
+    // Helper Constructs
+    // ===========================================================
+
+    /**
+     * <p>
+     * A worker task that processes a module and then schedules any module that was waiting on it.
+     * </p>
+     */
+    private class ModuleTask extends RecursiveAction {
+
+        // ===========================================================
+        // Member Fields
+        // ===========================================================
+
+        /**
+         * <p>
+         * The module to be processed.
+         * </p>
+         */
+        private final ModuleIdentifier myModule;
+
+        // ===========================================================
+        // Constructors
+        // ===========================================================
+
+        /**
+         * <p>
+         * This creates a task for the specified module.
+         * </p>
+         *
+         * @param module
+         *            The module to be processed.
+         */
+        ModuleTask(ModuleIdentifier module) {
+            myModule = module;
+        }
+
+        // ===========================================================
+        // Protected Methods
+        // ===========================================================
+
+        /**
+         * <p>
+         * Processes the module and forks a new task for every module that imports it and no longer needs to wait on
+         * anything else. Nothing is processed if some other module has already failed.
+         * </p>
+         */
+        @Override
+        protected final void compute() {
+            try {
+                // Don't bother if some other module failed.
+                if (myFirstFailure.get() != null) {
+                    return;
+                }
+
+                try {
+                    myModuleTask.accept(myModule);
+                } catch (Throwable t) {
+                    myFirstFailure.compareAndSet(null, t);
+                    return;
+                }
+
+                if (myRemainingModules.decrementAndGet() > 0) {
+                    for (DefaultEdge e : myDependencyGraph.incomingEdgesOf(myModule)) {
+                        AtomicInteger remainingImports = myRemainingImports.get(myDependencyGraph.getEdgeSource(e));
+                        if (remainingImports != null && remainingImports.decrementAndGet() == 0) {
+                            myActiveTasks.incrementAndGet();
+                            new ModuleTask(myDependencyGraph.getEdgeSource(e)).fork();
+                        }
+                    }
+                }
+            } finally {
+                // The last task to finish reports the overall result
+                if (myActiveTasks.decrementAndGet() == 0) {
+                    Throwable failure = myFirstFailure.get();
+                    if (failure != null) {
+                        myResult.completeExceptionally(failure);
+                    } else {
+                        myResult.complete(null);
+                    }
+                }
+            }
+        }
+
+    }
+
+}
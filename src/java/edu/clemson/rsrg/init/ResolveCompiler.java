@@ -20,6 +20,7 @@ import edu.clemson.rsrg.init.flag.FlagDependencies;
 import edu.clemson.rsrg.init.output.OutputListener;
 import edu.clemson.rsrg.misc.Utilities;
 import edu.clemson.rsrg.nProver.GeneralPurposeProver;
+import edu.clemson.rsrg.parsing.IncrementalParser;
 import edu.clemson.rsrg.prover.CongruenceClassProver;
 import edu.clemson.rsrg.statushandling.SystemStdHandler;
 import edu.clemson.rsrg.statushandling.StatusHandler;
@@ -31,9 +32,12 @@ import edu.clemson.rsrg.translation.targets.JavaTranslator;
 import edu.clemson.rsrg.typeandpopulate.Populator;
 import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTableBuilder;
 import edu.clemson.rsrg.vcgeneration.VCGenerator;
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 
 /**
@@ -108,6 +112,12 @@ public class ResolveCompiler {
     private static final String FLAG_DESC_PRINT_MODULE = "Print the modules we are compiling.";
     private static final String FLAG_DESC_EXPORT_AST = "Exports the AST for the target file as a .dot file that can be viewed in Graphviz";
     private static final String FLAG_DESC_WORKSPACE_DIR = "Changes the workspace directory path.";
+    private static final String FLAG_DESC_PARALLEL_COMPILE = "Populates independent imported modules in parallel.";
+    private static final String FLAG_DESC_PREFETCH_IMPORTS = "Starts parsing the imports recorded by earlier compilations before they are discovered. Requires -parallelCompile.";
+    private static final String FLAG_DESC_DAEMON = "Keeps the compiler running and compiles the files listed on each line of the standard input.";
+    private static final String FLAG_DESC_BATCH = "Compiles all the files in one shared environment and prints a summary. Use @<file> to read file names from a manifest.";
+    private static final String FLAG_DESC_INCREMENTAL = "Skips any file that hasn't changed since it was last compiled successfully.";
+    private static final String FLAG_DESC_METRICS = "Measures the time and memory spent on each compilation stage and outputs a JSON report.";
     private static final String FLAG_SECTION_GENERAL = "General";
     private static final String FLAG_SECTION_DEBUG = "Debugging";
 
@@ -184,6 +194,56 @@ public class ResolveCompiler {
     static final Flag FLAG_WORKSPACE_DIR = new Flag(FLAG_SECTION_GENERAL, "workspaceDir", FLAG_DESC_WORKSPACE_DIR,
             WORKSPACE_DIR_ARG_NAME);
 
+    /**
+     * <p>
+     * Tells the compiler to use all available processors to process modules that do not depend on each other.
+     * </p>
+     */
+    static final Flag FLAG_PARALLEL_COMPILE = new Flag(FLAG_SECTION_GENERAL, "parallelCompile",
+            FLAG_DESC_PARALLEL_COMPILE);
+
+    /**
+     * <p>
+     * Tells the compiler to use the imports recorded in the module cache as a hint, so it can start parsing a module's
+     * imports on the worker pool before they are discovered. This doesn't skip any work, so it only helps when the
+     * worker pool can parse several modules at once.
+     * </p>
+     */
+    static final Flag FLAG_PREFETCH_IMPORTS = new Flag(FLAG_SECTION_GENERAL, "prefetchImports",
+            FLAG_DESC_PREFETCH_IMPORTS);
+
+    /**
+     * <p>
+     * Tells the compiler to keep running and serve compilation requests from the standard input. Any modules compiled
+     * by one request are reused by the later requests.
+     * </p>
+     */
+    static final Flag FLAG_DAEMON = new Flag(FLAG_SECTION_GENERAL, "daemon", FLAG_DESC_DAEMON);
+
+    /**
+     * <p>
+     * Tells the compiler to compile all the target files using the same symbol table and print a summary of the
+     * results. Targets can also be specified using manifest files and glob patterns.
+     * </p>
+     */
+    static final Flag FLAG_BATCH = new Flag(FLAG_SECTION_GENERAL, "batch", FLAG_DESC_BATCH);
+
+    /**
+     * <p>
+     * Tells the compiler to skip any target file that compiled successfully with the same flags, as long as neither the
+     * file nor any of its imports have changed since then.
+     * </p>
+     */
+    static final Flag FLAG_INCREMENTAL = new Flag(FLAG_SECTION_GENERAL, "incremental", FLAG_DESC_INCREMENTAL);
+
+    /**
+     * <p>
+     * Tells the compiler to measure the wall clock time, CPU time and allocated bytes for each compilation stage and
+     * module, along with the cache hits and misses, and output a report for each target file.
+     * </p>
+     */
+    static final Flag FLAG_METRICS = new Flag(FLAG_SECTION_GENERAL, "metrics", FLAG_DESC_METRICS);
+
     // ===========================================================
     // Constructors
     // ===========================================================
@@ -213,13 +273,59 @@ public class ResolveCompiler {
      * <p>
      * This invokes the RESOLVE compiler. Usually this method is called by running the compiler from the command line.
      * </p>
+     *
+     * @return {@code true} if the compilation completed without errors, {@code false} otherwise.
      */
-    public void invokeCompiler() {
+    public boolean invokeCompiler() {
         // Create a status handler
         StatusHandler statusHandler = new SystemStdHandler();
 
         // Handle all arguments to the compiler
         CompileEnvironment compileEnvironment = handleCompileArgs(statusHandler);
+        if (compileEnvironment == null) {
+            // The arguments were rejected
+            return false;
+        }
+
+        // Serve compilation requests until we are told to stop
+        if (compileEnvironment.flags.isFlagSet(FLAG_DAEMON) && compileEnvironment.getSymbolTable() != null) {
+            CompilerDaemon daemon = new CompilerDaemon(compileEnvironment, fileArgList -> {
+                myArgumentFileList.clear();
+                myArgumentFileList.addAll(fileArgList);
+                compileRealFiles(myArgumentFileList, compileEnvironment);
+            });
+
+            // Warm up the parser using the standard library while we wait for the first request
+            compileEnvironment.getParserService().prewarm(AUTO_IMPORT_FILES);
+
+            try {
+                daemon.serve(new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8)), System.out);
+            } catch (IOException ioe) {
+                compileEnvironment.getStatusHandler().error(null, ioe.getMessage());
+                return false;
+            }
+            return true;
+        }
+
+        // Compile each target on its own and summarize the results
+        if (compileEnvironment.flags.isFlagSet(FLAG_BATCH) && compileEnvironment.getSymbolTable() != null) {
+            BatchCompiler batchCompiler = new BatchCompiler(compileEnvironment,
+                    fileArg -> compileRealFiles(Collections.singletonList(fileArg), compileEnvironment));
+
+            try {
+                File baseDir = compileEnvironment.flags.isFlagSet(FLAG_WORKSPACE_DIR)
+                        ? compileEnvironment.getWorkspaceDir() : Utilities.getAbsoluteFile("");
+                return batchCompiler.compile(BatchCompiler.expandFileArgs(myArgumentFileList, baseDir));
+            } catch (CompilerException e) {
+                statusHandler = compileEnvironment.getStatusHandler();
+                statusHandler.error(null, e.getMessage());
+                if (compileEnvironment.flags.isFlagSet(FLAG_DEBUG_STACK_TRACE)) {
+                    statusHandler.printStackTrace(e);
+                }
+                statusHandler.stopLogging();
+                return false;
+            }
+        }
 
         // Compile files/directories listed in the argument list
         try {
@@ -232,7 +338,12 @@ public class ResolveCompiler {
                 statusHandler.printStackTrace(e);
             }
             statusHandler.stopLogging();
+            return false;
         }
+
+        // Errors in a target file are reported without being thrown, but
+        // they also stop the status handler from logging.
+        return !compileEnvironment.getStatusHandler().hasStopped();
     }
 
     /**
@@ -251,11 +362,35 @@ public class ResolveCompiler {
      */
     public void invokeCompiler(Map<String, ResolveFile> compilingFiles,
             Map<ResolveFileBasicInfo, ResolveFile> userFilesMap, StatusHandler statusHandler, OutputListener listener) {
+        invokeCompiler(compilingFiles, userFilesMap, null, statusHandler, listener);
+    }
+
+    /**
+     * <p>
+     * This invokes the RESOLVE compiler from an editor session in the WebAPI/WebIDE. The "meta" files are parsed
+     * incrementally using the parse trees the session's {@link IncrementalParser} remembers from the last compilation.
+     * </p>
+     *
+     * @param compilingFiles
+     *            A map containing all the "meta" files we are going to compile.
+     * @param userFilesMap
+     *            A map containing all "meta" files that are provided by the user.
+     * @param incrementalParser
+     *            The editor session's {@link IncrementalParser}, or {@code null} to fully parse every file.
+     * @param statusHandler
+     *            A status handler to display debug or error messages.
+     * @param listener
+     *            An output listener object.
+     */
+    public void invokeCompiler(Map<String, ResolveFile> compilingFiles,
+            Map<ResolveFileBasicInfo, ResolveFile> userFilesMap, IncrementalParser incrementalParser,
+            StatusHandler statusHandler, OutputListener listener) {
         // Handle all arguments to the compiler
         CompileEnvironment compileEnvironment = handleCompileArgs(statusHandler);
 
         // Store the file map
         compileEnvironment.setFileMap(userFilesMap);
+        compileEnvironment.setIncrementalParser(incrementalParser);
 
         // Store the new listener object
         compileEnvironment.addOutputListener(listener);
@@ -413,7 +548,7 @@ public class ResolveCompiler {
             } else {
                 // Handle remaining arguments
                 String[] remainingArgs = compileEnvironment.getRemainingArgs();
-                if (remainingArgs.length == 0) {
+                if (remainingArgs.length == 0 && !compileEnvironment.flags.isFlagSet(FLAG_DAEMON)) {
                     throw new FlagDependencyException("Need to specify a filename.");
                 } else {
                     // The remaining arguments must be filenames, so we add those
@@ -503,5 +638,13 @@ public class ResolveCompiler {
 
         // Print modules implies debug flag is on
         FlagDependencies.addImplies(FLAG_PRINT_MODULE, FLAG_DEBUG);
+
+        // Prefetching imports only pays off if they can be parsed in parallel
+        FlagDependencies.addRequires(FLAG_PREFETCH_IMPORTS, FLAG_PARALLEL_COMPILE);
+
+        // The daemon and batch modes need to keep logging after an error
+        FlagDependencies.addExcludes(FLAG_DAEMON, FLAG_DEBUG_FILE_OUT);
+        FlagDependencies.addExcludes(FLAG_BATCH, FLAG_DEBUG_FILE_OUT);
+        FlagDependencies.addExcludes(FLAG_BATCH, FLAG_DAEMON);
     }
 }
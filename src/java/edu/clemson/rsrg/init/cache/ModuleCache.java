@@ -0,0 +1,414 @@
+/*
+ * ModuleCache.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.init.cache;
+
+import edu.clemson.rsrg.init.file.ResolveFile;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * <p>
+ * A persistent cache that remembers what the compiler learned about each module in previous compilations. Every module
+ * is keyed by a hash of its source file and a transitive hash that also covers all of its imports, so a cache entry can
+ * be checked against the current contents of the workspace.
+ * </p>
+ *
+ * <p>
+ * The cache is stored as a plain text file inside the {@link #CACHE_DIR_NAME} directory of the workspace. Each line
+ * stores a single module using the following tab separated fields: module name, file path, source hash, transitive hash
+ * and a comma separated list of imported module names. Any line that cannot be read is simply ignored.
+ * </p>
+ *
+ * <p>
+ * The cache also stores a build stamp for every target module that compiled successfully. The stamp combines the
+ * target's transitive hash with the compiler settings used to compile it. These are stored as lines starting with
+ * {@link #TARGET_LINE_PREFIX}, followed by the module name and the build stamp.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class ModuleCache {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * The file used to store the cache.
+     * </p>
+     */
+    private final Path myCacheFile;
+
+    /**
+     * <p>
+     * A map from a module name to its cache entry.
+     * </p>
+     */
+    private final Map<String, ModuleCacheEntry> myEntries;
+
+    /**
+     * <p>
+     * This indicates whether or not we have entries that haven't been saved yet.
+     * </p>
+     */
+    private boolean myIsModified;
+
+    /**
+     * <p>
+     * A map from a target module name to the build stamp from its last successful compilation.
+     * </p>
+     */
+    private final Map<String, String> myTargetStamps;
+
+    // ===========================================================
+    // Objects
+    // ===========================================================
+
+    /**
+     * <p>
+     * The name of the directory inside the workspace that stores the cache.
+     * </p>
+     */
+    public static final String CACHE_DIR_NAME = ".resolve-cache";
+
+    /**
+     * <p>
+     * The name of the file that stores the cache.
+     * </p>
+     */
+    private static final String CACHE_FILE_NAME = "modules.cache";
+
+    /**
+     * <p>
+     * The first line of the cache file. This must be changed whenever the file format changes.
+     * </p>
+     */
+    private static final String CACHE_FILE_HEADER = "# RESOLVE Module Cache v2";
+
+    /**
+     * <p>
+     * The algorithm used to compute all the hashes.
+     * </p>
+     */
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    /**
+     * <p>
+     * The first field of a line storing a target's build stamp.
+     * </p>
+     */
+    private static final String TARGET_LINE_PREFIX = "!target";
+
+    // ===========================================================
+    // Constructors
+    // ===========================================================
+
+    /**
+     * <p>
+     * This creates an empty cache that is stored inside the specified workspace.
+     * </p>
+     *
+     * @param workspaceDir
+     *            The RESOLVE workspace directory.
+     */
+    public ModuleCache(Path workspaceDir) {
+        myCacheFile = workspaceDir.resolve(CACHE_DIR_NAME).resolve(CACHE_FILE_NAME);
+        myEntries = new LinkedHashMap<>();
+        myIsModified = false;
+        myTargetStamps = new LinkedHashMap<>();
+    }
+
+    // ===========================================================
+    // Public Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method computes a hash of the specified strings.
+     * </p>
+     *
+     * @param parts
+     *            The strings to be hashed.
+     *
+     * @return A hexadecimal hash string.
+     */
+    public static String computeHash(List<String> parts) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+
+        for (String part : parts) {
+            digest.update(part.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+
+        StringBuilder sb = new StringBuilder();
+        for (byte b : digest.digest()) {
+            sb.append(String.format("%02x", b));
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * <p>
+     * This method computes a hash of the contents of the specified file on disk. The result can be compared with the
+     * hash returned by {@link #computeSourceHash(ResolveFile)}.
+     * </p>
+     *
+     * @param filePath
+     *            The path to a file.
+     *
+     * @return A hexadecimal hash string.
+     *
+     * @throws IOException
+     *             There was an error reading the file.
+     */
+    public static String computeFileHash(Path filePath) throws IOException {
+        return computeHash(Collections.singletonList(new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * <p>
+     * This method computes a hash of the specified file's contents. The hash is stored in the file, so it keeps
+     * describing the contents we compiled even after the source code has been released.
+     * </p>
+     *
+     * @param file
+     *            A RESOLVE file.
+     *
+     * @return A hexadecimal hash string.
+     */
+    public static String computeSourceHash(ResolveFile file) {
+        String sourceHash = file.getSourceHash();
+        if (sourceHash == null) {
+            sourceHash = computeHash(Collections.singletonList(file.getInputStream().toString()));
+            file.setSourceHash(sourceHash);
+        }
+
+        return sourceHash;
+    }
+
+    /**
+     * <p>
+     * This method returns the cache entry for the specified module.
+     * </p>
+     *
+     * @param moduleName
+     *            The module's name.
+     *
+     * @return The {@link ModuleCacheEntry} for the module if we have one, {@code null} otherwise.
+     */
+    public final synchronized ModuleCacheEntry getEntry(String moduleName) {
+        return myEntries.get(moduleName);
+    }
+
+    /**
+     * <p>
+     * This method returns the build stamp for the last successful compilation of the specified target module.
+     * </p>
+     *
+     * @param moduleName
+     *            The module's name.
+     *
+     * @return The build stamp if the module has been compiled successfully as a target, {@code null} otherwise.
+     */
+    public final synchronized String getTargetStamp(String moduleName) {
+        return myTargetStamps.get(moduleName);
+    }
+
+    /**
+     * <p>
+     * This method checks to see if the source files for the specified module and all the modules it imports directly or
+     * indirectly still have the contents stored in this cache.
+     * </p>
+     *
+     * @param moduleName
+     *            The module's name.
+     *
+     * @return {@code true} if we have an entry for every module and none of the source files have changed,
+     *         {@code false} otherwise.
+     */
+    public final synchronized boolean isUnchanged(String moduleName) {
+        Deque<String> remainingModules = new LinkedList<>();
+        remainingModules.add(moduleName);
+        Set<String> visitedModules = new HashSet<>(remainingModules);
+        while (!remainingModules.isEmpty()) {
+            ModuleCacheEntry entry = myEntries.get(remainingModules.removeFirst());
+            if (entry == null) {
+                return false;
+            }
+
+            try {
+                Path filePath = Paths.get(entry.getFilePath());
+                if (!Files.isRegularFile(filePath) || !computeFileHash(filePath).equals(entry.getSourceHash())) {
+                    return false;
+                }
+            } catch (IOException | InvalidPathException e) {
+                return false;
+            }
+
+            for (String importName : entry.getImports()) {
+                if (visitedModules.add(importName)) {
+                    remainingModules.add(importName);
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * <p>
+     * Reads the cache file from the workspace, replacing any entries stored in this cache. It is not an error if the
+     * cache file doesn't exist.
+     * </p>
+     *
+     * @throws IOException
+     *             There was an error reading the cache file.
+     */
+    public final synchronized void load() throws IOException {
+        myEntries.clear();
+        myTargetStamps.clear();
+        myIsModified = false;
+
+        if (Files.isRegularFile(myCacheFile)) {
+            try (BufferedReader reader = Files.newBufferedReader(myCacheFile, StandardCharsets.UTF_8)) {
+                // Ignore anything written using a different format
+                if (!CACHE_FILE_HEADER.equals(reader.readLine())) {
+                    return;
+                }
+
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    String[] fields = line.split("\t", -1);
+                    if (fields.length == 3 && fields[0].equals(TARGET_LINE_PREFIX)) {
+                        myTargetStamps.put(fields[1], fields[2]);
+                    } else if (fields.length == 5 && !fields[0].isEmpty()) {
+                        List<String> imports = new ArrayList<>();
+                        for (String importName : fields[4].split(",")) {
+                            if (!importName.isEmpty()) {
+                                imports.add(importName);
+                            }
+                        }
+
+                        myEntries.put(fields[0],
+                                new ModuleCacheEntry(fields[0], fields[1], fields[2], fields[3], imports));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Stores the entry for a module, replacing any previous entry for the same module.
+     * </p>
+     *
+     * @param entry
+     *            A new cache entry.
+     */
+    public final synchronized void putEntry(ModuleCacheEntry entry) {
+        ModuleCacheEntry oldEntry = myEntries.put(entry.getModuleName(), entry);
+        if (!entry.equals(oldEntry)) {
+            myIsModified = true;
+        }
+    }
+
+    /**
+     * <p>
+     * Stores the build stamp for a successful compilation of the specified target module, replacing any previous stamp
+     * for the same module.
+     * </p>
+     *
+     * @param moduleName
+     *            The module's name.
+     * @param stamp
+     *            The new build stamp.
+     */
+    public final synchronized void putTargetStamp(String moduleName, String stamp) {
+        if (!stamp.equals(myTargetStamps.put(moduleName, stamp))) {
+            myIsModified = true;
+        }
+    }
+
+    /**
+     * <p>
+     * Writes any changes to the cache file inside the workspace. The new contents are written to a temporary file
+     * first, so a compiler that is reading the cache never sees a partially written file.
+     * </p>
+     *
+     * @throws IOException
+     *             There was an error writing the cache file.
+     */
+    public final synchronized void save() throws IOException {
+        if (!myIsModified) {
+            return;
+        }
+
+        Path cacheDir = myCacheFile.getParent();
+        Files.createDirectories(cacheDir);
+
+        Path tempFile = Files.createTempFile(cacheDir, CACHE_FILE_NAME, ".tmp");
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+                writer.write(CACHE_FILE_HEADER);
+                writer.newLine();
+
+                for (ModuleCacheEntry entry : myEntries.values()) {
+                    writer.write(entry.getModuleName());
+                    writer.write("\t");
+                    writer.write(entry.getFilePath());
+                    writer.write("\t");
+                    writer.write(entry.getSourceHash());
+                    writer.write("\t");
+                    writer.write(entry.getTransitiveHash());
+                    writer.write("\t");
+                    writer.write(String.join(",", entry.getImports()));
+                    writer.newLine();
+                }
+
+                for (Map.Entry<String, String> targetStamp : myTargetStamps.entrySet()) {
+                    writer.write(TARGET_LINE_PREFIX);
+                    writer.write("\t");
+                    writer.write(targetStamp.getKey());
+                    writer.write("\t");
+                    writer.write(targetStamp.getValue());
+                    writer.newLine();
+                }
+            }
+
+            Files.move(tempFile, myCacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+
+        myIsModified = false;
+    }
+
+}
@@ -0,0 +1,197 @@
+/*
+ * ModuleCacheEntry.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.init.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p>
+ * This class stores everything the {@link ModuleCache} remembers about a module from a previous compilation.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class ModuleCacheEntry {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * The absolute path to the module's source file.
+     * </p>
+     */
+    private final String myFilePath;
+
+    /**
+     * <p>
+     * The names of all the modules imported by this module.
+     * </p>
+     */
+    private final List<String> myImports;
+
+    /**
+     * <p>
+     * The module's name.
+     * </p>
+     */
+    private final String myModuleName;
+
+    /**
+     * <p>
+     * A hash of the module's source file contents.
+     * </p>
+     */
+    private final String mySourceHash;
+
+    /**
+     * <p>
+     * A hash of the module's source file contents combined with the transitive hashes of all its imports.
+     * </p>
+     */
+    private final String myTransitiveHash;
+
+    // ===========================================================
+    // Constructors
+    // ===========================================================
+
+    /**
+     * <p>
+     * This creates a new cache entry for a module.
+     * </p>
+     *
+     * @param moduleName
+     *            The module's name.
+     * @param filePath
+     *            The absolute path to the module's source file.
+     * @param sourceHash
+     *            A hash of the module's source file contents.
+     * @param transitiveHash
+     *            A hash of the module's source file contents combined with the transitive hashes of all its imports.
+     * @param imports
+     *            The names of all the modules imported by this module.
+     */
+    public ModuleCacheEntry(String moduleName, String filePath, String sourceHash, String transitiveHash,
+            List<String> imports) {
+        myModuleName = moduleName;
+        myFilePath = filePath;
+        mySourceHash = sourceHash;
+        myTransitiveHash = transitiveHash;
+        myImports = Collections.unmodifiableList(new ArrayList<>(imports));
+    }
+
+    // ===========================================================
+    // Public Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method overrides the default {@code equals} method implementation.
+     * </p>
+     *
+     * @param o
+     *            Object to be compared.
+     *
+     * @return {@code true} if all the fields are equal, {@code false} otherwise.
+     */
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+
+        ModuleCacheEntry that = (ModuleCacheEntry) o;
+
+        return myModuleName.equals(that.myModuleName) && myFilePath.equals(that.myFilePath)
+                && mySourceHash.equals(that.mySourceHash) && myTransitiveHash.equals(that.myTransitiveHash)
+                && myImports.equals(that.myImports);
+    }
+
+    /**
+     * <p>
+     * This method returns the absolute path to the module's source file.
+     * </p>
+     *
+     * @return A path string.
+     */
+    public final String getFilePath() {
+        return myFilePath;
+    }
+
+    /**
+     * <p>
+     * This method returns the names of all the modules imported by this module.
+     * </p>
+     *
+     * @return An unmodifiable list of module names.
+     */
+    public final List<String> getImports() {
+        return myImports;
+    }
+
+    /**
+     * <p>
+     * This method returns the module's name.
+     * </p>
+     *
+     * @return The module name.
+     */
+    public final String getModuleName() {
+        return myModuleName;
+    }
+
+    /**
+     * <p>
+     * This method returns the hash of the module's source file contents.
+     * </p>
+     *
+     * @return A hash string.
+     */
+    public final String getSourceHash() {
+        return mySourceHash;
+    }
+
+    /**
+     * <p>
+     * This method returns the hash of the module's source file contents combined with the transitive hashes of all its
+     * imports.
+     * </p>
+     *
+     * @return A hash string.
+     */
+    public final String getTransitiveHash() {
+        return myTransitiveHash;
+    }
+
+    /**
+     * <p>
+     * This method overrides the default {@code hashCode} method implementation.
+     * </p>
+     *
+     * @return The hash code associated with the object.
+     */
+    @Override
+    public final int hashCode() {
+        int result = myModuleName.hashCode();
+        result = 31 * result + myFilePath.hashCode();
+        result = 31 * result + mySourceHash.hashCode();
+        result = 31 * result + myTransitiveHash.hashCode();
+        result = 31 * result + myImports.hashCode();
+        return result;
+    }
+
+}
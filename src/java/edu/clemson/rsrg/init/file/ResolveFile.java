@@ -12,9 +12,12 @@
  */
 package edu.clemson.rsrg.init.file;
 
+import edu.clemson.rsrg.statushandling.exception.MiscErrorException;
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.List;
 import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
 
 /**
  * <p>
@@ -23,6 +26,12 @@ import org.antlr.v4.runtime.CharStream;
  * look almost identical, we convert all inputs and create an instance of this class.
  * </p>
  *
+ * <p>
+ * A "real" file only loads its source code when it is first needed. Once the file has been parsed, the source code can
+ * be released using {@link #releaseSource()} and it will be loaded again if anyone asks for it (such as an error
+ * message that needs to show a line from the file).
+ * </p>
+ *
  * @author Yu-Shan Sun
  *
  * @version 1.0
@@ -49,10 +58,11 @@ public class ResolveFile {
 
     /**
      * <p>
-     * Input stream that will contain all the RESOLVE source code.
+     * Input stream that will contain all the RESOLVE source code. This is {@code null} if the source code hasn't been
+     * loaded yet or has been released.
      * </p>
      */
-    private final CharStream myInputStream;
+    private CharStream myInputStream;
 
     /**
      * <p>
@@ -75,6 +85,21 @@ public class ResolveFile {
      */
     private final List<String> myPkgList;
 
+    /**
+     * <p>
+     * A hash of the source code that was loaded. This is set by the module cache, so it still describes the compiled
+     * source code after it has been released.
+     * </p>
+     */
+    private String mySourceHash;
+
+    /**
+     * <p>
+     * Path to the source file on disk, or {@code null} if this is a "meta" file that only exists in memory.
+     * </p>
+     */
+    private final Path mySourcePath;
+
     // ===========================================================
     // Constructors
     // ===========================================================
@@ -106,6 +131,39 @@ public class ResolveFile {
         myModuleFileType = moduleType;
         myParentPath = parentPath;
         myPkgList = packageList;
+        mySourceHash = null;
+        mySourcePath = null;
+    }
+
+    /**
+     * <p>
+     * This constructor creates a "file" object for a physical file on disk. The source code isn't loaded until someone
+     * asks for the input stream.
+     * </p>
+     *
+     * @param fileBasicInfo
+     *            Basic information about the file.
+     * @param moduleType
+     *            File extension type.
+     * @param sourcePath
+     *            The path to the source file.
+     * @param parentPath
+     *            The parent path if it is known. Otherwise, this can be {@code null}.
+     * @param packageList
+     *            The package where this source file belong.
+     * @param filePath
+     *            The path where this file was found.
+     */
+    public ResolveFile(ResolveFileBasicInfo fileBasicInfo, ModuleType moduleType, Path sourcePath, Path parentPath,
+            List<String> packageList, String filePath) {
+        myInputStream = null;
+        myFileBasicInfo = fileBasicInfo;
+        myFilePath = filePath;
+        myModuleFileType = moduleType;
+        myParentPath = parentPath;
+        myPkgList = packageList;
+        mySourceHash = null;
+        mySourcePath = sourcePath;
     }
 
     // ===========================================================
@@ -135,7 +193,9 @@ public class ResolveFile {
             return false;
         if (!myFilePath.equals(that.myFilePath))
             return false;
-        if (!myInputStream.equals(that.myInputStream))
+        if (mySourcePath != null ? !mySourcePath.equals(that.mySourcePath) : that.mySourcePath != null)
+            return false;
+        if (mySourcePath == null && !myInputStream.equals(that.myInputStream))
             return false;
         if (!myModuleFileType.equals(that.myModuleFileType))
             return false;
@@ -157,12 +217,24 @@ public class ResolveFile {
 
     /**
      * <p>
-     * Obtains the input stream that contains the source code.
+     * Obtains the input stream that contains the source code. If the source code hasn't been loaded or has been
+     * released, the source file is read again.
      * </p>
      *
      * @return An input stream for ANTLR4.
+     *
+     * @throws MiscErrorException
+     *             There was an error loading the source file.
      */
-    public final CharStream getInputStream() {
+    public final synchronized CharStream getInputStream() {
+        if (myInputStream == null) {
+            try {
+                myInputStream = CharStreams.fromPath(mySourcePath);
+            } catch (IOException ioe) {
+                throw new MiscErrorException("Cannot read the source file " + mySourcePath, ioe);
+            }
+        }
+
         return myInputStream;
     }
 
@@ -222,6 +294,54 @@ public class ResolveFile {
         return myPkgList;
     }
 
+    /**
+     * <p>
+     * This method returns the hash of the source code that was compiled.
+     * </p>
+     *
+     * @return The hash if one has been set, {@code null} otherwise.
+     */
+    public final synchronized String getSourceHash() {
+        return mySourceHash;
+    }
+
+    /**
+     * <p>
+     * This method returns a single line of the source code. If the source code has been released, the source file is
+     * loaded again.
+     * </p>
+     *
+     * @param lineNumber
+     *            The line number, starting from {@code 1}.
+     *
+     * @return The contents of the line without the line terminator, or an empty string if the file doesn't have that
+     *         many lines.
+     */
+    public final String getSourceLine(int lineNumber) {
+        String source = getInputStream().toString();
+
+        int start = 0;
+        for (int i = 1; i < lineNumber && start >= 0; i++) {
+            start = source.indexOf('\n', start);
+            if (start >= 0) {
+                start++;
+            }
+        }
+        if (start < 0 || lineNumber < 1) {
+            return "";
+        }
+
+        int end = source.indexOf('\n', start);
+        if (end < 0) {
+            end = source.length();
+        }
+        if (end > start && source.charAt(end - 1) == '\r') {
+            end--;
+        }
+
+        return source.substring(start, end);
+    }
+
     /**
      * <p>
      * This method overrides the default {@code hashCode} method implementation.
@@ -233,13 +353,49 @@ public class ResolveFile {
     public final int hashCode() {
         int result = myFileBasicInfo.hashCode();
         result = 31 * result + myFilePath.hashCode();
-        result = 31 * result + myInputStream.hashCode();
+        result = 31 * result + (mySourcePath != null ? mySourcePath.hashCode() : myInputStream.hashCode());
         result = 31 * result + myModuleFileType.hashCode();
         result = 31 * result + (myParentPath != null ? myParentPath.hashCode() : 0);
         result = 31 * result + myPkgList.hashCode();
         return result;
     }
 
+    /**
+     * <p>
+     * This method checks to see if this is a "meta" file, that is a file whose source code was given to us directly
+     * instead of being read from a physical file.
+     * </p>
+     *
+     * @return {@code true} if this is a "meta" file, {@code false} otherwise.
+     */
+    public final boolean isMetaFile() {
+        return mySourcePath == null;
+    }
+
+    /**
+     * <p>
+     * This method releases the source code of a physical file, so it can be garbage collected. Nothing happens if this
+     * is a "meta" file, because there is no way to load its source code again.
+     * </p>
+     */
+    public final synchronized void releaseSource() {
+        if (mySourcePath != null) {
+            myInputStream = null;
+        }
+    }
+
+    /**
+     * <p>
+     * This method stores the hash of the source code that was compiled.
+     * </p>
+     *
+     * @param sourceHash
+     *            A hash of the source code.
+     */
+    public final synchronized void setSourceHash(String sourceHash) {
+        mySourceHash = sourceHash;
+    }
+
     /**
      * <p>
      * Returns the name of the file in string format.
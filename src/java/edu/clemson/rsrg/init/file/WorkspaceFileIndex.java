@@ -0,0 +1,373 @@
+/*
+ * WorkspaceFileIndex.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.init.file;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.util.*;
+
+/**
+ * <p>
+ * An in-memory index of all the files inside a workspace directory. Instead of walking the file tree every time we need
+ * to locate a file, the directory tree is scanned once and every file is indexed by its file name. Any lookups are then
+ * served from memory.
+ * </p>
+ *
+ * <p>
+ * Calling {@link #invalidate()} marks the index as stale and the next lookup brings it up to date with the file system.
+ * Only the directories whose last modified time has changed since the previous scan are listed again, so refreshing an
+ * unchanged workspace only costs a single file attribute read per directory.
+ * </p>
+ *
+ * <p>
+ * Just like {@link FileLocator}, symbolic links are not followed and a lookup matches the files whose name is the
+ * requested name followed by one of the requested extensions.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class WorkspaceFileIndex {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * A map containing the directories we have scanned so far.
+     * </p>
+     */
+    private final Map<Path, DirectoryInfo> myDirectories;
+
+    /**
+     * <p>
+     * A map from a file name (including its extension) to all the files in the workspace with that name.
+     * </p>
+     */
+    private final Map<String, Set<Path>> myFilesByName;
+
+    /**
+     * <p>
+     * This indicates whether or not the index needs to be refreshed before the next lookup.
+     * </p>
+     */
+    private boolean myIsStale;
+
+    /**
+     * <p>
+     * The root directory for this index.
+     * </p>
+     */
+    private final Path myRootDirectory;
+
+    // ===========================================================
+    // Constructors
+    // ===========================================================
+
+    /**
+     * <p>
+     * This creates an empty index for the specified root directory. The index is populated by the first lookup.
+     * </p>
+     *
+     * @param rootDirectory
+     *            The workspace directory to be indexed.
+     */
+    public WorkspaceFileIndex(Path rootDirectory) {
+        myDirectories = new HashMap<>();
+        myFilesByName = new HashMap<>();
+        myIsStale = true;
+        myRootDirectory = rootDirectory.toAbsolutePath().normalize();
+    }
+
+    // ===========================================================
+    // Public Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * Returns a single file inside the search directory that matches the supplied name and extensions.
+     * </p>
+     *
+     * @param name
+     *            An extensionless file name.
+     * @param extensions
+     *            An list of valid extensions to choose from.
+     * @param searchDir
+     *            The directory to be searched. This must be a directory inside our index.
+     *
+     * @return The matching file.
+     *
+     * @throws FileSystemException
+     *             If a file matching the name could not be found or if we found more than one file.
+     * @throws IOException
+     *             There was an error refreshing the index.
+     */
+    public final synchronized File getFile(String name, List<String> extensions, Path searchDir) throws IOException {
+        List<File> matches = getFiles(name, extensions, searchDir);
+        if (matches.size() == 0) {
+            throw new NoSuchFileException("File matching name '" + name + "' could not be found");
+        } else if (matches.size() > 1) {
+            throw new FileSystemException("Found more than one file matching the name '" + name + "'.");
+        }
+
+        return matches.get(0);
+    }
+
+    /**
+     * <p>
+     * Returns all the files inside the search directory that match the supplied name and extensions.
+     * </p>
+     *
+     * @param name
+     *            An extensionless file name.
+     * @param extensions
+     *            An list of valid extensions to choose from.
+     * @param searchDir
+     *            The directory to be searched. This must be a directory inside our index.
+     *
+     * @return A list containing all the matching files.
+     *
+     * @throws IOException
+     *             There was an error refreshing the index.
+     */
+    public final synchronized List<File> getFiles(String name, List<String> extensions, Path searchDir)
+            throws IOException {
+        if (myIsStale) {
+            refresh();
+        }
+
+        Path normalizedSearchDir = searchDir.toAbsolutePath().normalize();
+
+        List<File> matches = new ArrayList<>();
+        for (String extension : new LinkedHashSet<>(extensions)) {
+            Set<Path> files = myFilesByName.get(name + "." + extension);
+            if (files != null) {
+                for (Path file : files) {
+                    if (file.startsWith(normalizedSearchDir)) {
+                        matches.add(file.toFile());
+                    }
+                }
+            }
+        }
+
+        return matches;
+    }
+
+    /**
+     * <p>
+     * Marks the index as stale, so the next lookup checks the file system for any files that have been added or
+     * removed.
+     * </p>
+     */
+    public final synchronized void invalidate() {
+        myIsStale = true;
+    }
+
+    /**
+     * <p>
+     * This checks to see if the specified directory is covered by this index.
+     * </p>
+     *
+     * @param dir
+     *            A directory path.
+     *
+     * @return {@code true} if {@code dir} is the root directory or one of its subdirectories, {@code false} otherwise.
+     */
+    public final boolean isIndexed(Path dir) {
+        return dir.toAbsolutePath().normalize().startsWith(myRootDirectory);
+    }
+
+    /**
+     * <p>
+     * Brings the index up to date with the file system. The first call scans the entire directory tree. Any later calls
+     * only list the directories that have been modified since they were last scanned.
+     * </p>
+     *
+     * @throws IOException
+     *             There was an error reading one of the directories.
+     */
+    public final synchronized void refresh() throws IOException {
+        refreshDirectory(myRootDirectory);
+        myIsStale = false;
+    }
+
+    // ===========================================================
+    // Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * Adds the specified file to our index.
+     * </p>
+     *
+     * @param file
+     *            A file path.
+     */
+    private void addFile(Path file) {
+        myFilesByName.computeIfAbsent(file.getFileName().toString(), k -> new LinkedHashSet<>()).add(file);
+    }
+
+    /**
+     * <p>
+     * Brings the specified directory and all of its subdirectories up to date with the file system.
+     * </p>
+     *
+     * @param dir
+     *            A directory path.
+     *
+     * @throws IOException
+     *             There was an error reading one of the directories.
+     */
+    private void refreshDirectory(Path dir) throws IOException {
+        // Read the modified time before listing the directory, so any changes made
+        // while we are listing it are picked up by the next refresh.
+        FileTime lastModified = Files.getLastModifiedTime(dir, LinkOption.NOFOLLOW_LINKS);
+        DirectoryInfo info = myDirectories.get(dir);
+        if (info == null || !info.lastModified.equals(lastModified)) {
+            Set<Path> files = new LinkedHashSet<>();
+            Set<Path> subDirectories = new LinkedHashSet<>();
+            try (DirectoryStream<Path> entries = Files.newDirectoryStream(dir)) {
+                for (Path entry : entries) {
+                    if (Files.isDirectory(entry, LinkOption.NOFOLLOW_LINKS)) {
+                        subDirectories.add(entry);
+                    } else {
+                        files.add(entry);
+                    }
+                }
+            }
+
+            // Remove anything that no longer exists
+            if (info != null) {
+                for (Path file : info.files) {
+                    if (!files.contains(file)) {
+                        removeFile(file);
+                    }
+                }
+
+                for (Path subDirectory : info.subDirectories) {
+                    if (!subDirectories.contains(subDirectory)) {
+                        removeDirectory(subDirectory);
+                    }
+                }
+            }
+
+            // Add any new files
+            for (Path file : files) {
+                if (info == null || !info.files.contains(file)) {
+                    addFile(file);
+                }
+            }
+
+            info = new DirectoryInfo(lastModified, files, subDirectories);
+            myDirectories.put(dir, info);
+        }
+
+        for (Path subDirectory : info.subDirectories) {
+            refreshDirectory(subDirectory);
+        }
+    }
+
+    /**
+     * <p>
+     * Removes the specified directory and everything inside it from our index.
+     * </p>
+     *
+     * @param dir
+     *            A directory path.
+     */
+    private void removeDirectory(Path dir) {
+        DirectoryInfo info = myDirectories.remove(dir);
+        if (info != null) {
+            for (Path file : info.files) {
+                removeFile(file);
+            }
+
+            for (Path subDirectory : info.subDirectories) {
+                removeDirectory(subDirectory);
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Removes the specified file from our index.
+     * </p>
+     *
+     * @param file
+     *            A file path.
+     */
+    private void removeFile(Path file) {
+        String name = file.getFileName().toString();
+        Set<Path> files = myFilesByName.get(name);
+        if (files != null) {
+            files.remove(file);
+            if (files.isEmpty()) {
+                myFilesByName.remove(name);
+            }
+        }
+    }
+
+    // ===========================================================
+    // Helper Constructs
+    // ===========================================================
+
+    /**
+     * <p>
+     * An helper construct for storing the contents of a directory at the time it was last scanned.
+     * </p>
+     */
+    private static class DirectoryInfo {
+
+        /**
+         * <p>
+         * The directory's last modified time when it was scanned.
+         * </p>
+         */
+        final FileTime lastModified;
+
+        /**
+         * <p>
+         * The files inside the directory.
+         * </p>
+         */
+        final Set<Path> files;
+
+        /**
+         * <p>
+         * The subdirectories inside the directory.
+         * </p>
+         */
+        final Set<Path> subDirectories;
+
+        /**
+         * <p>
+         * This creates a new object storing the contents of a directory.
+         * </p>
+         *
+         * @param lastModified
+         *            The directory's last modified time when it was scanned.
+         * @param files
+         *            The files inside the directory.
+         * @param subDirectories
+         *            The subdirectories inside the directory.
+         */
+        DirectoryInfo(FileTime lastModified, Set<Path> files, Set<Path> subDirectories) {
+            this.lastModified = lastModified;
+            this.files = files;
+            this.subDirectories = subDirectories;
+        }
+    }
+
+}
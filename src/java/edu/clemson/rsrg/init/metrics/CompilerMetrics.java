@@ -0,0 +1,506 @@
+/*
+ * CompilerMetrics.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.init.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * This class collects the resources spent by each compilation stage on each module, along with a set of named counters,
+ * such as the number of cache hits and misses. Stages are measured using the JVM's {@link ThreadMXBean}: wall clock
+ * time is always available, while CPU time and allocated bytes are reported as {@code -1} if the JVM can't measure
+ * them.
+ * </p>
+ *
+ * <p>
+ * All methods are thread safe, so modules that are processed in parallel can be measured at the same time.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class CompilerMetrics {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * A map from a counter name to its current value.
+     * </p>
+     */
+    private final Map<String, LongAdder> myCounters;
+
+    /**
+     * <p>
+     * A map from a stage and module name pair to the resources spent by the stage on that module.
+     * </p>
+     */
+    private final Map<List<String>, StageMetrics> myStageMetrics;
+
+    /**
+     * <p>
+     * The JVM's thread system, if it can measure the bytes allocated by a thread. Otherwise this is {@code null}.
+     * </p>
+     */
+    private final com.sun.management.ThreadMXBean myThreadAllocationBean;
+
+    /**
+     * <p>
+     * The JVM's thread system, if it can measure the CPU time spent by a thread. Otherwise this is {@code null}.
+     * </p>
+     */
+    private final ThreadMXBean myThreadCpuBean;
+
+    // ===========================================================
+    // Objects
+    // ===========================================================
+
+    /**
+     * <p>
+     * The stage that parses a module and finds its module dependencies.
+     * </p>
+     */
+    public static final String STAGE_PARSING = "Parsing";
+
+    /**
+     * <p>
+     * The stage that builds the AST for a module that has already been parsed.
+     * </p>
+     */
+    public static final String STAGE_AST_CONSTRUCTION = "ASTConstruction";
+
+    /**
+     * <p>
+     * The stage that populates the symbol table for a module.
+     * </p>
+     */
+    public static final String STAGE_ANALYSIS = "Analysis";
+
+    /**
+     * <p>
+     * The stage that translates a module.
+     * </p>
+     */
+    public static final String STAGE_TRANSLATION = "Translation";
+
+    /**
+     * <p>
+     * The stage that generates verification conditions for a module.
+     * </p>
+     */
+    public static final String STAGE_VC_GENERATION = "VCGeneration";
+
+    /**
+     * <p>
+     * The stage that proves the verification conditions using the {@code CCProver}.
+     * </p>
+     */
+    public static final String STAGE_PROVING = "Proving";
+
+    /**
+     * <p>
+     * The stage that proves the verification conditions using the {@code GeneralPurposeProver}.
+     * </p>
+     */
+    public static final String STAGE_NPROVING = "NProving";
+
+    /**
+     * <p>
+     * Counts the imports that were already populated in the symbol table.
+     * </p>
+     */
+    public static final String COUNTER_RESIDENT_MODULE_HITS = "symbolTable.residentModules.hits";
+
+    /**
+     * <p>
+     * Counts the imports that had to be parsed and populated.
+     * </p>
+     */
+    public static final String COUNTER_RESIDENT_MODULE_MISSES = "symbolTable.residentModules.misses";
+
+    /**
+     * <p>
+     * Counts the imports whose AST was parsed ahead of time using the module cache.
+     * </p>
+     */
+    public static final String COUNTER_PREFETCH_HITS = "moduleCache.prefetch.hits";
+
+    /**
+     * <p>
+     * Counts the imports that had to be parsed after they were discovered.
+     * </p>
+     */
+    public static final String COUNTER_PREFETCH_MISSES = "moduleCache.prefetch.misses";
+
+    /**
+     * <p>
+     * Counts the "meta" files that were updated by only re-parsing the edited top-level item.
+     * </p>
+     */
+    public static final String COUNTER_INCREMENTAL_REPARSES = "parser.incrementalReparses";
+
+    /**
+     * <p>
+     * Counts the files that failed to parse using the {@code SLL} prediction mode and had to be parsed again using
+     * {@code LL}.
+     * </p>
+     */
+    public static final String COUNTER_LL_FALLBACKS = "parser.llFallbacks";
+
+    /**
+     * <p>
+     * Counts the files that were parsed directly using the {@code LL} prediction mode, because we already knew that
+     * {@code SLL} would fail.
+     * </p>
+     */
+    public static final String COUNTER_SLL_SKIPPED = "parser.sllSkipped";
+
+    /**
+     * <p>
+     * Counts the subtype queries answered by the type graph's established subtype cache.
+     * </p>
+     */
+    public static final String COUNTER_SUBTYPE_CACHE_HITS = "typeGraph.subtypeCache.hits";
+
+    /**
+     * <p>
+     * Counts the subtype queries that were not found in the type graph's established subtype cache.
+     * </p>
+     */
+    public static final String COUNTER_SUBTYPE_CACHE_MISSES = "typeGraph.subtypeCache.misses";
+
+    /**
+     * <p>
+     * Counts the membership queries answered by the type graph's established element cache.
+     * </p>
+     */
+    public static final String COUNTER_ELEMENT_CACHE_HITS = "typeGraph.elementCache.hits";
+
+    /**
+     * <p>
+     * Counts the membership queries that were not found in the type graph's established element cache.
+     * </p>
+     */
+    public static final String COUNTER_ELEMENT_CACHE_MISSES = "typeGraph.elementCache.misses";
+
+    /**
+     * <p>
+     * Counts the symbol table queries answered by a scope's cached query results.
+     * </p>
+     */
+    public static final String COUNTER_QUERY_CACHE_HITS = "symbolTable.queryCache.hits";
+
+    /**
+     * <p>
+     * Counts the symbol table queries that had to search through the scope's search path.
+     * </p>
+     */
+    public static final String COUNTER_QUERY_CACHE_MISSES = "symbolTable.queryCache.misses";
+
+    // ===========================================================
+    // Constructors
+    // ===========================================================
+
+    /**
+     * <p>
+     * This creates an empty metrics object.
+     * </p>
+     */
+    public CompilerMetrics() {
+        myCounters = new ConcurrentHashMap<>();
+        myStageMetrics = new ConcurrentHashMap<>();
+
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if (threadBean.isCurrentThreadCpuTimeSupported()) {
+            if (!threadBean.isThreadCpuTimeEnabled()) {
+                threadBean.setThreadCpuTimeEnabled(true);
+            }
+            myThreadCpuBean = threadBean;
+        } else {
+            myThreadCpuBean = null;
+        }
+
+        com.sun.management.ThreadMXBean allocationBean = null;
+        if (threadBean instanceof com.sun.management.ThreadMXBean) {
+            allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+            if (allocationBean.isThreadAllocatedMemorySupported()) {
+                if (!allocationBean.isThreadAllocatedMemoryEnabled()) {
+                    allocationBean.setThreadAllocatedMemoryEnabled(true);
+                }
+            } else {
+                allocationBean = null;
+            }
+        }
+        myThreadAllocationBean = allocationBean;
+    }
+
+    // ===========================================================
+    // Public Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method returns the current values of all the counters.
+     * </p>
+     *
+     * @return A map from a counter name to its value, sorted by name.
+     */
+    public final Map<String, Long> getCounters() {
+        Map<String, Long> counters = new TreeMap<>();
+        for (Map.Entry<String, LongAdder> counter : myCounters.entrySet()) {
+            counters.put(counter.getKey(), counter.getValue().sum());
+        }
+
+        return counters;
+    }
+
+    /**
+     * <p>
+     * This method returns the resources spent by each stage on each module.
+     * </p>
+     *
+     * @return A list containing the metrics for each stage and module pair, sorted by stage and module name.
+     */
+    public final List<StageMetrics> getStageMetrics() {
+        List<StageMetrics> stageMetrics = new ArrayList<>(myStageMetrics.values());
+        stageMetrics.sort(Comparator.comparing(StageMetrics::getStageName).thenComparing(StageMetrics::getModuleName));
+
+        return stageMetrics;
+    }
+
+    /**
+     * <p>
+     * Increments the value of the named counter by one.
+     * </p>
+     *
+     * @param counterName
+     *            The counter's name.
+     */
+    public final void incrementCounter(String counterName) {
+        myCounters.computeIfAbsent(counterName, k -> new LongAdder()).increment();
+    }
+
+    /**
+     * <p>
+     * Removes all the measurements and resets all the counters.
+     * </p>
+     */
+    public final void reset() {
+        myCounters.clear();
+        myStageMetrics.clear();
+    }
+
+    /**
+     * <p>
+     * Starts measuring a run of a compilation stage on the current thread.
+     * </p>
+     *
+     * @param stageName
+     *            The name of the compilation stage.
+     * @param moduleName
+     *            The name of the module.
+     *
+     * @return A measurement that must be stopped by the current thread.
+     */
+    public final StageMeasurement startStage(String stageName, String moduleName) {
+        return new StageMeasurement(this, stageName, moduleName);
+    }
+
+    /**
+     * <p>
+     * This method returns all the measurements and counters as a {@code JSON} document.
+     * </p>
+     *
+     * @param targetName
+     *            The name of the target module these metrics belong to.
+     *
+     * @return A {@code JSON} string.
+     */
+    public final String toJSON(String targetName) {
+        List<StageMetrics> stageMetrics = getStageMetrics();
+
+        // Compute the totals for each stage
+        Map<String, long[]> stageTotals = new LinkedHashMap<>();
+        for (StageMetrics metrics : stageMetrics) {
+            long[] totals = stageTotals.computeIfAbsent(metrics.getStageName(), k -> new long[4]);
+            totals[0] += metrics.getNumRuns();
+            totals[1] += metrics.getWallTime();
+            totals[2] = (totals[2] < 0 || metrics.getCpuTime() < 0) ? -1 : totals[2] + metrics.getCpuTime();
+            totals[3] = (totals[3] < 0 || metrics.getAllocatedBytes() < 0) ? -1
+                    : totals[3] + metrics.getAllocatedBytes();
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\n");
+        sb.append("  \"target\": ").append(quote(targetName)).append(",\n");
+
+        sb.append("  \"stages\": [");
+        Iterator<StageMetrics> stageIt = stageMetrics.iterator();
+        while (stageIt.hasNext()) {
+            StageMetrics metrics = stageIt.next();
+            sb.append("\n    { \"stage\": ").append(quote(metrics.getStageName()));
+            sb.append(", \"module\": ").append(quote(metrics.getModuleName()));
+            appendMeasurements(sb, metrics.getNumRuns(), metrics.getWallTime(), metrics.getCpuTime(),
+                    metrics.getAllocatedBytes());
+            sb.append(" }");
+            if (stageIt.hasNext()) {
+                sb.append(",");
+            }
+        }
+        sb.append(stageMetrics.isEmpty() ? "],\n" : "\n  ],\n");
+
+        sb.append("  \"stageTotals\": [");
+        Iterator<Map.Entry<String, long[]>> totalIt = stageTotals.entrySet().iterator();
+        while (totalIt.hasNext()) {
+            Map.Entry<String, long[]> totals = totalIt.next();
+            sb.append("\n    { \"stage\": ").append(quote(totals.getKey()));
+            appendMeasurements(sb, totals.getValue()[0], totals.getValue()[1], totals.getValue()[2],
+                    totals.getValue()[3]);
+            sb.append(" }");
+            if (totalIt.hasNext()) {
+                sb.append(",");
+            }
+        }
+        sb.append(stageTotals.isEmpty() ? "],\n" : "\n  ],\n");
+
+        sb.append("  \"counters\": {");
+        Iterator<Map.Entry<String, Long>> counterIt = getCounters().entrySet().iterator();
+        while (counterIt.hasNext()) {
+            Map.Entry<String, Long> counter = counterIt.next();
+            sb.append("\n    ").append(quote(counter.getKey())).append(": ").append(counter.getValue());
+            if (counterIt.hasNext()) {
+                sb.append(",");
+            }
+        }
+        sb.append(myCounters.isEmpty() ? "}\n" : "\n  }\n");
+        sb.append("}\n");
+
+        return sb.toString();
+    }
+
+    // ===========================================================
+    // Package Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * Adds the resources spent by one run of a compilation stage on a module.
+     * </p>
+     *
+     * @param stageName
+     *            The name of the compilation stage.
+     * @param moduleName
+     *            The name of the module.
+     * @param wallTime
+     *            The wall clock time in nanoseconds.
+     * @param cpuTime
+     *            The CPU time in nanoseconds, or {@code -1} if it couldn't be measured.
+     * @param allocatedBytes
+     *            The number of allocated bytes, or {@code -1} if it couldn't be measured.
+     */
+    final void addMeasurement(String stageName, String moduleName, long wallTime, long cpuTime, long allocatedBytes) {
+        myStageMetrics
+                .computeIfAbsent(Arrays.asList(stageName, moduleName), k -> new StageMetrics(stageName, moduleName))
+                .add(wallTime, cpuTime, allocatedBytes);
+    }
+
+    /**
+     * <p>
+     * This method returns the number of bytes allocated so far by the current thread.
+     * </p>
+     *
+     * @return The number of bytes, or {@code -1} if the JVM can't measure it.
+     */
+    final long getCurrentThreadAllocatedBytes() {
+        if (myThreadAllocationBean == null) {
+            return -1;
+        }
+
+        return myThreadAllocationBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * <p>
+     * This method returns the CPU time spent so far by the current thread.
+     * </p>
+     *
+     * @return The time in nanoseconds, or {@code -1} if the JVM can't measure it.
+     */
+    final long getCurrentThreadCpuTime() {
+        if (myThreadCpuBean == null) {
+            return -1;
+        }
+
+        return myThreadCpuBean.getCurrentThreadCpuTime();
+    }
+
+    // ===========================================================
+    // Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * Appends the {@code JSON} fields for a set of measurements.
+     * </p>
+     *
+     * @param sb
+     *            The string builder for the {@code JSON} document.
+     * @param numRuns
+     *            The number of runs.
+     * @param wallTime
+     *            The wall clock time in nanoseconds.
+     * @param cpuTime
+     *            The CPU time in nanoseconds.
+     * @param allocatedBytes
+     *            The number of allocated bytes.
+     */
+    private static void appendMeasurements(StringBuilder sb, long numRuns, long wallTime, long cpuTime,
+            long allocatedBytes) {
+        sb.append(", \"runs\": ").append(numRuns);
+        sb.append(", \"wallTimeNanos\": ").append(wallTime);
+        sb.append(", \"cpuTimeNanos\": ").append(cpuTime);
+        sb.append(", \"allocatedBytes\": ").append(allocatedBytes);
+    }
+
+    /**
+     * <p>
+     * This method returns the specified string as a quoted {@code JSON} string.
+     * </p>
+     *
+     * @param s
+     *            A string.
+     *
+     * @return The escaped and quoted string.
+     */
+    private static String quote(String s) {
+        StringBuilder sb = new StringBuilder("\"");
+        for (char c : s.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                sb.append('\\').append(c);
+            } else if (c < 0x20) {
+                sb.append(String.format("\\u%04x", (int) c));
+            } else {
+                sb.append(c);
+            }
+        }
+        sb.append('"');
+
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * ModuleParseEvent.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.init.metrics;
+
+import jdk.jfr.*;
+
+/**
+ * <p>
+ * A Java Flight Recorder event that is emitted every time a source file is parsed into a module.
+ * </p>
+ *
+ * @version 1.0
+ */
+@Name("edu.clemson.rsrg.ModuleParse")
+@Label("Module Parse")
+@Category({ "RESOLVE", "Compiler" })
+@Description("Lexing, parsing and building the AST for a single source file")
+public class ModuleParseEvent extends Event {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * The name of the module being parsed.
+     * </p>
+     */
+    @Label("Module Name")
+    private final String moduleName;
+
+    /**
+     * <p>
+     * This indicates whether or not the {@code SLL} prediction mode failed and we had to parse the file again using
+     * {@code LL}.
+     * </p>
+     */
+    @Label("LL Fallback")
+    private boolean usedLLFallback;
+
+    // ===========================================================
+    // Constructors
+    // ===========================================================
+
+    /**
+     * <p>
+     * This creates a new event for parsing the specified module.
+     * </p>
+     *
+     * @param moduleName
+     *            The name of the module being parsed.
+     */
+    public ModuleParseEvent(String moduleName) {
+        this.moduleName = moduleName;
+        this.usedLLFallback = false;
+    }
+
+    // ===========================================================
+    // Public Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method records that we had to parse the file again using the {@code LL} prediction mode.
+     * </p>
+     */
+    public final void setUsedLLFallback() {
+        usedLLFallback = true;
+    }
+
+}
@@ -0,0 +1,59 @@
+/*
+ * ModulePopulateEvent.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.init.metrics;
+
+import jdk.jfr.*;
+
+/**
+ * <p>
+ * A Java Flight Recorder event that is emitted every time a module is typed and its symbols are added to the symbol
+ * table.
+ * </p>
+ *
+ * @version 1.0
+ */
+@Name("edu.clemson.rsrg.ModulePopulate")
+@Label("Module Populate")
+@Category({ "RESOLVE", "Compiler" })
+@Description("Typing a single module and populating the symbol table")
+public class ModulePopulateEvent extends Event {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * The name of the module being populated.
+     * </p>
+     */
+    @Label("Module Name")
+    private final String moduleName;
+
+    // ===========================================================
+    // Constructors
+    // ===========================================================
+
+    /**
+     * <p>
+     * This creates a new event for populating the specified module.
+     * </p>
+     *
+     * @param moduleName
+     *            The name of the module being populated.
+     */
+    public ModulePopulateEvent(String moduleName) {
+        this.moduleName = moduleName;
+    }
+
+}
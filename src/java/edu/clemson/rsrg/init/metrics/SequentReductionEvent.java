@@ -0,0 +1,81 @@
+/*
+ * SequentReductionEvent.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.init.metrics;
+
+import jdk.jfr.*;
+
+/**
+ * <p>
+ * A Java Flight Recorder event that is emitted every time a sequent is reduced until it only contains atomic formulas.
+ * </p>
+ *
+ * @version 1.0
+ */
+@Name("edu.clemson.rsrg.SequentReduction")
+@Label("Sequent Reduction")
+@Category({ "RESOLVE", "VC Generator" })
+@Description("Applying the sequent reduction rules to a single sequent")
+public class SequentReductionEvent extends Event {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * The location of the sequent being reduced.
+     * </p>
+     */
+    @Label("Location")
+    private String location;
+
+    /**
+     * <p>
+     * The name of the file containing the sequent being reduced.
+     * </p>
+     */
+    @Label("Module Name")
+    private String moduleName;
+
+    /**
+     * <p>
+     * The number of sequents produced by the reduction.
+     * </p>
+     */
+    @Label("Resulting Sequents")
+    private int numResultingSequents;
+
+    // ===========================================================
+    // Public Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method records the results of the reduction. The fields are only filled in once we know the event is going
+     * to be committed, so reductions that aren't being recorded don't pay for building the strings.
+     * </p>
+     *
+     * @param moduleName
+     *            The name of the file containing the sequent being reduced.
+     * @param location
+     *            The location of the sequent being reduced.
+     * @param numResultingSequents
+     *            The number of sequents produced by the reduction.
+     */
+    public final void setResults(String moduleName, String location, int numResultingSequents) {
+        this.moduleName = moduleName;
+        this.location = location;
+        this.numResultingSequents = numResultingSequents;
+    }
+
+}
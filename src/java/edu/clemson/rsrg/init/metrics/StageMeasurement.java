@@ -0,0 +1,123 @@
+/*
+ * StageMeasurement.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.init.metrics;
+
+/**
+ * <p>
+ * This class measures a single run of a compilation stage. A measurement must be started and stopped by the same
+ * thread, because the CPU time and the allocated bytes are measured for the current thread.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class StageMeasurement {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * The metrics object that receives the measurement.
+     * </p>
+     */
+    private final CompilerMetrics myMetrics;
+
+    /**
+     * <p>
+     * The name of the module.
+     * </p>
+     */
+    private final String myModuleName;
+
+    /**
+     * <p>
+     * The name of the compilation stage.
+     * </p>
+     */
+    private final String myStageName;
+
+    /**
+     * <p>
+     * The current thread's allocated bytes when the measurement started.
+     * </p>
+     */
+    private final long myStartAllocatedBytes;
+
+    /**
+     * <p>
+     * The current thread's CPU time when the measurement started.
+     * </p>
+     */
+    private final long myStartCpuTime;
+
+    /**
+     * <p>
+     * The wall clock time when the measurement started.
+     * </p>
+     */
+    private final long myStartWallTime;
+
+    // ===========================================================
+    // Constructors
+    // ===========================================================
+
+    /**
+     * <p>
+     * This starts measuring a run of a compilation stage on the current thread.
+     * </p>
+     *
+     * @param metrics
+     *            The metrics object that receives the measurement.
+     * @param stageName
+     *            The name of the compilation stage.
+     * @param moduleName
+     *            The name of the module.
+     */
+    StageMeasurement(CompilerMetrics metrics, String stageName, String moduleName) {
+        myMetrics = metrics;
+        myStageName = stageName;
+        myModuleName = moduleName;
+        myStartAllocatedBytes = metrics.getCurrentThreadAllocatedBytes();
+        myStartCpuTime = metrics.getCurrentThreadCpuTime();
+        myStartWallTime = System.nanoTime();
+    }
+
+    // ===========================================================
+    // Public Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * Stops the measurement and adds the results to the metrics object.
+     * </p>
+     */
+    public final void stop() {
+        long wallTime = System.nanoTime() - myStartWallTime;
+
+        long cpuTime = -1;
+        long endCpuTime = myMetrics.getCurrentThreadCpuTime();
+        if (myStartCpuTime >= 0 && endCpuTime >= 0) {
+            cpuTime = endCpuTime - myStartCpuTime;
+        }
+
+        long allocatedBytes = -1;
+        long endAllocatedBytes = myMetrics.getCurrentThreadAllocatedBytes();
+        if (myStartAllocatedBytes >= 0 && endAllocatedBytes >= 0) {
+            allocatedBytes = endAllocatedBytes - myStartAllocatedBytes;
+        }
+
+        myMetrics.addMeasurement(myStageName, myModuleName, wallTime, cpuTime, allocatedBytes);
+    }
+
+}
@@ -0,0 +1,186 @@
+/*
+ * StageMetrics.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.init.metrics;
+
+/**
+ * <p>
+ * This class accumulates the resources spent by a single compilation stage on a single module.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class StageMetrics {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * The number of bytes allocated by the stage, or {@code -1} if the JVM can't measure it.
+     * </p>
+     */
+    private long myAllocatedBytes;
+
+    /**
+     * <p>
+     * The CPU time spent by the stage in nanoseconds, or {@code -1} if the JVM can't measure it.
+     * </p>
+     */
+    private long myCpuTime;
+
+    /**
+     * <p>
+     * The name of the module.
+     * </p>
+     */
+    private final String myModuleName;
+
+    /**
+     * <p>
+     * The number of times the stage ran on this module.
+     * </p>
+     */
+    private int myNumRuns;
+
+    /**
+     * <p>
+     * The name of the compilation stage.
+     * </p>
+     */
+    private final String myStageName;
+
+    /**
+     * <p>
+     * The wall clock time spent by the stage in nanoseconds.
+     * </p>
+     */
+    private long myWallTime;
+
+    // ===========================================================
+    // Constructors
+    // ===========================================================
+
+    /**
+     * <p>
+     * This creates an empty object for a compilation stage and a module.
+     * </p>
+     *
+     * @param stageName
+     *            The name of the compilation stage.
+     * @param moduleName
+     *            The name of the module.
+     */
+    StageMetrics(String stageName, String moduleName) {
+        myStageName = stageName;
+        myModuleName = moduleName;
+        myNumRuns = 0;
+        myWallTime = 0;
+        myCpuTime = 0;
+        myAllocatedBytes = 0;
+    }
+
+    // ===========================================================
+    // Public Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method returns the number of bytes allocated by the stage.
+     * </p>
+     *
+     * @return The number of bytes, or {@code -1} if the JVM can't measure it.
+     */
+    public final synchronized long getAllocatedBytes() {
+        return myAllocatedBytes;
+    }
+
+    /**
+     * <p>
+     * This method returns the CPU time spent by the stage.
+     * </p>
+     *
+     * @return The time in nanoseconds, or {@code -1} if the JVM can't measure it.
+     */
+    public final synchronized long getCpuTime() {
+        return myCpuTime;
+    }
+
+    /**
+     * <p>
+     * This method returns the name of the module.
+     * </p>
+     *
+     * @return The module name.
+     */
+    public final String getModuleName() {
+        return myModuleName;
+    }
+
+    /**
+     * <p>
+     * This method returns the number of times the stage ran on this module.
+     * </p>
+     *
+     * @return The number of runs.
+     */
+    public final synchronized int getNumRuns() {
+        return myNumRuns;
+    }
+
+    /**
+     * <p>
+     * This method returns the name of the compilation stage.
+     * </p>
+     *
+     * @return The stage name.
+     */
+    public final String getStageName() {
+        return myStageName;
+    }
+
+    /**
+     * <p>
+     * This method returns the wall clock time spent by the stage.
+     * </p>
+     *
+     * @return The time in nanoseconds.
+     */
+    public final synchronized long getWallTime() {
+        return myWallTime;
+    }
+
+    // ===========================================================
+    // Package Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * Adds the resources spent by one run of the stage.
+     * </p>
+     *
+     * @param wallTime
+     *            The wall clock time in nanoseconds.
+     * @param cpuTime
+     *            The CPU time in nanoseconds, or {@code -1} if it couldn't be measured.
+     * @param allocatedBytes
+     *            The number of allocated bytes, or {@code -1} if it couldn't be measured.
+     */
+    final synchronized void add(long wallTime, long cpuTime, long allocatedBytes) {
+        myNumRuns++;
+        myWallTime += wallTime;
+        myCpuTime = (myCpuTime < 0 || cpuTime < 0) ? -1 : myCpuTime + cpuTime;
+        myAllocatedBytes = (myAllocatedBytes < 0 || allocatedBytes < 0) ? -1 : myAllocatedBytes + allocatedBytes;
+    }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * VCGenerationEvent.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.init.metrics;
+
+import jdk.jfr.*;
+
+/**
+ * <p>
+ * A Java Flight Recorder event that is emitted every time the statement proof rules are applied to an assertive code
+ * block.
+ * </p>
+ *
+ * @version 1.0
+ */
+@Name("edu.clemson.rsrg.VCGeneration")
+@Label("VC Generation")
+@Category({ "RESOLVE", "VC Generator" })
+@Description("Applying the statement proof rules to a single assertive code block")
+public class VCGenerationEvent extends Event {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * The name of the assertive code block.
+     * </p>
+     */
+    @Label("Block Name")
+    private final String blockName;
+
+    /**
+     * <p>
+     * The name of the module containing the assertive code block.
+     * </p>
+     */
+    @Label("Module Name")
+    private final String moduleName;
+
+    /**
+     * <p>
+     * The number of proof rules that were applied.
+     * </p>
+     */
+    @Label("Rule Applications")
+    private int numRuleApplications;
+
+    /**
+     * <p>
+     * The number of {@code VCs} in the assertive code block once all the proof rules were applied.
+     * </p>
+     */
+    @Label("VCs")
+    private int numVCs;
+
+    // ===========================================================
+    // Constructors
+    // ===========================================================
+
+    /**
+     * <p>
+     * This creates a new event for applying the proof rules to the specified assertive code block.
+     * </p>
+     *
+     * @param moduleName
+     *            The name of the module containing the assertive code block.
+     * @param blockName
+     *            The name of the assertive code block.
+     */
+    public VCGenerationEvent(String moduleName, String blockName) {
+        this.moduleName = moduleName;
+        this.blockName = blockName;
+        this.numRuleApplications = 0;
+        this.numVCs = 0;
+    }
+
+    // ===========================================================
+    // Public Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method records the results of applying the proof rules.
+     * </p>
+     *
+     * @param numRuleApplications
+     *            The number of proof rules that were applied.
+     * @param numVCs
+     *            The number of {@code VCs} in the assertive code block.
+     */
+    public final void setResults(int numRuleApplications, int numVCs) {
+        this.numRuleApplications = numRuleApplications;
+        this.numVCs = numVCs;
+    }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * VCRegistryEvent.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.init.metrics;
+
+import jdk.jfr.*;
+
+/**
+ * <p>
+ * A Java Flight Recorder event that is emitted every time the general purpose prover builds the congruence class
+ * registry for a {@code VC}.
+ * </p>
+ *
+ * @version 1.0
+ */
+@Name("edu.clemson.rsrg.VCRegistry")
+@Label("VC Registry Build")
+@Category({ "RESOLVE", "Prover" })
+@Description("Registering the antecedents and succedents of a single VC")
+public class VCRegistryEvent extends Event {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * The name of the module containing the {@code VC}.
+     * </p>
+     */
+    @Label("Module Name")
+    private final String moduleName;
+
+    /**
+     * <p>
+     * The number of expression labels assigned while registering the {@code VC}.
+     * </p>
+     */
+    @Label("Expression Labels")
+    private int numExpLabels;
+
+    /**
+     * <p>
+     * This indicates whether or not the registry proved the {@code VC}.
+     * </p>
+     */
+    @Label("Proved")
+    private boolean proved;
+
+    /**
+     * <p>
+     * The name of the {@code VC}.
+     * </p>
+     */
+    @Label("VC Name")
+    private final String vcName;
+
+    // ===========================================================
+    // Constructors
+    // ===========================================================
+
+    /**
+     * <p>
+     * This creates a new event for building the registry for the specified {@code VC}.
+     * </p>
+     *
+     * @param moduleName
+     *            The name of the module containing the {@code VC}.
+     * @param vcName
+     *            The name of the {@code VC}.
+     */
+    public VCRegistryEvent(String moduleName, String vcName) {
+        this.moduleName = moduleName;
+        this.vcName = vcName;
+        this.numExpLabels = 0;
+        this.proved = false;
+    }
+
+    // ===========================================================
+    // Public Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method records the results of building the registry.
+     * </p>
+     *
+     * @param numExpLabels
+     *            The number of expression labels assigned while registering the {@code VC}.
+     * @param proved
+     *            This indicates whether or not the registry proved the {@code VC}.
+     */
+    public final void setResults(int numExpLabels, boolean proved) {
+        this.numExpLabels = numExpLabels;
+        this.proved = proved;
+    }
+
+}
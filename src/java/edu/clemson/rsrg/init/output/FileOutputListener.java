@@ -14,6 +14,7 @@ package edu.clemson.rsrg.init.output;
 
 import edu.clemson.rsrg.astoutput.GenerateGraphvizModel;
 import edu.clemson.rsrg.init.file.ResolveFile;
+import edu.clemson.rsrg.init.metrics.CompilerMetrics;
 import edu.clemson.rsrg.nProver.GeneralPurposeProver;
 import edu.clemson.rsrg.nProver.output.VCProverResult;
 import edu.clemson.rsrg.parsing.data.LocationDetailModel;
@@ -130,6 +131,24 @@ public class FileOutputListener implements OutputListener {
         writeToFile(outputFileName + ".java", javaTranslation);
     }
 
+    /**
+     * <p>
+     * This method outputs the {@code JSON} report generated from the {@link CompilerMetrics} collected while compiling
+     * a target file.
+     * </p>
+     *
+     * @param inputFileName
+     *            Name of the {@link ResolveFile} we collected metrics for.
+     * @param outputFileName
+     *            A name for the output file.
+     * @param metricsReport
+     *            The metrics report in {@code JSON} format.
+     */
+    @Override
+    public final void metricsResult(String inputFileName, String outputFileName, String metricsReport) {
+        writeToFile(outputFileName + "_Metrics.json", metricsReport);
+    }
+
     /**
      * <p>
      * This method outputs the provided {@link VerificationCondition VerificationConditions} and/or raw output result
@@ -14,6 +14,7 @@ package edu.clemson.rsrg.init.output;
 
 import edu.clemson.rsrg.astoutput.GenerateGraphvizModel;
 import edu.clemson.rsrg.init.file.ResolveFile;
+import edu.clemson.rsrg.init.metrics.CompilerMetrics;
 import edu.clemson.rsrg.nProver.GeneralPurposeProver;
 import edu.clemson.rsrg.nProver.output.VCProverResult;
 import edu.clemson.rsrg.prover.output.Metrics;
@@ -78,6 +79,26 @@ public interface OutputListener {
      */
     void javaTranslationResult(String inputFileName, String outputFileName, String javaTranslation);
 
+    /**
+     * <p>
+     * This method outputs the {@code JSON} report generated from the {@link CompilerMetrics} collected while compiling
+     * a target file.
+     * </p>
+     *
+     * <p>
+     * The default implementation ignores the report, so existing listeners do not need to handle it.
+     * </p>
+     *
+     * @param inputFileName
+     *            Name of the {@link ResolveFile} we collected metrics for.
+     * @param outputFileName
+     *            A name for the output file.
+     * @param metricsReport
+     *            The metrics report in {@code JSON} format.
+     */
+    default void metricsResult(String inputFileName, String outputFileName, String metricsReport) {
+    }
+
     /**
      * <p>
      * This method outputs the provided {@link VerificationCondition VerificationConditions} and/or raw output result
@@ -13,7 +13,7 @@
 package edu.clemson.rsrg.init.pipeline;
 
 import edu.clemson.rsrg.init.CompileEnvironment;
-import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTableBuilder;
+import edu.clemson.rsrg.typeandpopulate.symboltables.ScopeRepository;
 import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
 
 /**
@@ -41,7 +41,7 @@ public abstract class AbstractPipeline {
      * The symbol table for the compiler.
      * </p>
      */
-    protected final MathSymbolTableBuilder mySymbolTable;
+    protected final ScopeRepository mySymbolTable;
 
     // ===========================================================
     // Constructors
@@ -49,8 +49,8 @@ public abstract class AbstractPipeline {
 
     /**
      * <p>
-     * An helper constructor that allow us to store the {@link CompileEnvironment} and {@link MathSymbolTableBuilder}
-     * from a class that inherits from {@code AbstractPipeline}.
+     * An helper constructor that allow us to store the {@link CompileEnvironment} and {@link ScopeRepository} from a
+     * class that inherits from {@code AbstractPipeline}.
      * </p>
      *
      * @param ce
@@ -58,7 +58,7 @@ public abstract class AbstractPipeline {
      * @param symbolTable
      *            The symbol table.
      */
-    protected AbstractPipeline(CompileEnvironment ce, MathSymbolTableBuilder symbolTable) {
+    protected AbstractPipeline(CompileEnvironment ce, ScopeRepository symbolTable) {
         myCompileEnvironment = ce;
         mySymbolTable = symbolTable;
     }
@@ -31,6 +31,17 @@ import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
  */
 public class AnalysisPipeline extends AbstractPipeline {
 
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * The symbol table that we are populating.
+     * </p>
+     */
+    private final MathSymbolTableBuilder myBuilder;
+
     // ===========================================================
     // Constructors
     // ===========================================================
@@ -47,6 +58,7 @@ public class AnalysisPipeline extends AbstractPipeline {
      */
     public AnalysisPipeline(CompileEnvironment ce, MathSymbolTableBuilder symbolTable) {
         super(ce, symbolTable);
+        myBuilder = symbolTable;
     }
 
     // ===========================================================
@@ -60,7 +72,7 @@ public class AnalysisPipeline extends AbstractPipeline {
     public final void process(ModuleIdentifier currentTarget) {
         ModuleDec moduleDec = myCompileEnvironment.getModuleAST(currentTarget);
         StatusHandler statusHandler = myCompileEnvironment.getStatusHandler();
-        Populator populator = new Populator(mySymbolTable, myCompileEnvironment);
+        Populator populator = new Populator(myBuilder, myCompileEnvironment);
         myCompileEnvironment.setTypeGraph(populator.getTypeGraph());
         TreeWalker.visit(populator, moduleDec);
 
@@ -19,7 +19,7 @@ import edu.clemson.rsrg.astoutput.GenerateGraphvizModel;
 import edu.clemson.rsrg.init.output.OutputListener;
 import edu.clemson.rsrg.statushandling.StatusHandler;
 import edu.clemson.rsrg.treewalk.TreeWalker;
-import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTableBuilder;
+import edu.clemson.rsrg.typeandpopulate.symboltables.ScopeRepository;
 import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
 import org.stringtemplate.v4.STGroup;
 import org.stringtemplate.v4.STGroupFile;
@@ -49,7 +49,7 @@ public class GraphicalASTOutputPipeline extends AbstractPipeline {
      * @param symbolTable
      *            The symbol table.
      */
-    public GraphicalASTOutputPipeline(CompileEnvironment ce, MathSymbolTableBuilder symbolTable) {
+    public GraphicalASTOutputPipeline(CompileEnvironment ce, ScopeRepository symbolTable) {
         super(ce, symbolTable);
     }
 
@@ -18,7 +18,7 @@ import edu.clemson.rsrg.init.ResolveCompiler;
 import edu.clemson.rsrg.init.output.OutputListener;
 import edu.clemson.rsrg.nProver.GeneralPurposeProver;
 import edu.clemson.rsrg.statushandling.StatusHandler;
-import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTableBuilder;
+import edu.clemson.rsrg.typeandpopulate.symboltables.ScopeRepository;
 import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
 import edu.clemson.rsrg.vcgeneration.utilities.VerificationCondition;
 import java.util.List;
@@ -61,7 +61,7 @@ public class NProverPipeline extends AbstractPipeline {
      * @param symbolTable
      *            The symbol table.
      */
-    public NProverPipeline(CompileEnvironment ce, MathSymbolTableBuilder symbolTable, List<VerificationCondition> vcs) {
+    public NProverPipeline(CompileEnvironment ce, ScopeRepository symbolTable, List<VerificationCondition> vcs) {
         super(ce, symbolTable);
         myVerificationConditions = vcs;
     }
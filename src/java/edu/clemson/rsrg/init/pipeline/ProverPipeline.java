@@ -17,7 +17,7 @@ import edu.clemson.rsrg.init.CompileEnvironment;
 import edu.clemson.rsrg.prover.CongruenceClassProver;
 import edu.clemson.rsrg.prover.utilities.ImmutableVC;
 import edu.clemson.rsrg.statushandling.StatusHandler;
-import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTableBuilder;
+import edu.clemson.rsrg.typeandpopulate.symboltables.ScopeRepository;
 import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
 import java.util.ArrayList;
 
@@ -46,7 +46,7 @@ public class ProverPipeline extends AbstractPipeline {
      * @param symbolTable
      *            The symbol table.
      */
-    public ProverPipeline(CompileEnvironment ce, MathSymbolTableBuilder symbolTable) {
+    public ProverPipeline(CompileEnvironment ce, ScopeRepository symbolTable) {
         super(ce, symbolTable);
     }
 
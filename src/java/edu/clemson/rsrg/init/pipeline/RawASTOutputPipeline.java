@@ -15,7 +15,7 @@ package edu.clemson.rsrg.init.pipeline;
 import edu.clemson.rsrg.absyn.declarations.moduledecl.ModuleDec;
 import edu.clemson.rsrg.init.CompileEnvironment;
 import edu.clemson.rsrg.statushandling.StatusHandler;
-import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTableBuilder;
+import edu.clemson.rsrg.typeandpopulate.symboltables.ScopeRepository;
 import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
 
 /**
@@ -43,7 +43,7 @@ public class RawASTOutputPipeline extends AbstractPipeline {
      * @param symbolTable
      *            The symbol table.
      */
-    public RawASTOutputPipeline(CompileEnvironment ce, MathSymbolTableBuilder symbolTable) {
+    public RawASTOutputPipeline(CompileEnvironment ce, ScopeRepository symbolTable) {
         super(ce, symbolTable);
     }
 
@@ -21,7 +21,7 @@ import edu.clemson.rsrg.translation.AbstractTranslator;
 import edu.clemson.rsrg.translation.targets.CTranslator;
 import edu.clemson.rsrg.translation.targets.JavaTranslator;
 import edu.clemson.rsrg.treewalk.TreeWalker;
-import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTableBuilder;
+import edu.clemson.rsrg.typeandpopulate.symboltables.ScopeRepository;
 import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
 
 /**
@@ -49,7 +49,7 @@ public class TranslatorPipeline extends AbstractPipeline {
      * @param symbolTable
      *            The symbol table.
      */
-    public TranslatorPipeline(CompileEnvironment ce, MathSymbolTableBuilder symbolTable) {
+    public TranslatorPipeline(CompileEnvironment ce, ScopeRepository symbolTable) {
         super(ce, symbolTable);
     }
 
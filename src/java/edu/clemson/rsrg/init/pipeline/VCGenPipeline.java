@@ -18,7 +18,7 @@ import edu.clemson.rsrg.init.ResolveCompiler;
 import edu.clemson.rsrg.init.output.OutputListener;
 import edu.clemson.rsrg.statushandling.StatusHandler;
 import edu.clemson.rsrg.treewalk.TreeWalker;
-import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTableBuilder;
+import edu.clemson.rsrg.typeandpopulate.symboltables.ScopeRepository;
 import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
 import edu.clemson.rsrg.vcgeneration.VCGenerator;
 import edu.clemson.rsrg.vcgeneration.utilities.AssertiveCodeBlock;
@@ -62,7 +62,7 @@ public class VCGenPipeline extends AbstractPipeline {
      * @param symbolTable
      *            The symbol table.
      */
-    public VCGenPipeline(CompileEnvironment ce, MathSymbolTableBuilder symbolTable) {
+    public VCGenPipeline(CompileEnvironment ce, ScopeRepository symbolTable) {
         super(ce, symbolTable);
         myVerificationConditions = new LinkedList<>();
     }
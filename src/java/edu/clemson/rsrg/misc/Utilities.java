@@ -19,8 +19,6 @@ import java.io.File;
 import java.io.IOException;
 import java.util.*;
 import java.util.regex.Pattern;
-import org.antlr.v4.runtime.CharStream;
-import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.antlr.v4.runtime.tree.ParseTreeProperty;
 
@@ -172,10 +170,10 @@ public class Utilities {
         // Convert to the internal representation of a RESOLVE file
         String name = Utilities.getFileName(file.getName(), moduleType);
         List<String> pkgList = Utilities.getPackageList(file.getAbsolutePath(), workspacePath);
-        CharStream inputStream = CharStreams.fromPath(file.toPath());
         File parentFile = file.getParentFile();
 
-        return new ResolveFile(new ResolveFileBasicInfo(name, parentFile.getName()), moduleType, inputStream,
+        // The source code is loaded when we are ready to parse the file.
+        return new ResolveFile(new ResolveFileBasicInfo(name, parentFile.getName()), moduleType, file.toPath(),
                 parentFile.toPath(), pkgList, file.getAbsolutePath());
     }
 
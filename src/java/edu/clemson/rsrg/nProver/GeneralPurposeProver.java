@@ -17,6 +17,7 @@ import edu.clemson.rsrg.absyn.expressions.Exp;
 import edu.clemson.rsrg.init.CompileEnvironment;
 import edu.clemson.rsrg.init.flag.Flag;
 import edu.clemson.rsrg.init.flag.FlagDependencies;
+import edu.clemson.rsrg.init.metrics.VCRegistryEvent;
 import edu.clemson.rsrg.init.output.OutputListener;
 import edu.clemson.rsrg.nProver.output.VCProverResult;
 import edu.clemson.rsrg.nProver.registry.CongruenceClassRegistry;
@@ -40,6 +41,7 @@ import java.util.concurrent.TimeUnit;
 import org.stringtemplate.v4.ST;
 import org.stringtemplate.v4.STGroup;
 import org.stringtemplate.v4.STGroupFile;
+import static edu.clemson.rsrg.vcgeneration.VCGenerator.FLAG_SHARE_VC_EXPS;
 import static edu.clemson.rsrg.vcgeneration.VCGenerator.FLAG_VERIFY_VC;
 
 /**
@@ -184,6 +186,10 @@ public class GeneralPurposeProver {
         FlagDependencies.addImplies(FLAG_PROVE, FLAG_VERIFY_VC); // adding prove flag, also add verify VC flag
         FlagDependencies.addRequires(FLAG_TIMEOUT, FLAG_PROVE);
         FlagDependencies.addRequires(FLAG_NUMTRIES, FLAG_PROVE);
+
+        // Literal expressions get a location detail model while registering a
+        // sequent, so the VC expressions must not be shared.
+        FlagDependencies.addExcludes(FLAG_PROVE, FLAG_SHARE_VC_EXPS);
     }
 
     // ===========================================================
@@ -322,11 +328,14 @@ public class GeneralPurposeProver {
         // Keep track to total elapsed time and number of unproved/timed out VCs
         myTotalElapsedTime = System.currentTimeMillis();
         int numUnproved = 0;
+        String moduleName = myCurrentModuleScope.getModuleIdentifier().toString();
 
         // Loop through each of the VCs and attempt to prove them
         for (VerificationCondition vc : myVerificationConditions) {
             // Store the start time for generating proofs for this VC
             long startTime = System.nanoTime();
+            VCRegistryEvent event = new VCRegistryEvent(moduleName, vc.getName());
+            event.begin();
             // Obtain the sequent to be proved
             Sequent sequent = vc.getSequent();
             // Create a registry and label map
@@ -354,6 +363,10 @@ public class GeneralPurposeProver {
 
             // Store the end time for generating proofs for this VC
             long endTime = System.nanoTime();
+            if (event.shouldCommit()) {
+                event.setResults(expLabels.size(), registry.checkIfProved());
+                event.commit();
+            }
 
             // Store the prover results for this VC
             myVCProverResults.add(
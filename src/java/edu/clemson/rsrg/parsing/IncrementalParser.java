@@ -0,0 +1,506 @@
+/*
+ * IncrementalParser.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.parsing;
+
+import edu.clemson.rsrg.init.file.ResolveFile;
+import edu.clemson.rsrg.parsing.data.ResolveTokenFactory;
+import java.util.*;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+
+/**
+ * <p>
+ * This class remembers the ANTLR4 parse trees of the "meta" files that were sent to us by an editor (for example, the
+ * WebIDE), so the next time the same file is sent to us, we only need to parse the part of the file that was edited.
+ * </p>
+ *
+ * <p>
+ * We compare the new source code with the one we parsed last time to find the edited region. If the edit is completely
+ * inside one of the module's top-level items (an operation, a procedure, a type representation, a math definition,
+ * etc.), we re-lex and re-parse only that item and splice it into the old parse tree. The tokens that come after the
+ * item are moved to their new lines and columns. In every other case (the edit touches the module header or the
+ * boundary of an item, the item no longer parses on its own, etc.), the caller needs to parse the whole file again.
+ * </p>
+ *
+ * <p>
+ * An editor session should create one instance of this class and pass it to every compilation it starts. The parse
+ * trees returned by this class are updated in place, so a {@code ModuleDec} built from an earlier parse tree must be
+ * built before the file is compiled again.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class IncrementalParser {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * The last successfully parsed version of each file.
+     * </p>
+     */
+    private final Map<String, ParsedSource> myParsedSources;
+
+    // ===========================================================
+    // Constructors
+    // ===========================================================
+
+    /**
+     * <p>
+     * This creates an object that doesn't remember any files yet.
+     * </p>
+     */
+    public IncrementalParser() {
+        myParsedSources = new HashMap<>();
+    }
+
+    // ===========================================================
+    // Public Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method forgets everything we know about the specified file, so it will be fully parsed the next time.
+     * </p>
+     *
+     * @param file
+     *            A "meta" file.
+     */
+    public final synchronized void forget(ResolveFile file) {
+        myParsedSources.remove(getKey(file));
+    }
+
+    // ===========================================================
+    // Package Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method remembers a file that was just fully parsed.
+     * </p>
+     *
+     * @param file
+     *            A "meta" file.
+     * @param text
+     *            The file's source code.
+     * @param rootModuleCtx
+     *            The parse tree for the file.
+     */
+    final synchronized void remember(ResolveFile file, String text, ParserRuleContext rootModuleCtx) {
+        // ANTLR4 indexes the source code by code points, but we compare
+        // the source code one char at a time.
+        if (text.length() != text.codePointCount(0, text.length())) {
+            myParsedSources.remove(getKey(file));
+            return;
+        }
+
+        ParserRuleContext itemsCtx = null;
+        ParserRuleContext moduleCtx = rootModuleCtx.getChild(ParserRuleContext.class, 0);
+        if (moduleCtx != null && moduleCtx.children != null) {
+            for (ParseTree child : moduleCtx.children) {
+                if (child instanceof ParserRuleContext && isItemsRule(((ParserRuleContext) child).getRuleIndex())) {
+                    itemsCtx = (ParserRuleContext) child;
+                }
+            }
+        }
+
+        int numItems = itemsCtx != null ? itemsCtx.getChildCount() : 0;
+        int[] itemStarts = new int[numItems];
+        int[] itemEnds = new int[numItems];
+        for (int i = 0; i < numItems; i++) {
+            ParserRuleContext item = (ParserRuleContext) itemsCtx.getChild(i);
+            itemStarts[i] = item.getStart().getStartIndex();
+            itemEnds[i] = item.getStop().getStopIndex() + 1;
+        }
+
+        myParsedSources.put(getKey(file), new ParsedSource(text, rootModuleCtx, itemsCtx, itemStarts, itemEnds));
+    }
+
+    /**
+     * <p>
+     * This method attempts to update the parse tree we remembered for the specified file by only re-parsing the edited
+     * top-level item.
+     * </p>
+     *
+     * @param file
+     *            A "meta" file.
+     * @param text
+     *            The file's new source code.
+     *
+     * @return The updated parse tree, or {@code null} if the file needs to be fully parsed.
+     */
+    final synchronized ParserRuleContext reparse(ResolveFile file, String text) {
+        ParsedSource source = myParsedSources.get(getKey(file));
+        if (source == null) {
+            return null;
+        }
+
+        String oldText = source.text;
+        if (oldText.equals(text)) {
+            return source.rootModuleCtx;
+        }
+
+        // Find the edited region by skipping the common prefix and suffix
+        int oldLength = oldText.length();
+        int newLength = text.length();
+        int maxCommonLength = Math.min(oldLength, newLength);
+        int prefixLength = 0;
+        while (prefixLength < maxCommonLength && oldText.charAt(prefixLength) == text.charAt(prefixLength)) {
+            prefixLength++;
+        }
+
+        int suffixLength = 0;
+        while (suffixLength < maxCommonLength - prefixLength
+                && oldText.charAt(oldLength - 1 - suffixLength) == text.charAt(newLength - 1 - suffixLength)) {
+            suffixLength++;
+        }
+
+        // The first and the last character of the item must not change,
+        // otherwise the edit might have changed where the item starts or ends.
+        int oldEditEnd = oldLength - suffixLength;
+        int itemIndex = -1;
+        for (int i = 0; i < source.itemStarts.length && itemIndex == -1; i++) {
+            if (source.itemStarts[i] < prefixLength && oldEditEnd < source.itemEnds[i]) {
+                itemIndex = i;
+            }
+        }
+
+        if (itemIndex == -1 || text.length() != text.codePointCount(0, text.length())) {
+            myParsedSources.remove(getKey(file));
+            return null;
+        }
+
+        // Parse the new version of the item
+        int lengthDelta = newLength - oldLength;
+        ParserRuleContext oldItemCtx = (ParserRuleContext) source.itemsCtx.getChild(itemIndex);
+        ParserRuleContext newItemCtx = parseItem(file,
+                text.substring(source.itemStarts[itemIndex], source.itemEnds[itemIndex] + lengthDelta), oldItemCtx);
+        if (newItemCtx == null) {
+            myParsedSources.remove(getKey(file));
+            return null;
+        }
+
+        // Splice the new item into the parse tree
+        source.itemsCtx.children.set(itemIndex, newItemCtx);
+        newItemCtx.setParent(source.itemsCtx);
+        if (itemIndex == 0) {
+            source.itemsCtx.start = newItemCtx.getStart();
+        }
+        if (itemIndex == source.itemStarts.length - 1) {
+            source.itemsCtx.stop = newItemCtx.getStop();
+        }
+
+        // Move everything after the item to their new lines and columns
+        Token oldStop = oldItemCtx.getStop();
+        Token newStop = newItemCtx.getStop();
+        int oldEndColumn = oldStop.getCharPositionInLine() + oldStop.getText().length();
+        int newEndColumn = newStop.getCharPositionInLine() + newStop.getText().length();
+        shiftTokens(source.rootModuleCtx, newItemCtx, oldStop.getLine(), oldEndColumn,
+                newStop.getLine() - oldStop.getLine(), newEndColumn - oldEndColumn);
+
+        // Update the item ranges
+        source.itemEnds[itemIndex] += lengthDelta;
+        for (int i = itemIndex + 1; i < source.itemStarts.length; i++) {
+            source.itemStarts[i] += lengthDelta;
+            source.itemEnds[i] += lengthDelta;
+        }
+        source.text = text;
+
+        return source.rootModuleCtx;
+    }
+
+    // ===========================================================
+    // Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method returns the key we use to remember a file.
+     * </p>
+     *
+     * @param file
+     *            A "meta" file.
+     *
+     * @return The file's parent directory, name and extension.
+     */
+    private static String getKey(ResolveFile file) {
+        return file.getParentDirName() + "/" + file.toString();
+    }
+
+    /**
+     * <p>
+     * This method checks to see if the rule is one of the lists of top-level items in a module.
+     * </p>
+     *
+     * @param ruleIndex
+     *            A rule index in the {@link ResolveParser}.
+     *
+     * @return {@code true} if it is a list of top-level items, {@code false} otherwise.
+     */
+    private static boolean isItemsRule(int ruleIndex) {
+        switch (ruleIndex) {
+        case ResolveParser.RULE_precisItems:
+        case ResolveParser.RULE_facilityItems:
+        case ResolveParser.RULE_conceptItems:
+        case ResolveParser.RULE_conceptImplItems:
+        case ResolveParser.RULE_enhancementItems:
+        case ResolveParser.RULE_implItems:
+        case ResolveParser.RULE_conceptPerformanceItems:
+        case ResolveParser.RULE_enhancementPerformanceItems:
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * <p>
+     * This method lexes and parses the new version of a top-level item. We bail out on the first lexer or parser error,
+     * because the full parse is going to report it anyway.
+     * </p>
+     *
+     * @param file
+     *            A "meta" file.
+     * @param itemText
+     *            The source code for the item.
+     * @param oldItemCtx
+     *            The parse tree for the old version of the item.
+     *
+     * @return The parse tree for the new version of the item, or {@code null} if it doesn't parse by itself.
+     */
+    private static ParserRuleContext parseItem(ResolveFile file, String itemText, ParserRuleContext oldItemCtx) {
+        BaseErrorListener bailListener = new BaseErrorListener() {
+            @Override
+            public void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line,
+                    int charPositionInLine, String msg, RecognitionException e) {
+                throw new ParseCancellationException(msg, e);
+            }
+        };
+
+        // Create a RESOLVE language lexer that starts where the item starts
+        ResolveLexer lexer = new ResolveLexer(CharStreams.fromString(itemText, file.toString()));
+        ResolveTokenFactory factory = new ResolveTokenFactory(file);
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(bailListener);
+        lexer.setTokenFactory(factory);
+        lexer.setLine(oldItemCtx.getStart().getLine());
+        lexer.setCharPositionInLine(oldItemCtx.getStart().getCharPositionInLine());
+
+        // Create a RESOLVE language parser
+        CommonTokenStream tokens = new CommonTokenStream(lexer);
+        ResolveParser parser = new ResolveParser(tokens);
+        parser.removeErrorListeners();
+        parser.setTokenFactory(factory);
+        parser.setErrorHandler(new BailErrorStrategy());
+
+        // Same two-stage parsing as a full parse
+        ParserRuleContext newItemCtx;
+        try {
+            try {
+                parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+                newItemCtx = parseItemRule(parser, oldItemCtx.getRuleIndex());
+            } catch (ParseCancellationException ex) {
+                tokens.seek(0);
+                parser.reset();
+                parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+                newItemCtx = parseItemRule(parser, oldItemCtx.getRuleIndex());
+            }
+        } catch (ParseCancellationException ex) {
+            return null;
+        }
+
+        // The new source code must be exactly one item
+        if (newItemCtx == null || tokens.LA(1) != Token.EOF) {
+            return null;
+        }
+
+        return newItemCtx;
+    }
+
+    /**
+     * <p>
+     * This method parses a top-level item using the parser rule for the old version of the item.
+     * </p>
+     *
+     * @param parser
+     *            A RESOLVE language parser.
+     * @param ruleIndex
+     *            The rule index of the old version of the item.
+     *
+     * @return The parse tree for the item, or {@code null} if this isn't a top-level item rule.
+     */
+    private static ParserRuleContext parseItemRule(ResolveParser parser, int ruleIndex) {
+        ParserRuleContext itemCtx;
+        switch (ruleIndex) {
+        case ResolveParser.RULE_precisItem:
+            itemCtx = parser.precisItem();
+            break;
+        case ResolveParser.RULE_facilityItem:
+            itemCtx = parser.facilityItem();
+            break;
+        case ResolveParser.RULE_conceptItem:
+            itemCtx = parser.conceptItem();
+            break;
+        case ResolveParser.RULE_conceptImplItem:
+            itemCtx = parser.conceptImplItem();
+            break;
+        case ResolveParser.RULE_enhancementItem:
+            itemCtx = parser.enhancementItem();
+            break;
+        case ResolveParser.RULE_implItem:
+            itemCtx = parser.implItem();
+            break;
+        case ResolveParser.RULE_conceptPerformanceItem:
+            itemCtx = parser.conceptPerformanceItem();
+            break;
+        case ResolveParser.RULE_enhancementPerformanceItem:
+            itemCtx = parser.enhancementPerformanceItem();
+            break;
+        default:
+            itemCtx = null;
+            break;
+        }
+
+        return itemCtx;
+    }
+
+    /**
+     * <p>
+     * This method moves every token that comes after the end of the old item to its new line and column.
+     * </p>
+     *
+     * @param rootModuleCtx
+     *            The parse tree for the module.
+     * @param newItemCtx
+     *            The parse tree for the new item. These tokens are already in the right place.
+     * @param oldEndLine
+     *            The line where the old item ended.
+     * @param oldEndColumn
+     *            The column right after the end of the old item.
+     * @param lineDelta
+     *            The number of lines added by the edit.
+     * @param columnDelta
+     *            The number of columns added to the line where the old item ended.
+     */
+    private static void shiftTokens(ParserRuleContext rootModuleCtx, ParserRuleContext newItemCtx, int oldEndLine,
+            int oldEndColumn, int lineDelta, int columnDelta) {
+        Deque<ParseTree> remaining = new ArrayDeque<>();
+        remaining.push(rootModuleCtx);
+        while (!remaining.isEmpty()) {
+            ParseTree tree = remaining.pop();
+            if (tree instanceof TerminalNode) {
+                Token token = ((TerminalNode) tree).getSymbol();
+                if (token instanceof WritableToken && (token.getLine() > oldEndLine
+                        || (token.getLine() == oldEndLine && token.getCharPositionInLine() >= oldEndColumn))) {
+                    WritableToken writableToken = (WritableToken) token;
+                    if (token.getLine() == oldEndLine) {
+                        writableToken.setCharPositionInLine(token.getCharPositionInLine() + columnDelta);
+                    }
+                    writableToken.setLine(token.getLine() + lineDelta);
+                }
+            } else if (tree != newItemCtx) {
+                for (int i = 0; i < tree.getChildCount(); i++) {
+                    remaining.push(tree.getChild(i));
+                }
+            }
+        }
+    }
+
+    // ===========================================================
+    // Helper Constructs
+    // ===========================================================
+
+    /**
+     * <p>
+     * An helper construct that stores the last successfully parsed version of a file.
+     * </p>
+     */
+    private static class ParsedSource {
+
+        // ===========================================================
+        // Member Fields
+        // ===========================================================
+
+        /**
+         * <p>
+         * The source code that matches the parse tree.
+         * </p>
+         */
+        String text;
+
+        /**
+         * <p>
+         * The parse tree for the module.
+         * </p>
+         */
+        final ParserRuleContext rootModuleCtx;
+
+        /**
+         * <p>
+         * The parse tree that contains the module's top-level items. This is {@code null} if the module doesn't have
+         * any items.
+         * </p>
+         */
+        final ParserRuleContext itemsCtx;
+
+        /**
+         * <p>
+         * The index in {@link #text} where each top-level item starts.
+         * </p>
+         */
+        final int[] itemStarts;
+
+        /**
+         * <p>
+         * The index in {@link #text} right after the end of each top-level item.
+         * </p>
+         */
+        final int[] itemEnds;
+
+        // ===========================================================
+        // Constructors
+        // ===========================================================
+
+        /**
+         * <p>
+         * This constructs a structure to store a parsed file.
+         * </p>
+         *
+         * @param text
+         *            The source code that matches the parse tree.
+         * @param rootModuleCtx
+         *            The parse tree for the module.
+         * @param itemsCtx
+         *            The parse tree that contains the module's top-level items.
+         * @param itemStarts
+         *            The index where each top-level item starts.
+         * @param itemEnds
+         *            The index right after the end of each top-level item.
+         */
+        ParsedSource(String text, ParserRuleContext rootModuleCtx, ParserRuleContext itemsCtx, int[] itemStarts,
+                int[] itemEnds) {
+            this.text = text;
+            this.rootModuleCtx = rootModuleCtx;
+            this.itemsCtx = itemsCtx;
+            this.itemStarts = itemStarts;
+            this.itemEnds = itemEnds;
+        }
+
+    }
+
+}
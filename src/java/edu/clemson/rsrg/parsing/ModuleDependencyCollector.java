@@ -0,0 +1,220 @@
+/*
+ * ModuleDependencyCollector.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.parsing;
+
+import edu.clemson.rsrg.init.ResolveCompiler;
+import edu.clemson.rsrg.init.file.ResolveFileBasicInfo;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * <p>
+ * This class holds the rules for finding the modules that a file depends on. Both the {@link TreeBuildingListener} and
+ * the {@link ModuleDependencyListener} hand it the same parser tree nodes, so they always end up with the same module
+ * dependencies in the same order.
+ * </p>
+ *
+ * @version 1.0
+ */
+class ModuleDependencyCollector {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * All the different modules that the current file depend on.
+     * </p>
+     */
+    private final Map<ResolveFileBasicInfo, Boolean> myModuleDependencies;
+
+    // ===========================================================
+    // Constructors
+    // ===========================================================
+
+    /**
+     * <p>
+     * This creates a collector without any module dependencies.
+     * </p>
+     */
+    ModuleDependencyCollector() {
+        myModuleDependencies = new LinkedHashMap<>();
+    }
+
+    // ===========================================================
+    // Package Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method adds {@code Static_Array_Template} and its realization as module dependencies. Every program array
+     * type is converted into a new facility that instantiates them.
+     * </p>
+     */
+    final void addArrayFacilityDependencies() {
+        addNewModuleDependency("Static_Array_Template", "Static_Array_Template", false);
+        addNewModuleDependency("Std_Array_Realiz", "Static_Array_Template", true);
+    }
+
+    /**
+     * <p>
+     * This method adds the auto import list as module dependencies.
+     * </p>
+     */
+    final void addAutoImportDependencies() {
+        for (String name : ResolveCompiler.AUTO_IMPORT_FILES) {
+            addNewModuleDependency(name, "", false);
+        }
+    }
+
+    /**
+     * <p>
+     * This method adds the concept and the profile (if any) of a concept realization as module dependencies.
+     * </p>
+     *
+     * @param ctx
+     *            Concept impl module node in ANTLR4 AST.
+     */
+    final void addConceptImplDependencies(ResolveParser.ConceptImplModuleContext ctx) {
+        addNewModuleDependency(ctx.concept.getText(), ctx.concept.getText(), false);
+        if (ctx.profile != null) {
+            addNewModuleDependency(ctx.profile.getText(), ctx.concept.getText(), false);
+        }
+    }
+
+    /**
+     * <p>
+     * This method adds the concept of a concept profile as a module dependency.
+     * </p>
+     *
+     * @param ctx
+     *            Concept performance module node in ANTLR4 AST.
+     */
+    final void addConceptPerformanceDependencies(ResolveParser.ConceptPerformanceModuleContext ctx) {
+        addNewModuleDependency(ctx.concept.getText(), ctx.concept.getText(), false);
+    }
+
+    /**
+     * <p>
+     * This method adds the concept of an enhancement as a module dependency.
+     * </p>
+     *
+     * @param ctx
+     *            Enhancement module node in ANTLR4 AST.
+     */
+    final void addEnhancementDependencies(ResolveParser.EnhancementModuleContext ctx) {
+        addNewModuleDependency(ctx.concept.getText(), ctx.concept.getText(), false);
+    }
+
+    /**
+     * <p>
+     * This method adds the concept, the enhancement and the profile (if any) of an enhancement realization as module
+     * dependencies.
+     * </p>
+     *
+     * @param ctx
+     *            Enhancement impl module node in ANTLR4 AST.
+     */
+    final void addEnhancementImplDependencies(ResolveParser.EnhancementImplModuleContext ctx) {
+        addNewModuleDependency(ctx.concept.getText(), ctx.concept.getText(), false);
+        addNewModuleDependency(ctx.enhancement.getText(), ctx.concept.getText(), false);
+        if (ctx.profile != null) {
+            addNewModuleDependency(ctx.profile.getText(), ctx.concept.getText(), false);
+        }
+    }
+
+    /**
+     * <p>
+     * This method adds the concept, the concept profile and the enhancement of an enhancement profile as module
+     * dependencies.
+     * </p>
+     *
+     * @param ctx
+     *            Enhancement performance module node in ANTLR4 AST.
+     */
+    final void addEnhancementPerformanceDependencies(ResolveParser.EnhancementPerformanceModuleContext ctx) {
+        addNewModuleDependency(ctx.concept.getText(), ctx.concept.getText(), false);
+        addNewModuleDependency(ctx.conceptProfile.getText(), ctx.concept.getText(), false);
+        addNewModuleDependency(ctx.enhancement.getText(), ctx.concept.getText(), false);
+    }
+
+    /**
+     * <p>
+     * This method adds all the modules in a facility declaration as module dependencies.
+     * </p>
+     *
+     * @param ctx
+     *            Facility declaration node in ANTLR4 AST.
+     */
+    final void addFacilityDependencies(ResolveParser.FacilityDeclContext ctx) {
+        addNewModuleDependency(ctx.concept.getText(), ctx.concept.getText(), false);
+        addNewModuleDependency(ctx.impl.getText(), ctx.concept.getText(), ctx.externally != null);
+        if (ctx.profile != null) {
+            addNewModuleDependency(ctx.profile.getText(), ctx.concept.getText(), false);
+        }
+
+        for (ResolveParser.ConceptEnhancementDeclContext enhancementCtx : ctx.conceptEnhancementDecl()) {
+            addNewModuleDependency(enhancementCtx.spec.getText(), ctx.concept.getText(), false);
+        }
+
+        for (ResolveParser.EnhancementPairDeclContext enhancementPairCtx : ctx.enhancementPairDecl()) {
+            addNewModuleDependency(enhancementPairCtx.spec.getText(), ctx.concept.getText(), false);
+            addNewModuleDependency(enhancementPairCtx.impl.getText(), ctx.concept.getText(), false);
+        }
+    }
+
+    /**
+     * <p>
+     * This method adds the module we are importing as a module dependency.
+     * </p>
+     *
+     * @param ctx
+     *            Uses item node in ANTLR4 AST.
+     */
+    final void addUsesItemDependency(ResolveParser.UsesItemContext ctx) {
+        addNewModuleDependency(ctx.getStart().getText(), "", false);
+    }
+
+    /**
+     * <p>
+     * This method returns all the different modules that the current file depend on.
+     * </p>
+     *
+     * @return A map containing the module dependencies and whether or not they are externally realized.
+     */
+    final Map<ResolveFileBasicInfo, Boolean> getModuleDependencies() {
+        return myModuleDependencies;
+    }
+
+    // ===========================================================
+    // Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * An helper method that adds a new module dependency if it doesn't exist already.
+     * </p>
+     *
+     * @param filename
+     *            Name of the module.
+     * @param parentDirectoryName
+     *            Parent directory name.
+     * @param isExternallyRealiz
+     *            Boolean that indicates whether or not this is a Non-RESOLVE file.
+     */
+    private void addNewModuleDependency(String filename, String parentDirectoryName, boolean isExternallyRealiz) {
+        myModuleDependencies.putIfAbsent(new ResolveFileBasicInfo(filename, parentDirectoryName), isExternallyRealiz);
+    }
+
+}
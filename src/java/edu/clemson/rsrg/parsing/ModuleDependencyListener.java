@@ -0,0 +1,463 @@
+/*
+ * ModuleDependencyListener.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.parsing;
+
+import edu.clemson.rsrg.init.ResolveCompiler;
+import edu.clemson.rsrg.init.file.ResolveFile;
+import edu.clemson.rsrg.init.file.ResolveFileBasicInfo;
+import edu.clemson.rsrg.parsing.data.Location;
+import edu.clemson.rsrg.parsing.data.PosSymbol;
+import edu.clemson.rsrg.statushandling.exception.SourceErrorException;
+import java.util.Map;
+import org.antlr.v4.runtime.Token;
+
+/**
+ * <p>
+ * This is a lightweight alternative to the {@link TreeBuildingListener} that only finds the module's name and all the
+ * modules it depends on. It doesn't build any of the intermediate representation objects, so it can be used to build
+ * the import graph before we know which modules actually need their {@code AST}.
+ * </p>
+ *
+ * <p>
+ * Both listeners use a {@link ModuleDependencyCollector} to find the dependencies, so the result always matches the
+ * {@code ModuleDec}'s module dependencies.
+ * </p>
+ *
+ * @version 1.0
+ */
+class ModuleDependencyListener extends ResolveParserBaseListener {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * The current file we are scanning.
+     * </p>
+     */
+    private final ResolveFile myFile;
+
+    /**
+     * <p>
+     * The collector for all the different modules that the current file depend on.
+     * </p>
+     */
+    private final ModuleDependencyCollector myDependencyCollector;
+
+    /**
+     * <p>
+     * The name of the module declared in the current file.
+     * </p>
+     */
+    private String myModuleName;
+
+    // ===========================================================
+    // Constructors
+    // ===========================================================
+
+    /**
+     * <p>
+     * Create a listener that walks the compiler generated ANTLR4 parser tree and collects the module dependencies.
+     * </p>
+     *
+     * @param file
+     *            The current file we are scanning.
+     */
+    ModuleDependencyListener(ResolveFile file) {
+        myFile = file;
+        myDependencyCollector = new ModuleDependencyCollector();
+        myModuleName = null;
+    }
+
+    // ===========================================================
+    // Visitor Methods
+    // ===========================================================
+
+    // -----------------------------------------------------------
+    // Module Headers
+    // -----------------------------------------------------------
+
+    /**
+     * {@inheritDoc} <br>
+     * <p>
+     * Checks to see if the {@link ResolveFile} name matches the open and close names given in the file.
+     * </p>
+     *
+     * @param ctx
+     *            Precis module node in ANTLR4 AST.
+     */
+    @Override
+    public void enterPrecisModule(ResolveParser.PrecisModuleContext ctx) {
+        checkModuleName("Precis", ctx.name, ctx.closename);
+    }
+
+    /**
+     * {@inheritDoc} <br>
+     * <p>
+     * Checks to see if the {@link ResolveFile} name matches the open and close names given in the file.
+     * </p>
+     *
+     * @param ctx
+     *            Facility module node in ANTLR4 AST.
+     */
+    @Override
+    public void enterFacilityModule(ResolveParser.FacilityModuleContext ctx) {
+        checkModuleName("Facility", ctx.name, ctx.closename);
+    }
+
+    /**
+     * {@inheritDoc} <br>
+     * <p>
+     * This method adds any auto import files as module dependencies.
+     * </p>
+     *
+     * @param ctx
+     *            Facility module node in ANTLR4 AST.
+     */
+    @Override
+    public void exitFacilityModule(ResolveParser.FacilityModuleContext ctx) {
+        addAutoImportDependencies();
+    }
+
+    /**
+     * {@inheritDoc} <br>
+     * <p>
+     * The name of a short facility module is the name of its facility declaration.
+     * </p>
+     *
+     * @param ctx
+     *            Short facility module node in ANTLR4 AST.
+     */
+    @Override
+    public void enterShortFacilityModule(ResolveParser.ShortFacilityModuleContext ctx) {
+        myModuleName = ctx.facilityDecl().name.getText();
+    }
+
+    /**
+     * {@inheritDoc} <br>
+     * <p>
+     * Checks to see if the {@link ResolveFile} name matches the open and close names given in the file.
+     * </p>
+     *
+     * @param ctx
+     *            Concept module node in ANTLR4 AST.
+     */
+    @Override
+    public void enterConceptModule(ResolveParser.ConceptModuleContext ctx) {
+        checkModuleName("Concept", ctx.name, ctx.closename);
+    }
+
+    /**
+     * {@inheritDoc} <br>
+     * <p>
+     * This method adds any auto import files as module dependencies.
+     * </p>
+     *
+     * @param ctx
+     *            Concept module node in ANTLR4 AST.
+     */
+    @Override
+    public void exitConceptModule(ResolveParser.ConceptModuleContext ctx) {
+        addAutoImportDependencies();
+    }
+
+    /**
+     * {@inheritDoc} <br>
+     * <p>
+     * Checks to see if the {@link ResolveFile} name matches the open and close names given in the file.
+     * </p>
+     *
+     * @param ctx
+     *            Concept impl module node in ANTLR4 AST.
+     */
+    @Override
+    public void enterConceptImplModule(ResolveParser.ConceptImplModuleContext ctx) {
+        checkModuleName("Concept realization", ctx.name, ctx.closename);
+    }
+
+    /**
+     * {@inheritDoc} <br>
+     * <p>
+     * This method adds any auto import files, the concept and the profile (if any) as module dependencies.
+     * </p>
+     *
+     * @param ctx
+     *            Concept impl module node in ANTLR4 AST.
+     */
+    @Override
+    public void exitConceptImplModule(ResolveParser.ConceptImplModuleContext ctx) {
+        addAutoImportDependencies();
+        myDependencyCollector.addConceptImplDependencies(ctx);
+    }
+
+    /**
+     * {@inheritDoc} <br>
+     * <p>
+     * Checks to see if the {@link ResolveFile} name matches the open and close names given in the file.
+     * </p>
+     *
+     * @param ctx
+     *            Enhancement module node in ANTLR4 AST.
+     */
+    @Override
+    public void enterEnhancementModule(ResolveParser.EnhancementModuleContext ctx) {
+        checkModuleName("Enhancement", ctx.name, ctx.closename);
+    }
+
+    /**
+     * {@inheritDoc} <br>
+     * <p>
+     * This method adds any auto import files and the concept as module dependencies.
+     * </p>
+     *
+     * @param ctx
+     *            Enhancement module node in ANTLR4 AST.
+     */
+    @Override
+    public void exitEnhancementModule(ResolveParser.EnhancementModuleContext ctx) {
+        addAutoImportDependencies();
+        myDependencyCollector.addEnhancementDependencies(ctx);
+    }
+
+    /**
+     * {@inheritDoc} <br>
+     * <p>
+     * Checks to see if the {@link ResolveFile} name matches the open and close names given in the file.
+     * </p>
+     *
+     * @param ctx
+     *            Enhancement impl module node in ANTLR4 AST.
+     */
+    @Override
+    public void enterEnhancementImplModule(ResolveParser.EnhancementImplModuleContext ctx) {
+        checkModuleName("Enhancement realization", ctx.name, ctx.closename);
+    }
+
+    /**
+     * {@inheritDoc} <br>
+     * <p>
+     * This method adds any auto import files, the concept, the enhancement and the profile (if any) as module
+     * dependencies.
+     * </p>
+     *
+     * @param ctx
+     *            Enhancement impl module node in ANTLR4 AST.
+     */
+    @Override
+    public void exitEnhancementImplModule(ResolveParser.EnhancementImplModuleContext ctx) {
+        addAutoImportDependencies();
+        myDependencyCollector.addEnhancementImplDependencies(ctx);
+    }
+
+    /**
+     * {@inheritDoc} <br>
+     * <p>
+     * Checks to see if the {@link ResolveFile} name matches the open and close names given in the file.
+     * </p>
+     *
+     * @param ctx
+     *            Concept performance module node in ANTLR4 AST.
+     */
+    @Override
+    public void enterConceptPerformanceModule(ResolveParser.ConceptPerformanceModuleContext ctx) {
+        checkModuleName("Concept profile", ctx.name, ctx.closename);
+    }
+
+    /**
+     * {@inheritDoc} <br>
+     * <p>
+     * This method adds any auto import files and the concept as module dependencies.
+     * </p>
+     *
+     * @param ctx
+     *            Concept performance module node in ANTLR4 AST.
+     */
+    @Override
+    public void exitConceptPerformanceModule(ResolveParser.ConceptPerformanceModuleContext ctx) {
+        addAutoImportDependencies();
+        myDependencyCollector.addConceptPerformanceDependencies(ctx);
+    }
+
+    /**
+     * {@inheritDoc} <br>
+     * <p>
+     * Checks to see if the {@link ResolveFile} name matches the open and close names given in the file.
+     * </p>
+     *
+     * @param ctx
+     *            Enhancement performance module node in ANTLR4 AST.
+     */
+    @Override
+    public void enterEnhancementPerformanceModule(ResolveParser.EnhancementPerformanceModuleContext ctx) {
+        checkModuleName("Concept profile", ctx.name, ctx.closename);
+    }
+
+    /**
+     * {@inheritDoc} <br>
+     * <p>
+     * This method adds any auto import files, the concept, the concept profile and the enhancement as module
+     * dependencies.
+     * </p>
+     *
+     * @param ctx
+     *            Enhancement performance module node in ANTLR4 AST.
+     */
+    @Override
+    public void exitEnhancementPerformanceModule(ResolveParser.EnhancementPerformanceModuleContext ctx) {
+        addAutoImportDependencies();
+        myDependencyCollector.addEnhancementPerformanceDependencies(ctx);
+    }
+
+    // -----------------------------------------------------------
+    // Uses Items (Imports)
+    // -----------------------------------------------------------
+
+    /**
+     * {@inheritDoc} <br>
+     * <p>
+     * This method adds the module we are importing as a module dependency.
+     * </p>
+     *
+     * @param ctx
+     *            Uses item node in ANTLR4 AST.
+     */
+    @Override
+    public void exitUsesItem(ResolveParser.UsesItemContext ctx) {
+        myDependencyCollector.addUsesItemDependency(ctx);
+    }
+
+    // -----------------------------------------------------------
+    // Facility declarations
+    // -----------------------------------------------------------
+
+    /**
+     * {@inheritDoc} <br>
+     * <p>
+     * This method adds all the modules in the facility declaration as module dependencies.
+     * </p>
+     *
+     * @param ctx
+     *            Facility declaration node in ANTLR4 AST.
+     */
+    @Override
+    public void exitFacilityDecl(ResolveParser.FacilityDeclContext ctx) {
+        myDependencyCollector.addFacilityDependencies(ctx);
+    }
+
+    // -----------------------------------------------------------
+    // Program Array Types
+    // -----------------------------------------------------------
+
+    /**
+     * {@inheritDoc} <br>
+     * <p>
+     * Every program array type is converted into a new {@code Static_Array_Template} facility, so we add it and its
+     * realization as module dependencies.
+     * </p>
+     *
+     * @param ctx
+     *            Program array type node in ANTLR4 AST.
+     */
+    @Override
+    public void exitProgramArrayType(ResolveParser.ProgramArrayTypeContext ctx) {
+        myDependencyCollector.addArrayFacilityDependencies();
+    }
+
+    // ===========================================================
+    // Package Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method returns all the different modules that the current file depend on.
+     * </p>
+     *
+     * @return A map containing the module dependencies and whether or not they are externally realized.
+     */
+    final Map<ResolveFileBasicInfo, Boolean> getModuleDependencies() {
+        return myDependencyCollector.getModuleDependencies();
+    }
+
+    /**
+     * <p>
+     * This method returns the name of the module declared in the current file.
+     * </p>
+     *
+     * @return The module name.
+     */
+    final String getModuleName() {
+        return myModuleName;
+    }
+
+    // ===========================================================
+    // Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * An helper method that adds the auto import list as module dependencies, unless the current module is part of the
+     * no auto import list.
+     * </p>
+     */
+    private void addAutoImportDependencies() {
+        if (!ResolveCompiler.NO_AUTO_IMPORT_EXCEPTION_LIST.contains(myModuleName)) {
+            myDependencyCollector.addAutoImportDependencies();
+        }
+    }
+
+    /**
+     * <p>
+     * An helper method that checks to see if the {@link ResolveFile} name matches the open and close names given in the
+     * file and records the module's name.
+     * </p>
+     *
+     * @param moduleKind
+     *            The kind of module used in the error message.
+     * @param name
+     *            The token containing the open name.
+     * @param closename
+     *            The token containing the close name.
+     *
+     * @throws SourceErrorException
+     *             One of the names doesn't match the filename.
+     */
+    private void checkModuleName(String moduleKind, Token name, Token closename) {
+        if (!myFile.getName().equals(name.getText())) {
+            throw new SourceErrorException(moduleKind + " name does not match filename.", createPosSymbol(name),
+                    new IllegalArgumentException());
+        }
+
+        if (!myFile.getName().equals(closename.getText())) {
+            throw new SourceErrorException("End name does not match the filename.", createPosSymbol(closename),
+                    new IllegalArgumentException());
+        }
+
+        myModuleName = name.getText();
+    }
+
+    /**
+     * <p>
+     * Create a symbol representation for the current parser token we are visiting.
+     * </p>
+     *
+     * @param t
+     *            The visiting ANTLR4 parser token.
+     *
+     * @return A {@link PosSymbol} for the rule.
+     */
+    private PosSymbol createPosSymbol(Token t) {
+        return new PosSymbol(new Location(myFile, t.getLine(), t.getCharPositionInLine()), t.getText());
+    }
+
+}
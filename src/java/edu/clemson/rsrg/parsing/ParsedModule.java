@@ -0,0 +1,210 @@
+/*
+ * ParsedModule.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.parsing;
+
+import edu.clemson.rsrg.absyn.declarations.moduledecl.ModuleDec;
+import edu.clemson.rsrg.init.file.ResolveFile;
+import edu.clemson.rsrg.init.file.ResolveFileBasicInfo;
+import edu.clemson.rsrg.typeandpopulate.typereasoning.TypeGraph;
+import java.util.Map;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+
+/**
+ * <p>
+ * This class stores a module that has been parsed, but whose {@link ModuleDec} might not have been built yet. The
+ * module's name and dependencies are always available, so we can build the import graph right away. The
+ * {@link ModuleDec} is only built (using the {@link TreeBuildingListener}) the first time someone asks for it.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class ParsedModule {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * The file that contains this module.
+     * </p>
+     */
+    private final ResolveFile myFile;
+
+    /**
+     * <p>
+     * The inner representation for this module. This is {@code null} until someone asks for it.
+     * </p>
+     */
+    private volatile ModuleDec myModuleDec;
+
+    /**
+     * <p>
+     * All the different modules that this module depend on.
+     * </p>
+     */
+    private final Map<ResolveFileBasicInfo, Boolean> myModuleDependencies;
+
+    /**
+     * <p>
+     * The name of this module.
+     * </p>
+     */
+    private final String myModuleName;
+
+    /**
+     * <p>
+     * The ANTLR4 parse tree for this module. We don't need it anymore once the {@link ModuleDec} has been built.
+     * </p>
+     */
+    private ParserRuleContext myParseTree;
+
+    /**
+     * <p>
+     * This is the math type graph that indicates relationship between different math types.
+     * </p>
+     */
+    private final TypeGraph myTypeGraph;
+
+    // ===========================================================
+    // Constructors
+    // ===========================================================
+
+    /**
+     * <p>
+     * This creates an object for a module whose {@link ModuleDec} has already been built.
+     * </p>
+     *
+     * @param file
+     *            The file that contains this module.
+     * @param moduleDec
+     *            The inner representation for this module.
+     */
+    public ParsedModule(ResolveFile file, ModuleDec moduleDec) {
+        myFile = file;
+        myModuleDec = moduleDec;
+        myModuleDependencies = moduleDec.getModuleDependencies();
+        myModuleName = moduleDec.getName().getName();
+        myParseTree = null;
+        myTypeGraph = null;
+    }
+
+    /**
+     * <p>
+     * This creates an object for a module whose {@link ModuleDec} will be built from the specified parse tree when it
+     * is needed.
+     * </p>
+     *
+     * @param file
+     *            The file that contains this module.
+     * @param moduleName
+     *            The name of this module.
+     * @param moduleDependencies
+     *            All the different modules that this module depend on.
+     * @param parseTree
+     *            The ANTLR4 parse tree for this module.
+     * @param typeGraph
+     *            Type graph that indicates relationship between different mathematical types.
+     */
+    ParsedModule(ResolveFile file, String moduleName, Map<ResolveFileBasicInfo, Boolean> moduleDependencies,
+            ParserRuleContext parseTree, TypeGraph typeGraph) {
+        myFile = file;
+        myModuleDec = null;
+        myModuleDependencies = moduleDependencies;
+        myModuleName = moduleName;
+        myParseTree = parseTree;
+        myTypeGraph = typeGraph;
+    }
+
+    // ===========================================================
+    // Public Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method returns the file that contains this module.
+     * </p>
+     *
+     * @return A {@link ResolveFile}.
+     */
+    public final ResolveFile getFile() {
+        return myFile;
+    }
+
+    /**
+     * <p>
+     * This method returns the inner representation for this module, building it if this is the first time anyone has
+     * asked for it.
+     * </p>
+     *
+     * @return A {@link ModuleDec}.
+     */
+    public final ModuleDec getModuleDec() {
+        ModuleDec moduleDec = myModuleDec;
+        if (moduleDec == null) {
+            synchronized (this) {
+                moduleDec = myModuleDec;
+                if (moduleDec == null) {
+                    TreeBuildingListener v = new TreeBuildingListener(myFile, myTypeGraph);
+                    ParseTreeWalker.DEFAULT.walk(v, myParseTree);
+                    moduleDec = v.getModule();
+
+                    myModuleDec = moduleDec;
+
+                    // The tokens in the parse tree refer to the source code, so we
+                    // can only release the source code once we drop the parse tree.
+                    myParseTree = null;
+                    myFile.releaseSource();
+                }
+            }
+        }
+
+        return moduleDec;
+    }
+
+    /**
+     * <p>
+     * This method returns all the different modules that this module depend on. This never requires building the
+     * {@link ModuleDec}.
+     * </p>
+     *
+     * @return A map containing the module dependencies and whether or not they are externally realized.
+     */
+    public final Map<ResolveFileBasicInfo, Boolean> getModuleDependencies() {
+        return myModuleDependencies;
+    }
+
+    /**
+     * <p>
+     * This method returns the name of this module.
+     * </p>
+     *
+     * @return The module name.
+     */
+    public final String getModuleName() {
+        return myModuleName;
+    }
+
+    /**
+     * <p>
+     * This method checks to see if the {@link ModuleDec} for this module has been built.
+     * </p>
+     *
+     * @return {@code true} if it has been built, {@code false} otherwise.
+     */
+    public final boolean isModuleDecBuilt() {
+        return myModuleDec != null;
+    }
+
+}
@@ -0,0 +1,425 @@
+/*
+ * ParserService.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.parsing;
+
+import edu.clemson.rsrg.absyn.declarations.moduledecl.ModuleDec;
+import edu.clemson.rsrg.init.CompileEnvironment;
+import edu.clemson.rsrg.init.file.ModuleType;
+import edu.clemson.rsrg.init.file.ResolveFile;
+import edu.clemson.rsrg.init.file.ResolveFileBasicInfo;
+import edu.clemson.rsrg.init.metrics.CompilerMetrics;
+import edu.clemson.rsrg.init.metrics.ModuleParseEvent;
+import edu.clemson.rsrg.misc.Utilities;
+import edu.clemson.rsrg.parsing.data.ResolveTokenFactory;
+import edu.clemson.rsrg.statushandling.exception.MiscErrorException;
+import java.io.File;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.Interval;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+
+/**
+ * <p>
+ * This class turns {@link ResolveFile ResolveFiles} into {@link ModuleDec ModuleDecs}. There is only one of these per
+ * {@link CompileEnvironment}, so everything it learns is shared by every compilation that uses the same environment
+ * (for example, every request served by the compiler daemon).
+ * </p>
+ *
+ * <p>
+ * The generated {@link ResolveParser} already stores its prediction {@code DFA} and its {@code PredictionContextCache}
+ * in static, thread-safe fields, so every parser created in this {@code JVM} shares the same prediction cache. What
+ * this class adds on top of that is:
+ * </p>
+ * <ul>
+ * <li>A two-stage parse that bails out of the {@code SLL} prediction mode as soon as it hits a syntax error, instead of
+ * letting the error strategy recover and finishing a parse that we are going to throw away.</li>
+ * <li>A per-module memory of the files that needed the {@code LL} prediction mode, so the next time we parse one of
+ * them, we skip the {@code SLL} attempt that we know is going to fail. Since this only depends on the file's tokens, we
+ * also remember a fingerprint of the token types and try {@code SLL} again as soon as they change.</li>
+ * <li>A way to warm up the prediction cache by quietly parsing the standard library before any requests come in.</li>
+ * <li>If the compilation environment has an {@link IncrementalParser}, "meta" files sent to us by an editor only have
+ * their edited top-level item parsed again.</li>
+ * </ul>
+ *
+ * @version 1.0
+ */
+public class ParserService {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * The current job's compilation environment that stores all necessary objects and flags.
+     * </p>
+     */
+    private final CompileEnvironment myCompileEnvironment;
+
+    /**
+     * <p>
+     * The files (keyed by their path) that couldn't be parsed using the {@code SLL} prediction mode, along with the
+     * fingerprint of the token types we parsed.
+     * </p>
+     */
+    private final Map<String, Integer> myLLModules;
+
+    // ===========================================================
+    // Constructors
+    // ===========================================================
+
+    /**
+     * <p>
+     * This creates a parser service for the specified compilation environment.
+     * </p>
+     *
+     * @param compileEnvironment
+     *            The current job's compilation environment that stores all necessary objects and flags.
+     */
+    public ParserService(CompileEnvironment compileEnvironment) {
+        myCompileEnvironment = compileEnvironment;
+        myLLModules = new ConcurrentHashMap<>();
+    }
+
+    // ===========================================================
+    // Public Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method uses the {@link ResolveFile} provided to construct a parser and create the module AST. Any syntax
+     * errors are reported to the specified error listeners.
+     * </p>
+     *
+     * @param file
+     *            The RESOLVE file that we are going to parse.
+     * @param lexerErrorListener
+     *            The error listener for the lexer.
+     * @param parserErrorListener
+     *            The error listener for the parser.
+     *
+     * @return The inner representation for a module. See {@link ModuleDec}.
+     *
+     * @throws MiscErrorException
+     *             Some how we couldn't instantiate an {@link CharStream} or the file contains syntax errors.
+     */
+    public final ModuleDec parse(ResolveFile file, ANTLRErrorListener lexerErrorListener,
+            ANTLRErrorListener parserErrorListener) {
+        ModuleParseEvent event = new ModuleParseEvent(file.getName());
+        event.begin();
+
+        try {
+            ParserRuleContext rootModuleCtx = parseTree(file, lexerErrorListener, parserErrorListener, event, true);
+
+            // Build the intermediate representation
+            TreeBuildingListener v = new TreeBuildingListener(file, myCompileEnvironment.getTypeGraph());
+            ParseTreeWalker.DEFAULT.walk(v, rootModuleCtx);
+
+            return v.getModule();
+        } finally {
+            event.commit();
+        }
+    }
+
+    /**
+     * <p>
+     * This method parses the {@link ResolveFile} provided, but only finds the module's name and dependencies. The
+     * {@link ModuleDec} is built the first time someone asks the returned {@link ParsedModule} for it. Any syntax
+     * errors are reported to the specified error listeners.
+     * </p>
+     *
+     * @param file
+     *            The RESOLVE file that we are going to parse.
+     * @param lexerErrorListener
+     *            The error listener for the lexer.
+     * @param parserErrorListener
+     *            The error listener for the parser.
+     *
+     * @return A {@link ParsedModule} that builds its {@link ModuleDec} when needed.
+     *
+     * @throws MiscErrorException
+     *             Some how we couldn't instantiate an {@link CharStream} or the file contains syntax errors.
+     */
+    public final ParsedModule parseHeader(ResolveFile file, ANTLRErrorListener lexerErrorListener,
+            ANTLRErrorListener parserErrorListener) {
+        return parseHeader(file, lexerErrorListener, parserErrorListener, true);
+    }
+
+    /**
+     * <p>
+     * This method quietly parses the specified modules, along with everything they import, using a background thread.
+     * This doesn't change the outcome of any compilation, but the next time we see any of these modules, the shared
+     * prediction cache is already populated and we know which prediction mode to use. These parses are not included in
+     * the compiler's metrics.
+     * </p>
+     *
+     * @param moduleNames
+     *            The names of the modules to be parsed.
+     *
+     * @return A future that completes once every module has been parsed.
+     */
+    public final CompletableFuture<Void> prewarm(Collection<String> moduleNames) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        Thread thread = new Thread(() -> {
+            try {
+                prewarmModules(moduleNames);
+                future.complete(null);
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        }, "RESOLVE-Parser-Prewarm");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        thread.start();
+
+        return future;
+    }
+
+    // ===========================================================
+    // Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * An helper method that computes a fingerprint of the types of all the tokens in the stream. The {@code SLL}
+     * prediction mode only looks at token types, so two versions of a file with the same fingerprint are (barring
+     * collisions) going to need the same prediction mode.
+     * </p>
+     *
+     * @param tokens
+     *            A token stream that has been filled.
+     *
+     * @return The fingerprint.
+     */
+    private static int computeTokenFingerprint(CommonTokenStream tokens) {
+        int result = 1;
+        for (Token token : tokens.getTokens()) {
+            result = 31 * result + token.getType();
+        }
+
+        return result;
+    }
+
+    /**
+     * <p>
+     * An helper method that increments one of the compiler's counters if we are collecting metrics.
+     * </p>
+     *
+     * @param counterName
+     *            Name of the counter.
+     * @param collectMetrics
+     *            {@code false} if this parse shouldn't be included in the metrics, {@code true} otherwise.
+     */
+    private void incrementCounter(String counterName, boolean collectMetrics) {
+        CompilerMetrics metrics = myCompileEnvironment.getMetrics();
+        if (collectMetrics && metrics != null) {
+            metrics.incrementCounter(counterName);
+        }
+    }
+
+    /**
+     * <p>
+     * This method parses the {@link ResolveFile} provided, but only finds the module's name and dependencies.
+     * </p>
+     *
+     * @param file
+     *            The RESOLVE file that we are going to parse.
+     * @param lexerErrorListener
+     *            The error listener for the lexer.
+     * @param parserErrorListener
+     *            The error listener for the parser.
+     * @param collectMetrics
+     *            {@code false} if this parse shouldn't be included in the metrics, {@code true} otherwise.
+     *
+     * @return A {@link ParsedModule} that builds its {@link ModuleDec} when needed.
+     *
+     * @throws MiscErrorException
+     *             Some how we couldn't instantiate an {@link CharStream} or the file contains syntax errors.
+     */
+    private ParsedModule parseHeader(ResolveFile file, ANTLRErrorListener lexerErrorListener,
+            ANTLRErrorListener parserErrorListener, boolean collectMetrics) {
+        ModuleParseEvent event = new ModuleParseEvent(file.getName());
+        event.begin();
+
+        try {
+            ParserRuleContext rootModuleCtx = parseTree(file, lexerErrorListener, parserErrorListener, event,
+                    collectMetrics);
+
+            // Only look for the module dependencies
+            ModuleDependencyListener v = new ModuleDependencyListener(file);
+            ParseTreeWalker.DEFAULT.walk(v, rootModuleCtx);
+
+            return new ParsedModule(file, v.getModuleName(), v.getModuleDependencies(), rootModuleCtx,
+                    myCompileEnvironment.getTypeGraph());
+        } finally {
+            event.commit();
+        }
+    }
+
+    /**
+     * <p>
+     * This method parses the {@link ResolveFile} provided into an ANTLR4 parse tree.
+     * </p>
+     *
+     * @param file
+     *            The RESOLVE file that we are going to parse.
+     * @param lexerErrorListener
+     *            The error listener for the lexer.
+     * @param parserErrorListener
+     *            The error listener for the parser.
+     * @param event
+     *            The event that records this parse.
+     * @param collectMetrics
+     *            {@code false} if this parse shouldn't be included in the metrics, {@code true} otherwise.
+     *
+     * @return The root of the parse tree.
+     *
+     * @throws MiscErrorException
+     *             Some how we couldn't instantiate an {@link CharStream} or the file contains syntax errors.
+     */
+    private ParserRuleContext parseTree(ResolveFile file, ANTLRErrorListener lexerErrorListener,
+            ANTLRErrorListener parserErrorListener, ModuleParseEvent event, boolean collectMetrics) {
+        CharStream input = file.getInputStream();
+        if (input == null) {
+            throw new MiscErrorException("CharStream null", new IllegalArgumentException());
+        }
+
+        // Attempt to only re-parse the part of a "meta" file that was edited
+        IncrementalParser incrementalParser = myCompileEnvironment.getIncrementalParser();
+        String text = null;
+        if (incrementalParser != null && file.isMetaFile()) {
+            text = input.getText(Interval.of(0, input.size() - 1));
+            ParserRuleContext rootModuleCtx = incrementalParser.reparse(file, text);
+            if (rootModuleCtx != null) {
+                incrementCounter(CompilerMetrics.COUNTER_INCREMENTAL_REPARSES, collectMetrics);
+                return rootModuleCtx;
+            }
+        }
+
+        // Create a RESOLVE language lexer
+        ResolveLexer lexer = new ResolveLexer(input);
+        ResolveTokenFactory factory = new ResolveTokenFactory(file);
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(lexerErrorListener);
+        lexer.setTokenFactory(factory);
+
+        // Create a RESOLVE language parser
+        CommonTokenStream tokens = new CommonTokenStream(lexer);
+        ResolveParser parser = new ResolveParser(tokens);
+        parser.removeErrorListeners();
+        parser.setTokenFactory(factory);
+
+        // Two-Stage Parsing
+        // Reason: We might not need the full power of LL.
+        // The solution proposed by the ANTLR folks (found here:
+        // https://github.com/antlr/antlr4/blob/master/doc/faq/general.md)
+        // is to use SLL prediction mode first and switch to LL if it fails.
+        // The SLL stage needs to bail out on the first error, otherwise the
+        // default error strategy would recover and we would never switch.
+        // Whether SLL fails only depends on the token types, so we skip it if
+        // we have seen these exact tokens fail before.
+        tokens.fill();
+        int tokenFingerprint = computeTokenFingerprint(tokens);
+        ParserRuleContext rootModuleCtx = null;
+        Integer llFingerprint = myLLModules.get(file.getFilePath());
+        if (llFingerprint != null && llFingerprint == tokenFingerprint) {
+            incrementCounter(CompilerMetrics.COUNTER_SLL_SKIPPED, collectMetrics);
+        } else {
+            parser.setErrorHandler(new BailErrorStrategy());
+            parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+            try {
+                rootModuleCtx = parser.module();
+            } catch (ParseCancellationException ex) {
+                incrementCounter(CompilerMetrics.COUNTER_LL_FALLBACKS, collectMetrics);
+                tokens.seek(0);
+                parser.reset();
+            }
+        }
+
+        if (rootModuleCtx == null) {
+            event.setUsedLLFallback();
+            parser.setErrorHandler(new DefaultErrorStrategy());
+            parser.addErrorListener(parserErrorListener);
+            parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+            rootModuleCtx = parser.module();
+
+            // Check for any parsing errors
+            int numParserErrors = parser.getNumberOfSyntaxErrors();
+            if (numParserErrors != 0) {
+                // A file with syntax errors fails both stages, so it doesn't tell us
+                // anything about whether or not the file needs LL.
+                myLLModules.remove(file.getFilePath());
+                if (text != null) {
+                    incrementalParser.forget(file);
+                }
+                throw new MiscErrorException("Found " + numParserErrors + " errors while parsing " + file.toString(),
+                        new IllegalStateException());
+            }
+
+            myLLModules.put(file.getFilePath(), tokenFingerprint);
+        } else {
+            // SLL works for this version of the file
+            myLLModules.remove(file.getFilePath());
+        }
+
+        // Remember the parse tree, so the next edit can be parsed incrementally
+        if (text != null) {
+            incrementalParser.remember(file, text, rootModuleCtx);
+        }
+
+        return rootModuleCtx;
+    }
+
+    /**
+     * <p>
+     * This method parses the specified modules and everything they import, one at a time. Any module that can't be
+     * located or contains syntax errors is simply skipped.
+     * </p>
+     *
+     * @param moduleNames
+     *            The names of the modules to be parsed.
+     */
+    private void prewarmModules(Collection<String> moduleNames) {
+        File workspaceDir = myCompileEnvironment.getWorkspaceDir();
+        Deque<String> remaining = new ArrayDeque<>(moduleNames);
+        Set<String> seen = new HashSet<>(moduleNames);
+        BaseErrorListener quietListener = new BaseErrorListener();
+
+        while (!remaining.isEmpty()) {
+            String moduleName = remaining.poll();
+            ParsedModule module;
+            try {
+                File actualFile = myCompileEnvironment.getWorkspaceIndex().getFile(moduleName,
+                        ModuleType.getAllExtensions(), workspaceDir.toPath());
+                ResolveFile file = Utilities.convertToResolveFile(actualFile,
+                        Utilities.getModuleType(actualFile.getName()), workspaceDir.getAbsolutePath());
+                module = parseHeader(file, quietListener, quietListener, false);
+            } catch (IOException | RuntimeException e) {
+                // Let the actual compilation report any problems with this module.
+                continue;
+            }
+
+            for (ResolveFileBasicInfo importInfo : module.getModuleDependencies().keySet()) {
+                if (seen.add(importInfo.getName())) {
+                    remaining.add(importInfo.getName());
+                }
+            }
+        }
+    }
+
+}
@@ -49,7 +49,6 @@ import edu.clemson.rsrg.absyn.rawtypes.Ty;
 import edu.clemson.rsrg.absyn.statements.*;
 import edu.clemson.rsrg.init.ResolveCompiler;
 import edu.clemson.rsrg.init.file.ResolveFile;
-import edu.clemson.rsrg.init.file.ResolveFileBasicInfo;
 import edu.clemson.rsrg.misc.Utilities;
 import edu.clemson.rsrg.parsing.data.Location;
 import edu.clemson.rsrg.parsing.data.PosSymbol;
@@ -57,12 +56,16 @@ import edu.clemson.rsrg.parsing.sanitychecking.ValidFunctionOpDeclChecker;
 import edu.clemson.rsrg.parsing.sanitychecking.ValidSharedStateChecker;
 import edu.clemson.rsrg.parsing.sanitychecking.ValidTypeFamilyChecker;
 import edu.clemson.rsrg.parsing.utilities.SyntacticSugarConverter;
+import edu.clemson.rsrg.statushandling.exception.MiscErrorException;
 import edu.clemson.rsrg.statushandling.exception.SourceErrorException;
 import edu.clemson.rsrg.treewalk.TreeWalker;
 import edu.clemson.rsrg.typeandpopulate.entry.ProgramParameterEntry;
 import edu.clemson.rsrg.typeandpopulate.entry.SymbolTableEntry;
 import edu.clemson.rsrg.typeandpopulate.typereasoning.TypeGraph;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
 import org.antlr.v4.runtime.*;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.antlr.v4.runtime.tree.ParseTreeProperty;
@@ -154,10 +157,19 @@ public class TreeBuildingListener extends ResolveParserBaseListener {
 
     /**
      * <p>
-     * All the different modules that the current file depend on.
+     * The syntactic sugar conversions that are still running for procedure bodies. These are keyed by the procedure
+     * declaration before the conversion, which is what we store in {@link #myNodes} until the enclosing module collects
+     * its declarations.
      * </p>
      */
-    private final Map<ResolveFileBasicInfo, Boolean> myModuleDependencies;
+    private final Map<Dec, CompletableFuture<Dec>> myPendingConversions;
+
+    /**
+     * <p>
+     * The collector for all the different modules that the current file depend on.
+     * </p>
+     */
+    private final ModuleDependencyCollector myDependencyCollector;
 
     /**
      * <p>
@@ -208,7 +220,8 @@ public class TreeBuildingListener extends ResolveParserBaseListener {
         myCopyTRList = new ArrayList<>();
         myCopySSRList = new ArrayList<>();
         myNewElementCounter = 0;
-        myModuleDependencies = new LinkedHashMap<>();
+        myPendingConversions = new IdentityHashMap<>();
+        myDependencyCollector = new ModuleDependencyCollector();
     }
 
     // ===========================================================
@@ -278,7 +291,7 @@ public class TreeBuildingListener extends ResolveParserBaseListener {
                 ctx.precisItems() != null ? ctx.precisItems().precisItem() : new ArrayList<ParseTree>(), myNodes);
 
         PrecisModuleDec precis = new PrecisModuleDec(createLocation(ctx), createPosSymbol(ctx.name), parameterDecls,
-                uses, decls, myModuleDependencies);
+                uses, decls, myDependencyCollector.getModuleDependencies());
 
         myNodes.put(ctx, precis);
     }
@@ -382,8 +395,11 @@ public class TreeBuildingListener extends ResolveParserBaseListener {
             }
         }
 
+        // Wait for the syntactic sugar conversions on the procedure bodies
+        completeSyntacticSugarConversions(decls);
+
         FacilityModuleDec facility = new FacilityModuleDec(createLocation(ctx), createPosSymbol(ctx.name),
-                parameterDecls, uses, requires, decls, myModuleDependencies);
+                parameterDecls, uses, requires, decls, myDependencyCollector.getModuleDependencies());
         myNodes.put(ctx, facility);
     }
 
@@ -418,7 +434,7 @@ public class TreeBuildingListener extends ResolveParserBaseListener {
     public void exitShortFacilityModule(ResolveParser.ShortFacilityModuleContext ctx) {
         FacilityDec facilityDec = (FacilityDec) myNodes.removeFrom(ctx.facilityDecl());
         ShortFacilityModuleDec shortFacility = new ShortFacilityModuleDec(createLocation(ctx), facilityDec.getName(),
-                facilityDec, myModuleDependencies);
+                facilityDec, myDependencyCollector.getModuleDependencies());
 
         myNodes.put(ctx, shortFacility);
     }
@@ -532,7 +548,7 @@ public class TreeBuildingListener extends ResolveParserBaseListener {
         }
 
         ConceptModuleDec concept = new ConceptModuleDec(createLocation(ctx), createPosSymbol(ctx.name), parameterDecls,
-                uses, requires, constraints, decls, isSharingConcept, myModuleDependencies);
+                uses, requires, constraints, decls, isSharingConcept, myDependencyCollector.getModuleDependencies());
         myNodes.put(ctx, concept);
     }
 
@@ -657,14 +673,15 @@ public class TreeBuildingListener extends ResolveParserBaseListener {
             }
         }
 
+        // Wait for the syntactic sugar conversions on the procedure bodies
+        completeSyntacticSugarConversions(decls);
+
         // Add concept as a module dependency
-        addNewModuleDependency(ctx.concept.getText(), ctx.concept.getText(), false);
-        if (ctx.profile != null) {
-            addNewModuleDependency(ctx.profile.getText(), ctx.concept.getText(), false);
-        }
+        myDependencyCollector.addConceptImplDependencies(ctx);
 
         ConceptRealizModuleDec realization = new ConceptRealizModuleDec(createLocation(ctx), createPosSymbol(ctx.name),
-                parameterDecls, profileName, createPosSymbol(ctx.concept), uses, requires, decls, myModuleDependencies);
+                parameterDecls, profileName, createPosSymbol(ctx.concept), uses, requires, decls,
+                myDependencyCollector.getModuleDependencies());
         myNodes.put(ctx, realization);
     }
 
@@ -746,10 +763,11 @@ public class TreeBuildingListener extends ResolveParserBaseListener {
                 myNodes);
 
         // Add concept as a module dependency
-        addNewModuleDependency(ctx.concept.getText(), ctx.concept.getText(), false);
+        myDependencyCollector.addEnhancementDependencies(ctx);
 
         EnhancementModuleDec enhancement = new EnhancementModuleDec(createLocation(ctx), createPosSymbol(ctx.name),
-                parameterDecls, createPosSymbol(ctx.concept), uses, requires, decls, myModuleDependencies);
+                parameterDecls, createPosSymbol(ctx.concept), uses, requires, decls,
+                myDependencyCollector.getModuleDependencies());
         myNodes.put(ctx, enhancement);
     }
 
@@ -841,16 +859,15 @@ public class TreeBuildingListener extends ResolveParserBaseListener {
         List<Dec> decls = Utilities.collect(Dec.class,
                 ctx.implItems() != null ? ctx.implItems().implItem() : new ArrayList<ParseTree>(), myNodes);
 
+        // Wait for the syntactic sugar conversions on the procedure bodies
+        completeSyntacticSugarConversions(decls);
+
         // Add concept and enhancement as module dependencies
-        addNewModuleDependency(ctx.concept.getText(), ctx.concept.getText(), false);
-        addNewModuleDependency(ctx.enhancement.getText(), ctx.concept.getText(), false);
-        if (ctx.profile != null) {
-            addNewModuleDependency(ctx.profile.getText(), ctx.concept.getText(), false);
-        }
+        myDependencyCollector.addEnhancementImplDependencies(ctx);
 
         EnhancementRealizModuleDec realization = new EnhancementRealizModuleDec(createLocation(ctx),
                 createPosSymbol(ctx.name), parameterDecls, profileName, createPosSymbol(ctx.enhancement),
-                createPosSymbol(ctx.concept), uses, requires, decls, myModuleDependencies);
+                createPosSymbol(ctx.concept), uses, requires, decls, myDependencyCollector.getModuleDependencies());
         myNodes.put(ctx, realization);
     }
 
@@ -931,11 +948,11 @@ public class TreeBuildingListener extends ResolveParserBaseListener {
                 ? ctx.conceptPerformanceItems().conceptPerformanceItem() : new ArrayList<ParseTree>(), myNodes);
 
         // Add concept as a module dependency
-        addNewModuleDependency(ctx.concept.getText(), ctx.concept.getText(), false);
+        myDependencyCollector.addConceptPerformanceDependencies(ctx);
 
         PerformanceConceptModuleDec performance = new PerformanceConceptModuleDec(createLocation(ctx),
                 createPosSymbol(ctx.name), parameterDecls, createPosSymbol(ctx.fullName), createPosSymbol(ctx.concept),
-                uses, requires, decls, myModuleDependencies);
+                uses, requires, decls, myDependencyCollector.getModuleDependencies());
         myNodes.put(ctx, performance);
     }
 
@@ -1019,14 +1036,12 @@ public class TreeBuildingListener extends ResolveParserBaseListener {
                 myNodes);
 
         // Add concept/concept profile/enhancement as module dependencies
-        addNewModuleDependency(ctx.concept.getText(), ctx.concept.getText(), false);
-        addNewModuleDependency(ctx.conceptProfile.getText(), ctx.concept.getText(), false);
-        addNewModuleDependency(ctx.enhancement.getText(), ctx.concept.getText(), false);
+        myDependencyCollector.addEnhancementPerformanceDependencies(ctx);
 
         PerformanceEnhancementModuleDec performance = new PerformanceEnhancementModuleDec(createLocation(ctx),
                 createPosSymbol(ctx.name), parameterDecls, createPosSymbol(ctx.fullName),
                 createPosSymbol(ctx.enhancement), createPosSymbol(ctx.concept), createPosSymbol(ctx.conceptProfile),
-                uses, requires, decls, myModuleDependencies);
+                uses, requires, decls, myDependencyCollector.getModuleDependencies());
         myNodes.put(ctx, performance);
     }
 
@@ -1060,7 +1075,7 @@ public class TreeBuildingListener extends ResolveParserBaseListener {
     @Override
     public void exitUsesItem(ResolveParser.UsesItemContext ctx) {
         // Add the module we are importing as module dependency
-        addNewModuleDependency(ctx.getStart().getText(), "", false);
+        myDependencyCollector.addUsesItemDependency(ctx);
 
         myNodes.put(ctx, new UsesItem(createPosSymbol(ctx.getStart())));
     }
@@ -2072,7 +2087,7 @@ public class TreeBuildingListener extends ResolveParserBaseListener {
      * {@inheritDoc} <br>
      * <p>
      * This method generates a new representation for a procedure declaration. Any syntactic sugar will be taken care of
-     * before we are done processing this node.
+     * before we are done processing the enclosing module.
      * </p>
      *
      * @param ctx
@@ -2099,16 +2114,8 @@ public class TreeBuildingListener extends ResolveParserBaseListener {
                 getFacilityDecls(ctx.facilityDecl()), getVarDecls(ctx.variableDecl()),
                 Utilities.collect(Statement.class, ctx.stmt(), myNodes));
 
-        // Attempt to resolve all the syntactic sugar conversions
-        SyntacticSugarConverter converter = new SyntacticSugarConverter(myArrayNameTyToInnerTyMap, myCopyTRList,
-                myCopySSRList, myNewElementCounter);
-        TreeWalker.visit(converter, beforeConversionProcDec);
-
-        // Obtain the new ProcedureDec generated by the converter
-        ProcedureDec afterConversionProcDec = (ProcedureDec) converter.getProcessedElement();
-        myNewElementCounter = converter.getNewElementCounter();
-
-        myNodes.put(ctx, afterConversionProcDec);
+        // Resolve all the syntactic sugar conversions in the background
+        convertSyntacticSugar(ctx, beforeConversionProcDec);
     }
 
     /**
@@ -2131,7 +2138,7 @@ public class TreeBuildingListener extends ResolveParserBaseListener {
      * {@inheritDoc} <br>
      * <p>
      * This method generates a new representation for a recursive procedure declaration. Any syntactic sugar will be
-     * taken care of before we are done processing this node.
+     * taken care of before we are done processing the enclosing module.
      * </p>
      *
      * @param ctx
@@ -2161,14 +2168,8 @@ public class TreeBuildingListener extends ResolveParserBaseListener {
                 decreasingClause, getFacilityDecls(ctx.facilityDecl()), getVarDecls(ctx.variableDecl()),
                 Utilities.collect(Statement.class, ctx.stmt(), myNodes), true);
 
-        // Attempt to resolve all the syntactic sugar conversions
-        SyntacticSugarConverter converter = new SyntacticSugarConverter(myArrayNameTyToInnerTyMap, myCopyTRList,
-                myCopySSRList, myNewElementCounter);
-        TreeWalker.visit(converter, beforeConversionProcDec);
-
-        // Obtain the new ProcedureDec generated by the converter
-        ProcedureDec afterConversionProcDec = (ProcedureDec) converter.getProcessedElement();
-        myNodes.put(ctx, afterConversionProcDec);
+        // Resolve all the syntactic sugar conversions in the background
+        convertSyntacticSugar(ctx, beforeConversionProcDec);
     }
 
     /**
@@ -2191,7 +2192,7 @@ public class TreeBuildingListener extends ResolveParserBaseListener {
      * {@inheritDoc} <br>
      * <p>
      * This method generates a new representation for an operation procedure declaration. Any syntactic sugar will be
-     * taken care of before we are done processing this node.
+     * taken care of before we are done processing the enclosing module.
      * </p>
      *
      * @param ctx
@@ -2208,14 +2209,8 @@ public class TreeBuildingListener extends ResolveParserBaseListener {
                 getFacilityDecls(ctx.facilityDecl()), getVarDecls(ctx.variableDecl()),
                 Utilities.collect(Statement.class, ctx.stmt(), myNodes));
 
-        // Attempt to resolve all the syntactic sugar conversions
-        SyntacticSugarConverter converter = new SyntacticSugarConverter(myArrayNameTyToInnerTyMap, myCopyTRList,
-                myCopySSRList, myNewElementCounter);
-        TreeWalker.visit(converter, beforeConversionOpProcDec);
-
-        // Obtain the new OperationProcedureDec generated by the converter
-        OperationProcedureDec afterConversionOpProcDec = (OperationProcedureDec) converter.getProcessedElement();
-        myNodes.put(ctx, afterConversionOpProcDec);
+        // Resolve all the syntactic sugar conversions in the background
+        convertSyntacticSugar(ctx, beforeConversionOpProcDec);
     }
 
     /**
@@ -2238,7 +2233,7 @@ public class TreeBuildingListener extends ResolveParserBaseListener {
      * {@inheritDoc} <br>
      * <p>
      * This method generates a new representation for a recursive operation procedure declaration. Any syntactic sugar
-     * will be taken care of before we are done processing this node.
+     * will be taken care of before we are done processing the enclosing module.
      * </p>
      *
      * @param ctx
@@ -2258,14 +2253,8 @@ public class TreeBuildingListener extends ResolveParserBaseListener {
                 getFacilityDecls(ctx.facilityDecl()), getVarDecls(ctx.variableDecl()),
                 Utilities.collect(Statement.class, ctx.stmt(), myNodes), true);
 
-        // Attempt to resolve all the syntactic sugar conversions
-        SyntacticSugarConverter converter = new SyntacticSugarConverter(myArrayNameTyToInnerTyMap, myCopyTRList,
-                myCopySSRList, myNewElementCounter);
-        TreeWalker.visit(converter, beforeConversionOpProcDec);
-
-        // Obtain the new OperationProcedureDec generated by the converter
-        OperationProcedureDec afterConversionOpProcDec = (OperationProcedureDec) converter.getProcessedElement();
-        myNodes.put(ctx, afterConversionOpProcDec);
+        // Resolve all the syntactic sugar conversions in the background
+        convertSyntacticSugar(ctx, beforeConversionOpProcDec);
     }
 
     /**
@@ -2405,25 +2394,7 @@ public class TreeBuildingListener extends ResolveParserBaseListener {
         }
 
         // Add all the modules in the facility declaration as module dependencies
-        addNewModuleDependency(ctx.concept.getText(), ctx.concept.getText(), false);
-        addNewModuleDependency(ctx.impl.getText(), ctx.concept.getText(), externallyRealized);
-        if (ctx.profile != null) {
-            addNewModuleDependency(ctx.profile.getText(), ctx.concept.getText(), false);
-        }
-
-        for (EnhancementSpecItem specItem : enhancements) {
-            addNewModuleDependency(specItem.getName().getName(), ctx.concept.getText(), false);
-        }
-
-        for (EnhancementSpecRealizItem specRealizItem : enhancementBodies) {
-            // Add the facility's enhancement/enhancement realization/enhancement profiles as module
-            // dependencies
-            addNewModuleDependency(specRealizItem.getEnhancementName().getName(), ctx.concept.getText(), false);
-            addNewModuleDependency(specRealizItem.getEnhancementRealizName().getName(), ctx.concept.getText(), false);
-            if (ctx.profile != null) {
-                addNewModuleDependency(ctx.profile.getText(), ctx.concept.getText(), false);
-            }
-        }
+        myDependencyCollector.addFacilityDependencies(ctx);
 
         myNodes.put(ctx,
                 new FacilityDec(createPosSymbol(ctx.name), createPosSymbol(ctx.concept), conceptArgs, enhancements,
@@ -4730,25 +4701,6 @@ public class TreeBuildingListener extends ResolveParserBaseListener {
     // Private Methods
     // ===========================================================
 
-    /**
-     * <p>
-     * An helper method that adds a new module dependency if it doesn't exist already.
-     * </p>
-     *
-     * @param filename
-     *            Name of the module.
-     * @param parentDirectoryName
-     *            Parent directory name.
-     * @param isExternallyRealiz
-     *            Boolean that indicates whether or not this is a Non-RESOLVE file.
-     */
-    private void addNewModuleDependency(String filename, String parentDirectoryName, boolean isExternallyRealiz) {
-        ResolveFileBasicInfo fileBasicInfo = new ResolveFileBasicInfo(filename, parentDirectoryName);
-        if (!myModuleDependencies.containsKey(fileBasicInfo)) {
-            myModuleDependencies.put(fileBasicInfo, isExternallyRealiz);
-        }
-    }
-
     /**
      * <p>
      * An helper method that adds elements from {@code newItems} if it doesn't exist already.
@@ -4778,6 +4730,72 @@ public class TreeBuildingListener extends ResolveParserBaseListener {
         return usesList;
     }
 
+    /**
+     * <p>
+     * An helper method that waits for the syntactic sugar conversions on the procedure bodies in the module-level
+     * declarations and replaces each procedure with its converted version.
+     * </p>
+     *
+     * @param decls
+     *            The module-level declarations.
+     *
+     * @exception MiscErrorException
+     *                Some error occurred while trying to convert the syntactic sugar.
+     */
+    private void completeSyntacticSugarConversions(List<Dec> decls) {
+        ListIterator<Dec> declIt = decls.listIterator();
+        while (declIt.hasNext()) {
+            CompletableFuture<Dec> conversion = myPendingConversions.remove(declIt.next());
+            if (conversion != null) {
+                try {
+                    declIt.set(conversion.join());
+                } catch (CompletionException e) {
+                    // Throw the converter's error as if we had converted it ourselves
+                    if (e.getCause() instanceof RuntimeException) {
+                        throw (RuntimeException) e.getCause();
+                    }
+
+                    throw new MiscErrorException("Error converting the syntactic sugar", e.getCause());
+                }
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * An helper method that starts the syntactic sugar conversions for a procedure body on the common
+     * {@link ForkJoinPool}. Until the enclosing module collects its declarations, the procedure declaration before the
+     * conversion is stored as the node for this rule.
+     * </p>
+     *
+     * <p>
+     * The converter only sees a snapshot of the array types and representations we have found so far, so it doesn't
+     * matter what the rest of the tree walk adds to them. Any new variables it creates are local to the procedure, so
+     * every procedure starts from the current new element counter and doesn't update it. This keeps the generated names
+     * the same no matter in what order the conversions finish.
+     * </p>
+     *
+     * @param ctx
+     *            The procedure's ANTLR4 parser rule.
+     * @param beforeConversionDec
+     *            The procedure declaration that we are going to perform the syntactic sugar conversions on.
+     */
+    private void convertSyntacticSugar(ParserRuleContext ctx, Dec beforeConversionDec) {
+        Map<NameTy, NameTy> arrayNameTyToInnerTyMap = new LinkedHashMap<>(myArrayNameTyToInnerTyMap);
+        List<AbstractTypeRepresentationDec> typeRepresentationDecs = new ArrayList<>(myCopyTRList);
+        List<AbstractSharedStateRealizationDec> sharedStateRealizationDecs = new ArrayList<>(myCopySSRList);
+        int newElementCounter = myNewElementCounter;
+
+        myPendingConversions.put(beforeConversionDec, CompletableFuture.supplyAsync(() -> {
+            SyntacticSugarConverter converter = new SyntacticSugarConverter(arrayNameTyToInnerTyMap,
+                    typeRepresentationDecs, sharedStateRealizationDecs, newElementCounter);
+            TreeWalker.visit(converter, beforeConversionDec);
+
+            return (Dec) converter.getProcessedElement();
+        }, ForkJoinPool.commonPool()));
+        myNodes.put(ctx, beforeConversionDec);
+    }
+
     /**
      * <p>
      * Create a {@link FacilityDec} for the current parser rule we are visiting.
@@ -4807,8 +4825,7 @@ public class TreeBuildingListener extends ResolveParserBaseListener {
         moduleArgumentItems.add(new ModuleArgumentItem(upperBound));
 
         // Add Static_Array_Template as module dependency
-        addNewModuleDependency("Static_Array_Template", "Static_Array_Template", false);
-        addNewModuleDependency("Std_Array_Realiz", "Static_Array_Template", true);
+        myDependencyCollector.addArrayFacilityDependencies();
 
         return new FacilityDec(new PosSymbol(l.clone(), newTy.getQualifier().getName()),
                 new PosSymbol(l.clone(), "Static_Array_Template"), moduleArgumentItems,
@@ -5068,11 +5085,11 @@ public class TreeBuildingListener extends ResolveParserBaseListener {
         for (String name : ResolveCompiler.AUTO_IMPORT_FILES) {
             PosSymbol nameAsPosSymbol = new PosSymbol(loc.clone(), name);
             autoImportUsesItems.add(new UsesItem(nameAsPosSymbol));
-
-            // Add this as a module dependency
-            addNewModuleDependency(name, "", false);
         }
 
+        // Add these as module dependencies
+        myDependencyCollector.addAutoImportDependencies();
+
         return autoImportUsesItems;
     }
 
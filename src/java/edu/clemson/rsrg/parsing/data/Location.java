@@ -38,10 +38,17 @@ public class Location implements Cloneable {
 
     /**
      * <p>
-     * The position that this location points to.
+     * The line number that this location points to.
      * </p>
      */
-    private final Pos myPosition;
+    private final int myLine;
+
+    /**
+     * <p>
+     * The column number that this location points to.
+     * </p>
+     */
+    private final int myColumn;
 
     // ===========================================================
     // Constructors
@@ -61,7 +68,8 @@ public class Location implements Cloneable {
      */
     public Location(ResolveFile file, int lineNumber, int columnNumber) {
         myFile = file;
-        myPosition = new Pos(lineNumber, columnNumber);
+        myLine = lineNumber;
+        myColumn = columnNumber;
     }
 
     // ===========================================================
@@ -77,7 +85,7 @@ public class Location implements Cloneable {
      */
     @Override
     public final Location clone() {
-        return new Location(myFile, myPosition.myCurrline, myPosition.myCurrColumn);
+        return new Location(myFile, myLine, myColumn);
     }
 
     /**
@@ -85,6 +93,12 @@ public class Location implements Cloneable {
      * Equals method to compare two locations.
      * </p>
      *
+     * <p>
+     * Two locations are only equal if they are the same object. A {@link #clone()} points to the same place, but it is
+     * still a different location. For example, the sequent reduction rules clone a location to mark a sequent as a new
+     * {@code VC} that needs to be proved.
+     * </p>
+     *
      * @param o
      *            Object to be compared.
      *
@@ -92,14 +106,7 @@ public class Location implements Cloneable {
      */
     @Override
     public final boolean equals(Object o) {
-        if (this == o)
-            return true;
-        if (o == null || getClass() != o.getClass())
-            return false;
-
-        Location location = (Location) o;
-
-        return myFile.equals(location.myFile) && myPosition.equals(location.myPosition);
+        return this == o;
     }
 
     /**
@@ -110,7 +117,7 @@ public class Location implements Cloneable {
      * @return Column number
      */
     public final int getColumn() {
-        return myPosition.myCurrColumn;
+        return myColumn;
     }
 
     /**
@@ -143,7 +150,7 @@ public class Location implements Cloneable {
      * @return Line number
      */
     public final int getLine() {
-        return myPosition.myCurrline;
+        return myLine;
     }
 
     /**
@@ -156,7 +163,7 @@ public class Location implements Cloneable {
     @Override
     public final int hashCode() {
         int result = myFile.hashCode();
-        result = 31 * result + myPosition.hashCode();
+        result = 31 * result + (31 * myLine + myColumn);
         return result;
     }
 
@@ -178,128 +185,12 @@ public class Location implements Cloneable {
 
         // Append the line number and the column number
         sb.append("(");
-        sb.append(myPosition.myCurrline);
+        sb.append(myLine);
         sb.append(":");
-        sb.append(myPosition.myCurrColumn);
+        sb.append(myColumn);
         sb.append(")");
 
         return sb.toString();
     }
 
-    // ===========================================================
-    // Inner Class for Position
-    // ===========================================================
-
-    /**
-     * <p>
-     * Private inner class to store the position in the file.
-     * </p>
-     */
-    private class Pos {
-
-        // ===========================================================
-        // Member Fields
-        // ===========================================================
-
-        /**
-         * <p>
-         * Current line number.
-         * </p>
-         */
-        private final int myCurrline;
-
-        /**
-         * <p>
-         * Current column number.
-         * </p>
-         */
-        private final int myCurrColumn;
-
-        // ===========================================================
-        // Constructors
-        // ===========================================================
-
-        /**
-         * <p>
-         * This constructor converts the two integers corresponding to the line and column numbers into an object
-         * representation.
-         * </p>
-         *
-         * @param line
-         *            Current line number.
-         * @param column
-         *            Current column number.
-         */
-        private Pos(int line, int column) {
-            myCurrline = line;
-            myCurrColumn = column;
-        }
-
-        /**
-         * <p>
-         * Copy constructor
-         * </p>
-         *
-         * @param p
-         *            The position object to copy.
-         */
-        private Pos(Pos p) {
-            myCurrline = p.myCurrline;
-            myCurrColumn = p.myCurrColumn;
-        }
-
-        // ===========================================================
-        // Public Methods
-        // ===========================================================
-
-        /**
-         * <p>
-         * Equals method to compare two positions.
-         * </p>
-         *
-         * @param o
-         *            Object to be compared.
-         *
-         * @return {@code true} if all the fields are equal, {@code false} otherwise.
-         */
-        @Override
-        public final boolean equals(Object o) {
-            // Check to see if it is null or if the classes are different
-            if (o == null || getClass() != o.getClass()) {
-                return false;
-            } else {
-                // Simply check if the references are the same.
-                // Checking integers won't do the trick!
-                return this == o;
-            }
-        }
-
-        /**
-         * <p>
-         * This method overrides the default {@code hashCode} method implementation for the {@code Pos} class.
-         * </p>
-         *
-         * @return The hash code associated with the object.
-         */
-        @Override
-        public final int hashCode() {
-            int result = myCurrline;
-            result = 31 * result + myCurrColumn;
-            return result;
-        }
-
-        /**
-         * <p>
-         * Returns the position in string format.
-         * </p>
-         *
-         * @return Position as a string.
-         */
-        @Override
-        public final String toString() {
-            return "(" + myCurrline + "," + myCurrColumn + ")";
-        }
-
-    }
-
 }
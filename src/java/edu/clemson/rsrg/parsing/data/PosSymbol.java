@@ -13,8 +13,8 @@
 package edu.clemson.rsrg.parsing.data;
 
 import edu.clemson.rsrg.statushandling.exception.MiscErrorException;
-import java.util.Dictionary;
-import java.util.Hashtable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * <p>
@@ -40,10 +40,11 @@ public class PosSymbol implements BasicCapabilities {
 
     /**
      * <p>
-     * Static dictionary containing all the symbols we have created so far.
+     * Static dictionary containing all the symbols we have created so far. The tree building process converts procedure
+     * bodies on several threads, so lookups must not block each other.
      * </p>
      */
-    private final static Dictionary<String, Symbol> mySymbolDict = new Hashtable<>();
+    private final static ConcurrentMap<String, Symbol> mySymbolDict = new ConcurrentHashMap<>();
 
     /**
      * <p>
@@ -71,6 +72,21 @@ public class PosSymbol implements BasicCapabilities {
         mySymbol = getSymbol(sym);
     }
 
+    /**
+     * <p>
+     * This constructor creates a new symbol representation that shares an existing inner symbol.
+     * </p>
+     *
+     * @param location
+     *            The location where this symbol originated from.
+     * @param sym
+     *            Inner symbol representation.
+     */
+    private PosSymbol(Location location, Symbol sym) {
+        myLocation = location;
+        mySymbol = sym;
+    }
+
     // ===========================================================
     // Public Methods
     // ===========================================================
@@ -111,7 +127,7 @@ public class PosSymbol implements BasicCapabilities {
             newLoc = myLocation.clone();
         }
 
-        return new PosSymbol(newLoc, mySymbol.getName());
+        return new PosSymbol(newLoc, mySymbol);
     }
 
     /**
@@ -165,13 +181,15 @@ public class PosSymbol implements BasicCapabilities {
      * This method overrides the default {@code hashCode} method implementation for the {@code PosSymbol} class.
      * </p>
      *
+     * <p>
+     * Just like {@link #equals(Object)}, this only depends on the symbol and not where it was found.
+     * </p>
+     *
      * @return The hash code associated with the object.
      */
     @Override
     public final int hashCode() {
-        int result = myLocation != null ? myLocation.hashCode() : 0;
-        result = 31 * result + mySymbol.hashCode();
-        return result;
+        return mySymbol.hashCode();
     }
 
     /**
@@ -202,12 +220,10 @@ public class PosSymbol implements BasicCapabilities {
      *
      * @return The unique symbol associated with a string.
      */
-    private Symbol getSymbol(String str) {
-        String inStr = str.intern();
-        Symbol sym = mySymbolDict.get(inStr);
+    private static Symbol getSymbol(String str) {
+        Symbol sym = mySymbolDict.get(str);
         if (sym == null) {
-            sym = new Symbol(inStr);
-            mySymbolDict.put(inStr, sym);
+            sym = mySymbolDict.computeIfAbsent(str, Symbol::new);
         }
 
         return sym;
@@ -219,10 +235,11 @@ public class PosSymbol implements BasicCapabilities {
 
     /**
      * <p>
-     * Private inner class to store the symbol.
+     * Private inner class to store the symbol. This is a static class, so a symbol doesn't keep the first
+     * {@link PosSymbol} (and its {@link Location}) that created it alive.
      * </p>
      */
-    private class Symbol implements Comparable<Symbol>, BasicCapabilities {
+    private static class Symbol implements Comparable<Symbol>, BasicCapabilities {
 
         // ===========================================================
         // Member Fields
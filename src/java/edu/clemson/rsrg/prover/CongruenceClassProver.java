@@ -21,6 +21,7 @@ import edu.clemson.rsrg.prover.utilities.ImmutableVC;
 import edu.clemson.rsrg.typeandpopulate.symboltables.ModuleScope;
 import edu.clemson.rsrg.typeandpopulate.typereasoning.TypeGraph;
 import java.util.List;
+import static edu.clemson.rsrg.vcgeneration.VCGenerator.FLAG_SHARE_VC_EXPS;
 import static edu.clemson.rsrg.vcgeneration.VCGenerator.FLAG_VERIFY_VC;
 
 /**
@@ -138,6 +139,10 @@ public class CongruenceClassProver {
         FlagDependencies.addImplies(FLAG_PROVE, FLAG_VERIFY_VC);
         FlagDependencies.addRequires(FLAG_TIMEOUT, FLAG_PROVE);
         FlagDependencies.addRequires(FLAG_NUMTRIES, FLAG_PROVE);
+
+        // Building a PExp marks the quantified variables in the VC expressions,
+        // so we can't use shared VC expressions.
+        FlagDependencies.addExcludes(FLAG_PROVE, FLAG_SHARE_VC_EXPS);
     }
 
     // ===========================================================
@@ -81,15 +81,6 @@ public class AntlrParserErrorListener extends BaseErrorListener {
     public final void syntaxError(Recognizer<?, ?> recognizer, Object offendingSymbol, int line, int charPositionInLine,
             String msg, RecognitionException e) {
         ResolveToken offendingToken = (ResolveToken) offendingSymbol;
-        String input;
-        if (recognizer == null) {
-            input = offendingToken.getTokenSource().getInputStream().toString();
-        } else {
-            CommonTokenStream src = (CommonTokenStream) recognizer.getInputStream();
-            input = src.getTokenSource().getInputStream().toString();
-        }
-        String[] lines = input.split("\n");
-        String errorLine = lines[line - 1].replaceAll("\t", " ");
 
         // Obtain the location from the token if it is not null
         Location location = null;
@@ -97,6 +88,24 @@ public class AntlrParserErrorListener extends BaseErrorListener {
             location = offendingToken.getLocation();
         }
 
+        // Obtain the line that caused the error. (Note: The file only
+        // loads its source code again if it has been released.)
+        String errorLine;
+        if (location != null && location.getFile() != null) {
+            errorLine = location.getFile().getSourceLine(line);
+        } else {
+            String input;
+            if (recognizer == null) {
+                input = offendingToken.getTokenSource().getInputStream().toString();
+            } else {
+                CommonTokenStream src = (CommonTokenStream) recognizer.getInputStream();
+                input = src.getTokenSource().getInputStream().toString();
+            }
+            String[] lines = input.split("\n");
+            errorLine = lines[line - 1];
+        }
+        errorLine = errorLine.replaceAll("\t", " ");
+
         String errorMsg = buildErrorMsg(charPositionInLine, errorLine, msg);
         myStatusHandler.error(location, errorMsg);
     }
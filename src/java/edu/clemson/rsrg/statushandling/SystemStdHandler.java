@@ -44,6 +44,16 @@ public class SystemStdHandler extends WriterStatusHandler implements StatusHandl
     // Public Methods
     // ===========================================================
 
+    /**
+     * <p>
+     * Resume logging after {@link #stopLogging()} has been called. This allows a long-lived compiler to report the
+     * status of many compilation requests using the same handler.
+     * </p>
+     */
+    public synchronized final void resumeLogging() {
+        stopLogging = false;
+    }
+
     /**
      * <p>
      * Stop logging anymore information.
@@ -42,8 +42,8 @@ import edu.clemson.rsrg.typeandpopulate.query.EntryTypeQuery;
 import edu.clemson.rsrg.typeandpopulate.query.OperationQuery;
 import edu.clemson.rsrg.typeandpopulate.query.UnqualifiedNameQuery;
 import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTable;
-import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTableBuilder;
 import edu.clemson.rsrg.typeandpopulate.symboltables.ModuleScope;
+import edu.clemson.rsrg.typeandpopulate.symboltables.ScopeRepository;
 import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
 import edu.clemson.rsrg.typeandpopulate.utilities.ModuleParameterization;
 import java.util.*;
@@ -70,10 +70,10 @@ public abstract class AbstractTranslator extends TreeWalkerStackVisitor {
 
     /**
      * <p>
-     * The symbol table we are currently building.
+     * The symbol table that contains all the populated modules.
      * </p>
      */
-    protected final MathSymbolTableBuilder myBuilder;
+    protected final ScopeRepository myBuilder;
 
     /**
      * <p>
@@ -229,13 +229,13 @@ public abstract class AbstractTranslator extends TreeWalkerStackVisitor {
      * </p>
      *
      * @param builder
-     *            A scope builder for a symbol table.
+     *            The symbol table that contains all the populated modules.
      * @param compileEnvironment
      *            The current job's compilation environment that stores all necessary objects and flags.
      * @param group
      *            The string template group to be used by each of the implementing subclass.
      */
-    protected AbstractTranslator(MathSymbolTableBuilder builder, CompileEnvironment compileEnvironment, STGroup group) {
+    protected AbstractTranslator(ScopeRepository builder, CompileEnvironment compileEnvironment, STGroup group) {
         myActiveTemplates = new Stack<>();
         myBuilder = builder;
         myCompileEnvironment = compileEnvironment;
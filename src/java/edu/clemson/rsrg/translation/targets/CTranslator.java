@@ -31,7 +31,7 @@ import edu.clemson.rsrg.typeandpopulate.programtypes.PTElement;
 import edu.clemson.rsrg.typeandpopulate.programtypes.PTType;
 import edu.clemson.rsrg.typeandpopulate.query.NameAndEntryTypeQuery;
 import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTable;
-import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTableBuilder;
+import edu.clemson.rsrg.typeandpopulate.symboltables.ScopeRepository;
 import java.util.LinkedList;
 import java.util.List;
 import org.stringtemplate.v4.ST;
@@ -138,11 +138,11 @@ public class CTranslator extends AbstractTranslator {
      * </p>
      *
      * @param builder
-     *            A scope builder for a symbol table.
+     *            The symbol table that contains all the populated modules.
      * @param compileEnvironment
      *            The current job's compilation environment
      */
-    public CTranslator(MathSymbolTableBuilder builder, CompileEnvironment compileEnvironment) {
+    public CTranslator(ScopeRepository builder, CompileEnvironment compileEnvironment) {
         super(builder, compileEnvironment, new STGroupFile("templates/C.stg"));
         myFacilityInstantiations = new LinkedList<>();
     }
@@ -45,9 +45,9 @@ import edu.clemson.rsrg.typeandpopulate.exception.NoneProvidedException;
 import edu.clemson.rsrg.typeandpopulate.programtypes.*;
 import edu.clemson.rsrg.typeandpopulate.query.*;
 import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTable;
-import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTableBuilder;
 import edu.clemson.rsrg.typeandpopulate.symboltables.ModuleScope;
 import edu.clemson.rsrg.typeandpopulate.symboltables.Scope;
+import edu.clemson.rsrg.typeandpopulate.symboltables.ScopeRepository;
 import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
 import edu.clemson.rsrg.typeandpopulate.utilities.ModuleParameterization;
 import java.util.*;
@@ -165,11 +165,11 @@ public class JavaTranslator extends AbstractTranslator {
      * </p>
      *
      * @param builder
-     *            A scope builder for a symbol table.
+     *            The symbol table that contains all the populated modules.
      * @param compileEnvironment
      *            The current job's compilation environment
      */
-    public JavaTranslator(MathSymbolTableBuilder builder, CompileEnvironment compileEnvironment) {
+    public JavaTranslator(ScopeRepository builder, CompileEnvironment compileEnvironment) {
         super(builder, compileEnvironment, new STGroupFile("templates/Java.stg"));
         myBaseEnhancement = null;
         myBaseInstantiation = null;
@@ -14,12 +14,17 @@ package edu.clemson.rsrg.treewalk;
 
 import edu.clemson.rsrg.absyn.ResolveConceptualElement;
 import edu.clemson.rsrg.absyn.VirtualListNode;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * <p>
@@ -27,6 +32,11 @@ import java.util.List;
  * implemented as a {@link TreeWalkerVisitor} or as a {@link TreeWalkerStackVisitor}.
  * </p>
  *
+ * <p>
+ * The visitor methods are called through the generated {@link TreeWalkerDispatcher}. Nodes that it does not know about
+ * fall back to finding the visitor methods using reflection.
+ * </p>
+ *
  * @author Blair Durkee
  * @author Yu-Shan Sun
  * @author Daniel Welch
@@ -35,14 +45,60 @@ import java.util.List;
  */
 public class TreeWalker {
 
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * The type we adapt the {@code walk} methods to.
+     * </p>
+     */
+    private static final MethodType WALK_TYPE = MethodType.methodType(boolean.class, TreeWalkerVisitor.class,
+            ResolveConceptualElement.class);
+
+    /**
+     * <p>
+     * The type we adapt the {@code pre} and {@code post} methods to.
+     * </p>
+     */
+    private static final MethodType VISIT_TYPE = MethodType.methodType(void.class, TreeWalkerVisitor.class,
+            ResolveConceptualElement.class);
+
+    /**
+     * <p>
+     * The type we adapt the {@code mid} methods to.
+     * </p>
+     */
+    private static final MethodType MID_TYPE = MethodType.methodType(void.class, TreeWalkerVisitor.class,
+            ResolveConceptualElement.class, ResolveConceptualElement.class, ResolveConceptualElement.class);
+
+    /**
+     * <p>
+     * The visitor methods we have found using reflection for each {@link TreeWalkerVisitor} class and each
+     * {@link ResolveConceptualElement} class, so we only need to look them up once.
+     * </p>
+     */
+    private static final ClassValue<ClassValue<VisitorMethods>> VISITOR_METHODS = new ClassValue<>() {
+        @Override
+        protected ClassValue<VisitorMethods> computeValue(Class<?> visitorClass) {
+            return new ClassValue<>() {
+                @Override
+                protected VisitorMethods computeValue(Class<?> elementClass) {
+                    return new VisitorMethods(visitorClass, elementClass);
+                }
+            };
+        }
+    };
+
     // ===========================================================
     // Public Methods
     // ===========================================================
 
     /**
      * <p>
-     * Visits the node {@code e} by calling pre visitor methods, recursively visiting child nodes, and calling
-     * appropriate post methods.
+     * Visits the node {@code e} by calling pre visitor methods, visiting child nodes, and calling appropriate post
+     * methods.
      * </p>
      *
      * <p>
@@ -50,6 +106,11 @@ public class TreeWalker {
      * the children are skipped.
      * </p>
      *
+     * <p>
+     * The child nodes are visited using an explicit stack instead of recursion, so deeply nested expressions do not
+     * overflow the call stack. The visitor methods are called in the same order as a recursive walk would call them.
+     * </p>
+     *
      * @param visitor
      *            An instance of {@link TreeWalkerVisitor} which implements visit methods to be applied to nodes of the
      *            RESOLVE AST.
@@ -57,27 +118,24 @@ public class TreeWalker {
      *            The RESOLVE ast node to walk
      */
     public static void visit(TreeWalkerVisitor visitor, ResolveConceptualElement e) {
-        if (e != null) {
-            // are we overriding the walking for this element?
-            if (!walkOverride(visitor, e)) {
-                // invoke the "pre" visitor method(s)
-                invokeVisitorMethods(visitor, "pre", e);
-
-                List<ResolveConceptualElement> children = e.getChildren();
-                if (children.size() > 0) {
-                    Iterator<ResolveConceptualElement> iter = children.iterator();
-
-                    ResolveConceptualElement prevChild = null, nextChild = null;
-                    while (iter.hasNext()) {
-                        prevChild = nextChild;
-                        nextChild = iter.next();
-                        invokeVisitorMethods(visitor, "mid", e, prevChild, nextChild);
-                        visit(visitor, nextChild);
-                    }
-                    invokeVisitorMethods(visitor, "mid", e, nextChild, null);
+        Deque<WalkFrame> frames = new ArrayDeque<>();
+        enterNode(visitor, e, frames);
+
+        while (!frames.isEmpty()) {
+            WalkFrame frame = frames.peek();
+            if (frame.children.hasNext()) {
+                ResolveConceptualElement prevChild = frame.lastChild;
+                frame.lastChild = frame.children.next();
+                invokeVisitorMethods(visitor, "mid", frame.element, prevChild, frame.lastChild);
+                enterNode(visitor, frame.lastChild, frames);
+            } else {
+                frames.pop();
+                if (frame.hasChildren) {
+                    invokeVisitorMethods(visitor, "mid", frame.element, frame.lastChild, null);
                 }
+
                 // invoke the "post" visitor method(s)
-                invokeVisitorMethods(visitor, "post", e);
+                invokeVisitorMethods(visitor, "post", frame.element);
             }
         }
     }
@@ -86,6 +144,102 @@ public class TreeWalker {
     // Private Methods
     // ===========================================================
 
+    /**
+     * <p>
+     * Creates the exception we throw when one of the visitor methods throws an exception.
+     * </p>
+     *
+     * @param c
+     *            The class we were visiting.
+     * @param throwable
+     *            The exception thrown by the visitor method.
+     *
+     * @return A {@link RuntimeException} that wraps the original cause.
+     */
+    private static RuntimeException createInvocationError(Class<?> c, Throwable throwable) {
+        while (throwable instanceof RuntimeException && throwable.getCause() != null) {
+            throwable = throwable.getCause();
+        }
+
+        return new RuntimeException("Target invocation error for class: " + c.getSimpleName(), throwable);
+    }
+
+    /**
+     * <p>
+     * Uses the generated {@link TreeWalkerDispatcher} to invoke each of the visitor methods on the various different
+     * {@link ResolveConceptualElement}s.
+     * </p>
+     *
+     * @param classId
+     *            The dispatcher's identifier for the class of the node (or the list's parent node).
+     * @param visitor
+     *            An instance of {@link TreeWalkerVisitor} which implements visit methods to be applied to nodes of the
+     *            RESOLVE AST.
+     * @param prefix
+     *            Prefix string for the current walking method.
+     * @param e
+     *            The node to walk.
+     */
+    private static void dispatchVisitorMethods(int classId, TreeWalkerVisitor visitor, String prefix,
+            ResolveConceptualElement... e) {
+        try {
+            if (e[0] instanceof VirtualListNode) {
+                VirtualListNode listNode = (VirtualListNode) e[0];
+                switch (prefix) {
+                case "pre":
+                    TreeWalkerDispatcher.preList(classId, listNode.getNodeName(), visitor, listNode.getParent());
+                    break;
+                case "mid":
+                    TreeWalkerDispatcher.midList(classId, listNode.getNodeName(), visitor, listNode.getParent(), e[1],
+                            e[2]);
+                    break;
+                default:
+                    TreeWalkerDispatcher.postList(classId, listNode.getNodeName(), visitor, listNode.getParent());
+                    break;
+                }
+            } else {
+                switch (prefix) {
+                case "pre":
+                    TreeWalkerDispatcher.pre(classId, visitor, e[0]);
+                    break;
+                case "mid":
+                    TreeWalkerDispatcher.mid(classId, visitor, e[0], e[1], e[2]);
+                    break;
+                default:
+                    TreeWalkerDispatcher.post(classId, visitor, e[0]);
+                    break;
+                }
+            }
+        } catch (RuntimeException | Error ex) {
+            throw createInvocationError(e[0].getClass(), ex);
+        }
+    }
+
+    /**
+     * <p>
+     * Starts visiting the node {@code e}. If the walking for this node hasn't been overridden, this calls the pre
+     * visitor methods and pushes a frame for visiting its children.
+     * </p>
+     *
+     * @param visitor
+     *            An instance of {@link TreeWalkerVisitor} which implements visit methods to be applied to nodes of the
+     *            RESOLVE AST.
+     * @param e
+     *            The RESOLVE ast node to walk
+     * @param frames
+     *            The stack of nodes we are currently visiting.
+     */
+    private static void enterNode(TreeWalkerVisitor visitor, ResolveConceptualElement e, Deque<WalkFrame> frames) {
+        // are we overriding the walking for this element?
+        if (e != null && !walkOverride(visitor, e)) {
+            // invoke the "pre" visitor method(s)
+            invokeVisitorMethods(visitor, "pre", e);
+
+            List<ResolveConceptualElement> children = e.getChildren();
+            frames.push(new WalkFrame(e, children.iterator(), children.size() > 0));
+        }
+    }
+
     /**
      * <p>
      * Invokes each of the visitor methods on the various different {@link ResolveConceptualElement}s.
@@ -108,82 +262,75 @@ public class TreeWalker {
             visitor.preAny(e[0]);
         }
 
-        // Get the heirarchy of classes from which this node inherits
-        // e.g., [ConceptModuleDec, ModuleDec, Dec, ResolveConceptualElement]
-        Class<?> elementClass = e[0].getClass();
-        List<Class<?>> classHierarchy = new ArrayList<>();
-
-        if (list) {
-            classHierarchy.add(((VirtualListNode) e[0]).getParent().getClass());
-        } else if (pre || post) {
-            while (elementClass != ResolveConceptualElement.class) {
-                if (post) {
-                    classHierarchy.add(elementClass);
-                } else {
-                    classHierarchy.add(0, elementClass);
-                }
-                elementClass = elementClass.getSuperclass();
-            }
+        // Use the generated dispatcher if it knows about this kind of node,
+        // otherwise find the visitor methods using reflection.
+        ResolveConceptualElement element = list ? ((VirtualListNode) e[0]).getParent() : e[0];
+        int classId = TreeWalkerDispatcher.getClassId(element.getClass());
+        if (classId >= 0) {
+            dispatchVisitorMethods(classId, visitor, prefix, e);
         } else {
-            classHierarchy.add(elementClass);
+            reflectVisitorMethods(visitor, prefix, e);
         }
 
-        // Iterate over the class hierarchy
-        Iterator<Class<?>> iter = classHierarchy.iterator();
-        while (iter.hasNext()) {
-            Class<?> currentClass = iter.next();
+        if (post) {
+            visitor.postAny(e[0]);
+        }
+    }
 
-            // Construct name of method
-            String className, methodName;
-            if (!list) {
-                className = currentClass.getSimpleName();
-            } else {
-                className = ((VirtualListNode) e[0]).getNodeName();
-            }
-            methodName = prefix + className;
-
-            ResolveConceptualElement[] parent = Arrays.copyOf(e, e.length);
-            // Get parent and child types if this is a list node
-            Class<?> paramType = ResolveConceptualElement.class;
-            if (list) {
-                paramType = ((VirtualListNode) e[0]).getListType();
-                parent[0] = ((VirtualListNode) e[0]).getParent();
-            }
+    /**
+     * <p>
+     * Invokes each of the visitor methods on the various different {@link ResolveConceptualElement}s using the
+     * {@link MethodHandle}s we found using reflection. This is only needed for nodes that the
+     * {@link TreeWalkerDispatcher} does not know about.
+     * </p>
+     *
+     * @param visitor
+     *            An instance of {@link TreeWalkerVisitor} which implements visit methods to be applied to nodes of the
+     *            RESOLVE AST.
+     * @param prefix
+     *            Prefix string for the current walking method.
+     * @param e
+     *            The node to walk.
+     */
+    private static void reflectVisitorMethods(TreeWalkerVisitor visitor, String prefix, ResolveConceptualElement... e) {
+        boolean mid = prefix.equals("mid"), list = (e[0] instanceof VirtualListNode);
 
-            // Now try to obtain the proper visitor method
-            try {
-                Method visitorMethod;
-                if (pre || post) { // pre and post methods
-                    visitorMethod = visitor.getClass().getMethod(methodName, currentClass);
-                } else { // mid methods
-                    visitorMethod = visitor.getClass().getMethod(methodName, currentClass, paramType, paramType);
-                }
+        // Get parent if this is a list node
+        ResolveConceptualElement element = e[0];
+        VisitorMethod[] visitorMethods;
+        if (list) {
+            VirtualListNode listNode = (VirtualListNode) e[0];
+            element = listNode.getParent();
+            visitorMethods = VISITOR_METHODS.get(visitor.getClass()).get(element.getClass()).getListMethods(prefix,
+                    listNode);
+        } else {
+            visitorMethods = VISITOR_METHODS.get(visitor.getClass()).get(element.getClass()).getMethods(prefix);
+        }
 
-                // Invoking the visitor method now!!!
-                visitorMethod.invoke(visitor, (Object[]) parent);
-            } catch (NoSuchMethodException nsme) {
-                // This is fine if we're dealing with a virtual node, otherwise
-                // it shouldn't be possible
-                if (!list) {
-                    throw new RuntimeException("Cannot locate method", nsme);
+        for (VisitorMethod visitorMethod : visitorMethods) {
+            if (visitorMethod.handle == null) {
+                // Not finding a method is fine if we're dealing with a virtual node,
+                // otherwise it shouldn't be possible
+                if (visitorMethod.lookupError instanceof IllegalAccessException) {
+                    throw new RuntimeException("Error accessing class: " + visitorMethod.elementClass.getSimpleName(),
+                            visitorMethod.lookupError);
+                } else if (!list) {
+                    throw new RuntimeException("Cannot locate method", visitorMethod.lookupError);
                 }
-            } catch (IllegalAccessException iae) {
-                throw new RuntimeException("Error accessing class: " + currentClass.getSimpleName(), iae);
-            } catch (InvocationTargetException ite) {
-                // An exception was thrown inside the corresponding walk method
-                Throwable throwable = ite.getTargetException();
-                while (throwable instanceof RuntimeException && throwable.getCause() != null) {
-                    throwable = throwable.getCause();
+            } else {
+                // Invoking the visitor method now!!!
+                try {
+                    if (mid) {
+                        visitorMethod.handle.invokeExact(visitor, element, e[1], e[2]);
+                    } else {
+                        visitorMethod.handle.invokeExact(visitor, element);
+                    }
+                } catch (Throwable t) {
+                    // An exception was thrown inside the corresponding visitor method
+                    throw createInvocationError(visitorMethod.elementClass, t);
                 }
-
-                throw new RuntimeException("Target invocation error for class: " + currentClass.getSimpleName(),
-                        throwable);
             }
         }
-
-        if (post) {
-            visitor.postAny(e[0]);
-        }
     }
 
     /**
@@ -200,41 +347,335 @@ public class TreeWalker {
      * @return {@code true} if override exists, {@code false} otherwise.
      */
     private static boolean walkOverride(TreeWalkerVisitor visitor, ResolveConceptualElement e) {
-        Class<?> elementClass = e.getClass();
-        List<Class<?>> classHierarchy = new ArrayList<>();
-        while (elementClass != ResolveConceptualElement.class) {
-            classHierarchy.add(0, elementClass);
-            elementClass = elementClass.getSuperclass();
+        // There are no walk methods for virtual list nodes
+        if (e instanceof VirtualListNode) {
+            return false;
         }
 
-        boolean foundOverride = false;
-        Iterator<Class<?>> iter = classHierarchy.iterator();
-        while (iter.hasNext() && !foundOverride) {
-            Class<?> c = iter.next();
-
-            if (!c.equals(VirtualListNode.class)) {
-                String walkMethodName = "walk" + c.getSimpleName();
-                try {
-                    Method walkMethod = visitor.getClass().getMethod(walkMethodName, c);
-                    foundOverride = ((Boolean) walkMethod.invoke(visitor, e));
-                } catch (NoSuchMethodException nsme) {
-                    // Shouldn't be possible
-                    throw new RuntimeException("Cannot locate method: " + walkMethodName, nsme);
-                } catch (IllegalAccessException iae) {
-                    // Shouldn't be possible
-                    throw new RuntimeException("Error accessing class: " + c.getSimpleName(), iae);
-                } catch (InvocationTargetException ite) {
-                    // An exception was thrown inside the corresponding walk method
-                    Throwable throwable = ite.getTargetException();
-                    while (throwable instanceof RuntimeException && throwable.getCause() != null) {
-                        throwable = throwable.getCause();
-                    }
+        // Use the generated dispatcher if it knows about this kind of node
+        int classId = TreeWalkerDispatcher.getClassId(e.getClass());
+        if (classId >= 0) {
+            try {
+                return TreeWalkerDispatcher.walk(classId, visitor, e);
+            } catch (RuntimeException | Error ex) {
+                throw createInvocationError(e.getClass(), ex);
+            }
+        }
 
-                    throw new RuntimeException("Target invocation error for class: " + c.getSimpleName(), throwable);
+        boolean foundOverride = false;
+        VisitorMethod[] walkMethods = VISITOR_METHODS.get(visitor.getClass()).get(e.getClass()).getMethods("walk");
+        for (int i = 0; i < walkMethods.length && !foundOverride; i++) {
+            VisitorMethod walkMethod = walkMethods[i];
+            if (walkMethod.handle == null) {
+                // Shouldn't be possible
+                if (walkMethod.lookupError instanceof IllegalAccessException) {
+                    throw new RuntimeException("Error accessing class: " + walkMethod.elementClass.getSimpleName(),
+                            walkMethod.lookupError);
                 }
+                throw new RuntimeException("Cannot locate method: walk" + walkMethod.elementClass.getSimpleName(),
+                        walkMethod.lookupError);
+            }
+
+            try {
+                foundOverride = (boolean) walkMethod.handle.invokeExact(visitor, e);
+            } catch (Throwable t) {
+                // An exception was thrown inside the corresponding walk method
+                throw createInvocationError(walkMethod.elementClass, t);
             }
         }
 
         return foundOverride;
     }
+
+    // ===========================================================
+    // Helper Constructs
+    // ===========================================================
+
+    /**
+     * <p>
+     * An helper construct that stores a visitor method that we found using reflection.
+     * </p>
+     */
+    private static class VisitorMethod {
+
+        /**
+         * <p>
+         * The class whose visitor method this is.
+         * </p>
+         */
+        final Class<?> elementClass;
+
+        /**
+         * <p>
+         * A method handle that invokes the visitor method or {@code null} if we couldn't find it.
+         * </p>
+         */
+        final MethodHandle handle;
+
+        /**
+         * <p>
+         * The reason we couldn't find the visitor method.
+         * </p>
+         */
+        final ReflectiveOperationException lookupError;
+
+        /**
+         * <p>
+         * This looks up a visitor method and adapts it to a method handle of the specified type.
+         * </p>
+         *
+         * @param visitorClass
+         *            The class of the {@link TreeWalkerVisitor}.
+         * @param elementClass
+         *            The class whose visitor method this is.
+         * @param methodName
+         *            Name of the visitor method.
+         * @param type
+         *            The type of the method handle we want.
+         * @param parameterTypes
+         *            The parameter types of the visitor method.
+         */
+        VisitorMethod(Class<?> visitorClass, Class<?> elementClass, String methodName, MethodType type,
+                Class<?>... parameterTypes) {
+            MethodHandle foundHandle = null;
+            ReflectiveOperationException foundError = null;
+            try {
+                Method method = visitorClass.getMethod(methodName, parameterTypes);
+                foundHandle = MethodHandles.lookup().unreflect(method).asType(type);
+            } catch (NoSuchMethodException | IllegalAccessException ex) {
+                foundError = ex;
+            }
+
+            this.elementClass = elementClass;
+            this.handle = foundHandle;
+            this.lookupError = foundError;
+        }
+
+    }
+
+    /**
+     * <p>
+     * An helper construct that stores all the visitor methods that a {@link TreeWalkerVisitor} class has for a
+     * {@link ResolveConceptualElement} class.
+     * </p>
+     */
+    private static class VisitorMethods {
+
+        // ===========================================================
+        // Member Fields
+        // ===========================================================
+
+        /**
+         * <p>
+         * The class of the {@link TreeWalkerVisitor}.
+         * </p>
+         */
+        private final Class<?> myVisitorClass;
+
+        /**
+         * <p>
+         * The class of the node we are walking.
+         * </p>
+         */
+        private final Class<?> myElementClass;
+
+        /**
+         * <p>
+         * The {@code walk} methods, from the most general class to the most specific one.
+         * </p>
+         */
+        private final VisitorMethod[] myWalkMethods;
+
+        /**
+         * <p>
+         * The {@code pre} methods, from the most general class to the most specific one.
+         * </p>
+         */
+        private final VisitorMethod[] myPreMethods;
+
+        /**
+         * <p>
+         * The {@code mid} method for the node's class.
+         * </p>
+         */
+        private final VisitorMethod[] myMidMethods;
+
+        /**
+         * <p>
+         * The {@code post} methods, from the most specific class to the most general one.
+         * </p>
+         */
+        private final VisitorMethod[] myPostMethods;
+
+        /**
+         * <p>
+         * The {@code pre}, {@code mid} and {@code post} methods for each of the node's lists.
+         * </p>
+         */
+        private final Map<String, VisitorMethod[][]> myListMethods;
+
+        // ===========================================================
+        // Constructors
+        // ===========================================================
+
+        /**
+         * <p>
+         * This finds all the visitor methods for a {@link ResolveConceptualElement} class.
+         * </p>
+         *
+         * @param visitorClass
+         *            The class of the {@link TreeWalkerVisitor}.
+         * @param elementClass
+         *            The class of the node we are walking.
+         */
+        VisitorMethods(Class<?> visitorClass, Class<?> elementClass) {
+            myVisitorClass = visitorClass;
+            myElementClass = elementClass;
+            myListMethods = new ConcurrentHashMap<>();
+
+            // Get the hierarchy of classes from which this node inherits
+            // e.g., [Dec, ModuleDec, ConceptModuleDec]
+            List<Class<?>> classHierarchy = new ArrayList<>();
+            Class<?> c = elementClass;
+            while (c != ResolveConceptualElement.class) {
+                classHierarchy.add(0, c);
+                c = c.getSuperclass();
+            }
+
+            int size = classHierarchy.size();
+            myWalkMethods = new VisitorMethod[size];
+            myPreMethods = new VisitorMethod[size];
+            myPostMethods = new VisitorMethod[size];
+            for (int i = 0; i < size; i++) {
+                Class<?> currentClass = classHierarchy.get(i);
+                String name = currentClass.getSimpleName();
+                myWalkMethods[i] = new VisitorMethod(visitorClass, currentClass, "walk" + name, WALK_TYPE,
+                        currentClass);
+                myPreMethods[i] = new VisitorMethod(visitorClass, currentClass, "pre" + name, VISIT_TYPE, currentClass);
+                myPostMethods[size - 1 - i] = new VisitorMethod(visitorClass, currentClass, "post" + name, VISIT_TYPE,
+                        currentClass);
+            }
+
+            myMidMethods = new VisitorMethod[] {
+                    new VisitorMethod(visitorClass, elementClass, "mid" + elementClass.getSimpleName(), MID_TYPE,
+                            elementClass, ResolveConceptualElement.class, ResolveConceptualElement.class) };
+        }
+
+        // ===========================================================
+        // Public Methods
+        // ===========================================================
+
+        /**
+         * <p>
+         * This method returns the visitor methods for one of the node's lists.
+         * </p>
+         *
+         * @param prefix
+         *            Prefix string for the current walking method.
+         * @param listNode
+         *            The node that holds the list.
+         *
+         * @return An array with the visitor method.
+         */
+        public final VisitorMethod[] getListMethods(String prefix, VirtualListNode listNode) {
+            VisitorMethod[][] listMethods = myListMethods.computeIfAbsent(listNode.getNodeName(), name -> {
+                Class<?> listType = listNode.getListType();
+                return new VisitorMethod[][] {
+                        { new VisitorMethod(myVisitorClass, myElementClass, "pre" + name, VISIT_TYPE, myElementClass) },
+                        { new VisitorMethod(myVisitorClass, myElementClass, "mid" + name, MID_TYPE, myElementClass,
+                                listType, listType) },
+                        { new VisitorMethod(myVisitorClass, myElementClass, "post" + name, VISIT_TYPE,
+                                myElementClass) } };
+            });
+
+            switch (prefix) {
+            case "pre":
+                return listMethods[0];
+            case "mid":
+                return listMethods[1];
+            default:
+                return listMethods[2];
+            }
+        }
+
+        /**
+         * <p>
+         * This method returns the visitor methods for the node itself.
+         * </p>
+         *
+         * @param prefix
+         *            Prefix string for the current walking method.
+         *
+         * @return An array with the visitor methods in the order we need to invoke them.
+         */
+        public final VisitorMethod[] getMethods(String prefix) {
+            switch (prefix) {
+            case "walk":
+                return myWalkMethods;
+            case "pre":
+                return myPreMethods;
+            case "mid":
+                return myMidMethods;
+            default:
+                return myPostMethods;
+            }
+        }
+
+    }
+
+    /**
+     * <p>
+     * An helper construct that stores how far along we are in visiting the children of a node.
+     * </p>
+     */
+    private static class WalkFrame {
+
+        /**
+         * <p>
+         * The node whose children we are visiting.
+         * </p>
+         */
+        final ResolveConceptualElement element;
+
+        /**
+         * <p>
+         * The children that we haven't visited yet.
+         * </p>
+         */
+        final Iterator<ResolveConceptualElement> children;
+
+        /**
+         * <p>
+         * Whether or not the node has any children.
+         * </p>
+         */
+        final boolean hasChildren;
+
+        /**
+         * <p>
+         * The last child we started visiting.
+         * </p>
+         */
+        ResolveConceptualElement lastChild;
+
+        /**
+         * <p>
+         * This creates a frame for visiting the children of a node.
+         * </p>
+         *
+         * @param element
+         *            The node whose children we are visiting.
+         * @param children
+         *            An iterator over the node's children.
+         * @param hasChildren
+         *            Whether or not the node has any children.
+         */
+        WalkFrame(ResolveConceptualElement element, Iterator<ResolveConceptualElement> children, boolean hasChildren) {
+            this.element = element;
+            this.children = children;
+            this.hasChildren = hasChildren;
+            this.lastChild = null;
+        }
+
+    }
 }
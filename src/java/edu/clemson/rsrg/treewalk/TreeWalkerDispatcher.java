@@ -0,0 +1,2516 @@
+/*
+ * TreeWalkerDispatcher.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.treewalk;
+
+import edu.clemson.rsrg.absyn.*;
+import edu.clemson.rsrg.absyn.clauses.*;
+import edu.clemson.rsrg.absyn.declarations.*;
+import edu.clemson.rsrg.absyn.declarations.facilitydecl.*;
+import edu.clemson.rsrg.absyn.declarations.mathdecl.*;
+import edu.clemson.rsrg.absyn.declarations.moduledecl.*;
+import edu.clemson.rsrg.absyn.declarations.operationdecl.*;
+import edu.clemson.rsrg.absyn.declarations.paramdecl.*;
+import edu.clemson.rsrg.absyn.declarations.sharedstatedecl.*;
+import edu.clemson.rsrg.absyn.declarations.typedecl.*;
+import edu.clemson.rsrg.absyn.declarations.variabledecl.*;
+import edu.clemson.rsrg.absyn.expressions.*;
+import edu.clemson.rsrg.absyn.expressions.mathexpr.*;
+import edu.clemson.rsrg.absyn.expressions.programexpr.*;
+import edu.clemson.rsrg.absyn.items.mathitems.*;
+import edu.clemson.rsrg.absyn.items.programitems.*;
+import edu.clemson.rsrg.absyn.rawtypes.*;
+import edu.clemson.rsrg.absyn.statements.*;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * <p>
+ * This class was generated by {@link WalkerCodeGenerator}. It calls the {@link TreeWalkerVisitor} methods for each
+ * {@link ResolveConceptualElement} directly, so the {@link TreeWalker} does not need to look them up using reflection.
+ * </p>
+ */
+final class TreeWalkerDispatcher {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    private static final Map<Class<?>, Integer> CLASS_IDS = new IdentityHashMap<>();
+
+    static {
+        CLASS_IDS.put(AffectsClause.class, 0);
+        CLASS_IDS.put(AssertionClause.class, 1);
+        CLASS_IDS.put(FacilityDec.class, 2);
+        CLASS_IDS.put(MathAssertionDec.class, 3);
+        CLASS_IDS.put(MathCategoricalDefinitionDec.class, 4);
+        CLASS_IDS.put(MathDefVariableDec.class, 5);
+        CLASS_IDS.put(MathDefinitionDec.class, 6);
+        CLASS_IDS.put(MathTypeTheoremDec.class, 7);
+        CLASS_IDS.put(ConceptModuleDec.class, 8);
+        CLASS_IDS.put(ConceptRealizModuleDec.class, 9);
+        CLASS_IDS.put(EnhancementModuleDec.class, 10);
+        CLASS_IDS.put(EnhancementRealizModuleDec.class, 11);
+        CLASS_IDS.put(FacilityModuleDec.class, 12);
+        CLASS_IDS.put(PerformanceConceptModuleDec.class, 13);
+        CLASS_IDS.put(PerformanceEnhancementModuleDec.class, 14);
+        CLASS_IDS.put(PrecisModuleDec.class, 15);
+        CLASS_IDS.put(ShortFacilityModuleDec.class, 16);
+        CLASS_IDS.put(OperationDec.class, 17);
+        CLASS_IDS.put(OperationProcedureDec.class, 18);
+        CLASS_IDS.put(PerformanceOperationDec.class, 19);
+        CLASS_IDS.put(ProcedureDec.class, 20);
+        CLASS_IDS.put(ConceptTypeParamDec.class, 21);
+        CLASS_IDS.put(ConstantParamDec.class, 22);
+        CLASS_IDS.put(ModuleParameterDec.class, 23);
+        CLASS_IDS.put(RealizationParamDec.class, 24);
+        CLASS_IDS.put(SharedStateDec.class, 25);
+        CLASS_IDS.put(SharedStateRealizationDec.class, 26);
+        CLASS_IDS.put(FacilityTypeRepresentationDec.class, 27);
+        CLASS_IDS.put(PerformanceTypeFamilyDec.class, 28);
+        CLASS_IDS.put(TypeDefinitionDec.class, 29);
+        CLASS_IDS.put(TypeFamilyDec.class, 30);
+        CLASS_IDS.put(TypeRepresentationDec.class, 31);
+        CLASS_IDS.put(MathVarDec.class, 32);
+        CLASS_IDS.put(ParameterVarDec.class, 33);
+        CLASS_IDS.put(VarDec.class, 34);
+        CLASS_IDS.put(AltItemExp.class, 35);
+        CLASS_IDS.put(AlternativeExp.class, 36);
+        CLASS_IDS.put(BetweenExp.class, 37);
+        CLASS_IDS.put(CharExp.class, 38);
+        CLASS_IDS.put(CrossTypeExp.class, 39);
+        CLASS_IDS.put(DotExp.class, 40);
+        CLASS_IDS.put(DoubleExp.class, 41);
+        CLASS_IDS.put(EqualsExp.class, 42);
+        CLASS_IDS.put(FunctionExp.class, 43);
+        CLASS_IDS.put(IfExp.class, 44);
+        CLASS_IDS.put(InfixExp.class, 45);
+        CLASS_IDS.put(IntegerExp.class, 46);
+        CLASS_IDS.put(IterativeExp.class, 47);
+        CLASS_IDS.put(LambdaExp.class, 48);
+        CLASS_IDS.put(OldExp.class, 49);
+        CLASS_IDS.put(OutfixExp.class, 50);
+        CLASS_IDS.put(PrefixExp.class, 51);
+        CLASS_IDS.put(QuantExp.class, 52);
+        CLASS_IDS.put(RecpExp.class, 53);
+        CLASS_IDS.put(SetCollectionExp.class, 54);
+        CLASS_IDS.put(SetExp.class, 55);
+        CLASS_IDS.put(StringExp.class, 56);
+        CLASS_IDS.put(TupleExp.class, 57);
+        CLASS_IDS.put(TypeAssertionExp.class, 58);
+        CLASS_IDS.put(TypeReceptaclesExp.class, 59);
+        CLASS_IDS.put(UnaryMinusExp.class, 60);
+        CLASS_IDS.put(VCVarExp.class, 61);
+        CLASS_IDS.put(VarExp.class, 62);
+        CLASS_IDS.put(ProgramCharExp.class, 63);
+        CLASS_IDS.put(ProgramDoubleExp.class, 64);
+        CLASS_IDS.put(ProgramFunctionExp.class, 65);
+        CLASS_IDS.put(ProgramIntegerExp.class, 66);
+        CLASS_IDS.put(ProgramStringExp.class, 67);
+        CLASS_IDS.put(ProgramVariableArrayExp.class, 68);
+        CLASS_IDS.put(ProgramVariableDotExp.class, 69);
+        CLASS_IDS.put(ProgramVariableNameExp.class, 70);
+        CLASS_IDS.put(DefinitionBodyItem.class, 71);
+        CLASS_IDS.put(LoopVerificationItem.class, 72);
+        CLASS_IDS.put(PerformanceSpecInitFinalItem.class, 73);
+        CLASS_IDS.put(SpecInitFinalItem.class, 74);
+        CLASS_IDS.put(EnhancementSpecItem.class, 75);
+        CLASS_IDS.put(EnhancementSpecRealizItem.class, 76);
+        CLASS_IDS.put(FacilityInitFinalItem.class, 77);
+        CLASS_IDS.put(IfConditionItem.class, 78);
+        CLASS_IDS.put(ModuleArgumentItem.class, 79);
+        CLASS_IDS.put(RealizInitFinalItem.class, 80);
+        CLASS_IDS.put(UsesItem.class, 81);
+        CLASS_IDS.put(ArbitraryExpTy.class, 82);
+        CLASS_IDS.put(NameTy.class, 83);
+        CLASS_IDS.put(RecordTy.class, 84);
+        CLASS_IDS.put(AssumeStmt.class, 85);
+        CLASS_IDS.put(CallStmt.class, 86);
+        CLASS_IDS.put(ChangeStmt.class, 87);
+        CLASS_IDS.put(ConfirmStmt.class, 88);
+        CLASS_IDS.put(FuncAssignStmt.class, 89);
+        CLASS_IDS.put(IfStmt.class, 90);
+        CLASS_IDS.put(MemoryStmt.class, 91);
+        CLASS_IDS.put(PresumeStmt.class, 92);
+        CLASS_IDS.put(SwapStmt.class, 93);
+        CLASS_IDS.put(WhileStmt.class, 94);
+    }
+
+    // ===========================================================
+    // Constructors
+    // ===========================================================
+
+    private TreeWalkerDispatcher() {
+    }
+
+    // ===========================================================
+    // Package Private Methods
+    // ===========================================================
+
+    static int getClassId(Class<?> c) {
+        Integer id = CLASS_IDS.get(c);
+        return id == null ? -1 : id;
+    }
+
+    static void mid(int id, TreeWalkerVisitor v, ResolveConceptualElement e, ResolveConceptualElement previous,
+            ResolveConceptualElement next) {
+        switch (id) {
+        case 0:
+            v.midAffectsClause((AffectsClause) e, previous, next);
+            break;
+        case 1:
+            v.midAssertionClause((AssertionClause) e, previous, next);
+            break;
+        case 2:
+            v.midFacilityDec((FacilityDec) e, previous, next);
+            break;
+        case 3:
+            v.midMathAssertionDec((MathAssertionDec) e, previous, next);
+            break;
+        case 4:
+            v.midMathCategoricalDefinitionDec((MathCategoricalDefinitionDec) e, previous, next);
+            break;
+        case 5:
+            v.midMathDefVariableDec((MathDefVariableDec) e, previous, next);
+            break;
+        case 6:
+            v.midMathDefinitionDec((MathDefinitionDec) e, previous, next);
+            break;
+        case 7:
+            v.midMathTypeTheoremDec((MathTypeTheoremDec) e, previous, next);
+            break;
+        case 8:
+            v.midConceptModuleDec((ConceptModuleDec) e, previous, next);
+            break;
+        case 9:
+            v.midConceptRealizModuleDec((ConceptRealizModuleDec) e, previous, next);
+            break;
+        case 10:
+            v.midEnhancementModuleDec((EnhancementModuleDec) e, previous, next);
+            break;
+        case 11:
+            v.midEnhancementRealizModuleDec((EnhancementRealizModuleDec) e, previous, next);
+            break;
+        case 12:
+            v.midFacilityModuleDec((FacilityModuleDec) e, previous, next);
+            break;
+        case 13:
+            v.midPerformanceConceptModuleDec((PerformanceConceptModuleDec) e, previous, next);
+            break;
+        case 14:
+            v.midPerformanceEnhancementModuleDec((PerformanceEnhancementModuleDec) e, previous, next);
+            break;
+        case 15:
+            v.midPrecisModuleDec((PrecisModuleDec) e, previous, next);
+            break;
+        case 16:
+            v.midShortFacilityModuleDec((ShortFacilityModuleDec) e, previous, next);
+            break;
+        case 17:
+            v.midOperationDec((OperationDec) e, previous, next);
+            break;
+        case 18:
+            v.midOperationProcedureDec((OperationProcedureDec) e, previous, next);
+            break;
+        case 19:
+            v.midPerformanceOperationDec((PerformanceOperationDec) e, previous, next);
+            break;
+        case 20:
+            v.midProcedureDec((ProcedureDec) e, previous, next);
+            break;
+        case 21:
+            v.midConceptTypeParamDec((ConceptTypeParamDec) e, previous, next);
+            break;
+        case 22:
+            v.midConstantParamDec((ConstantParamDec) e, previous, next);
+            break;
+        case 23:
+            v.midModuleParameterDec((ModuleParameterDec) e, previous, next);
+            break;
+        case 24:
+            v.midRealizationParamDec((RealizationParamDec) e, previous, next);
+            break;
+        case 25:
+            v.midSharedStateDec((SharedStateDec) e, previous, next);
+            break;
+        case 26:
+            v.midSharedStateRealizationDec((SharedStateRealizationDec) e, previous, next);
+            break;
+        case 27:
+            v.midFacilityTypeRepresentationDec((FacilityTypeRepresentationDec) e, previous, next);
+            break;
+        case 28:
+            v.midPerformanceTypeFamilyDec((PerformanceTypeFamilyDec) e, previous, next);
+            break;
+        case 29:
+            v.midTypeDefinitionDec((TypeDefinitionDec) e, previous, next);
+            break;
+        case 30:
+            v.midTypeFamilyDec((TypeFamilyDec) e, previous, next);
+            break;
+        case 31:
+            v.midTypeRepresentationDec((TypeRepresentationDec) e, previous, next);
+            break;
+        case 32:
+            v.midMathVarDec((MathVarDec) e, previous, next);
+            break;
+        case 33:
+            v.midParameterVarDec((ParameterVarDec) e, previous, next);
+            break;
+        case 34:
+            v.midVarDec((VarDec) e, previous, next);
+            break;
+        case 35:
+            v.midAltItemExp((AltItemExp) e, previous, next);
+            break;
+        case 36:
+            v.midAlternativeExp((AlternativeExp) e, previous, next);
+            break;
+        case 37:
+            v.midBetweenExp((BetweenExp) e, previous, next);
+            break;
+        case 38:
+            v.midCharExp((CharExp) e, previous, next);
+            break;
+        case 39:
+            v.midCrossTypeExp((CrossTypeExp) e, previous, next);
+            break;
+        case 40:
+            v.midDotExp((DotExp) e, previous, next);
+            break;
+        case 41:
+            v.midDoubleExp((DoubleExp) e, previous, next);
+            break;
+        case 42:
+            v.midEqualsExp((EqualsExp) e, previous, next);
+            break;
+        case 43:
+            v.midFunctionExp((FunctionExp) e, previous, next);
+            break;
+        case 44:
+            v.midIfExp((IfExp) e, previous, next);
+            break;
+        case 45:
+            v.midInfixExp((InfixExp) e, previous, next);
+            break;
+        case 46:
+            v.midIntegerExp((IntegerExp) e, previous, next);
+            break;
+        case 47:
+            v.midIterativeExp((IterativeExp) e, previous, next);
+            break;
+        case 48:
+            v.midLambdaExp((LambdaExp) e, previous, next);
+            break;
+        case 49:
+            v.midOldExp((OldExp) e, previous, next);
+            break;
+        case 50:
+            v.midOutfixExp((OutfixExp) e, previous, next);
+            break;
+        case 51:
+            v.midPrefixExp((PrefixExp) e, previous, next);
+            break;
+        case 52:
+            v.midQuantExp((QuantExp) e, previous, next);
+            break;
+        case 53:
+            v.midRecpExp((RecpExp) e, previous, next);
+            break;
+        case 54:
+            v.midSetCollectionExp((SetCollectionExp) e, previous, next);
+            break;
+        case 55:
+            v.midSetExp((SetExp) e, previous, next);
+            break;
+        case 56:
+            v.midStringExp((StringExp) e, previous, next);
+            break;
+        case 57:
+            v.midTupleExp((TupleExp) e, previous, next);
+            break;
+        case 58:
+            v.midTypeAssertionExp((TypeAssertionExp) e, previous, next);
+            break;
+        case 59:
+            v.midTypeReceptaclesExp((TypeReceptaclesExp) e, previous, next);
+            break;
+        case 60:
+            v.midUnaryMinusExp((UnaryMinusExp) e, previous, next);
+            break;
+        case 61:
+            v.midVCVarExp((VCVarExp) e, previous, next);
+            break;
+        case 62:
+            v.midVarExp((VarExp) e, previous, next);
+            break;
+        case 63:
+            v.midProgramCharExp((ProgramCharExp) e, previous, next);
+            break;
+        case 64:
+            v.midProgramDoubleExp((ProgramDoubleExp) e, previous, next);
+            break;
+        case 65:
+            v.midProgramFunctionExp((ProgramFunctionExp) e, previous, next);
+            break;
+        case 66:
+            v.midProgramIntegerExp((ProgramIntegerExp) e, previous, next);
+            break;
+        case 67:
+            v.midProgramStringExp((ProgramStringExp) e, previous, next);
+            break;
+        case 68:
+            v.midProgramVariableArrayExp((ProgramVariableArrayExp) e, previous, next);
+            break;
+        case 69:
+            v.midProgramVariableDotExp((ProgramVariableDotExp) e, previous, next);
+            break;
+        case 70:
+            v.midProgramVariableNameExp((ProgramVariableNameExp) e, previous, next);
+            break;
+        case 71:
+            v.midDefinitionBodyItem((DefinitionBodyItem) e, previous, next);
+            break;
+        case 72:
+            v.midLoopVerificationItem((LoopVerificationItem) e, previous, next);
+            break;
+        case 73:
+            v.midPerformanceSpecInitFinalItem((PerformanceSpecInitFinalItem) e, previous, next);
+            break;
+        case 74:
+            v.midSpecInitFinalItem((SpecInitFinalItem) e, previous, next);
+            break;
+        case 75:
+            v.midEnhancementSpecItem((EnhancementSpecItem) e, previous, next);
+            break;
+        case 76:
+            v.midEnhancementSpecRealizItem((EnhancementSpecRealizItem) e, previous, next);
+            break;
+        case 77:
+            v.midFacilityInitFinalItem((FacilityInitFinalItem) e, previous, next);
+            break;
+        case 78:
+            v.midIfConditionItem((IfConditionItem) e, previous, next);
+            break;
+        case 79:
+            v.midModuleArgumentItem((ModuleArgumentItem) e, previous, next);
+            break;
+        case 80:
+            v.midRealizInitFinalItem((RealizInitFinalItem) e, previous, next);
+            break;
+        case 81:
+            v.midUsesItem((UsesItem) e, previous, next);
+            break;
+        case 82:
+            v.midArbitraryExpTy((ArbitraryExpTy) e, previous, next);
+            break;
+        case 83:
+            v.midNameTy((NameTy) e, previous, next);
+            break;
+        case 84:
+            v.midRecordTy((RecordTy) e, previous, next);
+            break;
+        case 85:
+            v.midAssumeStmt((AssumeStmt) e, previous, next);
+            break;
+        case 86:
+            v.midCallStmt((CallStmt) e, previous, next);
+            break;
+        case 87:
+            v.midChangeStmt((ChangeStmt) e, previous, next);
+            break;
+        case 88:
+            v.midConfirmStmt((ConfirmStmt) e, previous, next);
+            break;
+        case 89:
+            v.midFuncAssignStmt((FuncAssignStmt) e, previous, next);
+            break;
+        case 90:
+            v.midIfStmt((IfStmt) e, previous, next);
+            break;
+        case 91:
+            v.midMemoryStmt((MemoryStmt) e, previous, next);
+            break;
+        case 92:
+            v.midPresumeStmt((PresumeStmt) e, previous, next);
+            break;
+        case 93:
+            v.midSwapStmt((SwapStmt) e, previous, next);
+            break;
+        case 94:
+            v.midWhileStmt((WhileStmt) e, previous, next);
+            break;
+        default:
+            break;
+        }
+    }
+
+    static void midList(int id, String nodeName, TreeWalkerVisitor v, ResolveConceptualElement parent,
+            ResolveConceptualElement previous, ResolveConceptualElement next) {
+        switch (id) {
+        default:
+            break;
+        }
+    }
+
+    static void post(int id, TreeWalkerVisitor v, ResolveConceptualElement e) {
+        switch (id) {
+        case 0:
+            v.postAffectsClause((AffectsClause) e);
+            break;
+        case 1:
+            v.postAssertionClause((AssertionClause) e);
+            break;
+        case 2:
+            v.postFacilityDec((FacilityDec) e);
+            v.postDec((Dec) e);
+            break;
+        case 3:
+            v.postMathAssertionDec((MathAssertionDec) e);
+            v.postDec((Dec) e);
+            break;
+        case 4:
+            v.postMathCategoricalDefinitionDec((MathCategoricalDefinitionDec) e);
+            v.postDec((Dec) e);
+            break;
+        case 5:
+            v.postMathDefVariableDec((MathDefVariableDec) e);
+            v.postDec((Dec) e);
+            break;
+        case 6:
+            v.postMathDefinitionDec((MathDefinitionDec) e);
+            v.postDec((Dec) e);
+            break;
+        case 7:
+            v.postMathTypeTheoremDec((MathTypeTheoremDec) e);
+            v.postDec((Dec) e);
+            break;
+        case 8:
+            v.postConceptModuleDec((ConceptModuleDec) e);
+            v.postModuleDec((ModuleDec) e);
+            v.postDec((Dec) e);
+            break;
+        case 9:
+            v.postConceptRealizModuleDec((ConceptRealizModuleDec) e);
+            v.postModuleDec((ModuleDec) e);
+            v.postDec((Dec) e);
+            break;
+        case 10:
+            v.postEnhancementModuleDec((EnhancementModuleDec) e);
+            v.postModuleDec((ModuleDec) e);
+            v.postDec((Dec) e);
+            break;
+        case 11:
+            v.postEnhancementRealizModuleDec((EnhancementRealizModuleDec) e);
+            v.postModuleDec((ModuleDec) e);
+            v.postDec((Dec) e);
+            break;
+        case 12:
+            v.postFacilityModuleDec((FacilityModuleDec) e);
+            v.postModuleDec((ModuleDec) e);
+            v.postDec((Dec) e);
+            break;
+        case 13:
+            v.postPerformanceConceptModuleDec((PerformanceConceptModuleDec) e);
+            v.postModuleDec((ModuleDec) e);
+            v.postDec((Dec) e);
+            break;
+        case 14:
+            v.postPerformanceEnhancementModuleDec((PerformanceEnhancementModuleDec) e);
+            v.postModuleDec((ModuleDec) e);
+            v.postDec((Dec) e);
+            break;
+        case 15:
+            v.postPrecisModuleDec((PrecisModuleDec) e);
+            v.postModuleDec((ModuleDec) e);
+            v.postDec((Dec) e);
+            break;
+        case 16:
+            v.postShortFacilityModuleDec((ShortFacilityModuleDec) e);
+            v.postModuleDec((ModuleDec) e);
+            v.postDec((Dec) e);
+            break;
+        case 17:
+            v.postOperationDec((OperationDec) e);
+            v.postDec((Dec) e);
+            break;
+        case 18:
+            v.postOperationProcedureDec((OperationProcedureDec) e);
+            v.postDec((Dec) e);
+            break;
+        case 19:
+            v.postPerformanceOperationDec((PerformanceOperationDec) e);
+            v.postDec((Dec) e);
+            break;
+        case 20:
+            v.postProcedureDec((ProcedureDec) e);
+            v.postDec((Dec) e);
+            break;
+        case 21:
+            v.postConceptTypeParamDec((ConceptTypeParamDec) e);
+            v.postDec((Dec) e);
+            break;
+        case 22:
+            v.postConstantParamDec((ConstantParamDec) e);
+            v.postDec((Dec) e);
+            break;
+        case 23:
+            v.postModuleParameterDec((ModuleParameterDec) e);
+            v.postDec((Dec) e);
+            break;
+        case 24:
+            v.postRealizationParamDec((RealizationParamDec) e);
+            v.postDec((Dec) e);
+            break;
+        case 25:
+            v.postSharedStateDec((SharedStateDec) e);
+            v.postDec((Dec) e);
+            break;
+        case 26:
+            v.postSharedStateRealizationDec((SharedStateRealizationDec) e);
+            v.postAbstractSharedStateRealizationDec((AbstractSharedStateRealizationDec) e);
+            v.postDec((Dec) e);
+            break;
+        case 27:
+            v.postFacilityTypeRepresentationDec((FacilityTypeRepresentationDec) e);
+            v.postAbstractTypeRepresentationDec((AbstractTypeRepresentationDec) e);
+            v.postDec((Dec) e);
+            break;
+        case 28:
+            v.postPerformanceTypeFamilyDec((PerformanceTypeFamilyDec) e);
+            v.postDec((Dec) e);
+            break;
+        case 29:
+            v.postTypeDefinitionDec((TypeDefinitionDec) e);
+            v.postDec((Dec) e);
+            break;
+        case 30:
+            v.postTypeFamilyDec((TypeFamilyDec) e);
+            v.postDec((Dec) e);
+            break;
+        case 31:
+            v.postTypeRepresentationDec((TypeRepresentationDec) e);
+            v.postAbstractTypeRepresentationDec((AbstractTypeRepresentationDec) e);
+            v.postDec((Dec) e);
+            break;
+        case 32:
+            v.postMathVarDec((MathVarDec) e);
+            v.postAbstractVarDec((AbstractVarDec) e);
+            v.postDec((Dec) e);
+            break;
+        case 33:
+            v.postParameterVarDec((ParameterVarDec) e);
+            v.postAbstractVarDec((AbstractVarDec) e);
+            v.postDec((Dec) e);
+            break;
+        case 34:
+            v.postVarDec((VarDec) e);
+            v.postAbstractVarDec((AbstractVarDec) e);
+            v.postDec((Dec) e);
+            break;
+        case 35:
+            v.postAltItemExp((AltItemExp) e);
+            v.postMathExp((MathExp) e);
+            v.postExp((Exp) e);
+            break;
+        case 36:
+            v.postAlternativeExp((AlternativeExp) e);
+            v.postMathExp((MathExp) e);
+            v.postExp((Exp) e);
+            break;
+        case 37:
+            v.postBetweenExp((BetweenExp) e);
+            v.postMathExp((MathExp) e);
+            v.postExp((Exp) e);
+            break;
+        case 38:
+            v.postCharExp((CharExp) e);
+            v.postLiteralExp((LiteralExp) e);
+            v.postMathExp((MathExp) e);
+            v.postExp((Exp) e);
+            break;
+        case 39:
+            v.postCrossTypeExp((CrossTypeExp) e);
+            v.postMathExp((MathExp) e);
+            v.postExp((Exp) e);
+            break;
+        case 40:
+            v.postDotExp((DotExp) e);
+            v.postMathExp((MathExp) e);
+            v.postExp((Exp) e);
+            break;
+        case 41:
+            v.postDoubleExp((DoubleExp) e);
+            v.postLiteralExp((LiteralExp) e);
+            v.postMathExp((MathExp) e);
+            v.postExp((Exp) e);
+            break;
+        case 42:
+            v.postEqualsExp((EqualsExp) e);
+            v.postInfixExp((InfixExp) e);
+            v.postAbstractFunctionExp((AbstractFunctionExp) e);
+            v.postMathExp((MathExp) e);
+            v.postExp((Exp) e);
+            break;
+        case 43:
+            v.postFunctionExp((FunctionExp) e);
+            v.postAbstractFunctionExp((AbstractFunctionExp) e);
+            v.postMathExp((MathExp) e);
+            v.postExp((Exp) e);
+            break;
+        case 44:
+            v.postIfExp((IfExp) e);
+            v.postMathExp((MathExp) e);
+            v.postExp((Exp) e);
+            break;
+        case 45:
+            v.postInfixExp((InfixExp) e);
+            v.postAbstractFunctionExp((AbstractFunctionExp) e);
+            v.postMathExp((MathExp) e);
+            v.postExp((Exp) e);
+            break;
+        case 46:
+            v.postIntegerExp((IntegerExp) e);
+            v.postLiteralExp((LiteralExp) e);
+            v.postMathExp((MathExp) e);
+            v.postExp((Exp) e);
+            break;
+        case 47:
+            v.postIterativeExp((IterativeExp) e);
+            v.postMathExp((MathExp) e);
+            v.postExp((Exp) e);
+            break;
+        case 48:
+            v.postLambdaExp((LambdaExp) e);
+            v.postMathExp((MathExp) e);
+            v.postExp((Exp) e);
+            break;
+        case 49:
+            v.postOldExp((OldExp) e);
+            v.postMathExp((MathExp) e);
+            v.postExp((Exp) e);
+            break;
+        case 50:
+            v.postOutfixExp((OutfixExp) e);
+            v.postAbstractFunctionExp((AbstractFunctionExp) e);
+            v.postMathExp((MathExp) e);
+            v.postExp((Exp) e);
+            break;
+        case 51:
+            v.postPrefixExp((PrefixExp) e);
+            v.postAbstractFunctionExp((AbstractFunctionExp) e);
+            v.postMathExp((MathExp) e);
+            v.postExp((Exp) e);
+            break;
+        case 52:
+            v.postQuantExp((QuantExp) e);
+            v.postMathExp((MathExp) e);
+            v.postExp((Exp) e);
+            break;
+        case 53:
+            v.postRecpExp((RecpExp) e);
+            v.postMathExp((MathExp) e);
+            v.postExp((Exp) e);
+            break;
+        case 54:
+            v.postSetCollectionExp((SetCollectionExp) e);
+            v.postMathExp((MathExp) e);
+            v.postExp((Exp) e);
+            break;
+        case 55:
+            v.postSetExp((SetExp) e);
+            v.postMathExp((MathExp) e);
+            v.postExp((Exp) e);
+            break;
+        case 56:
+            v.postStringExp((StringExp) e);
+            v.postLiteralExp((LiteralExp) e);
+            v.postMathExp((MathExp) e);
+            v.postExp((Exp) e);
+            break;
+        case 57:
+            v.postTupleExp((TupleExp) e);
+            v.postMathExp((MathExp) e);
+            v.postExp((Exp) e);
+            break;
+        case 58:
+            v.postTypeAssertionExp((TypeAssertionExp) e);
+            v.postMathExp((MathExp) e);
+            v.postExp((Exp) e);
+            break;
+        case 59:
+            v.postTypeReceptaclesExp((TypeReceptaclesExp) e);
+            v.postMathExp((MathExp) e);
+            v.postExp((Exp) e);
+            break;
+        case 60:
+            v.postUnaryMinusExp((UnaryMinusExp) e);
+            v.postMathExp((MathExp) e);
+            v.postExp((Exp) e);
+            break;
+        case 61:
+            v.postVCVarExp((VCVarExp) e);
+            v.postMathExp((MathExp) e);
+            v.postExp((Exp) e);
+            break;
+        case 62:
+            v.postVarExp((VarExp) e);
+            v.postMathExp((MathExp) e);
+            v.postExp((Exp) e);
+            break;
+        case 63:
+            v.postProgramCharExp((ProgramCharExp) e);
+            v.postProgramLiteralExp((ProgramLiteralExp) e);
+            v.postProgramExp((ProgramExp) e);
+            v.postExp((Exp) e);
+            break;
+        case 64:
+            v.postProgramDoubleExp((ProgramDoubleExp) e);
+            v.postProgramLiteralExp((ProgramLiteralExp) e);
+            v.postProgramExp((ProgramExp) e);
+            v.postExp((Exp) e);
+            break;
+        case 65:
+            v.postProgramFunctionExp((ProgramFunctionExp) e);
+            v.postProgramExp((ProgramExp) e);
+            v.postExp((Exp) e);
+            break;
+        case 66:
+            v.postProgramIntegerExp((ProgramIntegerExp) e);
+            v.postProgramLiteralExp((ProgramLiteralExp) e);
+            v.postProgramExp((ProgramExp) e);
+            v.postExp((Exp) e);
+            break;
+        case 67:
+            v.postProgramStringExp((ProgramStringExp) e);
+            v.postProgramLiteralExp((ProgramLiteralExp) e);
+            v.postProgramExp((ProgramExp) e);
+            v.postExp((Exp) e);
+            break;
+        case 68:
+            v.postProgramVariableArrayExp((ProgramVariableArrayExp) e);
+            v.postProgramVariableExp((ProgramVariableExp) e);
+            v.postProgramExp((ProgramExp) e);
+            v.postExp((Exp) e);
+            break;
+        case 69:
+            v.postProgramVariableDotExp((ProgramVariableDotExp) e);
+            v.postProgramVariableExp((ProgramVariableExp) e);
+            v.postProgramExp((ProgramExp) e);
+            v.postExp((Exp) e);
+            break;
+        case 70:
+            v.postProgramVariableNameExp((ProgramVariableNameExp) e);
+            v.postProgramVariableExp((ProgramVariableExp) e);
+            v.postProgramExp((ProgramExp) e);
+            v.postExp((Exp) e);
+            break;
+        case 71:
+            v.postDefinitionBodyItem((DefinitionBodyItem) e);
+            break;
+        case 72:
+            v.postLoopVerificationItem((LoopVerificationItem) e);
+            break;
+        case 73:
+            v.postPerformanceSpecInitFinalItem((PerformanceSpecInitFinalItem) e);
+            break;
+        case 74:
+            v.postSpecInitFinalItem((SpecInitFinalItem) e);
+            break;
+        case 75:
+            v.postEnhancementSpecItem((EnhancementSpecItem) e);
+            break;
+        case 76:
+            v.postEnhancementSpecRealizItem((EnhancementSpecRealizItem) e);
+            break;
+        case 77:
+            v.postFacilityInitFinalItem((FacilityInitFinalItem) e);
+            v.postAbstractInitFinalItem((AbstractInitFinalItem) e);
+            break;
+        case 78:
+            v.postIfConditionItem((IfConditionItem) e);
+            break;
+        case 79:
+            v.postModuleArgumentItem((ModuleArgumentItem) e);
+            break;
+        case 80:
+            v.postRealizInitFinalItem((RealizInitFinalItem) e);
+            v.postAbstractInitFinalItem((AbstractInitFinalItem) e);
+            break;
+        case 81:
+            v.postUsesItem((UsesItem) e);
+            break;
+        case 82:
+            v.postArbitraryExpTy((ArbitraryExpTy) e);
+            v.postTy((Ty) e);
+            break;
+        case 83:
+            v.postNameTy((NameTy) e);
+            v.postTy((Ty) e);
+            break;
+        case 84:
+            v.postRecordTy((RecordTy) e);
+            v.postTy((Ty) e);
+            break;
+        case 85:
+            v.postAssumeStmt((AssumeStmt) e);
+            v.postStatement((Statement) e);
+            break;
+        case 86:
+            v.postCallStmt((CallStmt) e);
+            v.postStatement((Statement) e);
+            break;
+        case 87:
+            v.postChangeStmt((ChangeStmt) e);
+            v.postStatement((Statement) e);
+            break;
+        case 88:
+            v.postConfirmStmt((ConfirmStmt) e);
+            v.postStatement((Statement) e);
+            break;
+        case 89:
+            v.postFuncAssignStmt((FuncAssignStmt) e);
+            v.postStatement((Statement) e);
+            break;
+        case 90:
+            v.postIfStmt((IfStmt) e);
+            v.postStatement((Statement) e);
+            break;
+        case 91:
+            v.postMemoryStmt((MemoryStmt) e);
+            v.postStatement((Statement) e);
+            break;
+        case 92:
+            v.postPresumeStmt((PresumeStmt) e);
+            v.postStatement((Statement) e);
+            break;
+        case 93:
+            v.postSwapStmt((SwapStmt) e);
+            v.postStatement((Statement) e);
+            break;
+        case 94:
+            v.postWhileStmt((WhileStmt) e);
+            v.postStatement((Statement) e);
+            break;
+        default:
+            break;
+        }
+    }
+
+    static void postList(int id, String nodeName, TreeWalkerVisitor v, ResolveConceptualElement parent) {
+        switch (id) {
+        case 0:
+            switch (nodeName) {
+            case "AffectsClauseMyAffectedExps":
+                v.postAffectsClauseMyAffectedExps((AffectsClause) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 1:
+            switch (nodeName) {
+            case "AssertionClauseMyInvolvedSharedVars":
+                v.postAssertionClauseMyInvolvedSharedVars((AssertionClause) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 2:
+            switch (nodeName) {
+            case "FacilityDecMyConceptParams":
+                v.postFacilityDecMyConceptParams((FacilityDec) parent);
+                break;
+            case "FacilityDecMyConceptRealizParams":
+                v.postFacilityDecMyConceptRealizParams((FacilityDec) parent);
+                break;
+            case "FacilityDecMyEnhancementRealizPairs":
+                v.postFacilityDecMyEnhancementRealizPairs((FacilityDec) parent);
+                break;
+            case "FacilityDecMyEnhancements":
+                v.postFacilityDecMyEnhancements((FacilityDec) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 4:
+            switch (nodeName) {
+            case "MathCategoricalDefinitionDecMyDefinitions":
+                v.postMathCategoricalDefinitionDecMyDefinitions((MathCategoricalDefinitionDec) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 6:
+            switch (nodeName) {
+            case "MathDefinitionDecMyParameters":
+                v.postMathDefinitionDecMyParameters((MathDefinitionDec) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 7:
+            switch (nodeName) {
+            case "MathTypeTheoremDecMyUniversalVars":
+                v.postMathTypeTheoremDecMyUniversalVars((MathTypeTheoremDec) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 8:
+            switch (nodeName) {
+            case "ConceptModuleDecMyConstraints":
+                v.postConceptModuleDecMyConstraints((ConceptModuleDec) parent);
+                break;
+            case "ConceptModuleDecMyDecs":
+                v.postConceptModuleDecMyDecs((ConceptModuleDec) parent);
+                break;
+            case "ConceptModuleDecMyParameterDecs":
+                v.postConceptModuleDecMyParameterDecs((ConceptModuleDec) parent);
+                break;
+            case "ConceptModuleDecMyUsesItems":
+                v.postConceptModuleDecMyUsesItems((ConceptModuleDec) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 9:
+            switch (nodeName) {
+            case "ConceptRealizModuleDecMyDecs":
+                v.postConceptRealizModuleDecMyDecs((ConceptRealizModuleDec) parent);
+                break;
+            case "ConceptRealizModuleDecMyParameterDecs":
+                v.postConceptRealizModuleDecMyParameterDecs((ConceptRealizModuleDec) parent);
+                break;
+            case "ConceptRealizModuleDecMyUsesItems":
+                v.postConceptRealizModuleDecMyUsesItems((ConceptRealizModuleDec) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 10:
+            switch (nodeName) {
+            case "EnhancementModuleDecMyDecs":
+                v.postEnhancementModuleDecMyDecs((EnhancementModuleDec) parent);
+                break;
+            case "EnhancementModuleDecMyParameterDecs":
+                v.postEnhancementModuleDecMyParameterDecs((EnhancementModuleDec) parent);
+                break;
+            case "EnhancementModuleDecMyUsesItems":
+                v.postEnhancementModuleDecMyUsesItems((EnhancementModuleDec) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 11:
+            switch (nodeName) {
+            case "EnhancementRealizModuleDecMyDecs":
+                v.postEnhancementRealizModuleDecMyDecs((EnhancementRealizModuleDec) parent);
+                break;
+            case "EnhancementRealizModuleDecMyParameterDecs":
+                v.postEnhancementRealizModuleDecMyParameterDecs((EnhancementRealizModuleDec) parent);
+                break;
+            case "EnhancementRealizModuleDecMyUsesItems":
+                v.postEnhancementRealizModuleDecMyUsesItems((EnhancementRealizModuleDec) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 12:
+            switch (nodeName) {
+            case "FacilityModuleDecMyDecs":
+                v.postFacilityModuleDecMyDecs((FacilityModuleDec) parent);
+                break;
+            case "FacilityModuleDecMyParameterDecs":
+                v.postFacilityModuleDecMyParameterDecs((FacilityModuleDec) parent);
+                break;
+            case "FacilityModuleDecMyUsesItems":
+                v.postFacilityModuleDecMyUsesItems((FacilityModuleDec) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 13:
+            switch (nodeName) {
+            case "PerformanceConceptModuleDecMyDecs":
+                v.postPerformanceConceptModuleDecMyDecs((PerformanceConceptModuleDec) parent);
+                break;
+            case "PerformanceConceptModuleDecMyParameterDecs":
+                v.postPerformanceConceptModuleDecMyParameterDecs((PerformanceConceptModuleDec) parent);
+                break;
+            case "PerformanceConceptModuleDecMyUsesItems":
+                v.postPerformanceConceptModuleDecMyUsesItems((PerformanceConceptModuleDec) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 14:
+            switch (nodeName) {
+            case "PerformanceEnhancementModuleDecMyDecs":
+                v.postPerformanceEnhancementModuleDecMyDecs((PerformanceEnhancementModuleDec) parent);
+                break;
+            case "PerformanceEnhancementModuleDecMyParameterDecs":
+                v.postPerformanceEnhancementModuleDecMyParameterDecs((PerformanceEnhancementModuleDec) parent);
+                break;
+            case "PerformanceEnhancementModuleDecMyUsesItems":
+                v.postPerformanceEnhancementModuleDecMyUsesItems((PerformanceEnhancementModuleDec) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 15:
+            switch (nodeName) {
+            case "PrecisModuleDecMyDecs":
+                v.postPrecisModuleDecMyDecs((PrecisModuleDec) parent);
+                break;
+            case "PrecisModuleDecMyParameterDecs":
+                v.postPrecisModuleDecMyParameterDecs((PrecisModuleDec) parent);
+                break;
+            case "PrecisModuleDecMyUsesItems":
+                v.postPrecisModuleDecMyUsesItems((PrecisModuleDec) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 16:
+            switch (nodeName) {
+            case "ShortFacilityModuleDecMyDecs":
+                v.postShortFacilityModuleDecMyDecs((ShortFacilityModuleDec) parent);
+                break;
+            case "ShortFacilityModuleDecMyParameterDecs":
+                v.postShortFacilityModuleDecMyParameterDecs((ShortFacilityModuleDec) parent);
+                break;
+            case "ShortFacilityModuleDecMyUsesItems":
+                v.postShortFacilityModuleDecMyUsesItems((ShortFacilityModuleDec) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 17:
+            switch (nodeName) {
+            case "OperationDecMyParameters":
+                v.postOperationDecMyParameters((OperationDec) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 18:
+            switch (nodeName) {
+            case "OperationProcedureDecMyFacilityDecs":
+                v.postOperationProcedureDecMyFacilityDecs((OperationProcedureDec) parent);
+                break;
+            case "OperationProcedureDecMyStatements":
+                v.postOperationProcedureDecMyStatements((OperationProcedureDec) parent);
+                break;
+            case "OperationProcedureDecMyVariableDecs":
+                v.postOperationProcedureDecMyVariableDecs((OperationProcedureDec) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 20:
+            switch (nodeName) {
+            case "ProcedureDecMyFacilityDecs":
+                v.postProcedureDecMyFacilityDecs((ProcedureDec) parent);
+                break;
+            case "ProcedureDecMyParameters":
+                v.postProcedureDecMyParameters((ProcedureDec) parent);
+                break;
+            case "ProcedureDecMyStatements":
+                v.postProcedureDecMyStatements((ProcedureDec) parent);
+                break;
+            case "ProcedureDecMyVariableDecs":
+                v.postProcedureDecMyVariableDecs((ProcedureDec) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 25:
+            switch (nodeName) {
+            case "SharedStateDecMyAbstractStateVars":
+                v.postSharedStateDecMyAbstractStateVars((SharedStateDec) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 26:
+            switch (nodeName) {
+            case "SharedStateRealizationDecMyStateVars":
+                v.postSharedStateRealizationDecMyStateVars((SharedStateRealizationDec) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 30:
+            switch (nodeName) {
+            case "TypeFamilyDecMyDefVarList":
+                v.postTypeFamilyDecMyDefVarList((TypeFamilyDec) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 36:
+            switch (nodeName) {
+            case "AlternativeExpMyAlternatives":
+                v.postAlternativeExpMyAlternatives((AlternativeExp) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 37:
+            switch (nodeName) {
+            case "BetweenExpMyJoiningExps":
+                v.postBetweenExpMyJoiningExps((BetweenExp) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 40:
+            switch (nodeName) {
+            case "DotExpMySegmentExps":
+                v.postDotExpMySegmentExps((DotExp) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 43:
+            switch (nodeName) {
+            case "FunctionExpMyArguments":
+                v.postFunctionExpMyArguments((FunctionExp) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 48:
+            switch (nodeName) {
+            case "LambdaExpMyParameters":
+                v.postLambdaExpMyParameters((LambdaExp) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 52:
+            switch (nodeName) {
+            case "QuantExpMyVars":
+                v.postQuantExpMyVars((QuantExp) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 57:
+            switch (nodeName) {
+            case "TupleExpMyFields":
+                v.postTupleExpMyFields((TupleExp) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 65:
+            switch (nodeName) {
+            case "ProgramFunctionExpMyExpressionArgs":
+                v.postProgramFunctionExpMyExpressionArgs((ProgramFunctionExp) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 69:
+            switch (nodeName) {
+            case "ProgramVariableDotExpMySegmentExps":
+                v.postProgramVariableDotExpMySegmentExps((ProgramVariableDotExp) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 72:
+            switch (nodeName) {
+            case "LoopVerificationItemMyChangingVars":
+                v.postLoopVerificationItemMyChangingVars((LoopVerificationItem) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 75:
+            switch (nodeName) {
+            case "EnhancementSpecItemMyParams":
+                v.postEnhancementSpecItemMyParams((EnhancementSpecItem) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 76:
+            switch (nodeName) {
+            case "EnhancementSpecRealizItemMyEnhancementParams":
+                v.postEnhancementSpecRealizItemMyEnhancementParams((EnhancementSpecRealizItem) parent);
+                break;
+            case "EnhancementSpecRealizItemMyEnhancementRealizParams":
+                v.postEnhancementSpecRealizItemMyEnhancementRealizParams((EnhancementSpecRealizItem) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 77:
+            switch (nodeName) {
+            case "FacilityInitFinalItemMyFacilityDecs":
+                v.postFacilityInitFinalItemMyFacilityDecs((FacilityInitFinalItem) parent);
+                break;
+            case "FacilityInitFinalItemMyStatements":
+                v.postFacilityInitFinalItemMyStatements((FacilityInitFinalItem) parent);
+                break;
+            case "FacilityInitFinalItemMyVariableDecs":
+                v.postFacilityInitFinalItemMyVariableDecs((FacilityInitFinalItem) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 78:
+            switch (nodeName) {
+            case "IfConditionItemMyStatements":
+                v.postIfConditionItemMyStatements((IfConditionItem) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 80:
+            switch (nodeName) {
+            case "RealizInitFinalItemMyFacilityDecs":
+                v.postRealizInitFinalItemMyFacilityDecs((RealizInitFinalItem) parent);
+                break;
+            case "RealizInitFinalItemMyStatements":
+                v.postRealizInitFinalItemMyStatements((RealizInitFinalItem) parent);
+                break;
+            case "RealizInitFinalItemMyVariableDecs":
+                v.postRealizInitFinalItemMyVariableDecs((RealizInitFinalItem) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 84:
+            switch (nodeName) {
+            case "RecordTyMyInnerFields":
+                v.postRecordTyMyInnerFields((RecordTy) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 87:
+            switch (nodeName) {
+            case "ChangeStmtMyChangingVars":
+                v.postChangeStmtMyChangingVars((ChangeStmt) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 90:
+            switch (nodeName) {
+            case "IfStmtMyElseIfs":
+                v.postIfStmtMyElseIfs((IfStmt) parent);
+                break;
+            case "IfStmtMyElseStatements":
+                v.postIfStmtMyElseStatements((IfStmt) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 94:
+            switch (nodeName) {
+            case "WhileStmtMyWhileStatements":
+                v.postWhileStmtMyWhileStatements((WhileStmt) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        default:
+            break;
+        }
+    }
+
+    static void pre(int id, TreeWalkerVisitor v, ResolveConceptualElement e) {
+        switch (id) {
+        case 0:
+            v.preAffectsClause((AffectsClause) e);
+            break;
+        case 1:
+            v.preAssertionClause((AssertionClause) e);
+            break;
+        case 2:
+            v.preDec((Dec) e);
+            v.preFacilityDec((FacilityDec) e);
+            break;
+        case 3:
+            v.preDec((Dec) e);
+            v.preMathAssertionDec((MathAssertionDec) e);
+            break;
+        case 4:
+            v.preDec((Dec) e);
+            v.preMathCategoricalDefinitionDec((MathCategoricalDefinitionDec) e);
+            break;
+        case 5:
+            v.preDec((Dec) e);
+            v.preMathDefVariableDec((MathDefVariableDec) e);
+            break;
+        case 6:
+            v.preDec((Dec) e);
+            v.preMathDefinitionDec((MathDefinitionDec) e);
+            break;
+        case 7:
+            v.preDec((Dec) e);
+            v.preMathTypeTheoremDec((MathTypeTheoremDec) e);
+            break;
+        case 8:
+            v.preDec((Dec) e);
+            v.preModuleDec((ModuleDec) e);
+            v.preConceptModuleDec((ConceptModuleDec) e);
+            break;
+        case 9:
+            v.preDec((Dec) e);
+            v.preModuleDec((ModuleDec) e);
+            v.preConceptRealizModuleDec((ConceptRealizModuleDec) e);
+            break;
+        case 10:
+            v.preDec((Dec) e);
+            v.preModuleDec((ModuleDec) e);
+            v.preEnhancementModuleDec((EnhancementModuleDec) e);
+            break;
+        case 11:
+            v.preDec((Dec) e);
+            v.preModuleDec((ModuleDec) e);
+            v.preEnhancementRealizModuleDec((EnhancementRealizModuleDec) e);
+            break;
+        case 12:
+            v.preDec((Dec) e);
+            v.preModuleDec((ModuleDec) e);
+            v.preFacilityModuleDec((FacilityModuleDec) e);
+            break;
+        case 13:
+            v.preDec((Dec) e);
+            v.preModuleDec((ModuleDec) e);
+            v.prePerformanceConceptModuleDec((PerformanceConceptModuleDec) e);
+            break;
+        case 14:
+            v.preDec((Dec) e);
+            v.preModuleDec((ModuleDec) e);
+            v.prePerformanceEnhancementModuleDec((PerformanceEnhancementModuleDec) e);
+            break;
+        case 15:
+            v.preDec((Dec) e);
+            v.preModuleDec((ModuleDec) e);
+            v.prePrecisModuleDec((PrecisModuleDec) e);
+            break;
+        case 16:
+            v.preDec((Dec) e);
+            v.preModuleDec((ModuleDec) e);
+            v.preShortFacilityModuleDec((ShortFacilityModuleDec) e);
+            break;
+        case 17:
+            v.preDec((Dec) e);
+            v.preOperationDec((OperationDec) e);
+            break;
+        case 18:
+            v.preDec((Dec) e);
+            v.preOperationProcedureDec((OperationProcedureDec) e);
+            break;
+        case 19:
+            v.preDec((Dec) e);
+            v.prePerformanceOperationDec((PerformanceOperationDec) e);
+            break;
+        case 20:
+            v.preDec((Dec) e);
+            v.preProcedureDec((ProcedureDec) e);
+            break;
+        case 21:
+            v.preDec((Dec) e);
+            v.preConceptTypeParamDec((ConceptTypeParamDec) e);
+            break;
+        case 22:
+            v.preDec((Dec) e);
+            v.preConstantParamDec((ConstantParamDec) e);
+            break;
+        case 23:
+            v.preDec((Dec) e);
+            v.preModuleParameterDec((ModuleParameterDec) e);
+            break;
+        case 24:
+            v.preDec((Dec) e);
+            v.preRealizationParamDec((RealizationParamDec) e);
+            break;
+        case 25:
+            v.preDec((Dec) e);
+            v.preSharedStateDec((SharedStateDec) e);
+            break;
+        case 26:
+            v.preDec((Dec) e);
+            v.preAbstractSharedStateRealizationDec((AbstractSharedStateRealizationDec) e);
+            v.preSharedStateRealizationDec((SharedStateRealizationDec) e);
+            break;
+        case 27:
+            v.preDec((Dec) e);
+            v.preAbstractTypeRepresentationDec((AbstractTypeRepresentationDec) e);
+            v.preFacilityTypeRepresentationDec((FacilityTypeRepresentationDec) e);
+            break;
+        case 28:
+            v.preDec((Dec) e);
+            v.prePerformanceTypeFamilyDec((PerformanceTypeFamilyDec) e);
+            break;
+        case 29:
+            v.preDec((Dec) e);
+            v.preTypeDefinitionDec((TypeDefinitionDec) e);
+            break;
+        case 30:
+            v.preDec((Dec) e);
+            v.preTypeFamilyDec((TypeFamilyDec) e);
+            break;
+        case 31:
+            v.preDec((Dec) e);
+            v.preAbstractTypeRepresentationDec((AbstractTypeRepresentationDec) e);
+            v.preTypeRepresentationDec((TypeRepresentationDec) e);
+            break;
+        case 32:
+            v.preDec((Dec) e);
+            v.preAbstractVarDec((AbstractVarDec) e);
+            v.preMathVarDec((MathVarDec) e);
+            break;
+        case 33:
+            v.preDec((Dec) e);
+            v.preAbstractVarDec((AbstractVarDec) e);
+            v.preParameterVarDec((ParameterVarDec) e);
+            break;
+        case 34:
+            v.preDec((Dec) e);
+            v.preAbstractVarDec((AbstractVarDec) e);
+            v.preVarDec((VarDec) e);
+            break;
+        case 35:
+            v.preExp((Exp) e);
+            v.preMathExp((MathExp) e);
+            v.preAltItemExp((AltItemExp) e);
+            break;
+        case 36:
+            v.preExp((Exp) e);
+            v.preMathExp((MathExp) e);
+            v.preAlternativeExp((AlternativeExp) e);
+            break;
+        case 37:
+            v.preExp((Exp) e);
+            v.preMathExp((MathExp) e);
+            v.preBetweenExp((BetweenExp) e);
+            break;
+        case 38:
+            v.preExp((Exp) e);
+            v.preMathExp((MathExp) e);
+            v.preLiteralExp((LiteralExp) e);
+            v.preCharExp((CharExp) e);
+            break;
+        case 39:
+            v.preExp((Exp) e);
+            v.preMathExp((MathExp) e);
+            v.preCrossTypeExp((CrossTypeExp) e);
+            break;
+        case 40:
+            v.preExp((Exp) e);
+            v.preMathExp((MathExp) e);
+            v.preDotExp((DotExp) e);
+            break;
+        case 41:
+            v.preExp((Exp) e);
+            v.preMathExp((MathExp) e);
+            v.preLiteralExp((LiteralExp) e);
+            v.preDoubleExp((DoubleExp) e);
+            break;
+        case 42:
+            v.preExp((Exp) e);
+            v.preMathExp((MathExp) e);
+            v.preAbstractFunctionExp((AbstractFunctionExp) e);
+            v.preInfixExp((InfixExp) e);
+            v.preEqualsExp((EqualsExp) e);
+            break;
+        case 43:
+            v.preExp((Exp) e);
+            v.preMathExp((MathExp) e);
+            v.preAbstractFunctionExp((AbstractFunctionExp) e);
+            v.preFunctionExp((FunctionExp) e);
+            break;
+        case 44:
+            v.preExp((Exp) e);
+            v.preMathExp((MathExp) e);
+            v.preIfExp((IfExp) e);
+            break;
+        case 45:
+            v.preExp((Exp) e);
+            v.preMathExp((MathExp) e);
+            v.preAbstractFunctionExp((AbstractFunctionExp) e);
+            v.preInfixExp((InfixExp) e);
+            break;
+        case 46:
+            v.preExp((Exp) e);
+            v.preMathExp((MathExp) e);
+            v.preLiteralExp((LiteralExp) e);
+            v.preIntegerExp((IntegerExp) e);
+            break;
+        case 47:
+            v.preExp((Exp) e);
+            v.preMathExp((MathExp) e);
+            v.preIterativeExp((IterativeExp) e);
+            break;
+        case 48:
+            v.preExp((Exp) e);
+            v.preMathExp((MathExp) e);
+            v.preLambdaExp((LambdaExp) e);
+            break;
+        case 49:
+            v.preExp((Exp) e);
+            v.preMathExp((MathExp) e);
+            v.preOldExp((OldExp) e);
+            break;
+        case 50:
+            v.preExp((Exp) e);
+            v.preMathExp((MathExp) e);
+            v.preAbstractFunctionExp((AbstractFunctionExp) e);
+            v.preOutfixExp((OutfixExp) e);
+            break;
+        case 51:
+            v.preExp((Exp) e);
+            v.preMathExp((MathExp) e);
+            v.preAbstractFunctionExp((AbstractFunctionExp) e);
+            v.prePrefixExp((PrefixExp) e);
+            break;
+        case 52:
+            v.preExp((Exp) e);
+            v.preMathExp((MathExp) e);
+            v.preQuantExp((QuantExp) e);
+            break;
+        case 53:
+            v.preExp((Exp) e);
+            v.preMathExp((MathExp) e);
+            v.preRecpExp((RecpExp) e);
+            break;
+        case 54:
+            v.preExp((Exp) e);
+            v.preMathExp((MathExp) e);
+            v.preSetCollectionExp((SetCollectionExp) e);
+            break;
+        case 55:
+            v.preExp((Exp) e);
+            v.preMathExp((MathExp) e);
+            v.preSetExp((SetExp) e);
+            break;
+        case 56:
+            v.preExp((Exp) e);
+            v.preMathExp((MathExp) e);
+            v.preLiteralExp((LiteralExp) e);
+            v.preStringExp((StringExp) e);
+            break;
+        case 57:
+            v.preExp((Exp) e);
+            v.preMathExp((MathExp) e);
+            v.preTupleExp((TupleExp) e);
+            break;
+        case 58:
+            v.preExp((Exp) e);
+            v.preMathExp((MathExp) e);
+            v.preTypeAssertionExp((TypeAssertionExp) e);
+            break;
+        case 59:
+            v.preExp((Exp) e);
+            v.preMathExp((MathExp) e);
+            v.preTypeReceptaclesExp((TypeReceptaclesExp) e);
+            break;
+        case 60:
+            v.preExp((Exp) e);
+            v.preMathExp((MathExp) e);
+            v.preUnaryMinusExp((UnaryMinusExp) e);
+            break;
+        case 61:
+            v.preExp((Exp) e);
+            v.preMathExp((MathExp) e);
+            v.preVCVarExp((VCVarExp) e);
+            break;
+        case 62:
+            v.preExp((Exp) e);
+            v.preMathExp((MathExp) e);
+            v.preVarExp((VarExp) e);
+            break;
+        case 63:
+            v.preExp((Exp) e);
+            v.preProgramExp((ProgramExp) e);
+            v.preProgramLiteralExp((ProgramLiteralExp) e);
+            v.preProgramCharExp((ProgramCharExp) e);
+            break;
+        case 64:
+            v.preExp((Exp) e);
+            v.preProgramExp((ProgramExp) e);
+            v.preProgramLiteralExp((ProgramLiteralExp) e);
+            v.preProgramDoubleExp((ProgramDoubleExp) e);
+            break;
+        case 65:
+            v.preExp((Exp) e);
+            v.preProgramExp((ProgramExp) e);
+            v.preProgramFunctionExp((ProgramFunctionExp) e);
+            break;
+        case 66:
+            v.preExp((Exp) e);
+            v.preProgramExp((ProgramExp) e);
+            v.preProgramLiteralExp((ProgramLiteralExp) e);
+            v.preProgramIntegerExp((ProgramIntegerExp) e);
+            break;
+        case 67:
+            v.preExp((Exp) e);
+            v.preProgramExp((ProgramExp) e);
+            v.preProgramLiteralExp((ProgramLiteralExp) e);
+            v.preProgramStringExp((ProgramStringExp) e);
+            break;
+        case 68:
+            v.preExp((Exp) e);
+            v.preProgramExp((ProgramExp) e);
+            v.preProgramVariableExp((ProgramVariableExp) e);
+            v.preProgramVariableArrayExp((ProgramVariableArrayExp) e);
+            break;
+        case 69:
+            v.preExp((Exp) e);
+            v.preProgramExp((ProgramExp) e);
+            v.preProgramVariableExp((ProgramVariableExp) e);
+            v.preProgramVariableDotExp((ProgramVariableDotExp) e);
+            break;
+        case 70:
+            v.preExp((Exp) e);
+            v.preProgramExp((ProgramExp) e);
+            v.preProgramVariableExp((ProgramVariableExp) e);
+            v.preProgramVariableNameExp((ProgramVariableNameExp) e);
+            break;
+        case 71:
+            v.preDefinitionBodyItem((DefinitionBodyItem) e);
+            break;
+        case 72:
+            v.preLoopVerificationItem((LoopVerificationItem) e);
+            break;
+        case 73:
+            v.prePerformanceSpecInitFinalItem((PerformanceSpecInitFinalItem) e);
+            break;
+        case 74:
+            v.preSpecInitFinalItem((SpecInitFinalItem) e);
+            break;
+        case 75:
+            v.preEnhancementSpecItem((EnhancementSpecItem) e);
+            break;
+        case 76:
+            v.preEnhancementSpecRealizItem((EnhancementSpecRealizItem) e);
+            break;
+        case 77:
+            v.preAbstractInitFinalItem((AbstractInitFinalItem) e);
+            v.preFacilityInitFinalItem((FacilityInitFinalItem) e);
+            break;
+        case 78:
+            v.preIfConditionItem((IfConditionItem) e);
+            break;
+        case 79:
+            v.preModuleArgumentItem((ModuleArgumentItem) e);
+            break;
+        case 80:
+            v.preAbstractInitFinalItem((AbstractInitFinalItem) e);
+            v.preRealizInitFinalItem((RealizInitFinalItem) e);
+            break;
+        case 81:
+            v.preUsesItem((UsesItem) e);
+            break;
+        case 82:
+            v.preTy((Ty) e);
+            v.preArbitraryExpTy((ArbitraryExpTy) e);
+            break;
+        case 83:
+            v.preTy((Ty) e);
+            v.preNameTy((NameTy) e);
+            break;
+        case 84:
+            v.preTy((Ty) e);
+            v.preRecordTy((RecordTy) e);
+            break;
+        case 85:
+            v.preStatement((Statement) e);
+            v.preAssumeStmt((AssumeStmt) e);
+            break;
+        case 86:
+            v.preStatement((Statement) e);
+            v.preCallStmt((CallStmt) e);
+            break;
+        case 87:
+            v.preStatement((Statement) e);
+            v.preChangeStmt((ChangeStmt) e);
+            break;
+        case 88:
+            v.preStatement((Statement) e);
+            v.preConfirmStmt((ConfirmStmt) e);
+            break;
+        case 89:
+            v.preStatement((Statement) e);
+            v.preFuncAssignStmt((FuncAssignStmt) e);
+            break;
+        case 90:
+            v.preStatement((Statement) e);
+            v.preIfStmt((IfStmt) e);
+            break;
+        case 91:
+            v.preStatement((Statement) e);
+            v.preMemoryStmt((MemoryStmt) e);
+            break;
+        case 92:
+            v.preStatement((Statement) e);
+            v.prePresumeStmt((PresumeStmt) e);
+            break;
+        case 93:
+            v.preStatement((Statement) e);
+            v.preSwapStmt((SwapStmt) e);
+            break;
+        case 94:
+            v.preStatement((Statement) e);
+            v.preWhileStmt((WhileStmt) e);
+            break;
+        default:
+            break;
+        }
+    }
+
+    static void preList(int id, String nodeName, TreeWalkerVisitor v, ResolveConceptualElement parent) {
+        switch (id) {
+        case 0:
+            switch (nodeName) {
+            case "AffectsClauseMyAffectedExps":
+                v.preAffectsClauseMyAffectedExps((AffectsClause) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 1:
+            switch (nodeName) {
+            case "AssertionClauseMyInvolvedSharedVars":
+                v.preAssertionClauseMyInvolvedSharedVars((AssertionClause) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 2:
+            switch (nodeName) {
+            case "FacilityDecMyConceptParams":
+                v.preFacilityDecMyConceptParams((FacilityDec) parent);
+                break;
+            case "FacilityDecMyConceptRealizParams":
+                v.preFacilityDecMyConceptRealizParams((FacilityDec) parent);
+                break;
+            case "FacilityDecMyEnhancementRealizPairs":
+                v.preFacilityDecMyEnhancementRealizPairs((FacilityDec) parent);
+                break;
+            case "FacilityDecMyEnhancements":
+                v.preFacilityDecMyEnhancements((FacilityDec) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 4:
+            switch (nodeName) {
+            case "MathCategoricalDefinitionDecMyDefinitions":
+                v.preMathCategoricalDefinitionDecMyDefinitions((MathCategoricalDefinitionDec) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 6:
+            switch (nodeName) {
+            case "MathDefinitionDecMyParameters":
+                v.preMathDefinitionDecMyParameters((MathDefinitionDec) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 7:
+            switch (nodeName) {
+            case "MathTypeTheoremDecMyUniversalVars":
+                v.preMathTypeTheoremDecMyUniversalVars((MathTypeTheoremDec) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 8:
+            switch (nodeName) {
+            case "ConceptModuleDecMyConstraints":
+                v.preConceptModuleDecMyConstraints((ConceptModuleDec) parent);
+                break;
+            case "ConceptModuleDecMyDecs":
+                v.preConceptModuleDecMyDecs((ConceptModuleDec) parent);
+                break;
+            case "ConceptModuleDecMyParameterDecs":
+                v.preConceptModuleDecMyParameterDecs((ConceptModuleDec) parent);
+                break;
+            case "ConceptModuleDecMyUsesItems":
+                v.preConceptModuleDecMyUsesItems((ConceptModuleDec) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 9:
+            switch (nodeName) {
+            case "ConceptRealizModuleDecMyDecs":
+                v.preConceptRealizModuleDecMyDecs((ConceptRealizModuleDec) parent);
+                break;
+            case "ConceptRealizModuleDecMyParameterDecs":
+                v.preConceptRealizModuleDecMyParameterDecs((ConceptRealizModuleDec) parent);
+                break;
+            case "ConceptRealizModuleDecMyUsesItems":
+                v.preConceptRealizModuleDecMyUsesItems((ConceptRealizModuleDec) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 10:
+            switch (nodeName) {
+            case "EnhancementModuleDecMyDecs":
+                v.preEnhancementModuleDecMyDecs((EnhancementModuleDec) parent);
+                break;
+            case "EnhancementModuleDecMyParameterDecs":
+                v.preEnhancementModuleDecMyParameterDecs((EnhancementModuleDec) parent);
+                break;
+            case "EnhancementModuleDecMyUsesItems":
+                v.preEnhancementModuleDecMyUsesItems((EnhancementModuleDec) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 11:
+            switch (nodeName) {
+            case "EnhancementRealizModuleDecMyDecs":
+                v.preEnhancementRealizModuleDecMyDecs((EnhancementRealizModuleDec) parent);
+                break;
+            case "EnhancementRealizModuleDecMyParameterDecs":
+                v.preEnhancementRealizModuleDecMyParameterDecs((EnhancementRealizModuleDec) parent);
+                break;
+            case "EnhancementRealizModuleDecMyUsesItems":
+                v.preEnhancementRealizModuleDecMyUsesItems((EnhancementRealizModuleDec) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 12:
+            switch (nodeName) {
+            case "FacilityModuleDecMyDecs":
+                v.preFacilityModuleDecMyDecs((FacilityModuleDec) parent);
+                break;
+            case "FacilityModuleDecMyParameterDecs":
+                v.preFacilityModuleDecMyParameterDecs((FacilityModuleDec) parent);
+                break;
+            case "FacilityModuleDecMyUsesItems":
+                v.preFacilityModuleDecMyUsesItems((FacilityModuleDec) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 13:
+            switch (nodeName) {
+            case "PerformanceConceptModuleDecMyDecs":
+                v.prePerformanceConceptModuleDecMyDecs((PerformanceConceptModuleDec) parent);
+                break;
+            case "PerformanceConceptModuleDecMyParameterDecs":
+                v.prePerformanceConceptModuleDecMyParameterDecs((PerformanceConceptModuleDec) parent);
+                break;
+            case "PerformanceConceptModuleDecMyUsesItems":
+                v.prePerformanceConceptModuleDecMyUsesItems((PerformanceConceptModuleDec) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 14:
+            switch (nodeName) {
+            case "PerformanceEnhancementModuleDecMyDecs":
+                v.prePerformanceEnhancementModuleDecMyDecs((PerformanceEnhancementModuleDec) parent);
+                break;
+            case "PerformanceEnhancementModuleDecMyParameterDecs":
+                v.prePerformanceEnhancementModuleDecMyParameterDecs((PerformanceEnhancementModuleDec) parent);
+                break;
+            case "PerformanceEnhancementModuleDecMyUsesItems":
+                v.prePerformanceEnhancementModuleDecMyUsesItems((PerformanceEnhancementModuleDec) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 15:
+            switch (nodeName) {
+            case "PrecisModuleDecMyDecs":
+                v.prePrecisModuleDecMyDecs((PrecisModuleDec) parent);
+                break;
+            case "PrecisModuleDecMyParameterDecs":
+                v.prePrecisModuleDecMyParameterDecs((PrecisModuleDec) parent);
+                break;
+            case "PrecisModuleDecMyUsesItems":
+                v.prePrecisModuleDecMyUsesItems((PrecisModuleDec) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 16:
+            switch (nodeName) {
+            case "ShortFacilityModuleDecMyDecs":
+                v.preShortFacilityModuleDecMyDecs((ShortFacilityModuleDec) parent);
+                break;
+            case "ShortFacilityModuleDecMyParameterDecs":
+                v.preShortFacilityModuleDecMyParameterDecs((ShortFacilityModuleDec) parent);
+                break;
+            case "ShortFacilityModuleDecMyUsesItems":
+                v.preShortFacilityModuleDecMyUsesItems((ShortFacilityModuleDec) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 17:
+            switch (nodeName) {
+            case "OperationDecMyParameters":
+                v.preOperationDecMyParameters((OperationDec) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 18:
+            switch (nodeName) {
+            case "OperationProcedureDecMyFacilityDecs":
+                v.preOperationProcedureDecMyFacilityDecs((OperationProcedureDec) parent);
+                break;
+            case "OperationProcedureDecMyStatements":
+                v.preOperationProcedureDecMyStatements((OperationProcedureDec) parent);
+                break;
+            case "OperationProcedureDecMyVariableDecs":
+                v.preOperationProcedureDecMyVariableDecs((OperationProcedureDec) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 20:
+            switch (nodeName) {
+            case "ProcedureDecMyFacilityDecs":
+                v.preProcedureDecMyFacilityDecs((ProcedureDec) parent);
+                break;
+            case "ProcedureDecMyParameters":
+                v.preProcedureDecMyParameters((ProcedureDec) parent);
+                break;
+            case "ProcedureDecMyStatements":
+                v.preProcedureDecMyStatements((ProcedureDec) parent);
+                break;
+            case "ProcedureDecMyVariableDecs":
+                v.preProcedureDecMyVariableDecs((ProcedureDec) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 25:
+            switch (nodeName) {
+            case "SharedStateDecMyAbstractStateVars":
+                v.preSharedStateDecMyAbstractStateVars((SharedStateDec) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 26:
+            switch (nodeName) {
+            case "SharedStateRealizationDecMyStateVars":
+                v.preSharedStateRealizationDecMyStateVars((SharedStateRealizationDec) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 30:
+            switch (nodeName) {
+            case "TypeFamilyDecMyDefVarList":
+                v.preTypeFamilyDecMyDefVarList((TypeFamilyDec) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 36:
+            switch (nodeName) {
+            case "AlternativeExpMyAlternatives":
+                v.preAlternativeExpMyAlternatives((AlternativeExp) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 37:
+            switch (nodeName) {
+            case "BetweenExpMyJoiningExps":
+                v.preBetweenExpMyJoiningExps((BetweenExp) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 40:
+            switch (nodeName) {
+            case "DotExpMySegmentExps":
+                v.preDotExpMySegmentExps((DotExp) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 43:
+            switch (nodeName) {
+            case "FunctionExpMyArguments":
+                v.preFunctionExpMyArguments((FunctionExp) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 48:
+            switch (nodeName) {
+            case "LambdaExpMyParameters":
+                v.preLambdaExpMyParameters((LambdaExp) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 52:
+            switch (nodeName) {
+            case "QuantExpMyVars":
+                v.preQuantExpMyVars((QuantExp) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 57:
+            switch (nodeName) {
+            case "TupleExpMyFields":
+                v.preTupleExpMyFields((TupleExp) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 65:
+            switch (nodeName) {
+            case "ProgramFunctionExpMyExpressionArgs":
+                v.preProgramFunctionExpMyExpressionArgs((ProgramFunctionExp) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 69:
+            switch (nodeName) {
+            case "ProgramVariableDotExpMySegmentExps":
+                v.preProgramVariableDotExpMySegmentExps((ProgramVariableDotExp) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 72:
+            switch (nodeName) {
+            case "LoopVerificationItemMyChangingVars":
+                v.preLoopVerificationItemMyChangingVars((LoopVerificationItem) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 75:
+            switch (nodeName) {
+            case "EnhancementSpecItemMyParams":
+                v.preEnhancementSpecItemMyParams((EnhancementSpecItem) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 76:
+            switch (nodeName) {
+            case "EnhancementSpecRealizItemMyEnhancementParams":
+                v.preEnhancementSpecRealizItemMyEnhancementParams((EnhancementSpecRealizItem) parent);
+                break;
+            case "EnhancementSpecRealizItemMyEnhancementRealizParams":
+                v.preEnhancementSpecRealizItemMyEnhancementRealizParams((EnhancementSpecRealizItem) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 77:
+            switch (nodeName) {
+            case "FacilityInitFinalItemMyFacilityDecs":
+                v.preFacilityInitFinalItemMyFacilityDecs((FacilityInitFinalItem) parent);
+                break;
+            case "FacilityInitFinalItemMyStatements":
+                v.preFacilityInitFinalItemMyStatements((FacilityInitFinalItem) parent);
+                break;
+            case "FacilityInitFinalItemMyVariableDecs":
+                v.preFacilityInitFinalItemMyVariableDecs((FacilityInitFinalItem) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 78:
+            switch (nodeName) {
+            case "IfConditionItemMyStatements":
+                v.preIfConditionItemMyStatements((IfConditionItem) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 80:
+            switch (nodeName) {
+            case "RealizInitFinalItemMyFacilityDecs":
+                v.preRealizInitFinalItemMyFacilityDecs((RealizInitFinalItem) parent);
+                break;
+            case "RealizInitFinalItemMyStatements":
+                v.preRealizInitFinalItemMyStatements((RealizInitFinalItem) parent);
+                break;
+            case "RealizInitFinalItemMyVariableDecs":
+                v.preRealizInitFinalItemMyVariableDecs((RealizInitFinalItem) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 84:
+            switch (nodeName) {
+            case "RecordTyMyInnerFields":
+                v.preRecordTyMyInnerFields((RecordTy) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 87:
+            switch (nodeName) {
+            case "ChangeStmtMyChangingVars":
+                v.preChangeStmtMyChangingVars((ChangeStmt) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 90:
+            switch (nodeName) {
+            case "IfStmtMyElseIfs":
+                v.preIfStmtMyElseIfs((IfStmt) parent);
+                break;
+            case "IfStmtMyElseStatements":
+                v.preIfStmtMyElseStatements((IfStmt) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        case 94:
+            switch (nodeName) {
+            case "WhileStmtMyWhileStatements":
+                v.preWhileStmtMyWhileStatements((WhileStmt) parent);
+                break;
+            default:
+                break;
+            }
+            break;
+        default:
+            break;
+        }
+    }
+
+    static boolean walk(int id, TreeWalkerVisitor v, ResolveConceptualElement e) {
+        switch (id) {
+        case 0:
+            return v.walkAffectsClause((AffectsClause) e);
+        case 1:
+            return v.walkAssertionClause((AssertionClause) e);
+        case 2:
+            return v.walkDec((Dec) e) || v.walkFacilityDec((FacilityDec) e);
+        case 3:
+            return v.walkDec((Dec) e) || v.walkMathAssertionDec((MathAssertionDec) e);
+        case 4:
+            return v.walkDec((Dec) e) || v.walkMathCategoricalDefinitionDec((MathCategoricalDefinitionDec) e);
+        case 5:
+            return v.walkDec((Dec) e) || v.walkMathDefVariableDec((MathDefVariableDec) e);
+        case 6:
+            return v.walkDec((Dec) e) || v.walkMathDefinitionDec((MathDefinitionDec) e);
+        case 7:
+            return v.walkDec((Dec) e) || v.walkMathTypeTheoremDec((MathTypeTheoremDec) e);
+        case 8:
+            return v.walkDec((Dec) e) || v.walkModuleDec((ModuleDec) e) || v.walkConceptModuleDec((ConceptModuleDec) e);
+        case 9:
+            return v.walkDec((Dec) e) || v.walkModuleDec((ModuleDec) e)
+                    || v.walkConceptRealizModuleDec((ConceptRealizModuleDec) e);
+        case 10:
+            return v.walkDec((Dec) e) || v.walkModuleDec((ModuleDec) e)
+                    || v.walkEnhancementModuleDec((EnhancementModuleDec) e);
+        case 11:
+            return v.walkDec((Dec) e) || v.walkModuleDec((ModuleDec) e)
+                    || v.walkEnhancementRealizModuleDec((EnhancementRealizModuleDec) e);
+        case 12:
+            return v.walkDec((Dec) e) || v.walkModuleDec((ModuleDec) e)
+                    || v.walkFacilityModuleDec((FacilityModuleDec) e);
+        case 13:
+            return v.walkDec((Dec) e) || v.walkModuleDec((ModuleDec) e)
+                    || v.walkPerformanceConceptModuleDec((PerformanceConceptModuleDec) e);
+        case 14:
+            return v.walkDec((Dec) e) || v.walkModuleDec((ModuleDec) e)
+                    || v.walkPerformanceEnhancementModuleDec((PerformanceEnhancementModuleDec) e);
+        case 15:
+            return v.walkDec((Dec) e) || v.walkModuleDec((ModuleDec) e) || v.walkPrecisModuleDec((PrecisModuleDec) e);
+        case 16:
+            return v.walkDec((Dec) e) || v.walkModuleDec((ModuleDec) e)
+                    || v.walkShortFacilityModuleDec((ShortFacilityModuleDec) e);
+        case 17:
+            return v.walkDec((Dec) e) || v.walkOperationDec((OperationDec) e);
+        case 18:
+            return v.walkDec((Dec) e) || v.walkOperationProcedureDec((OperationProcedureDec) e);
+        case 19:
+            return v.walkDec((Dec) e) || v.walkPerformanceOperationDec((PerformanceOperationDec) e);
+        case 20:
+            return v.walkDec((Dec) e) || v.walkProcedureDec((ProcedureDec) e);
+        case 21:
+            return v.walkDec((Dec) e) || v.walkConceptTypeParamDec((ConceptTypeParamDec) e);
+        case 22:
+            return v.walkDec((Dec) e) || v.walkConstantParamDec((ConstantParamDec) e);
+        case 23:
+            return v.walkDec((Dec) e) || v.walkModuleParameterDec((ModuleParameterDec) e);
+        case 24:
+            return v.walkDec((Dec) e) || v.walkRealizationParamDec((RealizationParamDec) e);
+        case 25:
+            return v.walkDec((Dec) e) || v.walkSharedStateDec((SharedStateDec) e);
+        case 26:
+            return v.walkDec((Dec) e) || v.walkAbstractSharedStateRealizationDec((AbstractSharedStateRealizationDec) e)
+                    || v.walkSharedStateRealizationDec((SharedStateRealizationDec) e);
+        case 27:
+            return v.walkDec((Dec) e) || v.walkAbstractTypeRepresentationDec((AbstractTypeRepresentationDec) e)
+                    || v.walkFacilityTypeRepresentationDec((FacilityTypeRepresentationDec) e);
+        case 28:
+            return v.walkDec((Dec) e) || v.walkPerformanceTypeFamilyDec((PerformanceTypeFamilyDec) e);
+        case 29:
+            return v.walkDec((Dec) e) || v.walkTypeDefinitionDec((TypeDefinitionDec) e);
+        case 30:
+            return v.walkDec((Dec) e) || v.walkTypeFamilyDec((TypeFamilyDec) e);
+        case 31:
+            return v.walkDec((Dec) e) || v.walkAbstractTypeRepresentationDec((AbstractTypeRepresentationDec) e)
+                    || v.walkTypeRepresentationDec((TypeRepresentationDec) e);
+        case 32:
+            return v.walkDec((Dec) e) || v.walkAbstractVarDec((AbstractVarDec) e) || v.walkMathVarDec((MathVarDec) e);
+        case 33:
+            return v.walkDec((Dec) e) || v.walkAbstractVarDec((AbstractVarDec) e)
+                    || v.walkParameterVarDec((ParameterVarDec) e);
+        case 34:
+            return v.walkDec((Dec) e) || v.walkAbstractVarDec((AbstractVarDec) e) || v.walkVarDec((VarDec) e);
+        case 35:
+            return v.walkExp((Exp) e) || v.walkMathExp((MathExp) e) || v.walkAltItemExp((AltItemExp) e);
+        case 36:
+            return v.walkExp((Exp) e) || v.walkMathExp((MathExp) e) || v.walkAlternativeExp((AlternativeExp) e);
+        case 37:
+            return v.walkExp((Exp) e) || v.walkMathExp((MathExp) e) || v.walkBetweenExp((BetweenExp) e);
+        case 38:
+            return v.walkExp((Exp) e) || v.walkMathExp((MathExp) e) || v.walkLiteralExp((LiteralExp) e)
+                    || v.walkCharExp((CharExp) e);
+        case 39:
+            return v.walkExp((Exp) e) || v.walkMathExp((MathExp) e) || v.walkCrossTypeExp((CrossTypeExp) e);
+        case 40:
+            return v.walkExp((Exp) e) || v.walkMathExp((MathExp) e) || v.walkDotExp((DotExp) e);
+        case 41:
+            return v.walkExp((Exp) e) || v.walkMathExp((MathExp) e) || v.walkLiteralExp((LiteralExp) e)
+                    || v.walkDoubleExp((DoubleExp) e);
+        case 42:
+            return v.walkExp((Exp) e) || v.walkMathExp((MathExp) e)
+                    || v.walkAbstractFunctionExp((AbstractFunctionExp) e) || v.walkInfixExp((InfixExp) e)
+                    || v.walkEqualsExp((EqualsExp) e);
+        case 43:
+            return v.walkExp((Exp) e) || v.walkMathExp((MathExp) e)
+                    || v.walkAbstractFunctionExp((AbstractFunctionExp) e) || v.walkFunctionExp((FunctionExp) e);
+        case 44:
+            return v.walkExp((Exp) e) || v.walkMathExp((MathExp) e) || v.walkIfExp((IfExp) e);
+        case 45:
+            return v.walkExp((Exp) e) || v.walkMathExp((MathExp) e)
+                    || v.walkAbstractFunctionExp((AbstractFunctionExp) e) || v.walkInfixExp((InfixExp) e);
+        case 46:
+            return v.walkExp((Exp) e) || v.walkMathExp((MathExp) e) || v.walkLiteralExp((LiteralExp) e)
+                    || v.walkIntegerExp((IntegerExp) e);
+        case 47:
+            return v.walkExp((Exp) e) || v.walkMathExp((MathExp) e) || v.walkIterativeExp((IterativeExp) e);
+        case 48:
+            return v.walkExp((Exp) e) || v.walkMathExp((MathExp) e) || v.walkLambdaExp((LambdaExp) e);
+        case 49:
+            return v.walkExp((Exp) e) || v.walkMathExp((MathExp) e) || v.walkOldExp((OldExp) e);
+        case 50:
+            return v.walkExp((Exp) e) || v.walkMathExp((MathExp) e)
+                    || v.walkAbstractFunctionExp((AbstractFunctionExp) e) || v.walkOutfixExp((OutfixExp) e);
+        case 51:
+            return v.walkExp((Exp) e) || v.walkMathExp((MathExp) e)
+                    || v.walkAbstractFunctionExp((AbstractFunctionExp) e) || v.walkPrefixExp((PrefixExp) e);
+        case 52:
+            return v.walkExp((Exp) e) || v.walkMathExp((MathExp) e) || v.walkQuantExp((QuantExp) e);
+        case 53:
+            return v.walkExp((Exp) e) || v.walkMathExp((MathExp) e) || v.walkRecpExp((RecpExp) e);
+        case 54:
+            return v.walkExp((Exp) e) || v.walkMathExp((MathExp) e) || v.walkSetCollectionExp((SetCollectionExp) e);
+        case 55:
+            return v.walkExp((Exp) e) || v.walkMathExp((MathExp) e) || v.walkSetExp((SetExp) e);
+        case 56:
+            return v.walkExp((Exp) e) || v.walkMathExp((MathExp) e) || v.walkLiteralExp((LiteralExp) e)
+                    || v.walkStringExp((StringExp) e);
+        case 57:
+            return v.walkExp((Exp) e) || v.walkMathExp((MathExp) e) || v.walkTupleExp((TupleExp) e);
+        case 58:
+            return v.walkExp((Exp) e) || v.walkMathExp((MathExp) e) || v.walkTypeAssertionExp((TypeAssertionExp) e);
+        case 59:
+            return v.walkExp((Exp) e) || v.walkMathExp((MathExp) e) || v.walkTypeReceptaclesExp((TypeReceptaclesExp) e);
+        case 60:
+            return v.walkExp((Exp) e) || v.walkMathExp((MathExp) e) || v.walkUnaryMinusExp((UnaryMinusExp) e);
+        case 61:
+            return v.walkExp((Exp) e) || v.walkMathExp((MathExp) e) || v.walkVCVarExp((VCVarExp) e);
+        case 62:
+            return v.walkExp((Exp) e) || v.walkMathExp((MathExp) e) || v.walkVarExp((VarExp) e);
+        case 63:
+            return v.walkExp((Exp) e) || v.walkProgramExp((ProgramExp) e)
+                    || v.walkProgramLiteralExp((ProgramLiteralExp) e) || v.walkProgramCharExp((ProgramCharExp) e);
+        case 64:
+            return v.walkExp((Exp) e) || v.walkProgramExp((ProgramExp) e)
+                    || v.walkProgramLiteralExp((ProgramLiteralExp) e) || v.walkProgramDoubleExp((ProgramDoubleExp) e);
+        case 65:
+            return v.walkExp((Exp) e) || v.walkProgramExp((ProgramExp) e)
+                    || v.walkProgramFunctionExp((ProgramFunctionExp) e);
+        case 66:
+            return v.walkExp((Exp) e) || v.walkProgramExp((ProgramExp) e)
+                    || v.walkProgramLiteralExp((ProgramLiteralExp) e) || v.walkProgramIntegerExp((ProgramIntegerExp) e);
+        case 67:
+            return v.walkExp((Exp) e) || v.walkProgramExp((ProgramExp) e)
+                    || v.walkProgramLiteralExp((ProgramLiteralExp) e) || v.walkProgramStringExp((ProgramStringExp) e);
+        case 68:
+            return v.walkExp((Exp) e) || v.walkProgramExp((ProgramExp) e)
+                    || v.walkProgramVariableExp((ProgramVariableExp) e)
+                    || v.walkProgramVariableArrayExp((ProgramVariableArrayExp) e);
+        case 69:
+            return v.walkExp((Exp) e) || v.walkProgramExp((ProgramExp) e)
+                    || v.walkProgramVariableExp((ProgramVariableExp) e)
+                    || v.walkProgramVariableDotExp((ProgramVariableDotExp) e);
+        case 70:
+            return v.walkExp((Exp) e) || v.walkProgramExp((ProgramExp) e)
+                    || v.walkProgramVariableExp((ProgramVariableExp) e)
+                    || v.walkProgramVariableNameExp((ProgramVariableNameExp) e);
+        case 71:
+            return v.walkDefinitionBodyItem((DefinitionBodyItem) e);
+        case 72:
+            return v.walkLoopVerificationItem((LoopVerificationItem) e);
+        case 73:
+            return v.walkPerformanceSpecInitFinalItem((PerformanceSpecInitFinalItem) e);
+        case 74:
+            return v.walkSpecInitFinalItem((SpecInitFinalItem) e);
+        case 75:
+            return v.walkEnhancementSpecItem((EnhancementSpecItem) e);
+        case 76:
+            return v.walkEnhancementSpecRealizItem((EnhancementSpecRealizItem) e);
+        case 77:
+            return v.walkAbstractInitFinalItem((AbstractInitFinalItem) e)
+                    || v.walkFacilityInitFinalItem((FacilityInitFinalItem) e);
+        case 78:
+            return v.walkIfConditionItem((IfConditionItem) e);
+        case 79:
+            return v.walkModuleArgumentItem((ModuleArgumentItem) e);
+        case 80:
+            return v.walkAbstractInitFinalItem((AbstractInitFinalItem) e)
+                    || v.walkRealizInitFinalItem((RealizInitFinalItem) e);
+        case 81:
+            return v.walkUsesItem((UsesItem) e);
+        case 82:
+            return v.walkTy((Ty) e) || v.walkArbitraryExpTy((ArbitraryExpTy) e);
+        case 83:
+            return v.walkTy((Ty) e) || v.walkNameTy((NameTy) e);
+        case 84:
+            return v.walkTy((Ty) e) || v.walkRecordTy((RecordTy) e);
+        case 85:
+            return v.walkStatement((Statement) e) || v.walkAssumeStmt((AssumeStmt) e);
+        case 86:
+            return v.walkStatement((Statement) e) || v.walkCallStmt((CallStmt) e);
+        case 87:
+            return v.walkStatement((Statement) e) || v.walkChangeStmt((ChangeStmt) e);
+        case 88:
+            return v.walkStatement((Statement) e) || v.walkConfirmStmt((ConfirmStmt) e);
+        case 89:
+            return v.walkStatement((Statement) e) || v.walkFuncAssignStmt((FuncAssignStmt) e);
+        case 90:
+            return v.walkStatement((Statement) e) || v.walkIfStmt((IfStmt) e);
+        case 91:
+            return v.walkStatement((Statement) e) || v.walkMemoryStmt((MemoryStmt) e);
+        case 92:
+            return v.walkStatement((Statement) e) || v.walkPresumeStmt((PresumeStmt) e);
+        case 93:
+            return v.walkStatement((Statement) e) || v.walkSwapStmt((SwapStmt) e);
+        case 94:
+            return v.walkStatement((Statement) e) || v.walkWhileStmt((WhileStmt) e);
+        default:
+            return false;
+        }
+    }
+
+}
\ No newline at end of file
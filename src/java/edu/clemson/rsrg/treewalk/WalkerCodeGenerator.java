@@ -13,6 +13,7 @@
 package edu.clemson.rsrg.treewalk;
 
 import edu.clemson.rsrg.absyn.ResolveConceptualElement;
+import edu.clemson.rsrg.absyn.VirtualListNode;
 import java.io.*;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
@@ -21,9 +22,7 @@ import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.HashSet;
-import java.util.Set;
-import java.util.StringTokenizer;
+import java.util.*;
 import org.reflections.ReflectionUtils;
 import org.reflections.Reflections;
 import org.stringtemplate.v4.ST;
@@ -55,6 +54,13 @@ public class WalkerCodeGenerator {
      */
     private static final STGroup GROUP = new STGroupFile("templates/Treewalker.stg");
 
+    /**
+     * <p>
+     * Name of the generated dispatcher. The {@link TreeWalker} refers to it by this name.
+     * </p>
+     */
+    private static final String DISPATCHER_NAME = "TreeWalkerDispatcher";
+
     // ===========================================================
     // Public Methods
     // ===========================================================
@@ -65,15 +71,21 @@ public class WalkerCodeGenerator {
      * </p>
      *
      * <p>
-     * Two optional arguments in the array:
+     * Four optional arguments in the array:
      * </p>
      * <ul>
      * <li>The desired name of the walker (default: {@code TreeWalkerVisitor})</li>
      * <li>The desired name of the stack walker (default: {@code TreeWalkerStackVisitor})</li>
-     * <li>The input package directory (default: {@code edu/clemson/cs/rsrg/absyn}</li>
-     * <li>The output package directory (default: {@code edu/clemson/cs/rsrg/treewalk})</li>
+     * <li>The input package directory (default: {@code edu/clemson/rsrg/absyn}</li>
+     * <li>The output package directory (default: {@code edu/clemson/rsrg/treewalk})</li>
      * </ul>
      *
+     * <p>
+     * Along with the two walkers, this also generates the {@code TreeWalkerDispatcher} that the {@link TreeWalker} uses
+     * to call the walker methods without reflection. It must be regenerated whenever an {@code absyn} class is added or
+     * removed.
+     * </p>
+     *
      * @param args
      *            Arguments required to perform the tree walker generation process.
      */
@@ -86,8 +98,8 @@ public class WalkerCodeGenerator {
         case 0:
             walkerName = "TreeWalkerVisitor";
             stackWalkerName = "TreeWalkerStackVisitor";
-            inputPackageDir = "edu/clemson/cs/rsrg/absyn";
-            outputPackageDir = "edu/clemson/cs/rsrg/treewalk";
+            inputPackageDir = "edu/clemson/rsrg/absyn";
+            outputPackageDir = "edu/clemson/rsrg/treewalk";
             break;
         case 4:
             walkerName = args[0];
@@ -103,9 +115,10 @@ public class WalkerCodeGenerator {
 
         ST visitor = createDefaultVisitor(walkerName, inputPackageDir, outputPackageDir);
         ST stackVisitor = createStackVisitor(stackWalkerName, walkerName, inputPackageDir, outputPackageDir);
+        ST dispatcher = createDispatcher(DISPATCHER_NAME, walkerName, inputPackageDir, outputPackageDir);
         try {
             // Generate the output directory string
-            String javaSrcDir = "/src/main/java/";
+            String javaSrcDir = "/src/java/";
             String targetDir = Paths.get(".").toAbsolutePath().normalize().toString() + javaSrcDir + outputPackageDir
                     + "/";
             targetDir = targetDir.replace(File.separator, "/");
@@ -113,6 +126,7 @@ public class WalkerCodeGenerator {
             // Path and Charset
             Path walkerFilePath = Paths.get(targetDir, walkerName + ".java");
             Path stackWalkerFilePath = Paths.get(targetDir, stackWalkerName + ".java");
+            Path dispatcherFilePath = Paths.get(targetDir, DISPATCHER_NAME + ".java");
             Charset charset = Charset.forName("UTF-8");
 
             // Write the visitor contents to file
@@ -128,6 +142,13 @@ public class WalkerCodeGenerator {
             writer.close();
 
             System.out.println("Successfully created: " + stackWalkerName + ".java");
+
+            // Write the dispatcher contents to file
+            writer = Files.newBufferedWriter(dispatcherFilePath, charset);
+            writer.write(dispatcher.render());
+            writer.close();
+
+            System.out.println("Successfully created: " + DISPATCHER_NAME + ".java");
         } catch (IOException ioe) {
             ioe.printStackTrace();
         }
@@ -216,6 +237,125 @@ public class WalkerCodeGenerator {
         return walkerClass;
     }
 
+    /**
+     * <p>
+     * This method uses {@code StringTemplate} to generate the dispatcher that calls the default tree walker's methods
+     * for each concrete {@link ResolveConceptualElement} class.
+     * </p>
+     *
+     * <p>
+     * The generated calls follow the same rules as the reflection-based {@link TreeWalker}: {@code walk} and
+     * {@code pre} methods go from the most general class to the most specific one, {@code post} methods go the other
+     * way, {@code mid} methods are only called for the concrete class and list {@code mid} methods are only called when
+     * the list's element type is {@link ResolveConceptualElement}.
+     * </p>
+     *
+     * @param className
+     *            Name for the new dispatcher.
+     * @param walkerName
+     *            Name for the default walker.
+     * @param inputDirectory
+     *            The source files directory.
+     * @param outputDirectory
+     *            The tree walker output directory.
+     *
+     * @return A completed {@code StringTemplate}.
+     */
+    private static ST createDispatcher(String className, String walkerName, String inputDirectory,
+            String outputDirectory) {
+        // Replace with the correct file separator.
+        String inputPkg = convertDirToPkg(inputDirectory);
+        String outputPkg = convertDirToPkg(outputDirectory);
+
+        // Use reflection to retrieve all the concrete classes. These are sorted, so
+        // the generated file only changes when the classes change.
+        Reflections reflections = new Reflections(inputPkg);
+        List<Class<?>> absynClasses = new ArrayList<>();
+        for (Class<?> e : reflections.getSubTypesOf(ResolveConceptualElement.class)) {
+            if (!e.isInterface() && !Modifier.isAbstract(e.getModifiers()) && e.getCanonicalName() != null
+                    && e != VirtualListNode.class) {
+                absynClasses.add(e);
+            }
+        }
+        absynClasses.sort(Comparator.comparing(Class::getCanonicalName));
+
+        // Create the dispatcher class with the general information
+        ST dispatcherClass = GROUP.getInstanceOf("dispatcherImplementation").add("pkgName", outputPkg)
+                .add("className", className).add("walkerName", walkerName);
+
+        Set<String> pkgNames = new TreeSet<>();
+        pkgNames.add(inputPkg);
+        for (int id = 0; id < absynClasses.size(); id++) {
+            Class<?> e = absynClasses.get(id);
+
+            // Get the hierarchy of classes from which this node inherits
+            // e.g., [Dec, ModuleDec, ConceptModuleDec]
+            List<String> names = new ArrayList<>();
+            List<String> types = new ArrayList<>();
+            for (Class<?> c = e; c != ResolveConceptualElement.class; c = c.getSuperclass()) {
+                pkgNames.add(c.getPackage().getName());
+                names.add(0, c.getSimpleName());
+                types.add(0, getTypeName(c));
+            }
+
+            dispatcherClass.add("registrations",
+                    GROUP.getInstanceOf("dispatcherRegistration").add("id", id).add("type", getTypeName(e)));
+            dispatcherClass.add("walkCases",
+                    GROUP.getInstanceOf("dispatcherWalkCase").add("id", id).add("names", names).add("types", types));
+            dispatcherClass.add("preCases", GROUP.getInstanceOf("dispatcherVisitCase").add("id", id)
+                    .add("prefix", "pre").add("names", names).add("types", types));
+            dispatcherClass.add("midCases", GROUP.getInstanceOf("dispatcherMidCase").add("id", id)
+                    .add("name", e.getSimpleName()).add("type", getTypeName(e)));
+
+            List<String> reversedNames = new ArrayList<>(names);
+            List<String> reversedTypes = new ArrayList<>(types);
+            Collections.reverse(reversedNames);
+            Collections.reverse(reversedTypes);
+            dispatcherClass.add("postCases", GROUP.getInstanceOf("dispatcherVisitCase").add("id", id)
+                    .add("prefix", "post").add("names", reversedNames).add("types", reversedTypes));
+
+            // Find the lists that are walked using a VirtualListNode.
+            Set<String> listNodeNames = new TreeSet<>();
+            Set<String> midListNodeNames = new TreeSet<>();
+            for (Field field : ReflectionUtils.getAllFields(e)) {
+                if (!Modifier.isStatic(field.getModifiers())
+                        && field.getDeclaringClass() != ResolveConceptualElement.class
+                        && java.util.List.class.isAssignableFrom(field.getType())) {
+                    Class<?> listOf = (Class<?>) ((ParameterizedType) field.getGenericType())
+                            .getActualTypeArguments()[0];
+                    if (ResolveConceptualElement.class.isAssignableFrom(listOf)) {
+                        String nodeName = e.getSimpleName() + toCamelCase(field.getName());
+                        listNodeNames.add(nodeName);
+
+                        // The walker's list mid methods take ResolveConceptualElements,
+                        // so they only match lists of exactly that type.
+                        if (listOf == ResolveConceptualElement.class) {
+                            midListNodeNames.add(nodeName);
+                        }
+                    }
+                }
+            }
+
+            if (!listNodeNames.isEmpty()) {
+                dispatcherClass.add("preListCases", GROUP.getInstanceOf("dispatcherListCase").add("id", id)
+                        .add("prefix", "pre").add("nodeNames", listNodeNames).add("type", getTypeName(e)));
+                dispatcherClass.add("postListCases", GROUP.getInstanceOf("dispatcherListCase").add("id", id)
+                        .add("prefix", "post").add("nodeNames", listNodeNames).add("type", getTypeName(e)));
+            }
+            if (!midListNodeNames.isEmpty()) {
+                dispatcherClass.add("midListCases",
+                        GROUP.getInstanceOf("dispatcherListCase").add("id", id).add("prefix", "mid")
+                                .add("nodeNames", midListNodeNames).add("type", getTypeName(e)).add("isMid", true));
+            }
+        }
+
+        for (String pkgName : pkgNames) {
+            dispatcherClass.add("imports", GROUP.getInstanceOf("walkerImports").add("importItem", pkgName));
+        }
+
+        return dispatcherClass;
+    }
+
     /**
      * <p>
      * This method uses {@code StringTemplate} to generate a stack-based tree walker that inherits from the default
@@ -275,6 +415,20 @@ public class WalkerCodeGenerator {
         return sb.toString();
     }
 
+    /**
+     * <p>
+     * This method returns the name we use to refer to a class in the generated code.
+     * </p>
+     *
+     * @param c
+     *            A class.
+     *
+     * @return The simple name of the class, or the qualified name if it is a member class.
+     */
+    private static String getTypeName(Class<?> c) {
+        return c.isMemberClass() ? c.getCanonicalName() : c.getSimpleName();
+    }
+
     /**
      * <p>
      * Applies proper camel casing to the string passed in.
@@ -16,9 +16,11 @@ import edu.clemson.rsrg.typeandpopulate.exception.BindingException;
 import edu.clemson.rsrg.typeandpopulate.exception.NoSolutionException;
 import edu.clemson.rsrg.typeandpopulate.exception.TypeMismatchException;
 import edu.clemson.rsrg.typeandpopulate.symboltables.FinalizedScope;
+import edu.clemson.rsrg.typeandpopulate.typereasoning.PerThreadReasoningResources;
 import edu.clemson.rsrg.typeandpopulate.typereasoning.TypeGraph;
 import edu.clemson.rsrg.typeandpopulate.typevisitor.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * <p>
@@ -45,21 +47,14 @@ public abstract class MTType {
      * Known alpha equivalent types.
      * </p>
      */
-    private final Set<Object> myKnownAlphaEquivalencies = new HashSet<>();
+    private final Set<Object> myKnownAlphaEquivalencies = ConcurrentHashMap.newKeySet();
 
     /**
      * <p>
      * Known syntactic subtypes.
      * </p>
      */
-    private final Map<MTType, Map<String, MTType>> myKnownSyntacticSubtypeBindings = new HashMap<>();
-
-    /**
-     * <p>
-     * Allows us to detect if we're getting into an equals-loop.
-     * </p>
-     */
-    private int myEqualsDepth = 0;
+    private final Map<MTType, Map<String, MTType>> myKnownSyntacticSubtypeBindings = new ConcurrentHashMap<>();
 
     // ===========================================================
     // Constructors
@@ -209,41 +204,46 @@ public abstract class MTType {
      */
     @Override
     public final boolean equals(Object o) {
-        myEqualsDepth++;
-
         boolean result;
 
         if (this == o) {
             result = true;
         } else {
-            // We only check our cache if we're at the first level of equals
-            // comparison to avoid an infinite recursive loop
-            result = (myEqualsDepth == 1) && myKnownAlphaEquivalencies.contains(o);
-
-            if (!result) {
-                try {
-                    // All 'equals' logic should be put into AlphaEquivalencyChecker!
-                    // Don't override equals!
-                    AlphaEquivalencyChecker alphaEq = myTypeGraph.threadResources.alphaChecker;
-                    alphaEq.reset();
-
-                    alphaEq.visit(this, (MTType) o);
-
-                    result = alphaEq.getResult();
-                } catch (ClassCastException cce) {
-                    result = false;
-                }
+            // Modules may be populated concurrently, so the equals depth of this
+            // type is tracked separately for each thread.
+            PerThreadReasoningResources threadResources = myTypeGraph.getThreadResources();
+            int equalsDepth = threadResources.incrementEqualsDepth(this);
 
-                // We only cache our answer at the first level to avoid an
-                // infinite equals loop
-                if ((myEqualsDepth == 1) && result) {
-                    myKnownAlphaEquivalencies.add(o);
+            try {
+                // We only check our cache if we're at the first level of equals
+                // comparison to avoid an infinite recursive loop
+                result = (equalsDepth == 1) && myKnownAlphaEquivalencies.contains(o);
+
+                if (!result) {
+                    try {
+                        // All 'equals' logic should be put into AlphaEquivalencyChecker!
+                        // Don't override equals!
+                        AlphaEquivalencyChecker alphaEq = threadResources.alphaChecker;
+                        alphaEq.reset();
+
+                        alphaEq.visit(this, (MTType) o);
+
+                        result = alphaEq.getResult();
+                    } catch (ClassCastException cce) {
+                        result = false;
+                    }
+
+                    // We only cache our answer at the first level to avoid an
+                    // infinite equals loop
+                    if ((equalsDepth == 1) && result) {
+                        myKnownAlphaEquivalencies.add(o);
+                    }
                 }
+            } finally {
+                threadResources.decrementEqualsDepth(this);
             }
         }
 
-        myEqualsDepth--;
-
         return result;
     }
 
@@ -85,7 +85,7 @@ public class PTVoid extends PTType {
      *
      * @return A {@link PTVoid} object.
      */
-    public static PTVoid getInstance(TypeGraph g) {
+    public static synchronized PTVoid getInstance(TypeGraph g) {
         PTVoid result = instances.get(g);
 
         if (result == null) {
@@ -18,6 +18,7 @@ import edu.clemson.rsrg.typeandpopulate.query.searcher.MultimatchTableSearcher;
 import edu.clemson.rsrg.typeandpopulate.query.searchpath.ScopeSearchPath;
 import edu.clemson.rsrg.typeandpopulate.symboltables.Scope;
 import edu.clemson.rsrg.typeandpopulate.symboltables.ScopeRepository;
+import edu.clemson.rsrg.typeandpopulate.symboltables.SyntacticScope;
 import java.util.List;
 
 /**
@@ -89,7 +90,15 @@ abstract class BaseMultimatchSymbolQuery<E extends SymbolTableEntry> implements
      */
     @Override
     public final List<E> searchFromContext(Scope source, ScopeRepository repo) {
-        return mySearchPath.searchFromContext(mySearcher, source, repo);
+        List<E> results;
+        if (source instanceof SyntacticScope) {
+            // Syntactic scopes remember the results of their searches
+            results = ((SyntacticScope) source).searchFromContext(mySearchPath, mySearcher, repo);
+        } else {
+            results = mySearchPath.searchFromContext(mySearcher, source, repo);
+        }
+
+        return results;
     }
 
 }
@@ -18,6 +18,7 @@ import edu.clemson.rsrg.typeandpopulate.query.searcher.TableSearcher;
 import edu.clemson.rsrg.typeandpopulate.query.searchpath.ScopeSearchPath;
 import edu.clemson.rsrg.typeandpopulate.symboltables.Scope;
 import edu.clemson.rsrg.typeandpopulate.symboltables.ScopeRepository;
+import edu.clemson.rsrg.typeandpopulate.symboltables.SyntacticScope;
 import java.util.List;
 
 /**
@@ -95,7 +96,15 @@ abstract class BaseSymbolQuery<E extends SymbolTableEntry> implements SymbolQuer
      */
     @Override
     public final List<E> searchFromContext(Scope source, ScopeRepository repo) throws DuplicateSymbolException {
-        return mySearchPath.searchFromContext(mySearcher, source, repo);
+        List<E> results;
+        if (source instanceof SyntacticScope) {
+            // Syntactic scopes remember the results of their searches
+            results = ((SyntacticScope) source).searchFromContext(mySearchPath, mySearcher, repo);
+        } else {
+            results = mySearchPath.searchFromContext(mySearcher, source, repo);
+        }
+
+        return results;
     }
 
 }
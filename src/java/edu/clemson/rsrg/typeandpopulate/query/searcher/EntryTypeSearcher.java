@@ -98,4 +98,40 @@ public class EntryTypeSearcher<E extends SymbolTableEntry> implements Multimatch
         return false;
     }
 
+    /**
+     * <p>
+     * This method overrides the default equals method implementation for the {@link EntryTypeSearcher} class. Two
+     * searchers are equal if they will find the same entries.
+     * </p>
+     *
+     * @param o
+     *            Object to be compared.
+     *
+     * @return {@code true} if all the fields are equal, {@code false} otherwise.
+     */
+    @Override
+    public final boolean equals(Object o) {
+        boolean result = (o instanceof EntryTypeSearcher);
+
+        if (result) {
+            EntryTypeSearcher<?> oAsEntryTypeSearcher = (EntryTypeSearcher<?>) o;
+
+            result = myTargetClass.equals(oAsEntryTypeSearcher.myTargetClass);
+        }
+
+        return result;
+    }
+
+    /**
+     * <p>
+     * This method overrides the default hashCode method implementation for the {@link EntryTypeSearcher} class.
+     * </p>
+     *
+     * @return The hash code value of the object.
+     */
+    @Override
+    public final int hashCode() {
+        return myTargetClass.hashCode();
+    }
+
 }
@@ -28,7 +28,8 @@ import java.util.List;
  *
  * @version 2.0
  */
-public class NameAndEntryTypeSearcher<E extends SymbolTableEntry> implements MultimatchTableSearcher<E> {
+public class NameAndEntryTypeSearcher<E extends SymbolTableEntry>
+        implements MultimatchTableSearcher<E>, NamedTableSearcher<E> {
 
     // ===========================================================
     // Member Fields
@@ -112,4 +113,50 @@ public class NameAndEntryTypeSearcher<E extends SymbolTableEntry> implements Mul
         return myStopAfterFirstFlag && foundOne;
     }
 
+    /**
+     * <p>
+     * This method overrides the default equals method implementation for the {@link NameAndEntryTypeSearcher} class.
+     * Two searchers are equal if they will find the same entries.
+     * </p>
+     *
+     * @param o
+     *            Object to be compared.
+     *
+     * @return {@code true} if all the fields are equal, {@code false} otherwise.
+     */
+    @Override
+    public final boolean equals(Object o) {
+        boolean result = (o instanceof NameAndEntryTypeSearcher);
+
+        if (result) {
+            NameAndEntryTypeSearcher<?> oAsNameAndEntryTypeSearcher = (NameAndEntryTypeSearcher<?>) o;
+
+            result = myTargetName.equals(oAsNameAndEntryTypeSearcher.myTargetName)
+                    && myTargetClass.equals(oAsNameAndEntryTypeSearcher.myTargetClass)
+                    && myStopAfterFirstFlag == oAsNameAndEntryTypeSearcher.myStopAfterFirstFlag;
+        }
+
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final String getSearchName() {
+        return myTargetName;
+    }
+
+    /**
+     * <p>
+     * This method overrides the default hashCode method implementation for the {@link NameAndEntryTypeSearcher} class.
+     * </p>
+     *
+     * @return The hash code value of the object.
+     */
+    @Override
+    public final int hashCode() {
+        return 31 * (31 * myTargetName.hashCode() + myTargetClass.hashCode()) + Boolean.hashCode(myStopAfterFirstFlag);
+    }
+
 }
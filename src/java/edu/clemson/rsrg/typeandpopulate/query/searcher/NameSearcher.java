@@ -25,7 +25,7 @@ import java.util.List;
  *
  * @version 2.0
  */
-public class NameSearcher implements MultimatchTableSearcher<SymbolTableEntry> {
+public class NameSearcher implements MultimatchTableSearcher<SymbolTableEntry>, NamedTableSearcher<SymbolTableEntry> {
 
     // ===========================================================
     // Member Fields
@@ -115,4 +115,49 @@ public class NameSearcher implements MultimatchTableSearcher<SymbolTableEntry> {
         return myStopAfterFirstFlag && result;
     }
 
+    /**
+     * <p>
+     * This method overrides the default equals method implementation for the {@link NameSearcher} class. Two searchers
+     * are equal if they will find the same entries.
+     * </p>
+     *
+     * @param o
+     *            Object to be compared.
+     *
+     * @return {@code true} if all the fields are equal, {@code false} otherwise.
+     */
+    @Override
+    public final boolean equals(Object o) {
+        boolean result = (o instanceof NameSearcher);
+
+        if (result) {
+            NameSearcher oAsNameSearcher = (NameSearcher) o;
+
+            result = mySearchString.equals(oAsNameSearcher.mySearchString)
+                    && myStopAfterFirstFlag == oAsNameSearcher.myStopAfterFirstFlag;
+        }
+
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final String getSearchName() {
+        return mySearchString;
+    }
+
+    /**
+     * <p>
+     * This method overrides the default hashCode method implementation for the {@link NameSearcher} class.
+     * </p>
+     *
+     * @return The hash code value of the object.
+     */
+    @Override
+    public final int hashCode() {
+        return 31 * mySearchString.hashCode() + Boolean.hashCode(myStopAfterFirstFlag);
+    }
+
 }
@@ -0,0 +1,42 @@
+/*
+ * NamedTableSearcher.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.typeandpopulate.query.searcher;
+
+import edu.clemson.rsrg.typeandpopulate.entry.SymbolTableEntry;
+import edu.clemson.rsrg.typeandpopulate.symboltables.SymbolTable;
+
+/**
+ * <p>
+ * A simple refinement on {@link TableSearcher} for searchers that only match entries with one particular name. A search
+ * path can use this name to skip any {@link SymbolTable} that doesn't contain it.
+ * </p>
+ *
+ * @param <E>
+ *            Permits concrete implementations of this interface to refine the type of <code>SymbolTableEntry</code>
+ *            they will match. This searcher guarantees that any entry it matches will descend from <code>E</code>. Put
+ *            another way: no matched entry will not be a subtype of <code>E</code>.
+ *
+ * @version 1.0
+ */
+public interface NamedTableSearcher<E extends SymbolTableEntry> extends TableSearcher<E> {
+
+    /**
+     * <p>
+     * Returns the name of the entries that this searcher matches.
+     * </p>
+     *
+     * @return The name as a string.
+     */
+    String getSearchName();
+
+}
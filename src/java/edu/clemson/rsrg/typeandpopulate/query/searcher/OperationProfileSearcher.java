@@ -34,7 +34,7 @@ import java.util.List;
  *
  * @version 2.0
  */
-public class OperationProfileSearcher implements TableSearcher<OperationProfileEntry> {
+public class OperationProfileSearcher implements NamedTableSearcher<OperationProfileEntry> {
 
     // ===========================================================
     // Member Fields
@@ -141,6 +141,51 @@ public class OperationProfileSearcher implements TableSearcher<OperationProfileE
         return false;
     }
 
+    /**
+     * <p>
+     * This method overrides the default equals method implementation for the {@link OperationProfileSearcher} class.
+     * Two searchers are equal if they will find the same entries.
+     * </p>
+     *
+     * @param o
+     *            Object to be compared.
+     *
+     * @return {@code true} if all the fields are equal, {@code false} otherwise.
+     */
+    @Override
+    public final boolean equals(Object o) {
+        boolean result = (o instanceof OperationProfileSearcher);
+
+        if (result) {
+            OperationProfileSearcher oAsOperationProfileSearcher = (OperationProfileSearcher) o;
+
+            result = myQueryName.equals(oAsOperationProfileSearcher.myQueryName)
+                    && myActualArgumentTypes.equals(oAsOperationProfileSearcher.myActualArgumentTypes);
+        }
+
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final String getSearchName() {
+        return myQueryName;
+    }
+
+    /**
+     * <p>
+     * This method overrides the default hashCode method implementation for the {@link OperationProfileSearcher} class.
+     * </p>
+     *
+     * @return The hash code value of the object.
+     */
+    @Override
+    public final int hashCode() {
+        return myQueryName.hashCode();
+    }
+
     // ===========================================================
     // Private Methods
     // ===========================================================
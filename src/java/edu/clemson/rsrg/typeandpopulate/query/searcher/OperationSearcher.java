@@ -35,7 +35,7 @@ import java.util.List;
  *
  * @version 2.0
  */
-public class OperationSearcher implements TableSearcher<OperationEntry> {
+public class OperationSearcher implements NamedTableSearcher<OperationEntry> {
 
     // ===========================================================
     // Member Fields
@@ -141,6 +141,51 @@ public class OperationSearcher implements TableSearcher<OperationEntry> {
         return false;
     }
 
+    /**
+     * <p>
+     * This method overrides the default equals method implementation for the {@link OperationSearcher} class. Two
+     * searchers are equal if they will find the same entries.
+     * </p>
+     *
+     * @param o
+     *            Object to be compared.
+     *
+     * @return {@code true} if all the fields are equal, {@code false} otherwise.
+     */
+    @Override
+    public final boolean equals(Object o) {
+        boolean result = (o instanceof OperationSearcher);
+
+        if (result) {
+            OperationSearcher oAsOperationSearcher = (OperationSearcher) o;
+
+            result = myQueryName.equals(oAsOperationSearcher.myQueryName)
+                    && myActualArgumentTypes.equals(oAsOperationSearcher.myActualArgumentTypes);
+        }
+
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final String getSearchName() {
+        return myQueryName;
+    }
+
+    /**
+     * <p>
+     * This method overrides the default hashCode method implementation for the {@link OperationSearcher} class.
+     * </p>
+     *
+     * @return The hash code value of the object.
+     */
+    @Override
+    public final int hashCode() {
+        return myQueryName.hashCode();
+    }
+
     // ===========================================================
     // Private Methods
     // ===========================================================
@@ -87,6 +87,42 @@ public class PossiblyQualifiedPath implements ScopeSearchPath {
     // Public Methods
     // ===========================================================
 
+    /**
+     * <p>
+     * This method overrides the default equals method implementation for the {@link PossiblyQualifiedPath} class. Two
+     * search paths are equal if they will find the same entries.
+     * </p>
+     *
+     * @param o
+     *            Object to be compared.
+     *
+     * @return {@code true} if all the fields are equal, {@code false} otherwise.
+     */
+    @Override
+    public final boolean equals(Object o) {
+        boolean result = (o instanceof PossiblyQualifiedPath);
+
+        if (result) {
+            PossiblyQualifiedPath oAsPossiblyQualifiedPath = (PossiblyQualifiedPath) o;
+
+            result = myActualSearchPath.equals(oAsPossiblyQualifiedPath.myActualSearchPath);
+        }
+
+        return result;
+    }
+
+    /**
+     * <p>
+     * This method overrides the default hashCode method implementation for the {@link PossiblyQualifiedPath} class.
+     * </p>
+     *
+     * @return The hash code value of the object.
+     */
+    @Override
+    public final int hashCode() {
+        return myActualSearchPath.hashCode();
+    }
+
     /**
      * <p>
      * Applies the given {@link TableSearcher} to the appropriate {@link Scope}s, given a source scope and a
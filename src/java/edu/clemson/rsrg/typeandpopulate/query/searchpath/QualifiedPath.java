@@ -102,6 +102,43 @@ public class QualifiedPath implements ScopeSearchPath {
     // Public Methods
     // ===========================================================
 
+    /**
+     * <p>
+     * This method overrides the default equals method implementation for the {@link QualifiedPath} class. Two search
+     * paths are equal if they will find the same entries.
+     * </p>
+     *
+     * @param o
+     *            Object to be compared.
+     *
+     * @return {@code true} if all the fields are equal, {@code false} otherwise.
+     */
+    @Override
+    public final boolean equals(Object o) {
+        boolean result = (o instanceof QualifiedPath);
+
+        if (result) {
+            QualifiedPath oAsQualifiedPath = (QualifiedPath) o;
+
+            result = myQualifier.getName().equals(oAsQualifiedPath.myQualifier.getName())
+                    && myFacilityStrategy == oAsQualifiedPath.myFacilityStrategy;
+        }
+
+        return result;
+    }
+
+    /**
+     * <p>
+     * This method overrides the default hashCode method implementation for the {@link QualifiedPath} class.
+     * </p>
+     *
+     * @return The hash code value of the object.
+     */
+    @Override
+    public final int hashCode() {
+        return 31 * myQualifier.getName().hashCode() + myFacilityStrategy.hashCode();
+    }
+
     /**
      * <p>
      * Applies the given {@link TableSearcher} to the appropriate {@link Scope}s, given a source scope and a
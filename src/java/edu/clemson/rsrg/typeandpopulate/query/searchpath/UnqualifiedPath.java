@@ -18,6 +18,7 @@ import edu.clemson.rsrg.typeandpopulate.exception.DuplicateSymbolException;
 import edu.clemson.rsrg.typeandpopulate.exception.NoSuchSymbolException;
 import edu.clemson.rsrg.typeandpopulate.programtypes.PTType;
 import edu.clemson.rsrg.typeandpopulate.query.searcher.EntryTypeSearcher;
+import edu.clemson.rsrg.typeandpopulate.query.searcher.NamedTableSearcher;
 import edu.clemson.rsrg.typeandpopulate.query.searcher.TableSearcher;
 import edu.clemson.rsrg.typeandpopulate.query.searcher.TableSearcher.SearchContext;
 import edu.clemson.rsrg.typeandpopulate.symboltables.*;
@@ -110,6 +111,45 @@ public class UnqualifiedPath implements ScopeSearchPath {
     // Public Methods
     // ===========================================================
 
+    /**
+     * <p>
+     * This method overrides the default equals method implementation for the {@link UnqualifiedPath} class. Two search
+     * paths are equal if they will find the same entries.
+     * </p>
+     *
+     * @param o
+     *            Object to be compared.
+     *
+     * @return {@code true} if all the fields are equal, {@code false} otherwise.
+     */
+    @Override
+    public final boolean equals(Object o) {
+        boolean result = (o instanceof UnqualifiedPath);
+
+        if (result) {
+            UnqualifiedPath oAsUnqualifiedPath = (UnqualifiedPath) o;
+
+            result = myImportStrategy == oAsUnqualifiedPath.myImportStrategy
+                    && myFacilityStrategy == oAsUnqualifiedPath.myFacilityStrategy
+                    && myLocalPriorityFlag == oAsUnqualifiedPath.myLocalPriorityFlag;
+        }
+
+        return result;
+    }
+
+    /**
+     * <p>
+     * This method overrides the default hashCode method implementation for the {@link UnqualifiedPath} class.
+     * </p>
+     *
+     * @return The hash code value of the object.
+     */
+    @Override
+    public final int hashCode() {
+        return 31 * (31 * myImportStrategy.hashCode() + myFacilityStrategy.hashCode())
+                + Boolean.hashCode(myLocalPriorityFlag);
+    }
+
     /**
      * <p>
      * Applies the given {@link TableSearcher} to the appropriate {@link Scope}s, given a source scope and a
@@ -213,6 +253,68 @@ public class UnqualifiedPath implements ScopeSearchPath {
         return finished;
     }
 
+    /**
+     * <p>
+     * This method searches the modules in the import closure that a sealed {@link MathSymbolTable} has computed for
+     * {@code module}, along with their facilities, and stores any matches in the {@code results} list.
+     * </p>
+     *
+     * <p>
+     * If the searcher only matches entries with one particular name, we use the symbol table's index of module entries
+     * to skip the modules that don't define that name. We still need to search their facilities if the facility
+     * strategy asks for them.
+     * </p>
+     *
+     * @param searcher
+     *            A <code>TableSearcher</code> to apply to each scope along the search path.
+     * @param table
+     *            A sealed symbol table.
+     * @param module
+     *            The module whose imports we are searching.
+     * @param importStrategy
+     *            An import strategy.
+     * @param results
+     *            List of matches.
+     * @param searchedScopes
+     *            Set of scopes searched.
+     * @param genericInstantiations
+     *            Map containing all the instantiations.
+     * @param instantiatingFacility
+     *            Facility that instantiated this class.
+     * @param depth
+     *            Integer flag that indicates how deep we search.
+     * @param <E>
+     *            Entry type.
+     *
+     * @return {@code true} if we are done searching, {@code false} otherwise.
+     */
+    private <E extends SymbolTableEntry> boolean searchImportClosure(TableSearcher<E> searcher, MathSymbolTable table,
+            ModuleIdentifier module, ImportStrategy importStrategy, List<E> results, Set<Scope> searchedScopes,
+            Map<String, PTType> genericInstantiations, FacilityEntry instantiatingFacility, int depth)
+            throws DuplicateSymbolException, NoSuchSymbolException {
+        Map<ModuleIdentifier, SymbolTableEntry> definingModules = null;
+        if (searcher instanceof NamedTableSearcher) {
+            definingModules = table.getModuleEntriesNamed(((NamedTableSearcher<?>) searcher).getSearchName());
+        }
+
+        boolean finished = false;
+        Iterator<ModuleScope> importClosureIter = table.getImportClosure(module, importStrategy).iterator();
+        ModuleScope importScope;
+        while (!finished && importClosureIter.hasNext()) {
+            importScope = importClosureIter.next();
+
+            if (definingModules == null || definingModules.containsKey(importScope.getModuleIdentifier())) {
+                // Only search the module itself and its facilities
+                finished = searchModule(searcher, importScope, table, results, searchedScopes, genericInstantiations,
+                        instantiatingFacility, ImportStrategy.IMPORT_NONE, depth + 1);
+            } else if (myFacilityStrategy != FacilityStrategy.FACILITY_IGNORE) {
+                finished = searchFacilities(searcher, results, importScope, genericInstantiations, searchedScopes);
+            }
+        }
+
+        return finished;
+    }
+
     /**
      * <p>
      * This method searches all the {@code Modules} in scope and attempts to find all entries that match and store those
@@ -270,16 +372,26 @@ public class UnqualifiedPath implements ScopeSearchPath {
             SyntacticScope sourceAsSyntacticScope = (SyntacticScope) source;
 
             try {
-                ModuleScope module = repo.getModuleScope(sourceAsSyntacticScope.getRootModule());
-                List<ModuleIdentifier> imports = module.getImports();
-
-                Iterator<ModuleIdentifier> importsIter = imports.iterator();
-                Scope importScope;
-                while (!finished && importsIter.hasNext()) {
-                    importScope = repo.getModuleScope(importsIter.next());
-
-                    finished = searchModule(searcher, importScope, repo, results, searchedScopes, genericInstantiations,
-                            instantiatingFacility, importStrategy.cascadingStrategy(), depth + 1);
+                if (repo instanceof MathSymbolTable
+                        && (!myLocalPriorityFlag || importStrategy.cascadingStrategy() == ImportStrategy.IMPORT_NONE)) {
+                    // A sealed symbol table has already flattened the imports in
+                    // the order we would search them.
+                    finished = searchImportClosure(searcher, (MathSymbolTable) repo,
+                            sourceAsSyntacticScope.getRootModule(), importStrategy, results, searchedScopes,
+                            genericInstantiations, instantiatingFacility, depth);
+                } else {
+                    ModuleScope module = repo.getModuleScope(sourceAsSyntacticScope.getRootModule());
+                    List<ModuleIdentifier> imports = module.getImports();
+
+                    Iterator<ModuleIdentifier> importsIter = imports.iterator();
+                    Scope importScope;
+                    while (!finished && importsIter.hasNext()) {
+                        importScope = repo.getModuleScope(importsIter.next());
+
+                        finished = searchModule(searcher, importScope, repo, results, searchedScopes,
+                                genericInstantiations, instantiatingFacility, importStrategy.cascadingStrategy(),
+                                depth + 1);
+                    }
                 }
             } catch (NoSuchSymbolException nsse) {
                 // This shouldn't be possible--we'd've caught it by now
@@ -34,14 +34,22 @@ class BaseSymbolTable implements SymbolTable {
      * The collection of entries in this table.
      * </p>
      */
-    private final Map<String, SymbolTableEntry> myEntries = new HashMap<>();
+    private final Map<String, SymbolTableEntry> myEntries;
 
     /**
      * <p>
      * The collection of entries grouped by type.
      * </p>
      */
-    private final Map<Class<?>, List<SymbolTableEntry>> myEntriesByType = new HashMap<>();
+    private final Map<Class<?>, List<SymbolTableEntry>> myEntriesByType;
+
+    /**
+     * <p>
+     * For a sealed table, all the entries in one contiguous array, ordered so that the entries of each type form a
+     * single slice. This is {@code null} if this table can still be modified.
+     * </p>
+     */
+    private final List<SymbolTableEntry> mySealedEntries;
 
     // ===========================================================
     // Constructors
@@ -53,18 +61,46 @@ class BaseSymbolTable implements SymbolTable {
      * </p>
      */
     BaseSymbolTable() {
+        myEntries = new HashMap<>();
+        myEntriesByType = new HashMap<>();
+        mySealedEntries = null;
     }
 
     /**
      * <p>
-     * This creates a symbol table from an existing source.
+     * This creates a sealed symbol table from an existing source. No new entries can be added to it, so each type is
+     * simply a view of a slice of one shared array and iterating over a type does not copy anything.
      * </p>
      *
      * @param source
      *            An existing source {@code BaseSymbolTable}.
      */
     BaseSymbolTable(BaseSymbolTable source) {
-        putAll(source.myEntries);
+        myEntries = new HashMap<>(source.myEntries);
+        myEntriesByType = new HashMap<>();
+
+        // Sorting by the chain of classes from SymbolTableEntry down to the
+        // entry's class places every class right before all of its subclasses,
+        // so the entries of any type end up next to each other.
+        Map<Class<?>, List<Class<?>>> typeChains = new HashMap<>();
+        List<SymbolTableEntry> sortedEntries = new ArrayList<>(myEntries.values());
+        sortedEntries.sort((e1, e2) -> compareTypeChains(getTypeChain(e1.getClass(), typeChains),
+                getTypeChain(e2.getClass(), typeChains)));
+        mySealedEntries = Collections.unmodifiableList(Arrays.asList(sortedEntries.toArray(new SymbolTableEntry[0])));
+
+        Map<Class<?>, Integer> sliceStarts = new HashMap<>();
+        Map<Class<?>, Integer> sliceEnds = new HashMap<>();
+        for (int i = 0; i < mySealedEntries.size(); i++) {
+            for (Class<?> type : getTypeChain(mySealedEntries.get(i).getClass(), typeChains)) {
+                sliceStarts.putIfAbsent(type, i);
+                sliceEnds.put(type, i + 1);
+            }
+        }
+
+        for (Map.Entry<Class<?>, Integer> sliceStart : sliceStarts.entrySet()) {
+            Class<?> type = sliceStart.getKey();
+            myEntriesByType.put(type, mySealedEntries.subList(sliceStart.getValue(), sliceEnds.get(type)));
+        }
     }
 
     // ===========================================================
@@ -114,11 +150,20 @@ class BaseSymbolTable implements SymbolTable {
      * @return An {@link Iterator}.
      */
     @Override
+    @SuppressWarnings("unchecked")
     public final <T extends SymbolTableEntry> Iterator<T> iterateByType(Class<T> type) {
-        List<Class<T>> types = new LinkedList<>();
-        types.add(type);
+        List<T> typeList = (List<T>) myEntriesByType.get(type);
 
-        return iterateByType(types);
+        Iterator<T> result;
+        if (typeList == null) {
+            result = Collections.emptyIterator();
+        } else if (mySealedEntries != null) {
+            result = typeList.iterator();
+        } else {
+            result = Collections.unmodifiableList(new ArrayList<>(typeList)).iterator();
+        }
+
+        return result;
     }
 
     /**
@@ -136,7 +181,11 @@ class BaseSymbolTable implements SymbolTable {
     @Override
     @SuppressWarnings("unchecked")
     public final <T extends SymbolTableEntry> Iterator<T> iterateByType(Collection<Class<T>> types) {
-        List<T> result = new LinkedList<>();
+        if (types.size() == 1) {
+            return iterateByType(types.iterator().next());
+        }
+
+        List<T> result = new ArrayList<>();
 
         List<T> typeList;
         for (Class<T> type : types) {
@@ -159,6 +208,10 @@ class BaseSymbolTable implements SymbolTable {
      */
     @Override
     public final Iterator<SymbolTableEntry> iterator() {
+        if (mySealedEntries != null) {
+            return mySealedEntries.iterator();
+        }
+
         return Collections.unmodifiableCollection(myEntries.values()).iterator();
     }
 
@@ -171,9 +224,16 @@ class BaseSymbolTable implements SymbolTable {
      *            Name of an entry.
      * @param entry
      *            The entry to be put into the table.
+     *
+     * @throws UnsupportedOperationException
+     *             If this table has been sealed.
      */
     @Override
     public final void put(String name, SymbolTableEntry entry) {
+        if (mySealedEntries != null) {
+            throw new UnsupportedOperationException("Cannot add entries to a sealed symbol table.");
+        }
+
         myEntries.put(name, entry);
 
         boolean foundTopLevel = false;
@@ -184,7 +244,7 @@ class BaseSymbolTable implements SymbolTable {
 
             List<SymbolTableEntry> classList = myEntriesByType.get(entryClass);
             if (classList == null) {
-                classList = new LinkedList<>();
+                classList = new ArrayList<>();
                 myEntriesByType.put(entryClass, classList);
             }
 
@@ -234,4 +294,82 @@ class BaseSymbolTable implements SymbolTable {
         return result.toString();
     }
 
+    // ===========================================================
+    // Package Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method returns a read-only view of all the entries in this symbol table, keyed by name.
+     * </p>
+     *
+     * @return A map containing all the entries.
+     */
+    final Map<String, SymbolTableEntry> getEntries() {
+        return Collections.unmodifiableMap(myEntries);
+    }
+
+    // ===========================================================
+    // Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method compares two chains of classes, one class at a time, so that a chain always comes right before the
+     * chains it is a prefix of.
+     * </p>
+     *
+     * @param chain1
+     *            The first chain of classes.
+     * @param chain2
+     *            The second chain of classes.
+     *
+     * @return A negative integer, zero, or a positive integer as the first chain comes before, is the same as, or comes
+     *         after the second chain.
+     */
+    private static int compareTypeChains(List<Class<?>> chain1, List<Class<?>> chain2) {
+        int result = 0;
+        int length = Math.min(chain1.size(), chain2.size());
+        for (int i = 0; i < length && result == 0; i++) {
+            result = chain1.get(i).getName().compareTo(chain2.get(i).getName());
+        }
+
+        if (result == 0) {
+            result = Integer.compare(chain1.size(), chain2.size());
+        }
+
+        return result;
+    }
+
+    /**
+     * <p>
+     * This method returns the classes from {@link SymbolTableEntry} down to <code>entryClass</code>.
+     * </p>
+     *
+     * @param entryClass
+     *            The class of an entry.
+     * @param typeChains
+     *            The chains we have already computed.
+     *
+     * @return The chain of classes, starting with {@link SymbolTableEntry}.
+     */
+    private static List<Class<?>> getTypeChain(Class<?> entryClass, Map<Class<?>, List<Class<?>>> typeChains) {
+        List<Class<?>> chain = typeChains.get(entryClass);
+        if (chain == null) {
+            chain = new ArrayList<>();
+
+            boolean foundTopLevel = false;
+            Class<?> curClass = entryClass;
+            while (!foundTopLevel) {
+                foundTopLevel = curClass.equals(SymbolTableEntry.class);
+                chain.add(0, curClass);
+                curClass = curClass.getSuperclass();
+            }
+
+            typeChains.put(entryClass, chain);
+        }
+
+        return chain;
+    }
+
 }
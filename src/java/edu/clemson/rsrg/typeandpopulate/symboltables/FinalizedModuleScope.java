@@ -14,9 +14,10 @@ package edu.clemson.rsrg.typeandpopulate.symboltables;
 
 import edu.clemson.rsrg.absyn.ResolveConceptualElement;
 import edu.clemson.rsrg.absyn.declarations.moduledecl.ModuleDec;
+import edu.clemson.rsrg.typeandpopulate.exception.NoSuchSymbolException;
+import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTable.ImportStrategy;
 import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
-import java.util.LinkedList;
-import java.util.List;
+import java.util.*;
 
 /**
  * <p>
@@ -43,6 +44,14 @@ class FinalizedModuleScope extends FinalizedScope implements ModuleScope {
      */
     private final List<ModuleIdentifier> myImportedModules;
 
+    /**
+     * <p>
+     * For each {@link ImportStrategy}, the module scopes that an unqualified search from this module goes through, in
+     * the order they are searched.
+     * </p>
+     */
+    private final Map<ImportStrategy, List<ModuleScope>> myImportClosures;
+
     // ===========================================================
     // Constructors
     // ===========================================================
@@ -69,6 +78,7 @@ class FinalizedModuleScope extends FinalizedScope implements ModuleScope {
             ModuleIdentifier enclosingModule, BaseSymbolTable bindings, List<ModuleIdentifier> importedModules) {
         super(source, definingElement, parent, enclosingModule, bindings);
         myImportedModules = new LinkedList<>(importedModules);
+        myImportClosures = new EnumMap<>(ImportStrategy.class);
     }
 
     // ===========================================================
@@ -127,4 +137,89 @@ class FinalizedModuleScope extends FinalizedScope implements ModuleScope {
         return i.equals(getRootModule()) || myImportedModules.contains(i);
     }
 
+    // ===========================================================
+    // Package Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method computes the import closure of this module for every {@link ImportStrategy}. This can only be done
+     * once every module scope in <code>source</code> has been sealed.
+     * </p>
+     *
+     * @param source
+     *            The source scope repository.
+     *
+     * @throws NoSuchSymbolException
+     *             If one of the imported modules does not have a scope.
+     */
+    final void flattenImports(MathSymbolTable source) throws NoSuchSymbolException {
+        for (ImportStrategy importStrategy : ImportStrategy.values()) {
+            List<ModuleScope> importClosure = new ArrayList<>();
+            if (importStrategy.considerImports()) {
+                Set<ModuleIdentifier> visitedModules = new HashSet<>();
+                visitedModules.add(getModuleIdentifier());
+                addImports(source, this, importStrategy.cascadingStrategy(), visitedModules, importClosure);
+            }
+
+            myImportClosures.put(importStrategy, Collections.unmodifiableList(importClosure));
+        }
+    }
+
+    /**
+     * <p>
+     * Returns the module scopes that an unqualified search from this module goes through when using the given import
+     * strategy, in the order they are searched. Each module appears only once, since searching it again wouldn't find
+     * anything new.
+     * </p>
+     *
+     * @param importStrategy
+     *            The import strategy to use.
+     *
+     * @return An unmodifiable list of {@link ModuleScope ModuleScopes}.
+     */
+    final List<ModuleScope> getImportClosure(ImportStrategy importStrategy) {
+        return myImportClosures.get(importStrategy);
+    }
+
+    // ===========================================================
+    // Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method adds the modules imported by <code>module</code> to the import closure, each one followed by its own
+     * imports if the cascading import strategy asks for them. This is the same depth-first order that
+     * {@link edu.clemson.rsrg.typeandpopulate.query.searchpath.UnqualifiedPath} uses when it walks the imports.
+     * </p>
+     *
+     * @param source
+     *            The source scope repository.
+     * @param module
+     *            The module whose imports we are adding.
+     * @param importStrategy
+     *            The import strategy to use for the imported modules.
+     * @param visitedModules
+     *            The modules we have already added.
+     * @param importClosure
+     *            The import closure we are computing.
+     *
+     * @throws NoSuchSymbolException
+     *             If one of the imported modules does not have a scope.
+     */
+    private static void addImports(MathSymbolTable source, ModuleScope module, ImportStrategy importStrategy,
+            Set<ModuleIdentifier> visitedModules, List<ModuleScope> importClosure) throws NoSuchSymbolException {
+        for (ModuleIdentifier importedModule : module.getImports()) {
+            if (visitedModules.add(importedModule)) {
+                ModuleScope importedScope = source.getModuleScope(importedModule);
+                importClosure.add(importedScope);
+
+                if (importStrategy.considerImports()) {
+                    addImports(source, importedScope, importStrategy.cascadingStrategy(), visitedModules,
+                            importClosure);
+                }
+            }
+        }
+    }
+
 }
@@ -54,4 +54,33 @@ public class FinalizedScope extends SyntacticScope {
         super(symbolTable, definingElement, parent, enclosingModule, new BaseSymbolTable(bindings));
     }
 
+    // ===========================================================
+    // Package Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * A <code>FinalizedScope</code> doesn't have access to the compilation environment, so its cache lookups are not
+     * counted.
+     * </p>
+     *
+     * @param hit
+     *            {@code true} if the query results were found in the cache, {@code false} otherwise.
+     */
+    @Override
+    final void countQueryCacheLookup(boolean hit) {
+    }
+
+    /**
+     * <p>
+     * A <code>FinalizedScope</code> is never modified, so its cached query results are always valid.
+     * </p>
+     *
+     * @return The modification epoch.
+     */
+    @Override
+    final long getModificationEpoch() {
+        return 0;
+    }
+
 }
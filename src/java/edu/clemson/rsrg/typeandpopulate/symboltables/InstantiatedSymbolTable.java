@@ -18,6 +18,8 @@ import edu.clemson.rsrg.typeandpopulate.entry.SymbolTableEntry;
 import edu.clemson.rsrg.typeandpopulate.programtypes.PTType;
 import edu.clemson.rsrg.typeandpopulate.utilities.LazyMappingIterator;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.Map;
 
@@ -26,6 +28,12 @@ import java.util.Map;
  * An helper class that represents an instantiated symbol table.
  * </p>
  *
+ * <p>
+ * Each base entry is only instantiated once. The {@link SyntacticScope} that owns the base table keeps one instantiated
+ * table for each facility and generic instantiation, so repeated searches through the same facility reuse the
+ * instantiated entries.
+ * </p>
+ *
  * @version 2.0
  */
 class InstantiatedSymbolTable implements SymbolTable {
@@ -41,6 +49,15 @@ class InstantiatedSymbolTable implements SymbolTable {
      */
     private final GenericInstantiatingMapping<SymbolTableEntry> INSTANTIATOR = new GenericInstantiatingMapping<>();
 
+    /**
+     * <p>
+     * A map from each base entry we have instantiated to its instantiated version. The keys are compared by reference,
+     * since different entries can be {@code equal} to each other.
+     * </p>
+     */
+    private final Map<SymbolTableEntry, SymbolTableEntry> myInstantiatedEntries = Collections
+            .synchronizedMap(new IdentityHashMap<>());
+
     /**
      * <p>
      * A base symbol table to be instantiated.
@@ -226,7 +243,18 @@ class InstantiatedSymbolTable implements SymbolTable {
         @SuppressWarnings("unchecked")
         @Override
         public final T map(T input) {
-            return (T) input.instantiateGenerics(myGenericInstantiations, myInstantiatingFacility);
+            SymbolTableEntry instantiatedEntry = myInstantiatedEntries.get(input);
+            if (instantiatedEntry == null) {
+                instantiatedEntry = input.instantiateGenerics(myGenericInstantiations, myInstantiatingFacility);
+
+                // Another thread might have instantiated this entry at the same time
+                SymbolTableEntry existingEntry = myInstantiatedEntries.putIfAbsent(input, instantiatedEntry);
+                if (existingEntry != null) {
+                    instantiatedEntry = existingEntry;
+                }
+            }
+
+            return (T) instantiatedEntry;
         }
 
     }
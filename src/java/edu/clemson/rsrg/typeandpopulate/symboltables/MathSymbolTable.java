@@ -15,11 +15,13 @@ package edu.clemson.rsrg.typeandpopulate.symboltables;
 import edu.clemson.rsrg.absyn.ResolveConceptualElement;
 import edu.clemson.rsrg.absyn.declarations.moduledecl.ModuleDec;
 import edu.clemson.rsrg.absyn.declarations.moduledecl.PrecisModuleDec;
+import edu.clemson.rsrg.typeandpopulate.entry.SymbolTableEntry;
 import edu.clemson.rsrg.typeandpopulate.exception.NoSuchModuleException;
 import edu.clemson.rsrg.typeandpopulate.exception.NoSuchScopeException;
 import edu.clemson.rsrg.typeandpopulate.exception.NoSuchSymbolException;
 import edu.clemson.rsrg.typeandpopulate.typereasoning.TypeGraph;
 import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -251,6 +253,13 @@ public class MathSymbolTable extends ScopeRepository {
      */
     private final Map<ModuleIdentifier, FinalizedModuleScope> myModuleScopes = new HashMap<>();
 
+    /**
+     * <p>
+     * A map from each name to the modules whose module-level scope defines an entry with that name.
+     * </p>
+     */
+    private final Map<String, Map<ModuleIdentifier, SymbolTableEntry>> myModuleEntriesByName = new HashMap<>();
+
     /**
      * <p>
      * The current type graph.
@@ -280,19 +289,70 @@ public class MathSymbolTable extends ScopeRepository {
 
         List<ImportRequest> importedModules = new LinkedList<>();
 
-        seal(root, importedModules);
+        seal(root, root.getParent(), importedModules);
 
         for (ImportRequest request : importedModules) {
             if (!myModuleScopes.containsKey(request.importedModule)) {
                 throw new NoSuchModuleException(request.sourceModule, request.importedModule);
             }
         }
+
+        // Now that every module has been sealed, flatten the imports
+        // of each module in the order an unqualified search would use.
+        for (FinalizedModuleScope moduleScope : myModuleScopes.values()) {
+            moduleScope.flattenImports(this);
+        }
     }
 
     // ===========================================================
     // Public Methods
     // ===========================================================
 
+    /**
+     * <p>
+     * Returns the scopes of the modules that an unqualified search from <code>module</code> goes through when using the
+     * given import strategy, in the order they are searched. These are computed once, when this symbol table is sealed.
+     * </p>
+     *
+     * @param module
+     *            The module identifier.
+     * @param importStrategy
+     *            The import strategy to use.
+     *
+     * @return An unmodifiable list of {@link ModuleScope ModuleScopes}.
+     *
+     * @throws NoSuchSymbolException
+     *             If no scope has been opened for the named module.
+     */
+    public final List<ModuleScope> getImportClosure(ModuleIdentifier module, ImportStrategy importStrategy)
+            throws NoSuchSymbolException {
+        if (!myModuleScopes.containsKey(module)) {
+            throw new NoSuchSymbolException("" + module, null);
+        }
+
+        return myModuleScopes.get(module).getImportClosure(importStrategy);
+    }
+
+    /**
+     * <p>
+     * Returns the entries named <code>name</code> that are defined directly in a module-level scope, keyed by the
+     * module that defines them. Entries in nested scopes, such as those of an operation, are not included.
+     * </p>
+     *
+     * @param name
+     *            The name of an entry.
+     *
+     * @return An unmodifiable map from module identifiers to {@link SymbolTableEntry SymbolTableEntries}.
+     */
+    public final Map<ModuleIdentifier, SymbolTableEntry> getModuleEntriesNamed(String name) {
+        Map<ModuleIdentifier, SymbolTableEntry> entries = myModuleEntriesByName.get(name);
+        if (entries == null) {
+            return Collections.emptyMap();
+        }
+
+        return Collections.unmodifiableMap(entries);
+    }
+
     /**
      * <p>
      * Returns the {@link ModuleScope} associated with the given {@link ModuleIdentifier}.
@@ -382,11 +442,13 @@ public class MathSymbolTable extends ScopeRepository {
      *
      * @param b
      *            The current scope repository builder.
+     * @param parent
+     *            The sealed copy of the parent of {@code b}.
      * @param importedModules
      *            The list of imported modules.
      */
-    private void seal(ScopeBuilder b, List<ImportRequest> importedModules) {
-        FinalizedScope result = b.seal(this);
+    private void seal(ScopeBuilder b, Scope parent, List<ImportRequest> importedModules) {
+        FinalizedScope result = b.seal(this, parent);
         FinalizedModuleScope resultAsModuleScope;
         ModuleIdentifier resultIdentifier;
 
@@ -400,13 +462,18 @@ public class MathSymbolTable extends ScopeRepository {
 
                 myModuleScopes.put(resultIdentifier, resultAsModuleScope);
 
+                for (Map.Entry<String, SymbolTableEntry> entry : resultAsModuleScope.myBindings.getEntries()
+                        .entrySet()) {
+                    myModuleEntriesByName.computeIfAbsent(entry.getKey(), k -> new HashMap<>()).put(resultIdentifier,
+                            entry.getValue());
+                }
+
                 importedModules.addAll(buildImportRequests(resultIdentifier, resultAsModuleScope.getImports()));
             }
         }
 
         for (ScopeBuilder curChild : b.children()) {
-            curChild.setParent(result);
-            seal(curChild, importedModules);
+            seal(curChild, result, importedModules);
         }
     }
 
@@ -15,6 +15,7 @@ package edu.clemson.rsrg.typeandpopulate.symboltables;
 import edu.clemson.rsrg.absyn.ResolveConceptualElement;
 import edu.clemson.rsrg.absyn.declarations.moduledecl.ModuleDec;
 import edu.clemson.rsrg.init.CompileEnvironment;
+import edu.clemson.rsrg.init.metrics.CompilerMetrics;
 import edu.clemson.rsrg.typeandpopulate.exception.NoSuchModuleException;
 import edu.clemson.rsrg.typeandpopulate.exception.NoSuchScopeException;
 import edu.clemson.rsrg.typeandpopulate.exception.NoSuchSymbolException;
@@ -22,9 +23,10 @@ import edu.clemson.rsrg.typeandpopulate.typereasoning.TypeGraph;
 import edu.clemson.rsrg.typeandpopulate.utilities.HardCoded;
 import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
 import java.util.Deque;
-import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * <p>
@@ -35,7 +37,8 @@ import java.util.Map;
  *
  * <p>
  * Once the building process is complete, {@link #seal()} should be called to return a <code>MathSymbolTable</code> that
- * is equivalent to the working symbol table represented by this <code>MathSymbolTableBuilder</code>.
+ * is equivalent to the working symbol table represented by this <code>MathSymbolTableBuilder</code>. The builder isn't
+ * changed by sealing it, so it can keep populating new modules for a later snapshot.
  * </p>
  *
  * @version 2.0
@@ -55,31 +58,54 @@ public class MathSymbolTableBuilder extends ScopeRepository {
 
     /**
      * <p>
-     * A list of current open scopes.
+     * The current job's compilation environment that stores all necessary objects and flags.
      * </p>
      */
-    private final Deque<ScopeBuilder> myLexicalScopeStack = new LinkedList<>();
+    private final CompileEnvironment myCompileEnvironment;
+
+    /**
+     * <p>
+     * The scope containing all the built-in objects. This is always at the bottom of every lexical scope stack.
+     * </p>
+     */
+    private final ScopeBuilder myGlobalScope;
+
+    /**
+     * <p>
+     * A list of current open scopes. Independent modules may be populated concurrently, so each thread keeps its own
+     * stack of open scopes.
+     * </p>
+     */
+    private final ThreadLocal<Deque<ScopeBuilder>> myLexicalScopeStack;
 
     /**
      * <p>
      * A map of non-module scope builders.
      * </p>
      */
-    private final Map<ResolveConceptualElement, ScopeBuilder> myScopes = new HashMap<>();
+    private final Map<ResolveConceptualElement, ScopeBuilder> myScopes = new ConcurrentHashMap<>();
 
     /**
      * <p>
      * A map of module scope builders.
      * </p>
      */
-    private final Map<ModuleIdentifier, ModuleScopeBuilder> myModuleScopes = new HashMap<>();
+    private final Map<ModuleIdentifier, ModuleScopeBuilder> myModuleScopes = new ConcurrentHashMap<>();
+
+    /**
+     * <p>
+     * The current module scope for the calling thread.
+     * </p>
+     */
+    private final ThreadLocal<ModuleScopeBuilder> myCurModuleScope = new ThreadLocal<>();
 
     /**
      * <p>
-     * The current module scope.
+     * A counter that changes every time one of our scopes is modified. A query can search through any of our scopes, so
+     * the scopes share this counter to know when their cached query results are no longer valid.
      * </p>
      */
-    private ModuleScopeBuilder myCurModuleScope = null;
+    private final AtomicLong myModificationEpoch = new AtomicLong();
 
     /**
      * <p>
@@ -101,14 +127,20 @@ public class MathSymbolTableBuilder extends ScopeRepository {
      *            The current job's compilation environment that stores all necessary objects and flags.
      */
     public MathSymbolTableBuilder(CompileEnvironment compileEnvironment) {
+        myCompileEnvironment = compileEnvironment;
         myTypeGraph = new TypeGraph(compileEnvironment);
 
         // The only things in global scope are built-in things
-        ScopeBuilder globalScope = new ScopeBuilder(this, myTypeGraph, null, DUMMY_RESOLVER, ModuleIdentifier.GLOBAL);
+        myGlobalScope = new ScopeBuilder(this, myTypeGraph, null, DUMMY_RESOLVER, ModuleIdentifier.GLOBAL);
 
-        HardCoded.addBuiltInSymbols(myTypeGraph, globalScope);
+        HardCoded.addBuiltInSymbols(myTypeGraph, myGlobalScope);
 
-        myLexicalScopeStack.push(globalScope);
+        myLexicalScopeStack = ThreadLocal.withInitial(() -> {
+            Deque<ScopeBuilder> stack = new LinkedList<>();
+            stack.push(myGlobalScope);
+
+            return stack;
+        });
 
         // Some IDEs (rightly) complain about leaking a "this" pointer inside the
         // constructor, but we know what we're doing--this is the last thing in
@@ -122,6 +154,20 @@ public class MathSymbolTableBuilder extends ScopeRepository {
     // Public Methods
     // ===========================================================
 
+    /**
+     * <p>
+     * Closes every scope opened by the current thread, including any open module scope. This is used to recover when
+     * something goes wrong while we are populating a module.
+     * </p>
+     */
+    public final void abandonOpenScopes() {
+        Deque<ScopeBuilder> lexicalScopeStack = myLexicalScopeStack.get();
+        while (lexicalScopeStack.size() > 1) {
+            lexicalScopeStack.pop();
+        }
+        myCurModuleScope.remove();
+    }
+
     /**
      * <p>
      * Closes the most recently opened, unclosed working scope, including those opened with
@@ -133,15 +179,16 @@ public class MathSymbolTableBuilder extends ScopeRepository {
      */
     public final ScopeBuilder endScope() {
         checkScopeOpen();
-        myLexicalScopeStack.pop();
+        Deque<ScopeBuilder> lexicalScopeStack = myLexicalScopeStack.get();
+        lexicalScopeStack.pop();
 
         ScopeBuilder result;
 
-        if (myLexicalScopeStack.size() == 1) {
+        if (lexicalScopeStack.size() == 1) {
             result = null;
-            myCurModuleScope = null;
+            myCurModuleScope.remove();
         } else {
-            result = myLexicalScopeStack.peek();
+            result = lexicalScopeStack.peek();
         }
 
         return result;
@@ -159,7 +206,19 @@ public class MathSymbolTableBuilder extends ScopeRepository {
      */
     public final ScopeBuilder getInnermostActiveScope() {
         checkScopeOpen();
-        return myLexicalScopeStack.peek();
+        return myLexicalScopeStack.get().peek();
+    }
+
+    /**
+     * <p>
+     * This method returns the current modification epoch shared by all of our scopes. It changes every time a scope is
+     * added, modified or removed, so it can be used to tell if an earlier {@link #seal()} is still up to date.
+     * </p>
+     *
+     * @return The modification epoch.
+     */
+    public final long getModificationEpoch() {
+        return myModificationEpoch.get();
     }
 
     /**
@@ -177,11 +236,12 @@ public class MathSymbolTableBuilder extends ScopeRepository {
      */
     @Override
     public final ModuleScope getModuleScope(ModuleIdentifier module) throws NoSuchSymbolException {
-        if (!myModuleScopes.containsKey(module)) {
+        ModuleScopeBuilder result = myModuleScopes.get(module);
+        if (result == null) {
             throw new NoSuchSymbolException("" + module, null);
         }
 
-        return myModuleScopes.get(module);
+        return result;
     }
 
     /**
@@ -199,11 +259,12 @@ public class MathSymbolTableBuilder extends ScopeRepository {
      */
     @Override
     public final Scope getScope(ResolveConceptualElement e) throws NoSuchScopeException {
-        if (!myScopes.containsKey(e)) {
+        ScopeBuilder result = myScopes.get(e);
+        if (result == null) {
             throw new NoSuchScopeException(e);
         }
 
-        return myScopes.get(e);
+        return result;
     }
 
     /**
@@ -218,10 +279,34 @@ public class MathSymbolTableBuilder extends ScopeRepository {
         return myTypeGraph;
     }
 
+    /**
+     * <p>
+     * Removes the module scope for the specified module, along with all of its inner scopes and any type relationships
+     * added by the module. Other scopes also forget the instantiated views they created for the module's facilities.
+     * This allows a module to be populated again after its source has changed.
+     * </p>
+     *
+     * @param module
+     *            The module identifier for the module being removed.
+     */
+    public final void removeModuleScope(ModuleIdentifier module) {
+        ModuleScopeBuilder moduleScope = myModuleScopes.remove(module);
+        if (moduleScope != null) {
+            myGlobalScope.removeChild(moduleScope);
+        }
+        myScopes.values().removeIf(s -> module.equals(s.getRootModule()));
+        for (ScopeBuilder scope : myScopes.values()) {
+            scope.removeInstantiatedBindings(module);
+        }
+        myTypeGraph.removeRelationships(module);
+        incrementModificationEpoch();
+    }
+
     /**
      * <p>
      * Returns an immutable snapshot of the working symbol table represented by this <code>MathSymbolTableBuilder</code>
-     * as a <code>MathSymbolTable</code>.
+     * as a <code>MathSymbolTable</code>. This <code>MathSymbolTableBuilder</code> isn't changed, so any modules that
+     * are populated afterwards won't show up in the snapshot.
      * </p>
      *
      * @return The snapshot.
@@ -232,11 +317,11 @@ public class MathSymbolTableBuilder extends ScopeRepository {
      *             If any module claims to import a module for which there is no associated scope.
      */
     public final MathSymbolTable seal() throws NoSuchModuleException {
-        if (myLexicalScopeStack.size() > 1) {
+        if (myLexicalScopeStack.get().size() > 1) {
             throw new IllegalStateException("There are open scopes.");
         }
 
-        return new MathSymbolTable(myTypeGraph, myLexicalScopeStack.peek());
+        return new MathSymbolTable(myTypeGraph, myGlobalScope);
     }
 
     /**
@@ -259,18 +344,19 @@ public class MathSymbolTableBuilder extends ScopeRepository {
             throw new IllegalArgumentException("definingElement may not be " + "null.");
         }
 
-        if (myCurModuleScope != null) {
+        if (myCurModuleScope.get() != null) {
             throw new IllegalStateException("Module scope already open.");
         }
 
-        ScopeBuilder parent = myLexicalScopeStack.peek();
+        ScopeBuilder parent = myLexicalScopeStack.get().peek();
 
         ModuleScopeBuilder s = new ModuleScopeBuilder(myTypeGraph, definingElement, parent, this);
 
-        myCurModuleScope = s;
+        myCurModuleScope.set(s);
 
         addScope(s, parent);
         myModuleScopes.put(s.getModuleIdentifier(), s);
+        incrementModificationEpoch();
 
         return s;
     }
@@ -299,12 +385,13 @@ public class MathSymbolTableBuilder extends ScopeRepository {
 
         checkModuleScopeOpen();
 
-        ScopeBuilder parent = myLexicalScopeStack.peek();
+        ScopeBuilder parent = myLexicalScopeStack.get().peek();
 
         ScopeBuilder s = new ScopeBuilder(this, myTypeGraph, definingElement, parent,
-                myCurModuleScope.getModuleIdentifier());
+                myCurModuleScope.get().getModuleIdentifier());
 
         addScope(s, parent);
+        incrementModificationEpoch();
 
         return s;
     }
@@ -326,7 +413,7 @@ public class MathSymbolTableBuilder extends ScopeRepository {
         StringBuilder result = new StringBuilder();
 
         boolean first = true;
-        for (ScopeBuilder b : myLexicalScopeStack) {
+        for (ScopeBuilder b : myLexicalScopeStack.get()) {
             if (first) {
                 first = false;
             } else {
@@ -339,6 +426,36 @@ public class MathSymbolTableBuilder extends ScopeRepository {
         return result.toString();
     }
 
+    // ===========================================================
+    // Package Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method counts a lookup in one of our scopes' cached query results, if we were asked to collect metrics.
+     * </p>
+     *
+     * @param hit
+     *            {@code true} if the query results were found in the cache, {@code false} otherwise.
+     */
+    final void countQueryCacheLookup(boolean hit) {
+        CompilerMetrics metrics = myCompileEnvironment.getMetrics();
+        if (metrics != null) {
+            metrics.incrementCounter(
+                    hit ? CompilerMetrics.COUNTER_QUERY_CACHE_HITS : CompilerMetrics.COUNTER_QUERY_CACHE_MISSES);
+        }
+    }
+
+    /**
+     * <p>
+     * This method indicates that one of our scopes (or the set of module scopes) has been modified. This must be called
+     * <em>after</em> the modification, so a search that started before it can't be cached with the new epoch.
+     * </p>
+     */
+    final void incrementModificationEpoch() {
+        myModificationEpoch.incrementAndGet();
+    }
+
     // ===========================================================
     // Private Methods
     // ===========================================================
@@ -355,7 +472,7 @@ public class MathSymbolTableBuilder extends ScopeRepository {
      */
     private void addScope(ScopeBuilder s, ScopeBuilder parent) {
         parent.addChild(s);
-        myLexicalScopeStack.push(s);
+        myLexicalScopeStack.get().push(s);
         myScopes.put(s.getDefiningElement(), s);
     }
 
@@ -365,7 +482,7 @@ public class MathSymbolTableBuilder extends ScopeRepository {
      * </p>
      */
     private void checkModuleScopeOpen() {
-        if (myCurModuleScope == null) {
+        if (myCurModuleScope.get() == null) {
             throw new IllegalStateException("No open module scope.");
         }
     }
@@ -376,7 +493,7 @@ public class MathSymbolTableBuilder extends ScopeRepository {
      * </p>
      */
     private void checkScopeOpen() {
-        if (myLexicalScopeStack.size() == 1) {
+        if (myLexicalScopeStack.get().size() == 1) {
             throw new IllegalStateException("No open scope.");
         }
     }
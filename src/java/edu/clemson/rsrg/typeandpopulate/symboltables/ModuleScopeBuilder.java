@@ -78,6 +78,7 @@ public class ModuleScopeBuilder extends ScopeBuilder implements ModuleScope {
     public final void addImport(ModuleIdentifier i) {
         if (!myImportedModules.contains(i) && !myRootModule.equals(i)) {
             myImportedModules.add(i);
+            markModified();
         }
     }
 
@@ -139,17 +140,20 @@ public class ModuleScopeBuilder extends ScopeBuilder implements ModuleScope {
 
     /**
      * <p>
-     * This method seals this scope from further modifications.
+     * This method returns a sealed copy of this scope. This scope itself is left untouched, so it can still be modified
+     * afterwards.
      * </p>
      *
      * @param finalTable
      *            The finalized symbol table.
+     * @param parent
+     *            The sealed copy of our parent scope.
      *
      * @return A {@link FinalizedModuleScope} object.
      */
     @Override
-    final FinalizedModuleScope seal(MathSymbolTable finalTable) {
-        return new FinalizedModuleScope(finalTable, myDefiningElement, myParent, myRootModule, myBindings,
+    final FinalizedModuleScope seal(MathSymbolTable finalTable, Scope parent) {
+        return new FinalizedModuleScope(finalTable, myDefiningElement, parent, myRootModule, myBindings,
                 myImportedModules);
     }
 
@@ -61,6 +61,13 @@ public class ScopeBuilder extends SyntacticScope {
      */
     private final List<ScopeBuilder> myChildren = new LinkedList<>();
 
+    /**
+     * <p>
+     * The scope repository builder that created this scope.
+     * </p>
+     */
+    private final MathSymbolTableBuilder myBuilder;
+
     /**
      * <p>
      * The current type graph object in use.
@@ -91,6 +98,7 @@ public class ScopeBuilder extends SyntacticScope {
     ScopeBuilder(MathSymbolTableBuilder b, TypeGraph g, ResolveConceptualElement definingElement, Scope parent,
             ModuleIdentifier enclosingModule) {
         super(b, definingElement, parent, enclosingModule, new BaseSymbolTable());
+        myBuilder = b;
         myTypeGraph = g;
     }
 
@@ -137,7 +145,7 @@ public class ScopeBuilder extends SyntacticScope {
         MathSymbolEntry entry = new MathSymbolEntry(myTypeGraph, name, q, definingElement, type, typeValue,
                 schematicTypes, genericsInDefiningContext, myRootModule);
 
-        myBindings.put(name, entry);
+        addEntry(name, entry);
 
         return entry;
     }
@@ -262,7 +270,7 @@ public class ScopeBuilder extends SyntacticScope {
         FacilityEntry entry = new FacilityEntry(facility, isSharingConceptInstantiation, myRootModule,
                 getSourceRepository());
 
-        myBindings.put(facility.getName().getName(), entry);
+        addEntry(facility.getName().getName(), entry);
 
         return entry;
     }
@@ -301,7 +309,7 @@ public class ScopeBuilder extends SyntacticScope {
         FacilityTypeRepresentationEntry result = new FacilityTypeRepresentationEntry(name, definingElement,
                 myRootModule, new PTFacilityRepresentation(myTypeGraph, representationType, name), convention);
 
-        myBindings.put(name, result);
+        addEntry(name, result);
 
         return result;
     }
@@ -339,7 +347,7 @@ public class ScopeBuilder extends SyntacticScope {
         ProgramParameterEntry entry = new ProgramParameterEntry(myTypeGraph, name, definingElement, myRootModule, type,
                 mode);
 
-        myBindings.put(name, entry);
+        addEntry(name, entry);
 
         return entry;
     }
@@ -377,7 +385,7 @@ public class ScopeBuilder extends SyntacticScope {
 
         OperationEntry entry = new OperationEntry(name, definingElement, myRootModule, returnType, params);
 
-        myBindings.put(name, entry);
+        addEntry(name, entry);
 
         return entry;
     }
@@ -412,7 +420,7 @@ public class ScopeBuilder extends SyntacticScope {
         OperationProfileEntry entry = new OperationProfileEntry(name, definingElement, myRootModule,
                 correspondingOperation);
 
-        myBindings.put(name, entry);
+        addEntry(name, entry);
 
         return entry;
     }
@@ -446,7 +454,7 @@ public class ScopeBuilder extends SyntacticScope {
 
         ProcedureEntry entry = new ProcedureEntry(name, definingElement, myRootModule, correspondingOperation);
 
-        myBindings.put(name, entry);
+        addEntry(name, entry);
 
         return entry;
     }
@@ -490,7 +498,7 @@ public class ScopeBuilder extends SyntacticScope {
                 new PTFamily(model, name, exemplarSymbol.getName()), exemplarEntry, definingElement.getConstraint(),
                 definingElement.getDefinitionVarList());
 
-        myBindings.put(name, entry);
+        addEntry(name, entry);
 
         return entry;
     }
@@ -525,7 +533,7 @@ public class ScopeBuilder extends SyntacticScope {
 
         ProgramVariableEntry entry = new ProgramVariableEntry(name, definingElement, myRootModule, type);
 
-        myBindings.put(name, entry);
+        addEntry(name, entry);
 
         return entry;
     }
@@ -569,7 +577,7 @@ public class ScopeBuilder extends SyntacticScope {
         TypeRepresentationEntry result = new TypeRepresentationEntry(name, definingElement, myRootModule, definition,
                 representationType, convention, correspondence);
 
-        myBindings.put(name, result);
+        addEntry(name, result);
 
         return result;
     }
@@ -603,7 +611,7 @@ public class ScopeBuilder extends SyntacticScope {
 
         TheoremEntry entry = new TheoremEntry(myTypeGraph, name, definingElement, operators, myRootModule);
 
-        myBindings.put(name, entry);
+        addEntry(name, entry);
 
         return entry;
     }
@@ -621,7 +629,9 @@ public class ScopeBuilder extends SyntacticScope {
      *            Child {@link ScopeBuilder}.
      */
     final void addChild(ScopeBuilder b) {
-        myChildren.add(b);
+        synchronized (myChildren) {
+            myChildren.add(b);
+        }
     }
 
     /**
@@ -632,39 +642,91 @@ public class ScopeBuilder extends SyntacticScope {
      * @return A list of {@link ScopeBuilder}.
      */
     final List<ScopeBuilder> children() {
-        return new LinkedList<>(myChildren);
+        synchronized (myChildren) {
+            return new LinkedList<>(myChildren);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    final void countQueryCacheLookup(boolean hit) {
+        myBuilder.countQueryCacheLookup(hit);
     }
 
     /**
      * <p>
-     * This method seals this scope from further modifications.
+     * A <code>ScopeBuilder</code> can still change, so it uses the modification epoch shared by all the scopes in its
+     * {@link MathSymbolTableBuilder}. A search can pass through any of those scopes, not just this one.
      * </p>
      *
-     * @param finalTable
-     *            The finalized symbol table.
+     * @return The modification epoch.
+     */
+    @Override
+    final long getModificationEpoch() {
+        return myBuilder.getModificationEpoch();
+    }
+
+    /**
+     * <p>
+     * This method indicates that this scope has been modified, so any cached query results are no longer valid.
+     * </p>
+     */
+    final void markModified() {
+        myBuilder.incrementModificationEpoch();
+    }
+
+    /**
+     * <p>
+     * This method removes a child scope builder.
+     * </p>
      *
-     * @return A {@link FinalizedScope} object.
+     * @param b
+     *            Child {@link ScopeBuilder}.
      */
-    FinalizedScope seal(MathSymbolTable finalTable) {
-        return new FinalizedScope(finalTable, myDefiningElement, myParent, myRootModule, myBindings);
+    final void removeChild(ScopeBuilder b) {
+        synchronized (myChildren) {
+            myChildren.remove(b);
+        }
     }
 
     /**
      * <p>
-     * This method sets the parent scope.
+     * This method returns a sealed copy of this scope. This scope itself is left untouched, so it can still be modified
+     * afterwards.
      * </p>
      *
+     * @param finalTable
+     *            The finalized symbol table.
      * @param parent
-     *            The parent {@link Scope}.
+     *            The sealed copy of our parent scope.
+     *
+     * @return A {@link FinalizedScope} object.
      */
-    final void setParent(Scope parent) {
-        myParent = parent;
+    FinalizedScope seal(MathSymbolTable finalTable, Scope parent) {
+        return new FinalizedScope(finalTable, myDefiningElement, parent, myRootModule, myBindings);
     }
 
     // ===========================================================
     // Private Methods
     // ===========================================================
 
+    /**
+     * <p>
+     * This method adds a new entry to our bindings.
+     * </p>
+     *
+     * @param name
+     *            The unqualified name of the symbol.
+     * @param entry
+     *            The new symbol table entry.
+     */
+    private void addEntry(String name, SymbolTableEntry entry) {
+        myBindings.put(name, entry);
+        markModified();
+    }
+
     /**
      * <p>
      * This method performs basic sanity checks before we attempt to add an entry into the symbol table.
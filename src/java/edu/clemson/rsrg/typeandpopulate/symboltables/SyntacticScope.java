@@ -21,10 +21,12 @@ import edu.clemson.rsrg.typeandpopulate.exception.NoSuchSymbolException;
 import edu.clemson.rsrg.typeandpopulate.programtypes.PTType;
 import edu.clemson.rsrg.typeandpopulate.query.MultimatchSymbolQuery;
 import edu.clemson.rsrg.typeandpopulate.query.SymbolQuery;
+import edu.clemson.rsrg.typeandpopulate.query.searchpath.ScopeSearchPath;
 import edu.clemson.rsrg.typeandpopulate.query.searcher.TableSearcher;
 import edu.clemson.rsrg.typeandpopulate.query.searcher.TableSearcher.SearchContext;
 import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * <p>
@@ -85,6 +87,22 @@ public abstract class SyntacticScope extends AbstractScope {
      */
     protected final BaseSymbolTable myBindings;
 
+    /**
+     * <p>
+     * The instantiated views of {@link #myBindings} for each facility and generic instantiation we have searched
+     * through.
+     * </p>
+     */
+    private final Map<InstantiationKey, InstantiatedSymbolTable> myInstantiatedBindings;
+
+    /**
+     * <p>
+     * The results of the searches that started from this scope, along with the modification epoch they were computed
+     * at.
+     * </p>
+     */
+    private volatile QueryResults myQueryResults;
+
     /**
      * <p>
      * The source scope repository.
@@ -119,6 +137,8 @@ public abstract class SyntacticScope extends AbstractScope {
         myParent = parent;
         myRootModule = enclosingModule;
         myBindings = bindings;
+        myInstantiatedBindings = new ConcurrentHashMap<>();
+        myQueryResults = null;
     }
 
     // ===========================================================
@@ -189,7 +209,7 @@ public abstract class SyntacticScope extends AbstractScope {
             SymbolTable symbolTableView = myBindings;
 
             if (instantiatingFacility != null) {
-                symbolTableView = new InstantiatedSymbolTable(myBindings, genericInstantiations, instantiatingFacility);
+                symbolTableView = getInstantiatedBindings(genericInstantiations, instantiatingFacility);
             }
 
             finished = searcher.addMatches(symbolTableView, matches, l);
@@ -300,6 +320,66 @@ public abstract class SyntacticScope extends AbstractScope {
         return results.get(0);
     }
 
+    /**
+     * <p>
+     * Applies the given {@link TableSearcher} to the {@link Scope}s along the given {@link ScopeSearchPath}, using this
+     * <code>Scope</code> as the source scope of the search. The results are remembered, so searching for the same thing
+     * again doesn't need to go through the imports and facilities again, until the modification epoch of this scope
+     * changes.
+     * </p>
+     *
+     * <p>
+     * Only searches using this scope's own source repository are remembered. The search path and searcher are compared
+     * using their <code>equals</code> methods.
+     * </p>
+     *
+     * @param path
+     *            The search path to use.
+     * @param searcher
+     *            A <code>TableSearcher</code> to apply to each scope along the search path.
+     * @param repo
+     *            A collection of scopes.
+     * @param <E>
+     *            Entry type.
+     *
+     * @return A list of matches.
+     *
+     * @throws DuplicateSymbolException
+     *             If more than one match is found and <code>searcher</code> expects no more than one match.
+     */
+    @SuppressWarnings("unchecked")
+    public final <E extends SymbolTableEntry> List<E> searchFromContext(ScopeSearchPath path, TableSearcher<E> searcher,
+            ScopeRepository repo) throws DuplicateSymbolException {
+        if (repo != mySource) {
+            return path.searchFromContext(searcher, this, repo);
+        }
+
+        // Start over if something has changed since these results were computed.
+        // Note that we need the epoch from before the search, so that anything
+        // modified during the search makes these results invalid.
+        long epoch = getModificationEpoch();
+        QueryResults queryResults = myQueryResults;
+        if (queryResults == null || queryResults.myEpoch != epoch) {
+            queryResults = new QueryResults(epoch);
+            myQueryResults = queryResults;
+        }
+
+        QueryKey key = new QueryKey(path, searcher);
+        List<? extends SymbolTableEntry> cachedResults = queryResults.myResults.get(key);
+        countQueryCacheLookup(cachedResults != null);
+
+        List<E> results;
+        if (cachedResults == null) {
+            // Store a copy, so the caller can't modify the cached results
+            results = path.searchFromContext(searcher, this, repo);
+            queryResults.myResults.put(key, new ArrayList<>(results));
+        } else {
+            results = new ArrayList<>((List<E>) cachedResults);
+        }
+
+        return results;
+    }
+
     /**
      * <p>
      * This method returns the object in string format.
@@ -316,6 +396,26 @@ public abstract class SyntacticScope extends AbstractScope {
     // Package Private Methods
     // ===========================================================
 
+    /**
+     * <p>
+     * This method counts a lookup in the cached query results of this scope.
+     * </p>
+     *
+     * @param hit
+     *            {@code true} if the query results were found in the cache, {@code false} otherwise.
+     */
+    abstract void countQueryCacheLookup(boolean hit);
+
+    /**
+     * <p>
+     * Returns a number that changes whenever this scope, or any other scope that a search from this scope might go
+     * through, is modified. Any cached query results from an earlier epoch are no longer valid.
+     * </p>
+     *
+     * @return The modification epoch.
+     */
+    abstract long getModificationEpoch();
+
     /**
      * <p>
      * Returns the parent scope that contains this scope.
@@ -338,4 +438,219 @@ public abstract class SyntacticScope extends AbstractScope {
         return mySource;
     }
 
+    /**
+     * <p>
+     * This method discards the instantiated views of {@link #myBindings} for all the facilities declared in the
+     * specified module. It is used when a module is removed from the symbol table, so that this scope doesn't keep the
+     * removed module's entries alive.
+     * </p>
+     *
+     * @param module
+     *            The module that is being removed.
+     */
+    final void removeInstantiatedBindings(ModuleIdentifier module) {
+        myInstantiatedBindings.keySet()
+                .removeIf(key -> module.equals(key.myInstantiatingFacility.getSourceModuleIdentifier()));
+    }
+
+    // ===========================================================
+    // Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method returns the instantiated view of {@link #myBindings} for a facility. The view is created the first
+     * time we search through this facility, and is reused after that. Sealing a scope creates a new scope, so the
+     * sealed scope starts without any instantiated views.
+     * </p>
+     *
+     * @param genericInstantiations
+     *            A map of program type instantiations.
+     * @param instantiatingFacility
+     *            Facility entry that is instantiating the generics.
+     *
+     * @return An {@link InstantiatedSymbolTable}.
+     */
+    private InstantiatedSymbolTable getInstantiatedBindings(Map<String, PTType> genericInstantiations,
+            FacilityEntry instantiatingFacility) {
+        InstantiatedSymbolTable instantiatedBindings = myInstantiatedBindings
+                .get(new InstantiationKey(instantiatingFacility, genericInstantiations));
+        if (instantiatedBindings == null) {
+            // Copy the instantiations, so the key can't change after we store it.
+            Map<String, PTType> instantiationsCopy = new HashMap<>(genericInstantiations);
+            instantiatedBindings = new InstantiatedSymbolTable(myBindings, instantiationsCopy, instantiatingFacility);
+
+            InstantiatedSymbolTable existingBindings = myInstantiatedBindings
+                    .putIfAbsent(new InstantiationKey(instantiatingFacility, instantiationsCopy), instantiatedBindings);
+            if (existingBindings != null) {
+                instantiatedBindings = existingBindings;
+            }
+        }
+
+        return instantiatedBindings;
+    }
+
+    // ===========================================================
+    // Helper Constructs
+    // ===========================================================
+
+    /**
+     * <p>
+     * An helper construct that identifies an instantiated view of a scope's bindings. The facilities are compared by
+     * reference and the generic instantiations are compared as maps.
+     * </p>
+     */
+    private static class InstantiationKey {
+
+        /**
+         * <p>
+         * Facility entry that is instantiating the generics.
+         * </p>
+         */
+        private final FacilityEntry myInstantiatingFacility;
+
+        /**
+         * <p>
+         * A map of program type instantiations.
+         * </p>
+         */
+        private final Map<String, PTType> myGenericInstantiations;
+
+        /**
+         * <p>
+         * This creates a new key.
+         * </p>
+         *
+         * @param instantiatingFacility
+         *            Facility entry that is instantiating the generics.
+         * @param genericInstantiations
+         *            A map of program type instantiations.
+         */
+        InstantiationKey(FacilityEntry instantiatingFacility, Map<String, PTType> genericInstantiations) {
+            myInstantiatingFacility = instantiatingFacility;
+            myGenericInstantiations = genericInstantiations;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public final boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (o == null || getClass() != o.getClass())
+                return false;
+
+            InstantiationKey that = (InstantiationKey) o;
+            return myInstantiatingFacility == that.myInstantiatingFacility
+                    && myGenericInstantiations.equals(that.myGenericInstantiations);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public final int hashCode() {
+            return 31 * System.identityHashCode(myInstantiatingFacility) + myGenericInstantiations.hashCode();
+        }
+
+    }
+
+    /**
+     * <p>
+     * An helper construct that identifies a search from this scope by its search path and searcher.
+     * </p>
+     */
+    private static class QueryKey {
+
+        /**
+         * <p>
+         * The search path.
+         * </p>
+         */
+        private final ScopeSearchPath mySearchPath;
+
+        /**
+         * <p>
+         * The symbol table searcher.
+         * </p>
+         */
+        private final TableSearcher<?> mySearcher;
+
+        /**
+         * <p>
+         * This creates a new key.
+         * </p>
+         *
+         * @param searchPath
+         *            The search path.
+         * @param searcher
+         *            The symbol table searcher.
+         */
+        QueryKey(ScopeSearchPath searchPath, TableSearcher<?> searcher) {
+            mySearchPath = searchPath;
+            mySearcher = searcher;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public final boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (o == null || getClass() != o.getClass())
+                return false;
+
+            QueryKey queryKey = (QueryKey) o;
+            return mySearchPath.equals(queryKey.mySearchPath) && mySearcher.equals(queryKey.mySearcher);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public final int hashCode() {
+            return 31 * mySearchPath.hashCode() + mySearcher.hashCode();
+        }
+
+    }
+
+    /**
+     * <p>
+     * An helper construct that stores the results of the searches that were computed at a particular modification
+     * epoch.
+     * </p>
+     */
+    private static class QueryResults {
+
+        /**
+         * <p>
+         * The modification epoch these results were computed at.
+         * </p>
+         */
+        private final long myEpoch;
+
+        /**
+         * <p>
+         * A map from each search to its results.
+         * </p>
+         */
+        private final Map<QueryKey, List<? extends SymbolTableEntry>> myResults;
+
+        /**
+         * <p>
+         * This creates an empty set of results.
+         * </p>
+         *
+         * @param epoch
+         *            The modification epoch.
+         */
+        QueryResults(long epoch) {
+            myEpoch = epoch;
+            myResults = new ConcurrentHashMap<>();
+        }
+
+    }
+
 }
@@ -12,7 +12,10 @@
  */
 package edu.clemson.rsrg.typeandpopulate.typereasoning;
 
+import edu.clemson.rsrg.typeandpopulate.mathtypes.MTType;
 import edu.clemson.rsrg.typeandpopulate.typevisitor.AlphaEquivalencyChecker;
+import java.util.IdentityHashMap;
+import java.util.Map;
 
 /**
  * <p>
@@ -26,6 +29,10 @@ import edu.clemson.rsrg.typeandpopulate.typevisitor.AlphaEquivalencyChecker;
  */
 public class PerThreadReasoningResources {
 
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
     /**
      * <p>
      * Simply create one alpha equivalency checker.
@@ -33,4 +40,44 @@ public class PerThreadReasoningResources {
      */
     public final AlphaEquivalencyChecker alphaChecker = new AlphaEquivalencyChecker();
 
+    /**
+     * <p>
+     * The <code>equals</code> depth of each type this thread is currently comparing. Allows us to detect if we're
+     * getting into an equals-loop.
+     * </p>
+     */
+    private final Map<MTType, Integer> myEqualsDepths = new IdentityHashMap<>();
+
+    // ===========================================================
+    // Public Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method records that this thread has finished one level of <code>equals</code> comparison on
+     * <code>type</code>.
+     * </p>
+     *
+     * @param type
+     *            The type being compared.
+     */
+    public final void decrementEqualsDepth(MTType type) {
+        myEqualsDepths.computeIfPresent(type, (t, depth) -> (depth == 1) ? null : depth - 1);
+    }
+
+    /**
+     * <p>
+     * This method records that this thread has started another level of <code>equals</code> comparison on
+     * <code>type</code>.
+     * </p>
+     *
+     * @param type
+     *            The type being compared.
+     *
+     * @return The <code>equals</code> depth of <code>type</code> on this thread, including this level.
+     */
+    public final int incrementEqualsDepth(MTType type) {
+        return myEqualsDepths.merge(type, 1, Integer::sum);
+    }
+
 }
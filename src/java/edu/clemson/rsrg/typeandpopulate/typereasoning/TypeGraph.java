@@ -15,6 +15,7 @@ package edu.clemson.rsrg.typeandpopulate.typereasoning;
 import edu.clemson.rsrg.absyn.expressions.Exp;
 import edu.clemson.rsrg.absyn.expressions.mathexpr.*;
 import edu.clemson.rsrg.init.CompileEnvironment;
+import edu.clemson.rsrg.init.metrics.CompilerMetrics;
 import edu.clemson.rsrg.parsing.data.PosSymbol;
 import edu.clemson.rsrg.statushandling.StatusHandler;
 import edu.clemson.rsrg.typeandpopulate.Populator;
@@ -26,6 +27,7 @@ import edu.clemson.rsrg.typeandpopulate.exception.TypeMismatchException;
 import edu.clemson.rsrg.typeandpopulate.mathtypes.*;
 import edu.clemson.rsrg.typeandpopulate.query.UnqualifiedNameQuery;
 import edu.clemson.rsrg.typeandpopulate.symboltables.Scope;
+import edu.clemson.rsrg.typeandpopulate.symboltables.SyntacticScope;
 import edu.clemson.rsrg.typeandpopulate.typereasoning.relationships.EqualsPredicate;
 import edu.clemson.rsrg.typeandpopulate.typereasoning.relationships.TypeRelationship;
 import edu.clemson.rsrg.typeandpopulate.typereasoning.relationships.TypeRelationshipPredicate;
@@ -33,7 +35,9 @@ import edu.clemson.rsrg.typeandpopulate.typevisitor.CanonicalizingVisitor;
 import edu.clemson.rsrg.typeandpopulate.typevisitor.UnboundTypeAccumulator;
 import edu.clemson.rsrg.typeandpopulate.typevisitor.VariableReplacingVisitor;
 import edu.clemson.rsrg.typeandpopulate.utilities.FunctionApplicationFactory;
+import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * <p>
@@ -52,11 +56,12 @@ public class TypeGraph {
     /**
      * <p>
      * A set of non-thread-safe resources to be used during general type reasoning. This really doesn't belong here, but
-     * anything that's reasoning about types should already have access to a type graph, and only one type graph is
-     * created per thread, so this is a convenient place to put it.
+     * anything that's reasoning about types should already have access to a type graph, so this is a convenient place
+     * to put it. Since modules can be populated concurrently, each thread gets its own copy.
      * </p>
      */
-    public final PerThreadReasoningResources threadResources = new PerThreadReasoningResources();
+    private final ThreadLocal<PerThreadReasoningResources> myThreadResources = ThreadLocal
+            .withInitial(PerThreadReasoningResources::new);
 
     /**
      * <p>
@@ -77,21 +82,28 @@ public class TypeGraph {
      * This contains all mathematical nodes for this graph.
      * </p>
      */
-    private final HashMap<MTType, TypeNode> myTypeNodes;
+    private final Map<MTType, TypeNode> myTypeNodes;
 
     /**
      * <p>
      * This contains all established relationships for mathematical subtypes.
      * </p>
      */
-    private final Set<EstablishedRelationship> myEstablishedSubtypes = new HashSet<>();
+    private final Set<EstablishedRelationship> myEstablishedSubtypes = ConcurrentHashMap.newKeySet();
 
     /**
      * <p>
      * This contains all established relationships for mathematical elements.
      * </p>
      */
-    private final Set<EstablishedRelationship> myEstablishedElements = new HashSet<>();
+    private final Set<EstablishedRelationship> myEstablishedElements = ConcurrentHashMap.newKeySet();
+
+    /**
+     * <p>
+     * This contains all the relationships added by each module, along with the node that stores each relationship.
+     * </p>
+     */
+    private final Map<ModuleIdentifier, Map<TypeRelationship, TypeNode>> myModuleRelationships = new ConcurrentHashMap<>();
 
     /**
      * <p>
@@ -311,7 +323,7 @@ public class TypeGraph {
      *            The current job's compilation environment that stores all necessary objects and flags.
      */
     public TypeGraph(CompileEnvironment compileEnvironment) {
-        myTypeNodes = new HashMap<>();
+        myTypeNodes = new ConcurrentHashMap<>();
         myCompileEnvironment = compileEnvironment;
         myStatusHandler = myCompileEnvironment.getStatusHandler();
     }
@@ -413,6 +425,13 @@ public class TypeGraph {
         TypeNode sourceNode = getTypeNode(sourceCanonicalResult.canonicalType);
         sourceNode.addRelationship(relationship);
 
+        // Remember which module added this relationship
+        if (environment instanceof SyntacticScope) {
+            myModuleRelationships
+                    .computeIfAbsent(((SyntacticScope) environment).getRootModule(), k -> new ConcurrentHashMap<>())
+                    .put(relationship, sourceNode);
+        }
+
         // We'd like to force the presence of the destination node
         getTypeNode(destinationCanonicalResult.canonicalType);
 
@@ -476,6 +495,17 @@ public class TypeGraph {
         return result;
     }
 
+    /**
+     * <p>
+     * Returns the set of non-thread-safe type reasoning resources that belongs to the calling thread.
+     * </p>
+     *
+     * @return A {@link PerThreadReasoningResources} that is never shared between threads.
+     */
+    public final PerThreadReasoningResources getThreadResources() {
+        return myThreadResources.get();
+    }
+
     /**
      * <p>
      * Returns <code>true</code> <strong>iff</strong> <code>value</code> is known to definitely be a member of
@@ -529,6 +559,8 @@ public class TypeGraph {
         boolean result;
 
         EstablishedRelationship r = new EstablishedRelationship(value, expected);
+        countCacheLookup(myEstablishedElements, r, CompilerMetrics.COUNTER_ELEMENT_CACHE_HITS,
+                CompilerMetrics.COUNTER_ELEMENT_CACHE_MISSES);
 
         // If the type of the given value is a subtype of the expected type, then
         // its value must necessarily be in the expected type. Note we can't
@@ -570,6 +602,8 @@ public class TypeGraph {
         boolean result;
 
         EstablishedRelationship r = new EstablishedRelationship(subtype, supertype);
+        countCacheLookup(myEstablishedSubtypes, r, CompilerMetrics.COUNTER_SUBTYPE_CACHE_HITS,
+                CompilerMetrics.COUNTER_SUBTYPE_CACHE_MISSES);
 
         try {
             result = supertype == ENTITY || supertype == CLS || myEstablishedSubtypes.contains(r)
@@ -608,6 +642,27 @@ public class TypeGraph {
         return result;
     }
 
+    /**
+     * <p>
+     * Removes all the relationships that were added while populating the specified module. Any relationship that we
+     * have established so far is forgotten, since it might depend on one of the removed relationships.
+     * </p>
+     *
+     * @param module
+     *            The module identifier for the module being removed.
+     */
+    public final void removeRelationships(ModuleIdentifier module) {
+        Map<TypeRelationship, TypeNode> relationships = myModuleRelationships.remove(module);
+        if (relationships != null) {
+            for (Map.Entry<TypeRelationship, TypeNode> entry : relationships.entrySet()) {
+                entry.getValue().removeRelationship(entry.getKey());
+            }
+
+            myEstablishedSubtypes.clear();
+            myEstablishedElements.clear();
+        }
+    }
+
     /**
      * <p>
      * This method returns the object in string format.
@@ -662,6 +717,29 @@ public class TypeGraph {
                 canonicalizer.getCanonicalToEnvironmentOriginalMapping());
     }
 
+    /**
+     * <p>
+     * If we are collecting compiler metrics, this method counts whether or not a relationship was found in one of our
+     * established relationship caches.
+     * </p>
+     *
+     * @param cache
+     *            One of our established relationship caches.
+     * @param r
+     *            The relationship we are looking for.
+     * @param hitCounterName
+     *            The counter for the relationships found in the cache.
+     * @param missCounterName
+     *            The counter for the relationships not found in the cache.
+     */
+    private void countCacheLookup(Set<EstablishedRelationship> cache, EstablishedRelationship r, String hitCounterName,
+            String missCounterName) {
+        CompilerMetrics metrics = myCompileEnvironment.getMetrics();
+        if (metrics != null) {
+            metrics.incrementCounter(cache.contains(r) ? hitCounterName : missCounterName);
+        }
+    }
+
     /**
      * <p>
      * Returns a new {@link Exp} with the appropriate substitutions.
@@ -870,8 +948,11 @@ public class TypeGraph {
         TypeNode result = myTypeNodes.get(t);
 
         if (result == null) {
-            result = new TypeNode(this, t);
-            myTypeNodes.put(t, result);
+            TypeNode newNode = new TypeNode(this, t);
+            result = myTypeNodes.putIfAbsent(t, newNode);
+            if (result == null) {
+                result = newNode;
+            }
         }
 
         return result;
@@ -19,6 +19,7 @@ import edu.clemson.rsrg.typeandpopulate.exception.TypeMismatchException;
 import edu.clemson.rsrg.typeandpopulate.mathtypes.MTType;
 import edu.clemson.rsrg.typeandpopulate.typereasoning.relationships.TypeRelationship;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * <p>
@@ -84,7 +85,7 @@ public class TypeNode {
      */
     public TypeNode(TypeGraph g, MTType type) {
         myType = type;
-        myRelationships = new HashMap<>();
+        myRelationships = new ConcurrentHashMap<>();
         myTypeGraph = g;
     }
 
@@ -190,15 +191,27 @@ public class TypeNode {
      */
     // XXX : Can we do this so that analyzer isn't setting up TypeRelationship objects?
     void addRelationship(TypeRelationship relationship) {
-        Set<TypeRelationship> bucket = myRelationships.get(relationship.getDestinationType());
-        if (bucket == null) {
-            bucket = new HashSet<>();
-            myRelationships.put(relationship.getDestinationType(), bucket);
-        }
+        Set<TypeRelationship> bucket = myRelationships.computeIfAbsent(relationship.getDestinationType(),
+                k -> ConcurrentHashMap.newKeySet());
 
         bucket.add(relationship);
     }
 
+    /**
+     * <p>
+     * Remove a relationship from this type node.
+     * </p>
+     *
+     * @param relationship
+     *            Type relationship to be removed.
+     */
+    void removeRelationship(TypeRelationship relationship) {
+        Set<TypeRelationship> bucket = myRelationships.get(relationship.getDestinationType());
+        if (bucket != null) {
+            bucket.remove(relationship);
+        }
+    }
+
     // ===========================================================
     // Private Methods
     // ===========================================================
@@ -30,6 +30,7 @@ import edu.clemson.rsrg.absyn.declarations.variabledecl.MathVarDec;
 import edu.clemson.rsrg.absyn.declarations.variabledecl.ParameterVarDec;
 import edu.clemson.rsrg.absyn.declarations.variabledecl.VarDec;
 import edu.clemson.rsrg.absyn.expressions.Exp;
+import edu.clemson.rsrg.absyn.expressions.HashConsingExpFactory;
 import edu.clemson.rsrg.absyn.expressions.mathexpr.DotExp;
 import edu.clemson.rsrg.absyn.expressions.mathexpr.MathExp;
 import edu.clemson.rsrg.absyn.expressions.mathexpr.OldExp;
@@ -44,6 +45,7 @@ import edu.clemson.rsrg.absyn.statements.MemoryStmt.StatementType;
 import edu.clemson.rsrg.init.CompileEnvironment;
 import edu.clemson.rsrg.init.flag.Flag;
 import edu.clemson.rsrg.init.flag.FlagDependencies;
+import edu.clemson.rsrg.init.metrics.VCGenerationEvent;
 import edu.clemson.rsrg.parsing.data.Location;
 import edu.clemson.rsrg.parsing.data.LocationDetailModel;
 import edu.clemson.rsrg.parsing.data.PosSymbol;
@@ -60,8 +62,8 @@ import edu.clemson.rsrg.typeandpopulate.programtypes.PTType;
 import edu.clemson.rsrg.typeandpopulate.query.EntryTypeQuery;
 import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTable.FacilityStrategy;
 import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTable.ImportStrategy;
-import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTableBuilder;
 import edu.clemson.rsrg.typeandpopulate.symboltables.ModuleScope;
+import edu.clemson.rsrg.typeandpopulate.symboltables.ScopeRepository;
 import edu.clemson.rsrg.typeandpopulate.typereasoning.TypeGraph;
 import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
 import edu.clemson.rsrg.vcgeneration.proofrules.ProofRuleApplication;
@@ -110,10 +112,10 @@ public class VCGenerator extends TreeWalkerVisitor {
 
     /**
      * <p>
-     * The symbol table we are currently building.
+     * The symbol table that contains all the populated modules.
      * </p>
      */
-    private final MathSymbolTableBuilder myBuilder;
+    private final ScopeRepository myBuilder;
 
     /**
      * <p>
@@ -200,6 +202,14 @@ public class VCGenerator extends TreeWalkerVisitor {
      */
     private final Deque<AssertiveCodeBlock> myIncompleteAssertiveCodeBlocks;
 
+    /**
+     * <p>
+     * The factory that shares equal expressions between the final {@link Sequent Sequents}. This is {@code null} unless
+     * the user asked us to share them.
+     * </p>
+     */
+    private final HashConsingExpFactory mySequentExpFactory;
+
     // -----------------------------------------------------------
     // Output-Related
     // -----------------------------------------------------------
@@ -233,6 +243,7 @@ public class VCGenerator extends TreeWalkerVisitor {
     private static final String FLAG_DESC_VERIFY_VC = "Generate VCs.";
     private static final String FLAG_DESC_PERF_VC = "Generate Performance VCs";
     private static final String FLAG_DESC_ADD_CONSTRAINT = "Add constraints as givens.";
+    private static final String FLAG_DESC_SHARE_VC_EXPS = "Share equal expressions between the generated VCs.";
 
     // ===========================================================
     // Flags
@@ -260,6 +271,14 @@ public class VCGenerator extends TreeWalkerVisitor {
     public static final Flag FLAG_ADD_CONSTRAINT = new Flag(FLAG_SECTION_NAME, "addConstraints",
             FLAG_DESC_ADD_CONSTRAINT);
 
+    /**
+     * <p>
+     * Tells the compiler to share equal expressions between the generated VCs. Shared expressions cannot be modified,
+     * so the provers can't be used with this flag.
+     * </p>
+     */
+    public static final Flag FLAG_SHARE_VC_EXPS = new Flag(FLAG_SECTION_NAME, "shareVCExps", FLAG_DESC_SHARE_VC_EXPS);
+
     /**
      * <p>
      * Add all the required and implied flags for the {@code VCGenerator}.
@@ -271,6 +290,7 @@ public class VCGenerator extends TreeWalkerVisitor {
         // Make sure we have one of these on.
         Flag[] dependencies = { FLAG_VERIFY_VC, FLAG_PVCS_VC };
         FlagDependencies.addRequires(FLAG_ADD_CONSTRAINT, dependencies);
+        FlagDependencies.addRequires(FLAG_SHARE_VC_EXPS, dependencies);
     }
 
     // ===========================================================
@@ -283,11 +303,11 @@ public class VCGenerator extends TreeWalkerVisitor {
      * </p>
      *
      * @param builder
-     *            A scope builder for a symbol table.
+     *            The symbol table that contains all the populated modules.
      * @param compileEnvironment
      *            The current job's compilation environment that stores all necessary objects and flags.
      */
-    public VCGenerator(MathSymbolTableBuilder builder, CompileEnvironment compileEnvironment) {
+    public VCGenerator(ScopeRepository builder, CompileEnvironment compileEnvironment) {
         myAssertiveCodeBlockModels = new LinkedHashMap<>();
         myBuilder = builder;
         myCompileEnvironment = compileEnvironment;
@@ -296,6 +316,11 @@ public class VCGenerator extends TreeWalkerVisitor {
         myIncompleteAssertiveCodeBlocks = new LinkedList<>();
         myRealizInitFinalOuterDec = null;
         mySTGroup = new STGroupFile("templates/VCGenVerboseOutput.stg");
+        if (compileEnvironment.flags.isFlagSet(FLAG_SHARE_VC_EXPS)) {
+            mySequentExpFactory = new HashConsingExpFactory();
+        } else {
+            mySequentExpFactory = null;
+        }
         myTypeGraph = myBuilder.getTypeGraph();
         myVariableTypeEntries = new LinkedHashMap<>();
         myVCGenDetailsModel = mySTGroup.getInstanceOf("outputVCGenDetails");
@@ -423,7 +448,14 @@ public class VCGenerator extends TreeWalkerVisitor {
             List<VerificationCondition> vcs = block.getVCs();
             List<VerificationCondition> namedVCs = new ArrayList<>(vcs.size());
             for (VerificationCondition vc : vcs) {
-                namedVCs.add(new VerificationCondition(vc.getLocation(), blockCount + "_" + vcCount, vc.getSequent(),
+                // Share equal expressions between all the final sequents (if requested)
+                Sequent sequent = vc.getSequent();
+                if (mySequentExpFactory != null) {
+                    sequent = new Sequent(sequent.getLocation(), shareExps(sequent.getAntecedents()),
+                            shareExps(sequent.getConcequents()));
+                }
+
+                namedVCs.add(new VerificationCondition(vc.getLocation(), blockCount + "_" + vcCount, sequent,
                         vc.getHasImpactingReductionFlag(), vc.getLocationDetailModel()));
                 vcCount++;
             }
@@ -1552,6 +1584,12 @@ public class VCGenerator extends TreeWalkerVisitor {
         // Obtain the assertive code block model
         ST blockModel = myAssertiveCodeBlockModels.remove(assertiveCodeBlock);
 
+        // Record how long it takes to process this block
+        VCGenerationEvent event = new VCGenerationEvent(myCurrentModuleScope.getModuleIdentifier().toString(),
+                assertiveCodeBlock.getName().getName());
+        event.begin();
+        int numRuleApplications = 0;
+
         // Apply a statement proof rule to each of the assertions.
         while (assertiveCodeBlock.hasMoreStatements()) {
             // Work our way from the last statement
@@ -1628,6 +1666,7 @@ public class VCGenerator extends TreeWalkerVisitor {
 
             // Apply the proof rule
             ruleApplication.applyRule();
+            numRuleApplications++;
 
             // Some of the proof rules might generate more than more
             // than one assertive code block. The first one is always
@@ -1656,6 +1695,11 @@ public class VCGenerator extends TreeWalkerVisitor {
         }
 
         myAssertiveCodeBlockModels.put(assertiveCodeBlock, blockModel);
+
+        if (event.shouldCommit()) {
+            event.setResults(numRuleApplications, assertiveCodeBlock.getVCs().size());
+            event.commit();
+        }
     }
 
     /**
@@ -1922,4 +1966,28 @@ public class VCGenerator extends TreeWalkerVisitor {
 
         return retExp;
     }
+
+    /**
+     * <p>
+     * An helper method that replaces each mathematical expression with the version shared by
+     * {@link #mySequentExpFactory}.
+     * </p>
+     *
+     * @param exps
+     *            A list of expressions.
+     *
+     * @return A list containing the shared expressions.
+     */
+    private List<Exp> shareExps(List<Exp> exps) {
+        List<Exp> sharedExps = new ArrayList<>(exps.size());
+        for (Exp exp : exps) {
+            if (exp instanceof MathExp) {
+                sharedExps.add(mySequentExpFactory.intern((MathExp) exp));
+            } else {
+                sharedExps.add(exp);
+            }
+        }
+
+        return sharedExps;
+    }
 }
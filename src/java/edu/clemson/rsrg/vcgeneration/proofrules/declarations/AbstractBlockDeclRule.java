@@ -24,8 +24,8 @@ import edu.clemson.rsrg.parsing.data.Location;
 import edu.clemson.rsrg.parsing.data.LocationDetailModel;
 import edu.clemson.rsrg.parsing.data.PosSymbol;
 import edu.clemson.rsrg.typeandpopulate.mathtypes.MTType;
-import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTableBuilder;
 import edu.clemson.rsrg.typeandpopulate.symboltables.ModuleScope;
+import edu.clemson.rsrg.typeandpopulate.symboltables.ScopeRepository;
 import edu.clemson.rsrg.typeandpopulate.typereasoning.TypeGraph;
 import edu.clemson.rsrg.vcgeneration.proofrules.AbstractProofRuleApplication;
 import edu.clemson.rsrg.vcgeneration.proofrules.ProofRuleApplication;
@@ -108,9 +108,8 @@ public abstract class AbstractBlockDeclRule extends AbstractProofRuleApplication
      * @param blockModel
      *            The model associated with {@code block}.
      */
-    protected AbstractBlockDeclRule(AssertiveCodeBlock block, String declName,
-            MathSymbolTableBuilder symbolTableBuilder, ModuleScope moduleScope, VerificationContext context,
-            STGroup stGroup, ST blockModel) {
+    protected AbstractBlockDeclRule(AssertiveCodeBlock block, String declName, ScopeRepository symbolTableBuilder,
+            ModuleScope moduleScope, VerificationContext context, STGroup stGroup, ST blockModel) {
         super(block, context, stGroup, blockModel);
         myAffectedExps = new LinkedHashSet<>();
         myCurrentModuleScope = moduleScope;
@@ -36,8 +36,8 @@ import edu.clemson.rsrg.typeandpopulate.exception.DuplicateSymbolException;
 import edu.clemson.rsrg.typeandpopulate.exception.NoSuchSymbolException;
 import edu.clemson.rsrg.typeandpopulate.query.NameQuery;
 import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTable;
-import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTableBuilder;
 import edu.clemson.rsrg.typeandpopulate.symboltables.ModuleScope;
+import edu.clemson.rsrg.typeandpopulate.symboltables.ScopeRepository;
 import edu.clemson.rsrg.typeandpopulate.typereasoning.TypeGraph;
 import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
 import edu.clemson.rsrg.vcgeneration.proofrules.AbstractProofRuleApplication;
@@ -95,10 +95,10 @@ public class FacilityDeclRule extends AbstractProofRuleApplication implements Pr
 
     /**
      * <p>
-     * The symbol table we are currently building.
+     * The symbol table that contains all the populated modules.
      * </p>
      */
-    private final MathSymbolTableBuilder mySymbolTable;
+    private final ScopeRepository mySymbolTable;
 
     /**
      * <p>
@@ -187,7 +187,7 @@ public class FacilityDeclRule extends AbstractProofRuleApplication implements Pr
      * @param blockModel
      *            The model associated with {@code block}.
      */
-    public FacilityDeclRule(FacilityDec facilityDec, boolean isLocalFacDec, MathSymbolTableBuilder symbolTableBuilder,
+    public FacilityDeclRule(FacilityDec facilityDec, boolean isLocalFacDec, ScopeRepository symbolTableBuilder,
             ModuleScope moduleScope, AssertiveCodeBlock block, VerificationContext context, STGroup stGroup,
             ST blockModel) {
         super(block, context, stGroup, blockModel);
@@ -39,8 +39,8 @@ import edu.clemson.rsrg.typeandpopulate.mathtypes.MTCartesian;
 import edu.clemson.rsrg.typeandpopulate.mathtypes.MTType;
 import edu.clemson.rsrg.typeandpopulate.programtypes.PTFacilityRepresentation;
 import edu.clemson.rsrg.typeandpopulate.programtypes.PTRepresentation;
-import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTableBuilder;
 import edu.clemson.rsrg.typeandpopulate.symboltables.ModuleScope;
+import edu.clemson.rsrg.typeandpopulate.symboltables.ScopeRepository;
 import edu.clemson.rsrg.vcgeneration.proofrules.ProofRuleApplication;
 import edu.clemson.rsrg.vcgeneration.proofrules.declarations.AbstractBlockDeclRule;
 import edu.clemson.rsrg.vcgeneration.utilities.AssertiveCodeBlock;
@@ -122,7 +122,7 @@ public class ProcedureDeclRule extends AbstractBlockDeclRule implements ProofRul
      *            The model associated with {@code block}.
      */
     public ProcedureDeclRule(ProcedureDec procedureDec, Map<VarDec, SymbolTableEntry> procVarTypeEntries,
-            MathSymbolTableBuilder symbolTableBuilder, ModuleScope moduleScope, AssertiveCodeBlock block,
+            ScopeRepository symbolTableBuilder, ModuleScope moduleScope, AssertiveCodeBlock block,
             VerificationContext context, STGroup stGroup, ST blockModel) {
         super(block, block.getCorrespondingOperation().getName(), symbolTableBuilder, moduleScope, context, stGroup,
                 blockModel);
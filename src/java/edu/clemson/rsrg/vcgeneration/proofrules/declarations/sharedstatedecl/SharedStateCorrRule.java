@@ -23,7 +23,7 @@ import edu.clemson.rsrg.absyn.expressions.mathexpr.VarExp;
 import edu.clemson.rsrg.absyn.statements.AssumeStmt;
 import edu.clemson.rsrg.absyn.statements.ConfirmStmt;
 import edu.clemson.rsrg.parsing.data.LocationDetailModel;
-import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTableBuilder;
+import edu.clemson.rsrg.typeandpopulate.symboltables.ScopeRepository;
 import edu.clemson.rsrg.typeandpopulate.typereasoning.TypeGraph;
 import edu.clemson.rsrg.vcgeneration.proofrules.AbstractProofRuleApplication;
 import edu.clemson.rsrg.vcgeneration.proofrules.ProofRuleApplication;
@@ -97,8 +97,8 @@ public class SharedStateCorrRule extends AbstractProofRuleApplication implements
      *            The model associated with {@code block}.
      */
     public SharedStateCorrRule(SharedStateRealizationDec dec, SharedStateDec correspondingSharedStateDec,
-            MathSymbolTableBuilder symbolTableBuilder, AssertiveCodeBlock block, VerificationContext context,
-            STGroup stGroup, ST blockModel) {
+            ScopeRepository symbolTableBuilder, AssertiveCodeBlock block, VerificationContext context, STGroup stGroup,
+            ST blockModel) {
         super(block, context, stGroup, blockModel);
         myCorrespondingSharedStateDec = correspondingSharedStateDec;
         mySharedStateRealizationDec = dec;
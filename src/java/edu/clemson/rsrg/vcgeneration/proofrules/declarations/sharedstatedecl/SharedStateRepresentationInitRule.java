@@ -28,8 +28,8 @@ import edu.clemson.rsrg.absyn.statements.ConfirmStmt;
 import edu.clemson.rsrg.parsing.data.Location;
 import edu.clemson.rsrg.parsing.data.LocationDetailModel;
 import edu.clemson.rsrg.typeandpopulate.entry.SymbolTableEntry;
-import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTableBuilder;
 import edu.clemson.rsrg.typeandpopulate.symboltables.ModuleScope;
+import edu.clemson.rsrg.typeandpopulate.symboltables.ScopeRepository;
 import edu.clemson.rsrg.vcgeneration.proofrules.ProofRuleApplication;
 import edu.clemson.rsrg.vcgeneration.proofrules.declarations.AbstractBlockDeclRule;
 import edu.clemson.rsrg.vcgeneration.utilities.AssertiveCodeBlock;
@@ -108,7 +108,7 @@ public class SharedStateRepresentationInitRule extends AbstractBlockDeclRule imp
      *            The model associated with {@code block}.
      */
     public SharedStateRepresentationInitRule(SharedStateRealizationDec dec, SharedStateDec correspondingSharedStateDec,
-            Map<VarDec, SymbolTableEntry> blockVarTypeEntries, MathSymbolTableBuilder symbolTableBuilder,
+            Map<VarDec, SymbolTableEntry> blockVarTypeEntries, ScopeRepository symbolTableBuilder,
             ModuleScope moduleScope, AssertiveCodeBlock block, VerificationContext context, STGroup stGroup,
             ST blockModel) {
         super(block, dec.getName().getName(), symbolTableBuilder, moduleScope, context, stGroup, blockModel);
@@ -22,7 +22,7 @@ import edu.clemson.rsrg.absyn.expressions.mathexpr.VarExp;
 import edu.clemson.rsrg.absyn.statements.AssumeStmt;
 import edu.clemson.rsrg.absyn.statements.ConfirmStmt;
 import edu.clemson.rsrg.parsing.data.LocationDetailModel;
-import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTableBuilder;
+import edu.clemson.rsrg.typeandpopulate.symboltables.ScopeRepository;
 import edu.clemson.rsrg.typeandpopulate.typereasoning.TypeGraph;
 import edu.clemson.rsrg.vcgeneration.proofrules.AbstractProofRuleApplication;
 import edu.clemson.rsrg.vcgeneration.proofrules.ProofRuleApplication;
@@ -87,7 +87,7 @@ public class TypeRepresentationCorrRule extends AbstractProofRuleApplication imp
      * @param blockModel
      *            The model associated with {@code block}.
      */
-    public TypeRepresentationCorrRule(TypeRepresentationDec dec, MathSymbolTableBuilder symbolTableBuilder,
+    public TypeRepresentationCorrRule(TypeRepresentationDec dec, ScopeRepository symbolTableBuilder,
             AssertiveCodeBlock block, VerificationContext context, STGroup stGroup, ST blockModel) {
         super(block, context, stGroup, blockModel);
         myTypeGraph = symbolTableBuilder.getTypeGraph();
@@ -28,8 +28,8 @@ import edu.clemson.rsrg.absyn.statements.ConfirmStmt;
 import edu.clemson.rsrg.parsing.data.Location;
 import edu.clemson.rsrg.parsing.data.LocationDetailModel;
 import edu.clemson.rsrg.typeandpopulate.entry.SymbolTableEntry;
-import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTableBuilder;
 import edu.clemson.rsrg.typeandpopulate.symboltables.ModuleScope;
+import edu.clemson.rsrg.typeandpopulate.symboltables.ScopeRepository;
 import edu.clemson.rsrg.vcgeneration.proofrules.ProofRuleApplication;
 import edu.clemson.rsrg.vcgeneration.proofrules.declarations.AbstractBlockDeclRule;
 import edu.clemson.rsrg.vcgeneration.utilities.AssertiveCodeBlock;
@@ -107,7 +107,7 @@ public class TypeRepresentationInitRule extends AbstractBlockDeclRule implements
      *            The model associated with {@code block}.
      */
     public TypeRepresentationInitRule(TypeRepresentationDec dec, Map<VarDec, SymbolTableEntry> blockVarTypeEntries,
-            MathSymbolTableBuilder symbolTableBuilder, ModuleScope moduleScope, AssertiveCodeBlock block,
+            ScopeRepository symbolTableBuilder, ModuleScope moduleScope, AssertiveCodeBlock block,
             VerificationContext context, STGroup stGroup, ST blockModel) {
         super(block, dec.getName().getName(), symbolTableBuilder, moduleScope, context, stGroup, blockModel);
         myAssociatedTypeFamilyDec = Utilities.getAssociatedTypeFamilyDec(dec, myCurrentVerificationContext);
@@ -37,8 +37,8 @@ import edu.clemson.rsrg.typeandpopulate.entry.SymbolTableEntry;
 import edu.clemson.rsrg.typeandpopulate.programtypes.PTFamily;
 import edu.clemson.rsrg.typeandpopulate.programtypes.PTGeneric;
 import edu.clemson.rsrg.typeandpopulate.programtypes.PTRepresentation;
-import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTableBuilder;
 import edu.clemson.rsrg.typeandpopulate.symboltables.ModuleScope;
+import edu.clemson.rsrg.typeandpopulate.symboltables.ScopeRepository;
 import edu.clemson.rsrg.typeandpopulate.typereasoning.TypeGraph;
 import edu.clemson.rsrg.vcgeneration.proofrules.AbstractProofRuleApplication;
 import edu.clemson.rsrg.vcgeneration.proofrules.ProofRuleApplication;
@@ -146,7 +146,7 @@ public class CallStmtRule extends AbstractProofRuleApplication implements ProofR
      * @param blockModel
      *            The model associated with {@code block}.
      */
-    public CallStmtRule(CallStmt callStmt, MathSymbolTableBuilder symbolTableBuilder, ModuleScope moduleScope,
+    public CallStmtRule(CallStmt callStmt, ScopeRepository symbolTableBuilder, ModuleScope moduleScope,
             AssertiveCodeBlock block, VerificationContext context, STGroup stGroup, ST blockModel) {
         super(block, context, stGroup, blockModel);
         myCallStmt = callStmt;
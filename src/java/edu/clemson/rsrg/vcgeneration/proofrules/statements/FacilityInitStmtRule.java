@@ -23,7 +23,7 @@ import edu.clemson.rsrg.absyn.statements.AssumeStmt;
 import edu.clemson.rsrg.parsing.data.Location;
 import edu.clemson.rsrg.parsing.data.LocationDetailModel;
 import edu.clemson.rsrg.parsing.data.PosSymbol;
-import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTableBuilder;
+import edu.clemson.rsrg.typeandpopulate.symboltables.ScopeRepository;
 import edu.clemson.rsrg.typeandpopulate.typereasoning.TypeGraph;
 import edu.clemson.rsrg.vcgeneration.proofrules.AbstractProofRuleApplication;
 import edu.clemson.rsrg.vcgeneration.proofrules.ProofRuleApplication;
@@ -92,7 +92,7 @@ public class FacilityInitStmtRule extends AbstractProofRuleApplication implement
      * @param blockModel
      *            The model associated with {@code block}.
      */
-    public FacilityInitStmtRule(FacilityInitStmt facilityInitStmt, MathSymbolTableBuilder symbolTableBuilder,
+    public FacilityInitStmtRule(FacilityInitStmt facilityInitStmt, ScopeRepository symbolTableBuilder,
             AssertiveCodeBlock block, VerificationContext context, STGroup stGroup, ST blockModel) {
         super(block, context, stGroup, blockModel);
         myFacilityInitStmt = facilityInitStmt;
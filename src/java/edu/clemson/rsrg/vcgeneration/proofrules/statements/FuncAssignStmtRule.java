@@ -20,8 +20,8 @@ import edu.clemson.rsrg.absyn.statements.ConfirmStmt;
 import edu.clemson.rsrg.absyn.statements.FuncAssignStmt;
 import edu.clemson.rsrg.treewalk.TreeWalker;
 import edu.clemson.rsrg.typeandpopulate.entry.OperationEntry;
-import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTableBuilder;
 import edu.clemson.rsrg.typeandpopulate.symboltables.ModuleScope;
+import edu.clemson.rsrg.typeandpopulate.symboltables.ScopeRepository;
 import edu.clemson.rsrg.typeandpopulate.typereasoning.TypeGraph;
 import edu.clemson.rsrg.vcgeneration.proofrules.AbstractProofRuleApplication;
 import edu.clemson.rsrg.vcgeneration.proofrules.ProofRuleApplication;
@@ -111,7 +111,7 @@ public class FuncAssignStmtRule extends AbstractProofRuleApplication implements
      * @param blockModel
      *            The model associated with {@code block}.
      */
-    public FuncAssignStmtRule(FuncAssignStmt funcAssignStmt, MathSymbolTableBuilder symbolTableBuilder,
+    public FuncAssignStmtRule(FuncAssignStmt funcAssignStmt, ScopeRepository symbolTableBuilder,
             ModuleScope moduleScope, AssertiveCodeBlock block, VerificationContext context, STGroup stGroup,
             ST blockModel) {
         super(block, context, stGroup, blockModel);
@@ -23,8 +23,8 @@ import edu.clemson.rsrg.absyn.statements.IfStmt;
 import edu.clemson.rsrg.parsing.data.LocationDetailModel;
 import edu.clemson.rsrg.treewalk.TreeWalker;
 import edu.clemson.rsrg.typeandpopulate.entry.OperationEntry;
-import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTableBuilder;
 import edu.clemson.rsrg.typeandpopulate.symboltables.ModuleScope;
+import edu.clemson.rsrg.typeandpopulate.symboltables.ScopeRepository;
 import edu.clemson.rsrg.typeandpopulate.typereasoning.TypeGraph;
 import edu.clemson.rsrg.vcgeneration.proofrules.AbstractProofRuleApplication;
 import edu.clemson.rsrg.vcgeneration.proofrules.ProofRuleApplication;
@@ -111,7 +111,7 @@ public class IfStmtRule extends AbstractProofRuleApplication implements ProofRul
      * @param blockModel
      *            The model associated with {@code block}.
      */
-    public IfStmtRule(IfStmt ifStmt, MathSymbolTableBuilder symbolTableBuilder, ModuleScope moduleScope,
+    public IfStmtRule(IfStmt ifStmt, ScopeRepository symbolTableBuilder, ModuleScope moduleScope,
             AssertiveCodeBlock block, VerificationContext context, STGroup stGroup, ST blockModel) {
         super(block, context, stGroup, blockModel);
         myCurrentModuleScope = moduleScope;
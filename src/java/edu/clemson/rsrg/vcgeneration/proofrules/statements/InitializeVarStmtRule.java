@@ -31,8 +31,8 @@ import edu.clemson.rsrg.typeandpopulate.entry.FacilityTypeRepresentationEntry;
 import edu.clemson.rsrg.typeandpopulate.entry.ProgramTypeEntry;
 import edu.clemson.rsrg.typeandpopulate.entry.SymbolTableEntry;
 import edu.clemson.rsrg.typeandpopulate.entry.TypeRepresentationEntry;
-import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTableBuilder;
 import edu.clemson.rsrg.typeandpopulate.symboltables.ModuleScope;
+import edu.clemson.rsrg.typeandpopulate.symboltables.ScopeRepository;
 import edu.clemson.rsrg.typeandpopulate.typereasoning.TypeGraph;
 import edu.clemson.rsrg.vcgeneration.proofrules.AbstractProofRuleApplication;
 import edu.clemson.rsrg.vcgeneration.proofrules.ProofRuleApplication;
@@ -108,7 +108,7 @@ public class InitializeVarStmtRule extends AbstractProofRuleApplication implemen
      * @param blockModel
      *            The model associated with {@code block}.
      */
-    public InitializeVarStmtRule(InitializeVarStmt initVarStmt, MathSymbolTableBuilder symbolTableBuilder,
+    public InitializeVarStmtRule(InitializeVarStmt initVarStmt, ScopeRepository symbolTableBuilder,
             ModuleScope moduleScope, AssertiveCodeBlock block, VerificationContext context, STGroup stGroup,
             ST blockModel) {
         super(block, context, stGroup, blockModel);
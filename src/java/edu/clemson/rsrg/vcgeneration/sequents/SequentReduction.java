@@ -16,6 +16,8 @@ import edu.clemson.rsrg.absyn.expressions.Exp;
 import edu.clemson.rsrg.absyn.expressions.mathexpr.BetweenExp;
 import edu.clemson.rsrg.absyn.expressions.mathexpr.InfixExp;
 import edu.clemson.rsrg.absyn.expressions.mathexpr.PrefixExp;
+import edu.clemson.rsrg.init.metrics.SequentReductionEvent;
+import edu.clemson.rsrg.parsing.data.Location;
 import edu.clemson.rsrg.statushandling.exception.SourceErrorException;
 import edu.clemson.rsrg.vcgeneration.sequents.reductionrules.ReductionRuleApplication;
 import edu.clemson.rsrg.vcgeneration.sequents.reductionrules.leftrules.*;
@@ -110,6 +112,10 @@ public class SequentReduction {
         Deque<Sequent> sequentsToBeReduced = new LinkedList<>();
         List<Sequent> reducedSequents = new ArrayList<>();
 
+        // Record how long it takes to reduce this sequent
+        SequentReductionEvent event = new SequentReductionEvent();
+        event.begin();
+
         // Add the original sequent to the sequentsToBeReduced
         // and begin reducing it!
         sequentsToBeReduced.add(myOriginalSequent);
@@ -193,6 +199,16 @@ public class SequentReduction {
 
         myResultingSequents.addAll(reducedSequents);
 
+        if (event.shouldCommit()) {
+            Location location = myOriginalSequent.getLocation();
+            if (location != null) {
+                event.setResults(location.getFilename(), location.toString(), myResultingSequents.size());
+            } else {
+                event.setResults(null, null, myResultingSequents.size());
+            }
+            event.commit();
+        }
+
         return myResultingSequents;
     }
 
@@ -35,8 +35,8 @@ import edu.clemson.rsrg.parsing.data.PosSymbol;
 import edu.clemson.rsrg.typeandpopulate.entry.ProgramTypeEntry;
 import edu.clemson.rsrg.typeandpopulate.entry.SymbolTableEntry;
 import edu.clemson.rsrg.typeandpopulate.exception.NoSuchSymbolException;
-import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTableBuilder;
 import edu.clemson.rsrg.typeandpopulate.symboltables.ModuleScope;
+import edu.clemson.rsrg.typeandpopulate.symboltables.ScopeRepository;
 import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
 import edu.clemson.rsrg.vcgeneration.utilities.formaltoactual.InstantiatedFacilityDecl;
 import java.util.*;
@@ -59,10 +59,10 @@ public class VerificationContext implements BasicCapabilities, Cloneable {
 
     /**
      * <p>
-     * The symbol table we are currently building.
+     * The symbol table that contains all the populated modules.
      * </p>
      */
-    private final MathSymbolTableBuilder myBuilder;
+    private final ScopeRepository myBuilder;
 
     /**
      * <p>
@@ -175,11 +175,11 @@ public class VerificationContext implements BasicCapabilities, Cloneable {
      * @param moduleScope
      *            The module scope associated with {@code name}.
      * @param builder
-     *            A scope builder for a symbol table.
+     *            The symbol table that contains all the populated modules.
      * @param compileEnvironment
      *            The current job's compilation environment that stores all necessary objects and flags.
      */
-    public VerificationContext(PosSymbol name, ModuleScope moduleScope, MathSymbolTableBuilder builder,
+    public VerificationContext(PosSymbol name, ModuleScope moduleScope, ScopeRepository builder,
             CompileEnvironment compileEnvironment) {
         myBuilder = builder;
         myCompileEnvironment = compileEnvironment;
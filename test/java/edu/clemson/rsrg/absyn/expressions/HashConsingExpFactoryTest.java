@@ -0,0 +1,234 @@
+/*
+ * HashConsingExpFactoryTest.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.absyn.expressions;
+
+import edu.clemson.rsrg.absyn.ResolveConceptualElement;
+import edu.clemson.rsrg.absyn.expressions.mathexpr.*;
+import edu.clemson.rsrg.init.file.ModuleType;
+import edu.clemson.rsrg.init.file.ResolveFile;
+import edu.clemson.rsrg.init.file.ResolveFileBasicInfo;
+import edu.clemson.rsrg.parsing.data.Location;
+import edu.clemson.rsrg.parsing.data.PosSymbol;
+import edu.clemson.rsrg.statushandling.exception.MiscErrorException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import org.antlr.v4.runtime.UnbufferedCharStream;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * <p>
+ * Unit test for checking that the {@link HashConsingExpFactory} shares equal expressions and that shared expressions
+ * cannot be modified.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class HashConsingExpFactoryTest {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * A fake {@link Location} object to be used to create {@link ResolveConceptualElement ResolveConceptualElements}.
+     * </p>
+     */
+    private final Location FAKE_LOCATION = new Location(
+            new ResolveFile(new ResolveFileBasicInfo("HashConsingExpFactoryTest", ""), ModuleType.THEORY,
+                    new UnbufferedCharStream(new StringReader("")), null, new ArrayList<String>(), ""),
+            0, 0);
+
+    // ===========================================================
+    // Test Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This tests that a very deep expression can be shared, and that sharing an equal expression again finds the same
+     * object.
+     * </p>
+     */
+    @Test(timeout = 30000)
+    public final void testDeepExp() {
+        HashConsingExpFactory factory = new HashConsingExpFactory();
+        MathExp conjunction1 = createVarExp("P0");
+        MathExp conjunction2 = createVarExp("P0");
+        for (int i = 1; i < 100000; i++) {
+            conjunction1 = createInfixExp(conjunction1, "and", createVarExp("P" + (i % 10)));
+            conjunction2 = createInfixExp(conjunction2, "and", createVarExp("P" + (i % 10)));
+        }
+
+        MathExp sharedConjunction = factory.intern(conjunction1);
+        assertTrue(sharedConjunction.isImmutable());
+        assertSame(sharedConjunction, factory.intern(conjunction2));
+        assertEquals(sharedConjunction.hashCode(), factory.intern(conjunction2).hashCode());
+    }
+
+    /**
+     * <p>
+     * This tests that cloning a shared expression returns the expression itself and that it cannot be modified.
+     * </p>
+     */
+    @Test
+    public final void testSharedExpIsImmutable() {
+        HashConsingExpFactory factory = new HashConsingExpFactory();
+        VarExp original = createVarExp("X");
+        VarExp shared = (VarExp) factory.intern(original);
+
+        assertTrue(shared.isImmutable());
+        assertSame(shared, shared.clone());
+        assertFalse(original.isImmutable());
+        assertNotSame(original, original.clone());
+
+        try {
+            shared.setQualifier(new PosSymbol(FAKE_LOCATION.clone(), "Q"));
+            fail("A shared expression should not be modifiable.");
+        } catch (MiscErrorException e) {
+            assertNull(shared.getQualifier());
+        }
+
+        // The arguments of a shared function application can't be changed either
+        FunctionExp functionExp = (FunctionExp) factory.intern(new FunctionExp(FAKE_LOCATION.clone(), createVarExp("F"),
+                null, new ArrayList<>(Arrays.<Exp> asList(createVarExp("X")))));
+        try {
+            functionExp.getArguments().add(shared);
+            fail("The arguments of a shared expression should not be modifiable.");
+        } catch (UnsupportedOperationException e) {
+            assertEquals(1, functionExp.getArguments().size());
+        }
+    }
+
+    /**
+     * <p>
+     * This tests that equal expressions found in different places in the source file are still shared.
+     * </p>
+     */
+    @Test
+    public final void testSharedSubExpsFromDifferentLocations() {
+        HashConsingExpFactory factory = new HashConsingExpFactory();
+
+        // X + Y on line 1 and on line 7
+        MathExp sum1 = createInfixExp(createVarExp("X", createLocation(1, 4)), "+",
+                createVarExp("Y", createLocation(1, 8)));
+        MathExp sum2 = createInfixExp(createVarExp("X", createLocation(7, 12)), "+",
+                createVarExp("Y", createLocation(7, 16)));
+
+        MathExp sharedSum = factory.intern(sum1);
+        assertSame(sharedSum, factory.intern(sum2));
+        assertSame(factory.intern(createVarExp("X", createLocation(3, 0))), ((InfixExp) sharedSum).getLeft());
+        assertEquals(3, factory.size());
+    }
+
+    /**
+     * <p>
+     * This tests that equal expressions, and equal sub-expressions, become the same object.
+     * </p>
+     */
+    @Test
+    public final void testSharedSubExps() {
+        HashConsingExpFactory factory = new HashConsingExpFactory();
+
+        // (X + Y) = (X + Y)
+        MathExp sum1 = createInfixExp(createVarExp("X"), "+", createVarExp("Y"));
+        MathExp sum2 = createInfixExp(createVarExp("X"), "+", createVarExp("Y"));
+        EqualsExp equalsExp = new EqualsExp(FAKE_LOCATION.clone(), sum1, null, EqualsExp.Operator.EQUAL, sum2);
+
+        EqualsExp sharedEqualsExp = (EqualsExp) factory.intern(equalsExp);
+        assertEquals(equalsExp, sharedEqualsExp);
+        assertSame(sharedEqualsExp.getLeft(), sharedEqualsExp.getRight());
+        assertSame(factory.intern(sum1), sharedEqualsExp.getLeft());
+        assertSame(sharedEqualsExp, factory.intern((MathExp) equalsExp.clone()));
+
+        // X, Y, X + Y and the equality
+        assertEquals(4, factory.size());
+
+        // A function application that uses the same arguments
+        FunctionExp functionExp = new FunctionExp(FAKE_LOCATION.clone(), createVarExp("F"), null,
+                Arrays.<Exp> asList(createVarExp("X"), createVarExp("Y")));
+        FunctionExp sharedFunctionExp = (FunctionExp) factory.intern(functionExp);
+        assertSame(factory.intern(createVarExp("X")), sharedFunctionExp.getArguments().get(0));
+        assertEquals(functionExp, sharedFunctionExp);
+    }
+
+    // ===========================================================
+    // Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This creates a new infix expression.
+     * </p>
+     *
+     * @param left
+     *            The left-hand side.
+     * @param operator
+     *            The operator's name.
+     * @param right
+     *            The right-hand side.
+     *
+     * @return An {@link InfixExp}.
+     */
+    private InfixExp createInfixExp(Exp left, String operator, Exp right) {
+        return new InfixExp(FAKE_LOCATION.clone(), left, null, new PosSymbol(FAKE_LOCATION.clone(), operator), right);
+    }
+
+    /**
+     * <p>
+     * This creates a new location in the same file as {@code FAKE_LOCATION}.
+     * </p>
+     *
+     * @param line
+     *            The line number.
+     * @param column
+     *            The column number.
+     *
+     * @return A {@link Location}.
+     */
+    private Location createLocation(int line, int column) {
+        return new Location(FAKE_LOCATION.getFile(), line, column);
+    }
+
+    /**
+     * <p>
+     * This creates a new variable expression.
+     * </p>
+     *
+     * @param name
+     *            The variable's name.
+     *
+     * @return A {@link VarExp}.
+     */
+    private VarExp createVarExp(String name) {
+        return createVarExp(name, FAKE_LOCATION.clone());
+    }
+
+    /**
+     * <p>
+     * This creates a new variable expression at the specified location.
+     * </p>
+     *
+     * @param name
+     *            The variable's name.
+     * @param location
+     *            Where the variable was found.
+     *
+     * @return A {@link VarExp}.
+     */
+    private VarExp createVarExp(String name, Location location) {
+        return new VarExp(location, null, new PosSymbol(location.clone(), name));
+    }
+
+}
@@ -0,0 +1,146 @@
+/*
+ * CompilerDaemonTest.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.init;
+
+import edu.clemson.rsrg.absyn.declarations.facilitydecl.FacilityDec;
+import edu.clemson.rsrg.absyn.declarations.moduledecl.PrecisModuleDec;
+import edu.clemson.rsrg.init.file.ModuleType;
+import edu.clemson.rsrg.init.file.ResolveFile;
+import edu.clemson.rsrg.init.file.ResolveFileBasicInfo;
+import edu.clemson.rsrg.parsing.data.Location;
+import edu.clemson.rsrg.parsing.data.PosSymbol;
+import edu.clemson.rsrg.statushandling.SystemStdHandler;
+import edu.clemson.rsrg.typeandpopulate.entry.FacilityEntry;
+import edu.clemson.rsrg.typeandpopulate.query.NameQuery;
+import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTable.FacilityStrategy;
+import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTable.ImportStrategy;
+import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTableBuilder;
+import edu.clemson.rsrg.typeandpopulate.symboltables.ModuleScopeBuilder;
+import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.UnbufferedCharStream;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * <p>
+ * Unit test for checking that the compiler daemon doesn't keep anything from an earlier version of a module alive after
+ * the module is compiled again.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class CompilerDaemonTest {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * A fake {@link Location} object to be used to create the modules.
+     * </p>
+     */
+    private final Location FAKE_LOCATION = new Location(
+            new ResolveFile(new ResolveFileBasicInfo("CompilerDaemonTest", ""), ModuleType.THEORY,
+                    new UnbufferedCharStream(new StringReader("")), null, new ArrayList<String>(), ""),
+            0, 0);
+
+    // ===========================================================
+    // Test Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This tests that the facility entries created by the first of two requests for the same module can be garbage
+     * collected once the second request is done.
+     * </p>
+     */
+    @Test
+    public final void testRecompiledFacilitiesAreReleased() throws IOException {
+        // YS: We need to create a ResolveCompiler instance to instantiate
+        // the flag manager...
+        new ResolveCompiler(new String[0]);
+        CompileEnvironment compileEnvironment = new CompileEnvironment(new String[0], "TestCompiler",
+                new SystemStdHandler());
+        MathSymbolTableBuilder builder = new MathSymbolTableBuilder(compileEnvironment);
+        compileEnvironment.setSymbolTable(builder);
+
+        // A long-lived module that the facility instantiates
+        PrecisModuleDec templateDec = createModuleDec("Template");
+        ModuleScopeBuilder templateScope = builder.startModuleScope(templateDec);
+        templateScope.addBinding("X", templateDec, builder.getTypeGraph().BOOLEAN);
+        builder.endScope();
+
+        // Each request compiles a new version of the client module
+        List<WeakReference<FacilityEntry>> facilities = new ArrayList<>();
+        CompilerDaemon daemon = new CompilerDaemon(compileEnvironment, fileArgs -> {
+            PrecisModuleDec clientDec = createModuleDec("Client");
+            ModuleScopeBuilder clientScope = builder.startModuleScope(clientDec);
+            FacilityDec facilityDec = new FacilityDec(new PosSymbol(FAKE_LOCATION.clone(), "Template_Fac"),
+                    new PosSymbol(FAKE_LOCATION.clone(), "Template"), new ArrayList<>(), new ArrayList<>(),
+                    new PosSymbol(FAKE_LOCATION.clone(), "Template_Realiz"), new ArrayList<>(), new ArrayList<>(),
+                    null);
+            facilities.add(new WeakReference<>(clientScope.addFacility(facilityDec, false)));
+            assertEquals(1, clientScope.query(
+                    new NameQuery(null, "X", ImportStrategy.IMPORT_NAMED, FacilityStrategy.FACILITY_INSTANTIATE, false))
+                    .size());
+            builder.endScope();
+
+            ModuleIdentifier clientId = new ModuleIdentifier(clientDec);
+            compileEnvironment.constructRecord(new ResolveFile(new ResolveFileBasicInfo("Client", ""),
+                    ModuleType.FACILITY, CharStreams.fromString("Client"), null, new ArrayList<>(), ""), clientDec);
+            compileEnvironment.completeRecord(clientId);
+        });
+
+        daemon.serve(new BufferedReader(new StringReader("Client.fa\nClient.fa\nexit\n")),
+                new PrintStream(new ByteArrayOutputStream()));
+        assertEquals(2, facilities.size());
+
+        // Nothing should still refer to the facility from the first request
+        for (int i = 0; i < 20 && facilities.get(0).get() != null; i++) {
+            System.gc();
+        }
+        assertNull(facilities.get(0).get());
+        assertNotNull(facilities.get(1).get());
+    }
+
+    // ===========================================================
+    // Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This creates a new module declaration without any items.
+     * </p>
+     *
+     * @param name
+     *            The module's name.
+     *
+     * @return A {@link PrecisModuleDec}.
+     */
+    private PrecisModuleDec createModuleDec(String name) {
+        return new PrecisModuleDec(FAKE_LOCATION.clone(), new PosSymbol(FAKE_LOCATION.clone(), name), new ArrayList<>(),
+                new ArrayList<>(), new ArrayList<>(), new HashMap<>());
+    }
+
+}
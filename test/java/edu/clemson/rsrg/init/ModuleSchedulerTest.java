@@ -0,0 +1,218 @@
+/*
+ * ModuleSchedulerTest.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.init;
+
+import edu.clemson.rsrg.absyn.ResolveConceptualElement;
+import edu.clemson.rsrg.absyn.declarations.moduledecl.PrecisModuleDec;
+import edu.clemson.rsrg.init.file.ModuleType;
+import edu.clemson.rsrg.init.file.ResolveFile;
+import edu.clemson.rsrg.init.file.ResolveFileBasicInfo;
+import edu.clemson.rsrg.parsing.data.Location;
+import edu.clemson.rsrg.parsing.data.PosSymbol;
+import edu.clemson.rsrg.statushandling.SystemStdHandler;
+import edu.clemson.rsrg.statushandling.exception.MiscErrorException;
+import edu.clemson.rsrg.typeandpopulate.exception.NoSuchScopeException;
+import edu.clemson.rsrg.typeandpopulate.exception.NoSuchSymbolException;
+import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTableBuilder;
+import edu.clemson.rsrg.typeandpopulate.symboltables.ModuleScopeBuilder;
+import edu.clemson.rsrg.typeandpopulate.symboltables.ScopeBuilder;
+import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.UnbufferedCharStream;
+import org.jgrapht.graph.DefaultDirectedGraph;
+import org.jgrapht.graph.DefaultEdge;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * <p>
+ * Unit test for checking that a failed compilation doesn't leave any modules behind once the incomplete modules have
+ * been removed.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class ModuleSchedulerTest {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * A fake {@link Location} object to be used to create the modules.
+     * </p>
+     */
+    private final Location FAKE_LOCATION = new Location(
+            new ResolveFile(new ResolveFileBasicInfo("ModuleSchedulerTest", ""), ModuleType.THEORY,
+                    new UnbufferedCharStream(new StringReader("")), null, new ArrayList<String>(), ""),
+            0, 0);
+
+    // ===========================================================
+    // Test Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This tests a target that imports two independent modules, where one of them fails while the other one is still
+     * being populated.
+     * </p>
+     */
+    @Test
+    public final void testFailedImportRollback() throws IOException, InterruptedException {
+        // YS: We need to create a ResolveCompiler instance to instantiate
+        // the flag manager...
+        new ResolveCompiler(new String[0]);
+        CompileEnvironment compileEnvironment = new CompileEnvironment(new String[0], "TestCompiler",
+                new SystemStdHandler());
+        MathSymbolTableBuilder builder = new MathSymbolTableBuilder(compileEnvironment);
+        compileEnvironment.setSymbolTable(builder);
+
+        // T imports A and B
+        ModuleIdentifier a = new ModuleIdentifier("A");
+        ModuleIdentifier b = new ModuleIdentifier("B");
+        ModuleIdentifier t = new ModuleIdentifier("T");
+        DefaultDirectedGraph<ModuleIdentifier, DefaultEdge> g = new DefaultDirectedGraph<>(DefaultEdge.class);
+        for (ModuleIdentifier m : Arrays.asList(a, b, t)) {
+            g.addVertex(m);
+            compileEnvironment.constructRecord(
+                    new ResolveFile(new ResolveFileBasicInfo(m.toString(), ""), ModuleType.THEORY,
+                            CharStreams.fromString(m.toString()), null, new ArrayList<>(), ""),
+                    createModuleDec(m.toString()));
+        }
+        g.addEdge(t, a);
+        g.addEdge(t, b);
+
+        // A fails while B is still being populated
+        PrecisModuleDec innerDec = createModuleDec("B_Inner");
+        CountDownLatch startedB = new CountDownLatch(1);
+        ForkJoinPool workerPool = new ForkJoinPool(2);
+        ModuleScheduler scheduler = new ModuleScheduler(g, workerPool, m -> {
+            if (m.equals(a)) {
+                try {
+                    startedB.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new MiscErrorException("Cannot populate A", null);
+            } else if (m.equals(b)) {
+                PrecisModuleDec moduleDec = (PrecisModuleDec) compileEnvironment.getModuleAST(b);
+                ModuleScopeBuilder moduleScope = builder.startModuleScope(moduleDec);
+                startedB.countDown();
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                ScopeBuilder innerScope = builder.startScope(innerDec);
+                innerScope.addBinding("X", innerDec, builder.getTypeGraph().BOOLEAN);
+                builder.endScope();
+                moduleScope.addBinding("Y", moduleDec, builder.getTypeGraph().BOOLEAN);
+                builder.endScope();
+                compileEnvironment.completeRecord(b);
+            } else {
+                fail("T should not be processed after one of its imports failed.");
+            }
+        });
+
+        try {
+            scheduler.process(Arrays.asList(a, b, t));
+            fail("The failure while processing A should have been thrown.");
+        } catch (MiscErrorException e) {
+            assertEquals("Cannot populate A", e.getMessage());
+        }
+
+        // Roll back just like a batch or daemon compilation does
+        compileEnvironment.removeIncompleteModules();
+        assertTrue(workerPool.awaitQuiescence(10, TimeUnit.SECONDS));
+        workerPool.shutdown();
+
+        // Only the modules that completed can still have a scope
+        for (ModuleIdentifier m : Arrays.asList(a, b, t)) {
+            assertEquals(compileEnvironment.isCompleteModule(m), hasModuleScope(builder, m));
+        }
+        assertEquals(compileEnvironment.isCompleteModule(b), hasScope(builder, innerDec));
+        assertFalse(compileEnvironment.containsID(a));
+        assertFalse(compileEnvironment.containsID(t));
+    }
+
+    // ===========================================================
+    // Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This creates a new module declaration without any items.
+     * </p>
+     *
+     * @param name
+     *            The module's name.
+     *
+     * @return A {@link PrecisModuleDec}.
+     */
+    private PrecisModuleDec createModuleDec(String name) {
+        return new PrecisModuleDec(FAKE_LOCATION.clone(), new PosSymbol(FAKE_LOCATION.clone(), name), new ArrayList<>(),
+                new ArrayList<>(), new ArrayList<>(), new HashMap<>());
+    }
+
+    /**
+     * <p>
+     * This checks to see if the symbol table has a scope for the specified element.
+     * </p>
+     *
+     * @param builder
+     *            The symbol table builder.
+     * @param e
+     *            The element that defines the scope.
+     *
+     * @return {@code true} if the element has a scope, {@code false} otherwise.
+     */
+    private boolean hasScope(MathSymbolTableBuilder builder, ResolveConceptualElement e) {
+        try {
+            builder.getScope(e);
+            return true;
+        } catch (NoSuchScopeException nse) {
+            return false;
+        }
+    }
+
+    /**
+     * <p>
+     * This checks to see if the symbol table has a scope for the specified module.
+     * </p>
+     *
+     * @param builder
+     *            The symbol table builder.
+     * @param m
+     *            The module identifier.
+     *
+     * @return {@code true} if the module has a scope, {@code false} otherwise.
+     */
+    private boolean hasModuleScope(MathSymbolTableBuilder builder, ModuleIdentifier m) {
+        try {
+            builder.getModuleScope(m);
+            return true;
+        } catch (NoSuchSymbolException e) {
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,220 @@
+/*
+ * IncrementalParserTest.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.parsing;
+
+import edu.clemson.rsrg.init.file.ModuleType;
+import edu.clemson.rsrg.init.file.ResolveFile;
+import edu.clemson.rsrg.init.file.ResolveFileBasicInfo;
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * <p>
+ * Unit test for checking that the {@link IncrementalParser} produces the same parse tree as a full parse of the edited
+ * file.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class IncrementalParserTest {
+
+    // ===========================================================
+    // Test Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This tests an edit that adds a new item, which needs a full parse.
+     * </p>
+     */
+    @Test
+    public final void testEditAddsItem() {
+        String text = readFile("Array_Realiz.rb");
+        String newText = text.replace("end Clear;", "end Clear;\n\n    Procedure Nop(); end Nop;");
+        assertSameAsFullParse(text, newText, false);
+    }
+
+    /**
+     * <p>
+     * This tests an edit that spans several lines inside a procedure body.
+     * </p>
+     */
+    @Test
+    public final void testEditInsideProcedure() {
+        String text = readFile("Array_Realiz.rb");
+        String newText = text.replace("S.Top := S.Top + 1;",
+                "S.Top := S.Top + 1;\n        S.Top := S.Top - 1; S.Top := S.Top + 1;");
+        assertSameAsFullParse(text, newText, true);
+    }
+
+    /**
+     * <p>
+     * This tests an edit to the module header, which needs a full parse.
+     * </p>
+     */
+    @Test
+    public final void testEditModuleHeader() {
+        String text = readFile("Array_Realiz.rb");
+        String newText = text.replace("uses Integer_To_String_Function_Theory;", "uses Boolean_Theory;");
+        assertSameAsFullParse(text, newText, false);
+    }
+
+    /**
+     * <p>
+     * This tests an edit that changes the length of a line inside a procedure body.
+     * </p>
+     */
+    @Test
+    public final void testEditOnSameLine() {
+        String text = readFile("Array_Realiz.rb");
+        String newText = text.replace("Depth := S.Top;", "Depth := S.Top + 0;");
+        assertSameAsFullParse(text, newText, true);
+    }
+
+    /**
+     * <p>
+     * This tests two edits in different procedures, one after the other.
+     * </p>
+     */
+    @Test
+    public final void testSequentialEdits() {
+        String text = readFile("Array_Realiz.rb");
+        String newText1 = text.replace("S.Top := 0;", "S.Top := 0;\n        S.Top := 0;");
+        String newText2 = newText1.replace("S.Top := S.Top - 1;", "S.Top := S.Top - 2 + 1;");
+
+        IncrementalParser incrementalParser = new IncrementalParser();
+        incrementalParser.remember(createFile(text), text, parse(text));
+        assertNotNull(incrementalParser.reparse(createFile(newText1), newText1));
+
+        ParserRuleContext incrementalTree = incrementalParser.reparse(createFile(newText2), newText2);
+        assertNotNull(incrementalTree);
+        assertEquals(getTokens(parse(newText2)), getTokens(incrementalTree));
+    }
+
+    // ===========================================================
+    // Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This parses the original source code, applies the edit using the {@link IncrementalParser} and checks to see if
+     * the result has the same tokens (in the same lines and columns) as a full parse of the new source code.
+     * </p>
+     *
+     * @param text
+     *            The original source code.
+     * @param newText
+     *            The edited source code.
+     * @param expectIncremental
+     *            Whether or not we expect the edit to be parsed incrementally.
+     */
+    private void assertSameAsFullParse(String text, String newText, boolean expectIncremental) {
+        IncrementalParser incrementalParser = new IncrementalParser();
+        incrementalParser.remember(createFile(text), text, parse(text));
+
+        ParserRuleContext incrementalTree = incrementalParser.reparse(createFile(newText), newText);
+        if (expectIncremental) {
+            assertNotNull(incrementalTree);
+            assertEquals(getTokens(parse(newText)), getTokens(incrementalTree));
+        } else {
+            assertNull(incrementalTree);
+        }
+    }
+
+    /**
+     * <p>
+     * This creates a "meta" file for the sample realization.
+     * </p>
+     *
+     * @param text
+     *            The source code.
+     *
+     * @return A {@link ResolveFile}.
+     */
+    private ResolveFile createFile(String text) {
+        return new ResolveFile(new ResolveFileBasicInfo("Array_Realiz", ""), ModuleType.REALIZATION,
+                CharStreams.fromString(text), null, new ArrayList<>(), "Array_Realiz.rb");
+    }
+
+    /**
+     * <p>
+     * This returns the type, line, column and text of every token in the parse tree.
+     * </p>
+     *
+     * @param tree
+     *            A parse tree.
+     *
+     * @return A list of token descriptions.
+     */
+    private List<String> getTokens(ParseTree tree) {
+        List<String> tokens = new ArrayList<>();
+        if (tree instanceof TerminalNode) {
+            Token token = ((TerminalNode) tree).getSymbol();
+            tokens.add(token.getType() + ":" + token.getLine() + ":" + token.getCharPositionInLine() + ":"
+                    + token.getText());
+        } else {
+            for (int i = 0; i < tree.getChildCount(); i++) {
+                tokens.addAll(getTokens(tree.getChild(i)));
+            }
+        }
+
+        return tokens;
+    }
+
+    /**
+     * <p>
+     * This fully parses the source code.
+     * </p>
+     *
+     * @param text
+     *            The source code.
+     *
+     * @return The parse tree.
+     */
+    private ParserRuleContext parse(String text) {
+        ResolveParser parser = new ResolveParser(new CommonTokenStream(new ResolveLexer(CharStreams.fromString(text))));
+        parser.removeErrorListeners();
+        ParserRuleContext rootModuleCtx = parser.module();
+        assertEquals(0, parser.getNumberOfSyntaxErrors());
+
+        return rootModuleCtx;
+    }
+
+    /**
+     * <p>
+     * This reads a sample file.
+     * </p>
+     *
+     * @param filename
+     *            A {@code RESOLVE} filename.
+     *
+     * @return The file contents.
+     */
+    private String readFile(String filename) {
+        try {
+            return Files.readString(new File(this.getClass().getResource("/" + filename).toURI()).toPath());
+        } catch (URISyntaxException | IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+}
@@ -0,0 +1,172 @@
+/*
+ * ModuleDependencyListenerTest.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.parsing;
+
+import edu.clemson.rsrg.init.CompileEnvironment;
+import edu.clemson.rsrg.init.ResolveCompiler;
+import edu.clemson.rsrg.init.file.ModuleType;
+import edu.clemson.rsrg.init.file.ResolveFile;
+import edu.clemson.rsrg.init.file.ResolveFileBasicInfo;
+import edu.clemson.rsrg.misc.Utilities;
+import edu.clemson.rsrg.statushandling.SystemStdHandler;
+import edu.clemson.rsrg.statushandling.exception.MiscErrorException;
+import edu.clemson.rsrg.typeandpopulate.typereasoning.TypeGraph;
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * <p>
+ * Unit test for checking that the {@link ModuleDependencyListener} finds the same module name and module dependencies
+ * as the {@link TreeBuildingListener} on RESOLVE files.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class ModuleDependencyListenerTest {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * A fake {@link TypeGraph} object that allows us to build the module declarations.
+     * </p>
+     */
+    private final TypeGraph FAKE_TYPEGRAPH;
+
+    {
+        try {
+            // YS: We need to create a ResolveCompiler instance to instantiate
+            // the flag manager...
+            new ResolveCompiler(new String[0]);
+            FAKE_TYPEGRAPH = new TypeGraph(
+                    new CompileEnvironment(new String[0], "TestCompiler", new SystemStdHandler()));
+        } catch (IOException e) {
+            throw new MiscErrorException("Error creating a fake type graph", e);
+        }
+    }
+
+    // ===========================================================
+    // Test Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This tests the module dependencies of a sample concept file.
+     * </p>
+     */
+    @Test
+    public final void testConceptDependencies() {
+        assertSameDependencies("Stack_Template.co");
+    }
+
+    /**
+     * <p>
+     * This tests the module dependencies of a sample concept realization file that declares an array.
+     * </p>
+     */
+    @Test
+    public final void testConceptRealizDependencies() {
+        assertSameDependencies("Array_Realiz.rb");
+    }
+
+    /**
+     * <p>
+     * This tests the module dependencies of a sample enhancement file.
+     * </p>
+     */
+    @Test
+    public final void testEnhancementDependencies() {
+        assertSameDependencies("Reading_Capability.en");
+    }
+
+    /**
+     * <p>
+     * This tests the module dependencies of a sample enhancement realization file.
+     * </p>
+     */
+    @Test
+    public final void testEnhancementRealizDependencies() {
+        assertSameDependencies("Obvious_Reading_Realiz.rb");
+    }
+
+    /**
+     * <p>
+     * This tests the module dependencies of a sample facility file.
+     * </p>
+     */
+    @Test
+    public final void testFacilityDependencies() {
+        assertSameDependencies("RevStack.fa");
+    }
+
+    /**
+     * <p>
+     * This tests the module dependencies of a sample precis file.
+     * </p>
+     */
+    @Test
+    public final void testPrecisDependencies() {
+        assertSameDependencies("Integer_Theory.mt");
+    }
+
+    // ===========================================================
+    // Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This parses the specified file, walks the parse tree using both listeners and checks to see if they found the
+     * same module name and the same module dependencies (in the same order).
+     * </p>
+     *
+     * @param filename
+     *            A {@code RESOLVE} filename.
+     */
+    private void assertSameDependencies(String filename) {
+        CharStream input;
+        try {
+            File file = new File(this.getClass().getResource("/" + filename).toURI());
+            input = CharStreams.fromPath(file.toPath());
+        } catch (URISyntaxException | IOException e) {
+            throw new RuntimeException(e);
+        }
+
+        ModuleType moduleType = Utilities.getModuleType(filename);
+        ResolveFile file = new ResolveFile(new ResolveFileBasicInfo(Utilities.getFileName(filename, moduleType), ""),
+                moduleType, input, null, new ArrayList<>(), filename);
+
+        // Create a RESOLVE language lexer and parser
+        ResolveParser parser = new ResolveParser(new CommonTokenStream(new ResolveLexer(input)));
+        parser.removeErrorListeners();
+        ParserRuleContext rootModuleCtx = parser.module();
+        assertEquals(0, parser.getNumberOfSyntaxErrors());
+
+        ModuleDependencyListener dependencyListener = new ModuleDependencyListener(file);
+        ParseTreeWalker.DEFAULT.walk(dependencyListener, rootModuleCtx);
+
+        TreeBuildingListener treeBuildingListener = new TreeBuildingListener(file, FAKE_TYPEGRAPH);
+        ParseTreeWalker.DEFAULT.walk(treeBuildingListener, rootModuleCtx);
+
+        assertEquals(treeBuildingListener.getModule().getName().getName(), dependencyListener.getModuleName());
+        assertEquals(new ArrayList<>(treeBuildingListener.getModule().getModuleDependencies().entrySet()),
+                new ArrayList<>(dependencyListener.getModuleDependencies().entrySet()));
+    }
+}
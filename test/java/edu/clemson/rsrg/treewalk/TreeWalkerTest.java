@@ -0,0 +1,173 @@
+/*
+ * TreeWalkerTest.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.treewalk;
+
+import edu.clemson.rsrg.absyn.ResolveConceptualElement;
+import edu.clemson.rsrg.absyn.expressions.Exp;
+import edu.clemson.rsrg.absyn.expressions.mathexpr.InfixExp;
+import edu.clemson.rsrg.absyn.expressions.mathexpr.VarExp;
+import edu.clemson.rsrg.init.file.ModuleType;
+import edu.clemson.rsrg.init.file.ResolveFile;
+import edu.clemson.rsrg.init.file.ResolveFileBasicInfo;
+import edu.clemson.rsrg.parsing.data.Location;
+import edu.clemson.rsrg.parsing.data.PosSymbol;
+import java.io.StringReader;
+import java.util.ArrayList;
+import org.antlr.v4.runtime.UnbufferedCharStream;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * <p>
+ * Unit test for checking that the {@link TreeWalker} can walk deeply nested expressions.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class TreeWalkerTest {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * A fake {@link Location} object to be used to create {@link ResolveConceptualElement ResolveConceptualElements}.
+     * </p>
+     */
+    private final Location FAKE_LOCATION = new Location(new ResolveFile(new ResolveFileBasicInfo("TreeWalkerTest", ""),
+            ModuleType.THEORY, new UnbufferedCharStream(new StringReader("")), null, new ArrayList<String>(), ""), 0,
+            0);
+
+    // ===========================================================
+    // Test Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This walks a long left-nested conjunction, like the ones we get from forming the conjuncts of many expressions,
+     * using a thread with a small stack.
+     * </p>
+     *
+     * @throws InterruptedException
+     *             If we are interrupted while waiting for the walk to finish.
+     */
+    @Test
+    public final void testDeeplyNestedExp() throws InterruptedException {
+        int depth = 100000;
+        Exp exp = createVarExp("P");
+        for (int i = 0; i < depth; i++) {
+            exp = new InfixExp(FAKE_LOCATION.clone(), exp, null, new PosSymbol(FAKE_LOCATION.clone(), "and"),
+                    createVarExp("Q"));
+        }
+
+        CountingVisitor visitor = new CountingVisitor();
+        Throwable[] error = new Throwable[1];
+        Exp root = exp;
+        Thread walker = new Thread(null, () -> {
+            try {
+                TreeWalker.visit(visitor, root);
+            } catch (Throwable t) {
+                error[0] = t;
+            }
+        }, "TreeWalkerTest", 256 * 1024);
+        walker.start();
+        walker.join();
+
+        assertNull(error[0]);
+        assertEquals(depth, visitor.myNumInfixExps);
+        assertEquals(depth + 1, visitor.myNumVarExps);
+        // The innermost VarExp and all the InfixExps that contain it
+        assertEquals(depth + 1, visitor.myMaxAncestorSize);
+        assertEquals(0, visitor.getAncestorSize());
+    }
+
+    // ===========================================================
+    // Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This creates a new variable expression.
+     * </p>
+     *
+     * @param name
+     *            The variable's name.
+     *
+     * @return A {@link VarExp}.
+     */
+    private VarExp createVarExp(String name) {
+        return new VarExp(FAKE_LOCATION.clone(), null, new PosSymbol(FAKE_LOCATION.clone(), name));
+    }
+
+    // ===========================================================
+    // Helper Constructs
+    // ===========================================================
+
+    /**
+     * <p>
+     * An helper construct that counts the expressions it visits and remembers the largest number of ancestors it saw.
+     * </p>
+     */
+    private static class CountingVisitor extends TreeWalkerStackVisitor {
+
+        /**
+         * <p>
+         * Number of {@link InfixExp InfixExps} we have visited.
+         * </p>
+         */
+        private int myNumInfixExps = 0;
+
+        /**
+         * <p>
+         * Number of {@link VarExp VarExps} we have visited.
+         * </p>
+         */
+        private int myNumVarExps = 0;
+
+        /**
+         * <p>
+         * The largest number of ancestors we have seen.
+         * </p>
+         */
+        private int myMaxAncestorSize = 0;
+
+        /**
+         * <p>
+         * This method counts the {@link InfixExp} once we are done with it.
+         * </p>
+         *
+         * @param exp
+         *            An infix expression.
+         */
+        @Override
+        public final void postInfixExp(InfixExp exp) {
+            myNumInfixExps++;
+        }
+
+        /**
+         * <p>
+         * This method counts the {@link VarExp} and checks how deep we are.
+         * </p>
+         *
+         * @param exp
+         *            A variable expression.
+         */
+        @Override
+        public final void preVarExp(VarExp exp) {
+            myNumVarExps++;
+            myMaxAncestorSize = Math.max(myMaxAncestorSize, getAncestorSize());
+        }
+
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * MathSymbolTableTest.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.typeandpopulate.symboltables;
+
+import edu.clemson.rsrg.absyn.declarations.moduledecl.PrecisModuleDec;
+import edu.clemson.rsrg.init.CompileEnvironment;
+import edu.clemson.rsrg.init.ResolveCompiler;
+import edu.clemson.rsrg.init.file.ModuleType;
+import edu.clemson.rsrg.init.file.ResolveFile;
+import edu.clemson.rsrg.init.file.ResolveFileBasicInfo;
+import edu.clemson.rsrg.parsing.data.Location;
+import edu.clemson.rsrg.parsing.data.PosSymbol;
+import edu.clemson.rsrg.statushandling.SystemStdHandler;
+import edu.clemson.rsrg.typeandpopulate.entry.SymbolTableEntry;
+import edu.clemson.rsrg.typeandpopulate.query.NameQuery;
+import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTable.FacilityStrategy;
+import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTable.ImportStrategy;
+import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import org.antlr.v4.runtime.UnbufferedCharStream;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * <p>
+ * Unit test for checking that searching a sealed {@link MathSymbolTable} finds the same entries, in the same order, as
+ * searching the {@link MathSymbolTableBuilder} it was sealed from.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class MathSymbolTableTest {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * A fake {@link Location} object to be used to create the modules.
+     * </p>
+     */
+    private final Location FAKE_LOCATION = new Location(
+            new ResolveFile(new ResolveFileBasicInfo("MathSymbolTableTest", ""), ModuleType.THEORY,
+                    new UnbufferedCharStream(new StringReader("")), null, new ArrayList<String>(), ""),
+            0, 0);
+
+    // ===========================================================
+    // Test Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This tests unqualified searches through a diamond-shaped import graph, using every import strategy.
+     * </p>
+     */
+    @Test
+    public final void testSealedImportClosure() throws IOException {
+        // YS: We need to create a ResolveCompiler instance to instantiate
+        // the flag manager...
+        new ResolveCompiler(new String[0]);
+        MathSymbolTableBuilder builder = new MathSymbolTableBuilder(
+                new CompileEnvironment(new String[0], "TestCompiler", new SystemStdHandler()));
+
+        // A imports B and D, B imports C, D imports C and E
+        ModuleScopeBuilder a = createModule(builder, "A", Arrays.asList("B", "D"), "Y");
+        createModule(builder, "B", Arrays.asList("C"), "X");
+        createModule(builder, "C", new ArrayList<>(), "X");
+        createModule(builder, "D", Arrays.asList("C", "E"), "X");
+        createModule(builder, "E", new ArrayList<>(), "Y");
+
+        MathSymbolTable table = builder.seal();
+        ModuleScope sealedA = table.getModuleScope(new ModuleIdentifier("A"));
+        assertEquals(Arrays.asList("B", "C", "D", "E"),
+                getModuleNames(table.getImportClosure(new ModuleIdentifier("A"), ImportStrategy.IMPORT_RECURSIVE)));
+        assertEquals(Arrays.asList("B", "D"),
+                getModuleNames(table.getImportClosure(new ModuleIdentifier("A"), ImportStrategy.IMPORT_NAMED)));
+        assertEquals(new HashSet<>(Arrays.asList(new ModuleIdentifier("A"), new ModuleIdentifier("E"))),
+                table.getModuleEntriesNamed("Y").keySet());
+        assertTrue(table.getModuleEntriesNamed("Z").isEmpty());
+
+        for (ImportStrategy importStrategy : ImportStrategy.values()) {
+            for (boolean localPriority : new boolean[] { false, true }) {
+                for (String name : new String[] { "X", "Y" }) {
+                    NameQuery query = new NameQuery(null, name, importStrategy, FacilityStrategy.FACILITY_IGNORE,
+                            localPriority);
+                    assertEquals(getSourceModuleNames(a.query(query)), getSourceModuleNames(sealedA.query(query)));
+                }
+            }
+        }
+
+        assertEquals(Arrays.asList("B", "C", "D"), getSourceModuleNames(sealedA.query(
+                new NameQuery(null, "X", ImportStrategy.IMPORT_RECURSIVE, FacilityStrategy.FACILITY_IGNORE, false))));
+    }
+
+    /**
+     * <p>
+     * This tests that sealing the builder doesn't change it, so it can keep populating new modules.
+     * </p>
+     */
+    @Test
+    public final void testSealLeavesBuilderUnchanged() throws IOException {
+        // YS: We need to create a ResolveCompiler instance to instantiate
+        // the flag manager...
+        new ResolveCompiler(new String[0]);
+        MathSymbolTableBuilder builder = new MathSymbolTableBuilder(
+                new CompileEnvironment(new String[0], "TestCompiler", new SystemStdHandler()));
+
+        createModule(builder, "B", new ArrayList<>(), "X");
+        ModuleScopeBuilder a = createModule(builder, "A", Arrays.asList("B"), "Y");
+        MathSymbolTable firstTable = builder.seal();
+
+        // The builder's scopes still belong to the builder
+        assertSame(a, builder.getModuleScope(new ModuleIdentifier("A")));
+        assertNotSame(a, firstTable.getModuleScope(new ModuleIdentifier("A")));
+
+        createModule(builder, "C", Arrays.asList("A"), "X");
+        MathSymbolTable secondTable = builder.seal();
+        NameQuery query = new NameQuery(null, "X", ImportStrategy.IMPORT_RECURSIVE, FacilityStrategy.FACILITY_IGNORE,
+                false);
+        assertEquals(Arrays.asList("C", "B"),
+                getSourceModuleNames(secondTable.getModuleScope(new ModuleIdentifier("C")).query(query)));
+        assertTrue(firstTable.getModuleEntriesNamed("X").containsKey(new ModuleIdentifier("B")));
+        assertFalse(firstTable.getModuleEntriesNamed("X").containsKey(new ModuleIdentifier("C")));
+    }
+
+    /**
+     * <p>
+     * This tests that the compile environment reuses its sealed snapshot until the symbol table is modified.
+     * </p>
+     */
+    @Test
+    public final void testSealedSnapshotReuse() throws IOException {
+        // YS: We need to create a ResolveCompiler instance to instantiate
+        // the flag manager...
+        new ResolveCompiler(new String[0]);
+        CompileEnvironment compileEnvironment = new CompileEnvironment(new String[0], "TestCompiler",
+                new SystemStdHandler());
+        MathSymbolTableBuilder builder = new MathSymbolTableBuilder(compileEnvironment);
+        compileEnvironment.setSymbolTable(builder);
+
+        createModule(builder, "A", new ArrayList<>(), "X");
+        MathSymbolTable firstTable = compileEnvironment.getSealedSymbolTable();
+        assertSame(firstTable, compileEnvironment.getSealedSymbolTable());
+
+        // Populating another module means we need a new snapshot
+        createModule(builder, "B", Arrays.asList("A"), "Y");
+        MathSymbolTable secondTable = compileEnvironment.getSealedSymbolTable();
+        assertNotSame(firstTable, secondTable);
+        assertTrue(secondTable.getModuleEntriesNamed("Y").containsKey(new ModuleIdentifier("B")));
+        assertSame(secondTable, compileEnvironment.getSealedSymbolTable());
+    }
+
+    // ===========================================================
+    // Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This creates a new module scope with a single entry.
+     * </p>
+     *
+     * @param builder
+     *            The symbol table builder.
+     * @param name
+     *            The module's name.
+     * @param imports
+     *            The names of the modules it imports.
+     * @param entryName
+     *            The name of the entry to add to the module.
+     *
+     * @return The {@link ModuleScopeBuilder}.
+     */
+    private ModuleScopeBuilder createModule(MathSymbolTableBuilder builder, String name, List<String> imports,
+            String entryName) {
+        PrecisModuleDec moduleDec = new PrecisModuleDec(FAKE_LOCATION.clone(),
+                new PosSymbol(FAKE_LOCATION.clone(), name), new ArrayList<>(), new ArrayList<>(), new ArrayList<>(),
+                new HashMap<>());
+        ModuleScopeBuilder moduleScope = builder.startModuleScope(moduleDec);
+        for (String importedModule : imports) {
+            moduleScope.addImport(new ModuleIdentifier(importedModule));
+        }
+        moduleScope.addBinding(entryName, moduleDec, builder.getTypeGraph().BOOLEAN);
+        builder.endScope();
+
+        return moduleScope;
+    }
+
+    /**
+     * <p>
+     * This returns the names of the given module scopes.
+     * </p>
+     *
+     * @param moduleScopes
+     *            A list of module scopes.
+     *
+     * @return A list of module names.
+     */
+    private List<String> getModuleNames(List<ModuleScope> moduleScopes) {
+        List<String> names = new ArrayList<>();
+        for (ModuleScope moduleScope : moduleScopes) {
+            names.add(moduleScope.getModuleIdentifier().toString());
+        }
+
+        return names;
+    }
+
+    /**
+     * <p>
+     * This returns the names of the modules that define each entry.
+     * </p>
+     *
+     * @param entries
+     *            A list of symbol table entries.
+     *
+     * @return A list of module names.
+     */
+    private List<String> getSourceModuleNames(List<SymbolTableEntry> entries) {
+        List<String> names = new ArrayList<>();
+        for (SymbolTableEntry entry : entries) {
+            names.add(entry.getSourceModuleIdentifier().toString());
+        }
+
+        return names;
+    }
+
+}
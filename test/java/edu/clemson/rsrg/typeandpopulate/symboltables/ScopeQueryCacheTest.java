@@ -0,0 +1,106 @@
+/*
+ * ScopeQueryCacheTest.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.typeandpopulate.symboltables;
+
+import edu.clemson.rsrg.absyn.declarations.moduledecl.PrecisModuleDec;
+import edu.clemson.rsrg.init.CompileEnvironment;
+import edu.clemson.rsrg.init.ResolveCompiler;
+import edu.clemson.rsrg.init.file.ModuleType;
+import edu.clemson.rsrg.init.file.ResolveFile;
+import edu.clemson.rsrg.init.file.ResolveFileBasicInfo;
+import edu.clemson.rsrg.init.metrics.CompilerMetrics;
+import edu.clemson.rsrg.parsing.data.Location;
+import edu.clemson.rsrg.parsing.data.PosSymbol;
+import edu.clemson.rsrg.statushandling.SystemStdHandler;
+import edu.clemson.rsrg.typeandpopulate.entry.SymbolTableEntry;
+import edu.clemson.rsrg.typeandpopulate.query.NameQuery;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import org.antlr.v4.runtime.UnbufferedCharStream;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * <p>
+ * Unit test for checking that the query results cached by a {@link ScopeBuilder} are reused until one of the scopes is
+ * modified.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class ScopeQueryCacheTest {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * A fake {@link Location} object to be used to create the module.
+     * </p>
+     */
+    private final Location FAKE_LOCATION = new Location(
+            new ResolveFile(new ResolveFileBasicInfo("ScopeQueryCacheTest", ""), ModuleType.THEORY,
+                    new UnbufferedCharStream(new StringReader("")), null, new ArrayList<String>(), ""),
+            0, 0);
+
+    // ===========================================================
+    // Test Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This tests that repeating a query uses the cached results and that adding a new entry makes the cached results
+     * invalid.
+     * </p>
+     */
+    @Test
+    public final void testCachedResultsAreInvalidated() throws IOException {
+        // YS: We need to create a ResolveCompiler instance to instantiate
+        // the flag manager...
+        new ResolveCompiler(new String[0]);
+        CompileEnvironment compileEnvironment = new CompileEnvironment(new String[] { "-metrics" }, "TestCompiler",
+                new SystemStdHandler());
+        CompilerMetrics metrics = compileEnvironment.getMetrics();
+        assertNotNull(metrics);
+
+        MathSymbolTableBuilder builder = new MathSymbolTableBuilder(compileEnvironment);
+        PrecisModuleDec moduleDec = new PrecisModuleDec(FAKE_LOCATION.clone(),
+                new PosSymbol(FAKE_LOCATION.clone(), "ScopeQueryCacheTest"), new ArrayList<>(), new ArrayList<>(),
+                new ArrayList<>(), new HashMap<>());
+        ModuleScopeBuilder moduleScope = builder.startModuleScope(moduleDec);
+        moduleScope.addBinding("X", moduleDec, builder.getTypeGraph().BOOLEAN);
+
+        // Ignore any queries from adding the built-in symbols
+        metrics.reset();
+
+        // The first query needs a search, the second one is cached
+        assertTrue(moduleScope.query(new NameQuery(null, "Y")).isEmpty());
+        List<SymbolTableEntry> results = moduleScope.query(new NameQuery(null, "X"));
+        assertEquals(1, results.size());
+        results.clear();
+        assertEquals(1, moduleScope.query(new NameQuery(null, "X")).size());
+        assertEquals(Long.valueOf(1), metrics.getCounters().get(CompilerMetrics.COUNTER_QUERY_CACHE_HITS));
+
+        // Adding a new entry means we need to search again
+        moduleScope.addBinding("Y", moduleDec, builder.getTypeGraph().BOOLEAN);
+        assertEquals(1, moduleScope.query(new NameQuery(null, "Y")).size());
+        assertEquals(1, moduleScope.query(new NameQuery(null, "X")).size());
+        assertEquals(Long.valueOf(1), metrics.getCounters().get(CompilerMetrics.COUNTER_QUERY_CACHE_HITS));
+        assertEquals(Long.valueOf(4), metrics.getCounters().get(CompilerMetrics.COUNTER_QUERY_CACHE_MISSES));
+    }
+
+}